@@ -0,0 +1,77 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.logbuffer.ExclusiveTermAppender;
+import io.aeron.logbuffer.HeaderWriter;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.createDefaultHeader;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+
+/**
+ * Benchmark of {@link ExclusiveTermAppender#appendUnfragmentedMessage(int, int, HeaderWriter,
+ * org.agrona.DirectBuffer, int, int, io.aeron.logbuffer.ReservedValueSupplier)} as used by exclusive publications
+ * which have a single thread appending to the term.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ExclusiveTermAppenderBenchmark
+{
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH * 64;
+    private static final int PARTITION_INDEX = 0;
+    private static final int TERM_ID = 7;
+
+    @Param({ "32", "224", "1376" })
+    private int messageLength;
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(TERM_LENGTH, CACHE_LINE_LENGTH));
+    private final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(LOG_META_DATA_LENGTH, CACHE_LINE_LENGTH));
+    private final HeaderWriter headerWriter = HeaderWriter.newInstance(createDefaultHeader(1, 1001, TERM_ID));
+    private final ExclusiveTermAppender termAppender = new ExclusiveTermAppender(
+        termBuffer, metaDataBuffer, PARTITION_INDEX);
+    private UnsafeBuffer srcBuffer;
+    private int termOffset = 0;
+
+    @Setup
+    public void setup()
+    {
+        srcBuffer = new UnsafeBuffer(BufferUtil.allocateDirectAligned(messageLength, CACHE_LINE_LENGTH));
+        initialiseTailWithTermId(metaDataBuffer, PARTITION_INDEX, TERM_ID);
+    }
+
+    @Benchmark
+    public int append()
+    {
+        final int resultingOffset = termAppender.appendUnfragmentedMessage(
+            TERM_ID, termOffset, headerWriter, srcBuffer, 0, messageLength, null);
+
+        termOffset = ExclusiveTermAppender.FAILED == resultingOffset ? 0 : resultingOffset;
+
+        return resultingOffset;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.driver.LossDetector;
+import io.aeron.driver.StaticDelayGenerator;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static io.aeron.logbuffer.LogBufferDescriptor.positionBitsToShift;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+
+/**
+ * Benchmark of {@link LossDetector#scan(UnsafeBuffer, long, long, long, int, int, int)} as used by images to find
+ * gaps in the term, for a varying length of received frames to be scanned before the gap.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class LossDetectorBenchmark
+{
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH * 64;
+    private static final int TERM_ID = 7;
+    private static final int FRAME_LENGTH = 1024;
+    private static final long NAK_DELAY_NS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    @Param({ "4096", "65536", "1048576" })
+    private int scanLength;
+
+    private long gapsDetected = 0;
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(TERM_LENGTH, CACHE_LINE_LENGTH));
+    private final LossDetector lossDetector = new LossDetector(
+        new StaticDelayGenerator(NAK_DELAY_NS, false), (termId, termOffset, length) -> gapsDetected++);
+    private final int positionBitsToShift = positionBitsToShift(TERM_LENGTH);
+    private long hwmPosition;
+    private long nowNs = 0;
+
+    @Setup
+    public void setup()
+    {
+        for (int termOffset = 0; termOffset < scanLength; termOffset += FRAME_LENGTH)
+        {
+            termBuffer.putInt(termOffset, FRAME_LENGTH);
+        }
+
+        hwmPosition = scanLength + (2 * FRAME_LENGTH);
+        termBuffer.putInt(scanLength + FRAME_LENGTH, FRAME_LENGTH);
+    }
+
+    @Benchmark
+    public long scan()
+    {
+        nowNs += 1000;
+
+        return lossDetector.scan(termBuffer, 0, hwmPosition, nowNs, TERM_LENGTH - 1, positionBitsToShift, TERM_ID);
+    }
+}
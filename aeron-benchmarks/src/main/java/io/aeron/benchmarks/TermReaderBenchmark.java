@@ -0,0 +1,99 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.logbuffer.*;
+import org.agrona.BufferUtil;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicLongPosition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.createDefaultHeader;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+
+/**
+ * Benchmark of {@link TermReader#read(UnsafeBuffer, int, FragmentHandler, int, Header, ErrorHandler, long,
+ * org.agrona.concurrent.status.Position)} as used by subscriptions polling an image, over a term filled with
+ * messages, for varying message lengths and fragment limits.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class TermReaderBenchmark
+{
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH * 64;
+    private static final int TERM_ID = 7;
+
+    @Param({ "32", "224", "1376" })
+    private int messageLength;
+
+    @Param({ "1", "10", "100" })
+    private int fragmentLimit;
+
+    private long bytesRead = 0;
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(TERM_LENGTH, CACHE_LINE_LENGTH));
+    private final Header header = new Header(TERM_ID, positionBitsToShift(TERM_LENGTH));
+    private final AtomicLongPosition subscriberPosition = new AtomicLongPosition();
+    private final ErrorHandler errorHandler = Throwable::printStackTrace;
+    private final FragmentHandler fragmentHandler = (buffer, offset, length, frameHeader) -> bytesRead += length;
+
+    @Setup
+    public void setup()
+    {
+        final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+            BufferUtil.allocateDirectAligned(LOG_META_DATA_LENGTH, CACHE_LINE_LENGTH));
+        final ExclusiveTermAppender termAppender = new ExclusiveTermAppender(termBuffer, metaDataBuffer, 0);
+        final HeaderWriter headerWriter = HeaderWriter.newInstance(createDefaultHeader(1, 1001, TERM_ID));
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[messageLength]);
+
+        int termOffset = 0;
+        while (ExclusiveTermAppender.FAILED != termOffset)
+        {
+            termOffset = termAppender.appendUnfragmentedMessage(
+                TERM_ID, termOffset, headerWriter, srcBuffer, 0, messageLength, null);
+        }
+    }
+
+    @Benchmark
+    public int read()
+    {
+        final long position = subscriberPosition.get();
+        final int fragmentsRead = TermReader.read(
+            termBuffer,
+            (int)position,
+            fragmentHandler,
+            fragmentLimit,
+            header,
+            errorHandler,
+            position,
+            subscriberPosition);
+
+        if (subscriberPosition.get() >= TERM_LENGTH)
+        {
+            subscriberPosition.set(0);
+        }
+
+        return fragmentsRead;
+    }
+}
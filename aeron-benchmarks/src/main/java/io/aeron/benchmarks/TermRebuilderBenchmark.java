@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.logbuffer.TermRebuilder;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BitUtil.align;
+
+/**
+ * Benchmark of {@link TermRebuilder#insert(UnsafeBuffer, int, UnsafeBuffer, int)} as used by the receiver to copy
+ * packets into an image term, for varying packet lengths. The frame at each offset is cleared before the insert so
+ * every insert copies the packet.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class TermRebuilderBenchmark
+{
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH * 64;
+    private static final int TERM_ID = 7;
+
+    @Param({ "64", "256", "1408" })
+    private int packetLength;
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(TERM_LENGTH, CACHE_LINE_LENGTH));
+    private UnsafeBuffer packet;
+    private int alignedLength;
+    private int termOffset = 0;
+
+    @Setup
+    public void setup()
+    {
+        packet = new UnsafeBuffer(BufferUtil.allocateDirectAligned(packetLength, CACHE_LINE_LENGTH));
+        new DataHeaderFlyweight(packet)
+            .sessionId(1)
+            .streamId(1001)
+            .termId(TERM_ID)
+            .frameLength(packetLength)
+            .headerType(DataHeaderFlyweight.HDR_TYPE_DATA)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .version(DataHeaderFlyweight.CURRENT_VERSION);
+        packet.setMemory(HEADER_LENGTH, packetLength - HEADER_LENGTH, (byte)'x');
+        alignedLength = align(packetLength, FRAME_ALIGNMENT);
+    }
+
+    @Benchmark
+    public int insert()
+    {
+        final int termOffset = this.termOffset;
+        termBuffer.putInt(termOffset, 0);
+        TermRebuilder.insert(termBuffer, termOffset, packet, packetLength);
+
+        final int nextOffset = termOffset + alignedLength;
+        this.termOffset = nextOffset + alignedLength > TERM_LENGTH ? 0 : nextOffset;
+
+        return termOffset;
+    }
+}
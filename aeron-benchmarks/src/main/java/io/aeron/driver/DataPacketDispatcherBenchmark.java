@@ -0,0 +1,213 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.buffer.RawLog;
+import io.aeron.driver.status.SystemCounters;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.CachedEpochClock;
+import org.agrona.concurrent.CachedNanoClock;
+import org.agrona.concurrent.SystemNanoClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicLongPosition;
+import org.agrona.concurrent.status.CountersManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BitUtil.align;
+
+/**
+ * Benchmark of {@link DataPacketDispatcher#onDataPacket(io.aeron.driver.media.ReceiveChannelEndpoint,
+ * DataHeaderFlyweight, UnsafeBuffer, int, InetSocketAddress, int)} dispatching data packets to a
+ * {@link PublicationImage} which inserts them into its term, for varying packet lengths and numbers of images on the
+ * stream. Packets are kept within the initial receiver window so none are dropped by flow control.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class DataPacketDispatcherBenchmark
+{
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH * 16;
+    private static final int WINDOW_LENGTH = TERM_MIN_LENGTH;
+    private static final int STREAM_ID = 1001;
+    private static final int INITIAL_TERM_ID = 7;
+    private static final int COUNTERS_LENGTH = 1024 * 1024;
+    private static final String CHANNEL = "aeron:udp?endpoint=localhost:40123";
+
+    @Param({ "64", "256", "1408" })
+    private int packetLength;
+
+    @Param({ "1", "16" })
+    private int imageCount;
+
+    private final InetSocketAddress srcAddress = new InetSocketAddress("localhost", 40124);
+    private final DataPacketDispatcher dispatcher = new DataPacketDispatcher(null, null);
+    private final DataHeaderFlyweight dataHeader = new DataHeaderFlyweight();
+    private UnsafeBuffer packet;
+    private UnsafeBuffer termBuffer;
+    private int alignedLength;
+    private int termOffset = 0;
+
+    @Setup
+    public void setup()
+    {
+        final CountersManager countersManager = new CountersManager(
+            new UnsafeBuffer(ByteBuffer.allocateDirect(Configuration.countersMetadataBufferLength(COUNTERS_LENGTH))),
+            new UnsafeBuffer(ByteBuffer.allocateDirect(COUNTERS_LENGTH)));
+
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .systemCounters(new SystemCounters(countersManager))
+            .nanoClock(SystemNanoClock.INSTANCE)
+            .cachedNanoClock(new CachedNanoClock())
+            .cachedEpochClock(new CachedEpochClock())
+            .errorHandler(Throwable::printStackTrace);
+
+        dispatcher.addSubscription(STREAM_ID);
+        for (int sessionId = 0; sessionId < imageCount; sessionId++)
+        {
+            final DirectRawLog rawLog = new DirectRawLog(TERM_LENGTH);
+            dispatcher.addPublicationImage(newImage(ctx, sessionId, rawLog));
+            termBuffer = rawLog.termBuffers[0];
+        }
+
+        packet = new UnsafeBuffer(BufferUtil.allocateDirectAligned(packetLength, CACHE_LINE_LENGTH));
+        dataHeader.wrap(packet);
+        dataHeader
+            .sessionId(imageCount - 1)
+            .streamId(STREAM_ID)
+            .termId(INITIAL_TERM_ID)
+            .frameLength(packetLength)
+            .headerType(DataHeaderFlyweight.HDR_TYPE_DATA)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .version(DataHeaderFlyweight.CURRENT_VERSION);
+        packet.setMemory(HEADER_LENGTH, packetLength - HEADER_LENGTH, (byte)'x');
+        alignedLength = align(packetLength, FRAME_ALIGNMENT);
+    }
+
+    @Benchmark
+    public int dispatch()
+    {
+        final int termOffset = this.termOffset;
+        dataHeader.termOffset(termOffset);
+        termBuffer.putInt(termOffset, 0);
+
+        final int nextOffset = termOffset + alignedLength;
+        this.termOffset = nextOffset + alignedLength > WINDOW_LENGTH ? 0 : nextOffset;
+
+        return dispatcher.onDataPacket(null, dataHeader, packet, packetLength, srcAddress, 0);
+    }
+
+    private PublicationImage newImage(final MediaDriver.Context ctx, final int sessionId, final RawLog rawLog)
+    {
+        final SubscriptionLink subscriptionLink = new NetworkSubscriptionLink(
+            sessionId, null, STREAM_ID, CHANNEL, null, new SubscriptionParams());
+        final ArrayList<SubscriberPosition> subscriberPositions = new ArrayList<>();
+        subscriberPositions.add(new SubscriberPosition(subscriptionLink, null, new AtomicLongPosition()));
+
+        return new PublicationImage(
+            sessionId,
+            ctx,
+            null,
+            0,
+            srcAddress,
+            sessionId,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            INITIAL_TERM_ID,
+            0,
+            rawLog,
+            new StaticDelayGenerator(0, true),
+            subscriberPositions,
+            new AtomicLongPosition(),
+            new AtomicLongPosition(),
+            srcAddress,
+            new StaticWindowCongestionControl(
+                sessionId, null, STREAM_ID, sessionId, TERM_LENGTH, 0, null, null, null, ctx, null),
+            false);
+    }
+
+    static final class DirectRawLog implements RawLog
+    {
+        private final UnsafeBuffer[] termBuffers = new UnsafeBuffer[PARTITION_COUNT];
+        private final UnsafeBuffer metaData = new UnsafeBuffer(
+            BufferUtil.allocateDirectAligned(LOG_META_DATA_LENGTH, CACHE_LINE_LENGTH));
+
+        DirectRawLog(final int termLength)
+        {
+            for (int i = 0; i < PARTITION_COUNT; i++)
+            {
+                termBuffers[i] = new UnsafeBuffer(BufferUtil.allocateDirectAligned(termLength, CACHE_LINE_LENGTH));
+            }
+        }
+
+        public int termLength()
+        {
+            return termBuffers[0].capacity();
+        }
+
+        public UnsafeBuffer[] termBuffers()
+        {
+            return termBuffers;
+        }
+
+        public UnsafeBuffer metaData()
+        {
+            return metaData;
+        }
+
+        public ByteBuffer[] sliceTerms()
+        {
+            final ByteBuffer[] terms = new ByteBuffer[PARTITION_COUNT];
+            for (int i = 0; i < PARTITION_COUNT; i++)
+            {
+                terms[i] = termBuffers[i].byteBuffer().duplicate();
+            }
+
+            return terms;
+        }
+
+        public String fileName()
+        {
+            return "";
+        }
+
+        public boolean free()
+        {
+            return true;
+        }
+
+        public boolean isInactive()
+        {
+            return false;
+        }
+
+        public void close()
+        {
+        }
+    }
+}
@@ -214,7 +214,8 @@ public class Aeron implements AutoCloseable
      * Is the command still active for a given correlation id.
      *
      * @param correlationId to check if it is still active.
-     * @return true in the command is still in active processing or false if completed successfully or errored.
+     * @return true in the command is still in active processing or false if completed successfully or errored. True
+     * is also returned while the client conductor is busy so the calling thread does not block.
      * @see Publication#asyncAddDestination(String)
      * @see Subscription#asyncAddDestination(String)
      * @see #hasActiveCommands()
@@ -230,6 +231,7 @@ public class Aeron implements AutoCloseable
      * When close operations are performed on {@link Publication}s, {@link Subscription}s, and {@link Counter}s the
      * commands are sent asynchronously to the driver. The client tracks active commands in case errors need to be
      * reported. If you wish to wait for acknowledgement of close operations then wait for this method to return false.
+     * True is also returned while the client conductor is busy so the calling thread does not block.
      *
      * @return true if any commands are currently active otherwise false.
      */
@@ -326,6 +328,141 @@ public class Aeron implements AutoCloseable
         return conductor.addSubscription(channel, streamId, availableImageHandler, unavailableImageHandler);
     }
 
+    /**
+     * Asynchronously add a {@link Publication} for publishing messages to subscribers. The call does not wait for
+     * the media driver to respond, the returned registration id can be passed to {@link #getPublication(long)} to
+     * poll for the publication and to {@link #isCommandActive(long)} to check for completion.
+     *
+     * @param channel  for sending the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the publication which can be used to get the publication.
+     * @see #getPublication(long)
+     */
+    public long asyncAddPublication(final String channel, final int streamId)
+    {
+        return conductor.asyncAddPublication(channel, streamId);
+    }
+
+    /**
+     * Asynchronously add an {@link ExclusivePublication} for publishing messages to subscribers from a single thread.
+     * The call does not wait for the media driver to respond, the returned registration id can be passed to
+     * {@link #getExclusivePublication(long)} to poll for the publication.
+     *
+     * @param channel  for sending the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the publication which can be used to get the publication.
+     * @see #getExclusivePublication(long)
+     */
+    public long asyncAddExclusivePublication(final String channel, final int streamId)
+    {
+        return conductor.asyncAddExclusivePublication(channel, streamId);
+    }
+
+    /**
+     * Get a {@link ConcurrentPublication} added with {@link #asyncAddPublication(String, int)}.
+     *
+     * @param registrationId returned from {@link #asyncAddPublication(String, int)}.
+     * @return the publication, or null if the media driver has not yet responded, the id is unknown,
+     * or the client conductor is busy.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the publication.
+     */
+    public ConcurrentPublication getPublication(final long registrationId)
+    {
+        return conductor.getPublication(registrationId);
+    }
+
+    /**
+     * Get an {@link ExclusivePublication} added with {@link #asyncAddExclusivePublication(String, int)}.
+     *
+     * @param registrationId returned from {@link #asyncAddExclusivePublication(String, int)}.
+     * @return the publication, or null if the media driver has not yet responded, the id is unknown,
+     * or the client conductor is busy.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the publication.
+     */
+    public ExclusivePublication getExclusivePublication(final long registrationId)
+    {
+        return conductor.getExclusivePublication(registrationId);
+    }
+
+    /**
+     * Asynchronously remove a {@link Publication}, or cancel a pending asynchronous add, by registration id. This
+     * has the same effect as {@link Publication#close()} without the need to have got the publication.
+     *
+     * @param registrationId of the publication.
+     * @return the correlation id of the remove command which can be passed to {@link #isCommandActive(long)}, or
+     * {@link #NULL_VALUE} if the client is closed. No command is sent if there is no publication for the registration
+     * id.
+     */
+    public long asyncRemovePublication(final long registrationId)
+    {
+        return conductor.asyncRemovePublication(registrationId);
+    }
+
+    /**
+     * Asynchronously add a new {@link Subscription} for subscribing to messages from publishers using the default
+     * image handlers from the {@link Aeron.Context}. The call does not wait for the media driver to respond, the
+     * returned registration id can be passed to {@link #getSubscription(long)} to poll for the subscription.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the subscription which can be used to get the subscription.
+     * @see #getSubscription(long)
+     */
+    public long asyncAddSubscription(final String channel, final int streamId)
+    {
+        return conductor.asyncAddSubscription(channel, streamId);
+    }
+
+    /**
+     * Asynchronously add a new {@link Subscription} for subscribing to messages from publishers. The call does not
+     * wait for the media driver to respond, the returned registration id can be passed to
+     * {@link #getSubscription(long)} to poll for the subscription.
+     *
+     * @param channel                 for receiving the messages known to the media layer.
+     * @param streamId                within the channel scope.
+     * @param availableImageHandler   called when {@link Image}s become available for consumption. Null is valid if no
+     *                                action is to be taken.
+     * @param unavailableImageHandler called when {@link Image}s go unavailable for consumption. Null is valid if no
+     *                                action is to be taken.
+     * @return the registration id of the subscription which can be used to get the subscription.
+     * @see #getSubscription(long)
+     */
+    public long asyncAddSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler)
+    {
+        return conductor.asyncAddSubscription(channel, streamId, availableImageHandler, unavailableImageHandler);
+    }
+
+    /**
+     * Get a {@link Subscription} added with {@link #asyncAddSubscription(String, int)}.
+     *
+     * @param registrationId returned from {@link #asyncAddSubscription(String, int)}.
+     * @return the subscription, or null if the media driver has not yet responded, the id is unknown,
+     * or the client conductor is busy.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the subscription.
+     */
+    public Subscription getSubscription(final long registrationId)
+    {
+        return conductor.getSubscription(registrationId);
+    }
+
+    /**
+     * Asynchronously remove a {@link Subscription}, or cancel a pending asynchronous add, by registration id. This
+     * has the same effect as {@link Subscription#close()} without the need to have got the subscription.
+     *
+     * @param registrationId of the subscription.
+     * @return the correlation id of the remove command which can be passed to {@link #isCommandActive(long)}, or
+     * {@link #NULL_VALUE} if the client is closed. No command is sent if there is no subscription for the registration
+     * id.
+     */
+    public long asyncRemoveSubscription(final long registrationId)
+    {
+        return conductor.asyncRemoveSubscription(registrationId);
+    }
+
     /**
      * Generate the next correlation id that is unique for the connected Media Driver.
      * <p>
@@ -403,6 +540,74 @@ public class Aeron implements AutoCloseable
         return conductor.addCounter(typeId, label);
     }
 
+    /**
+     * Asynchronously allocate a counter on the media driver. The call does not wait for the media driver to respond,
+     * the returned registration id can be passed to {@link #getCounter(long)} to poll for the {@link Counter}.
+     *
+     * @param typeId      for the counter.
+     * @param keyBuffer   containing the optional key for the counter.
+     * @param keyOffset   within the keyBuffer at which the key begins.
+     * @param keyLength   of the key in the keyBuffer.
+     * @param labelBuffer containing the mandatory label for the counter. The label should not be length prefixed.
+     * @param labelOffset within the labelBuffer at which the label begins.
+     * @param labelLength of the label in the labelBuffer.
+     * @return the registration id of the counter which can be used to get the counter.
+     * @see #getCounter(long)
+     */
+    public long asyncAddCounter(
+        final int typeId,
+        final DirectBuffer keyBuffer,
+        final int keyOffset,
+        final int keyLength,
+        final DirectBuffer labelBuffer,
+        final int labelOffset,
+        final int labelLength)
+    {
+        return conductor.asyncAddCounter(
+            typeId, keyBuffer, keyOffset, keyLength, labelBuffer, labelOffset, labelLength);
+    }
+
+    /**
+     * Asynchronously allocate a counter on the media driver. The call does not wait for the media driver to respond,
+     * the returned registration id can be passed to {@link #getCounter(long)} to poll for the {@link Counter}.
+     *
+     * @param typeId for the counter.
+     * @param label  for the counter. It should be US-ASCII.
+     * @return the registration id of the counter which can be used to get the counter.
+     * @see #getCounter(long)
+     */
+    public long asyncAddCounter(final int typeId, final String label)
+    {
+        return conductor.asyncAddCounter(typeId, label);
+    }
+
+    /**
+     * Get a {@link Counter} allocated with {@link #asyncAddCounter(int, String)}.
+     *
+     * @param registrationId returned from {@link #asyncAddCounter(int, String)}.
+     * @return the counter, or null if the media driver has not yet responded, the id is unknown,
+     * or the client conductor is busy.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the counter.
+     */
+    public Counter getCounter(final long registrationId)
+    {
+        return conductor.getCounter(registrationId);
+    }
+
+    /**
+     * Asynchronously free a {@link Counter}, or cancel a pending asynchronous allocation, by registration id. This
+     * has the same effect as {@link Counter#close()} without the need to have got the counter.
+     *
+     * @param registrationId of the counter.
+     * @return the correlation id of the remove command which can be passed to {@link #isCommandActive(long)}, or
+     * {@link #NULL_VALUE} if the client is closed. No command is sent if there is no counter for the registration
+     * id.
+     */
+    public long asyncRemoveCounter(final long registrationId)
+    {
+        return conductor.asyncRemoveCounter(registrationId);
+    }
+
     /**
      * Add a handler to the list be called when {@link Counter}s become available.
      *
@@ -111,6 +111,31 @@ public final class AeronCounters
      */
     public static final int DRIVER_LOCAL_SOCKET_ADDRESS_STATUS_TYPE_ID = 14;
 
+    /**
+     * Count of polls of a channel transport which read at least one datagram when busy polling transports.
+     */
+    public static final int DRIVER_TRANSPORT_PRODUCTIVE_POLLS_TYPE_ID = 17;
+
+    /**
+     * Count of polls of a channel transport which found nothing to read when busy polling transports.
+     */
+    public static final int DRIVER_TRANSPORT_EMPTY_POLLS_TYPE_ID = 18;
+
+    /**
+     * Bytes of data a sender sent on a stream in its most recent duty cycle.
+     */
+    public static final int DRIVER_SENDER_BYTES_PER_CYCLE_TYPE_ID = 19;
+
+    /**
+     * Count of duty cycles a sender agent has performed when the driver has more than one sender agent.
+     */
+    public static final int DRIVER_SENDER_SHARD_DUTY_CYCLES_TYPE_ID = 20;
+
+    /**
+     * Ratio of send to control polls of a sender agent when the driver has more than one sender agent.
+     */
+    public static final int DRIVER_SENDER_SHARD_CONTROL_POLL_RATIO_TYPE_ID = 21;
+
     // Archive counters
     /**
      * The position a recording has reached when being archived.
@@ -54,9 +54,14 @@ public class ChannelUriStringBuilder
     private Integer termId;
     private Integer termOffset;
     private Integer sessionId;
+    private Integer sendWeight;
+    private Integer receiverShard;
+    private Integer senderShard;
     private Long groupTag;
     private Long linger;
     private Boolean sparse;
+    private Boolean segmentOffload;
+    private Boolean latencyTimestamp;
     private Boolean eos;
     private Boolean tether;
     private Boolean group;
@@ -89,9 +94,14 @@ public class ChannelUriStringBuilder
         termId = null;
         termOffset = null;
         sessionId = null;
+        sendWeight = null;
+        receiverShard = null;
+        senderShard = null;
         groupTag = null;
         linger = null;
         sparse = null;
+        segmentOffload = null;
+        latencyTimestamp = null;
         eos = null;
         tether = null;
         group = null;
@@ -1411,6 +1421,248 @@ public class ChannelUriStringBuilder
         return ssc;
     }
 
+    /**
+     * Set the relative weight of a network publication when the sender shares its duty cycle between publications.
+     *
+     * @param sendWeight of the publication which must be greater than zero.
+     * @return this for a fluent API.
+     * @see CommonContext#SEND_WEIGHT_PARAM_NAME
+     */
+    public ChannelUriStringBuilder sendWeight(final Integer sendWeight)
+    {
+        if (null != sendWeight && sendWeight < 1)
+        {
+            throw new IllegalArgumentException("send weight must be greater than zero: " + sendWeight);
+        }
+
+        this.sendWeight = sendWeight;
+        return this;
+    }
+
+    /**
+     * Set the relative weight of a network publication to be what is in the {@link ChannelUri} which may be null.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#SEND_WEIGHT_PARAM_NAME
+     */
+    public ChannelUriStringBuilder sendWeight(final ChannelUri channelUri)
+    {
+        final String sendWeightValue = channelUri.get(SEND_WEIGHT_PARAM_NAME);
+        if (null == sendWeightValue)
+        {
+            sendWeight = null;
+            return this;
+        }
+        else
+        {
+            return sendWeight(Integer.valueOf(sendWeightValue));
+        }
+    }
+
+    /**
+     * Get the relative weight of a network publication when the sender shares its duty cycle between publications.
+     *
+     * @return the relative weight of a network publication.
+     * @see CommonContext#SEND_WEIGHT_PARAM_NAME
+     */
+    public Integer sendWeight()
+    {
+        return sendWeight;
+    }
+
+    /**
+     * Set the receiver agent of the driver which should service the channel when the driver has more than one.
+     *
+     * @param receiverShard index which is taken modulo the number of receiver agents.
+     * @return this for a fluent API.
+     * @see CommonContext#RECEIVER_SHARD_PARAM_NAME
+     */
+    public ChannelUriStringBuilder receiverShard(final Integer receiverShard)
+    {
+        if (null != receiverShard && receiverShard < 0)
+        {
+            throw new IllegalArgumentException("receiver shard must not be negative: " + receiverShard);
+        }
+
+        this.receiverShard = receiverShard;
+        return this;
+    }
+
+    /**
+     * Set the receiver agent of the driver which should service the channel to be what is in the {@link ChannelUri}
+     * which may be null.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#RECEIVER_SHARD_PARAM_NAME
+     */
+    public ChannelUriStringBuilder receiverShard(final ChannelUri channelUri)
+    {
+        final String receiverShardValue = channelUri.get(RECEIVER_SHARD_PARAM_NAME);
+        if (null == receiverShardValue)
+        {
+            receiverShard = null;
+            return this;
+        }
+        else
+        {
+            return receiverShard(Integer.valueOf(receiverShardValue));
+        }
+    }
+
+    /**
+     * Get the receiver agent of the driver which should service the channel when the driver has more than one.
+     *
+     * @return the receiver shard index.
+     * @see CommonContext#RECEIVER_SHARD_PARAM_NAME
+     */
+    public Integer receiverShard()
+    {
+        return receiverShard;
+    }
+
+    /**
+     * Set the sender agent of the driver which should service the channel when the driver has more than one.
+     *
+     * @param senderShard index which is taken modulo the number of sender agents.
+     * @return this for a fluent API.
+     * @see CommonContext#SENDER_SHARD_PARAM_NAME
+     */
+    public ChannelUriStringBuilder senderShard(final Integer senderShard)
+    {
+        if (null != senderShard && senderShard < 0)
+        {
+            throw new IllegalArgumentException("sender shard must not be negative: " + senderShard);
+        }
+
+        this.senderShard = senderShard;
+        return this;
+    }
+
+    /**
+     * Set the sender agent of the driver which should service the channel to be what is in the {@link ChannelUri}
+     * which may be null.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#SENDER_SHARD_PARAM_NAME
+     */
+    public ChannelUriStringBuilder senderShard(final ChannelUri channelUri)
+    {
+        final String senderShardValue = channelUri.get(SENDER_SHARD_PARAM_NAME);
+        if (null == senderShardValue)
+        {
+            senderShard = null;
+            return this;
+        }
+        else
+        {
+            return senderShard(Integer.valueOf(senderShardValue));
+        }
+    }
+
+    /**
+     * Get the sender agent of the driver which should service the channel when the driver has more than one.
+     *
+     * @return the sender shard index.
+     * @see CommonContext#SENDER_SHARD_PARAM_NAME
+     */
+    public Integer senderShard()
+    {
+        return senderShard;
+    }
+
+    /**
+     * Set to opt in to UDP segmentation offload for the channel when supported by the driver.
+     *
+     * @param segmentOffload true to opt in to UDP segmentation offload.
+     * @return this for a fluent API.
+     * @see CommonContext#SEGMENT_OFFLOAD_PARAM_NAME
+     */
+    public ChannelUriStringBuilder segmentOffload(final Boolean segmentOffload)
+    {
+        this.segmentOffload = segmentOffload;
+        return this;
+    }
+
+    /**
+     * Set the segment offload value to be what is in the {@link ChannelUri} which may be null.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#SEGMENT_OFFLOAD_PARAM_NAME
+     */
+    public ChannelUriStringBuilder segmentOffload(final ChannelUri channelUri)
+    {
+        final String segmentOffloadValue = channelUri.get(SEGMENT_OFFLOAD_PARAM_NAME);
+        if (null == segmentOffloadValue)
+        {
+            segmentOffload = null;
+            return this;
+        }
+        else
+        {
+            return segmentOffload(Boolean.valueOf(segmentOffloadValue));
+        }
+    }
+
+    /**
+     * Is UDP segmentation offload requested for the channel.
+     *
+     * @return true if UDP segmentation offload is requested for the channel.
+     * @see CommonContext#SEGMENT_OFFLOAD_PARAM_NAME
+     */
+    public Boolean segmentOffload()
+    {
+        return segmentOffload;
+    }
+
+    /**
+     * Set to opt in to latency tracking of the stream from send to receipt by the driver.
+     *
+     * @param latencyTimestamp true to opt in to latency tracking of the stream.
+     * @return this for a fluent API.
+     * @see CommonContext#LATENCY_TIMESTAMP_PARAM_NAME
+     */
+    public ChannelUriStringBuilder latencyTimestamp(final Boolean latencyTimestamp)
+    {
+        this.latencyTimestamp = latencyTimestamp;
+        return this;
+    }
+
+    /**
+     * Set the latency timestamp value to be what is in the {@link ChannelUri} which may be null.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#LATENCY_TIMESTAMP_PARAM_NAME
+     */
+    public ChannelUriStringBuilder latencyTimestamp(final ChannelUri channelUri)
+    {
+        final String latencyTimestampValue = channelUri.get(LATENCY_TIMESTAMP_PARAM_NAME);
+        if (null == latencyTimestampValue)
+        {
+            latencyTimestamp = null;
+            return this;
+        }
+        else
+        {
+            return latencyTimestamp(Boolean.valueOf(latencyTimestampValue));
+        }
+    }
+
+    /**
+     * Is latency tracking of the stream from send to receipt requested.
+     *
+     * @return true if latency tracking of the stream is requested.
+     * @see CommonContext#LATENCY_TIMESTAMP_PARAM_NAME
+     */
+    public Boolean latencyTimestamp()
+    {
+        return latencyTimestamp;
+    }
+
     /**
      * Initialise a channel for restarting a publication at a given position.
      *
@@ -1573,6 +1825,31 @@ public class ChannelUriStringBuilder
             sb.append(SPIES_SIMULATE_CONNECTION_PARAM_NAME).append('=').append(ssc).append('|');
         }
 
+        if (null != sendWeight)
+        {
+            sb.append(SEND_WEIGHT_PARAM_NAME).append('=').append(sendWeight.intValue()).append('|');
+        }
+
+        if (null != receiverShard)
+        {
+            sb.append(RECEIVER_SHARD_PARAM_NAME).append('=').append(receiverShard.intValue()).append('|');
+        }
+
+        if (null != senderShard)
+        {
+            sb.append(SENDER_SHARD_PARAM_NAME).append('=').append(senderShard.intValue()).append('|');
+        }
+
+        if (null != segmentOffload)
+        {
+            sb.append(SEGMENT_OFFLOAD_PARAM_NAME).append('=').append(segmentOffload).append('|');
+        }
+
+        if (null != latencyTimestamp)
+        {
+            sb.append(LATENCY_TIMESTAMP_PARAM_NAME).append('=').append(latencyTimestamp).append('|');
+        }
+
         final char lastChar = sb.charAt(sb.length() - 1);
         if (lastChar == '|' || lastChar == '?')
         {
@@ -41,6 +41,9 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
 /**
  * Client conductor receives responses and notifications from Media Driver and acts on them in addition to forwarding
  * commands from the Client API to the Media Driver conductor.
+ * <p>
+ * Asynchronous commands are offered to a many-to-one queue drained by the conductor so calling threads do not take
+ * the client lock, which is only held by the blocking API while it awaits a response.
  */
 class ClientConductor implements Agent
 {
@@ -55,7 +58,6 @@ class ClientConductor implements Agent
     private boolean isClosed;
     private boolean isInCallback;
     private boolean isTerminating;
-    private String stashedChannel;
     private RegistrationException driverException;
 
     private final Aeron.Context ctx;
@@ -70,12 +72,16 @@ class ClientConductor implements Agent
     private final ArrayList<LogBuffers> lingeringLogBuffers = new ArrayList<>();
     private final Long2ObjectHashMap<Object> resourceByRegIdMap = new Long2ObjectHashMap<>();
     private final LongHashSet asyncCommandIdSet = new LongHashSet();
+    private final LongHashSet asyncResourceIdSet = new LongHashSet();
+    private final Long2ObjectHashMap<String> stashedChannelByRegistrationId = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<AeronException> asyncExceptionByRegIdMap = new Long2ObjectHashMap<>();
     private final AvailableImageHandler defaultAvailableImageHandler;
     private final UnavailableImageHandler defaultUnavailableImageHandler;
     private final Long2ObjectHashMap<AvailableCounterHandler> availableCounterHandlerById = new Long2ObjectHashMap<>();
     private final Long2ObjectHashMap<UnavailableCounterHandler> unavailableCounterHandlerById =
         new Long2ObjectHashMap<>();
     private final Long2ObjectHashMap<Runnable> closeHandlerByIdMap = new Long2ObjectHashMap<>();
+    private final ManyToOneConcurrentLinkedQueue<Runnable> commandQueue = new ManyToOneConcurrentLinkedQueue<>();
     private final DriverProxy driverProxy;
     private final AgentInvoker driverAgentInvoker;
     private final UnsafeBuffer counterValuesBuffer;
@@ -218,20 +224,23 @@ class ClientConductor implements Agent
     public void onError(final long correlationId, final int codeValue, final ErrorCode errorCode, final String message)
     {
         driverException = new RegistrationException(correlationId, codeValue, errorCode, message);
-
-        final Object resource = resourceByRegIdMap.get(correlationId);
-        if (resource instanceof Subscription)
-        {
-            final Subscription subscription = (Subscription)resource;
-            subscription.internalClose();
-            resourceByRegIdMap.remove(correlationId);
-        }
+        closeFailedRegistration(correlationId);
     }
 
     public void onAsyncError(
         final long correlationId, final int codeValue, final ErrorCode errorCode, final String message)
     {
-        handleError(new RegistrationException(correlationId, codeValue, errorCode, message));
+        final RegistrationException ex = new RegistrationException(correlationId, codeValue, errorCode, message);
+
+        if (asyncResourceIdSet.remove(correlationId))
+        {
+            closeFailedRegistration(correlationId);
+            asyncExceptionByRegIdMap.put(correlationId, ex);
+        }
+        else
+        {
+            handleError(ex);
+        }
     }
 
     public void onChannelEndpointError(final int statusIndicatorId, final String message)
@@ -268,18 +277,20 @@ class ClientConductor implements Agent
         final int statusIndicatorId,
         final String logFileName)
     {
+        final String channel = stashedChannelByRegistrationId.remove(correlationId);
         final ConcurrentPublication publication = new ConcurrentPublication(
             this,
-            stashedChannel,
+            channel,
             streamId,
             sessionId,
             new UnsafeBufferPosition(counterValuesBuffer, publicationLimitId),
             statusIndicatorId,
-            logBuffers(registrationId, logFileName, stashedChannel),
+            logBuffers(registrationId, logFileName, channel),
             registrationId,
             correlationId);
 
         resourceByRegIdMap.put(correlationId, publication);
+        asyncResourceIdSet.remove(correlationId);
     }
 
     public void onNewExclusivePublication(
@@ -297,24 +308,27 @@ class ClientConductor implements Agent
                 "correlationId=" + correlationId + " registrationId=" + registrationId));
         }
 
+        final String channel = stashedChannelByRegistrationId.remove(correlationId);
         final ExclusivePublication publication = new ExclusivePublication(
             this,
-            stashedChannel,
+            channel,
             streamId,
             sessionId,
             new UnsafeBufferPosition(counterValuesBuffer, publicationLimitId),
             statusIndicatorId,
-            logBuffers(registrationId, logFileName, stashedChannel),
+            logBuffers(registrationId, logFileName, channel),
             registrationId,
             correlationId);
 
         resourceByRegIdMap.put(correlationId, publication);
+        asyncResourceIdSet.remove(correlationId);
     }
 
     public void onNewSubscription(final long correlationId, final int statusIndicatorId)
     {
         final Subscription subscription = (Subscription)resourceByRegIdMap.get(correlationId);
         subscription.channelStatusId(statusIndicatorId);
+        asyncResourceIdSet.remove(correlationId);
     }
 
     public void onAvailableImage(
@@ -379,6 +393,7 @@ class ClientConductor implements Agent
     public void onNewCounter(final long correlationId, final int counterId)
     {
         resourceByRegIdMap.put(correlationId, new Counter(correlationId, this, counterValuesBuffer, counterId));
+        asyncResourceIdSet.remove(correlationId);
         onAvailableCounter(correlationId, counterId);
     }
 
@@ -426,8 +441,8 @@ class ClientConductor implements Agent
             ensureActive();
             ensureNotReentrant();
 
-            stashedChannel = channel;
             final long registrationId = driverProxy.addPublication(channel, streamId);
+            stashedChannelByRegistrationId.put(registrationId, channel);
             awaitResponse(registrationId);
 
             return (ConcurrentPublication)resourceByRegIdMap.get(registrationId);
@@ -446,8 +461,8 @@ class ClientConductor implements Agent
             ensureActive();
             ensureNotReentrant();
 
-            stashedChannel = channel;
             final long registrationId = driverProxy.addExclusivePublication(channel, streamId);
+            stashedChannelByRegistrationId.put(registrationId, channel);
             awaitResponse(registrationId);
 
             return (ExclusivePublication)resourceByRegIdMap.get(registrationId);
@@ -458,9 +473,60 @@ class ClientConductor implements Agent
         }
     }
 
+    long asyncAddPublication(final String channel, final int streamId)
+    {
+        ensureActive();
+
+        final long registrationId = driverProxy.nextCorrelationId();
+        commandQueue.offer(() -> sendAsyncAdd(
+            registrationId, channel, () -> driverProxy.addPublication(registrationId, channel, streamId)));
+
+        return registrationId;
+    }
+
+    long asyncAddExclusivePublication(final String channel, final int streamId)
+    {
+        ensureActive();
+
+        final long registrationId = driverProxy.nextCorrelationId();
+        commandQueue.offer(() -> sendAsyncAdd(
+            registrationId, channel, () -> driverProxy.addExclusivePublication(registrationId, channel, streamId)));
+
+        return registrationId;
+    }
+
+    ConcurrentPublication getPublication(final long registrationId)
+    {
+        return (ConcurrentPublication)getAsyncResource(registrationId);
+    }
+
+    ExclusivePublication getExclusivePublication(final long registrationId)
+    {
+        return (ExclusivePublication)getAsyncResource(registrationId);
+    }
+
+    long asyncRemovePublication(final long registrationId)
+    {
+        if (isTerminating || isClosed)
+        {
+            return Aeron.NULL_VALUE;
+        }
+
+        final long correlationId = driverProxy.nextCorrelationId();
+        commandQueue.offer(() -> sendRemovePublication(registrationId, correlationId));
+
+        return correlationId;
+    }
+
     void releasePublication(final Publication publication)
     {
-        clientLock.lock();
+        if (!clientLock.tryLock())
+        {
+            publication.internalClose();
+            commandQueue.offer(() -> removePublication(publication));
+            return;
+        }
+
         try
         {
             if (isTerminating || isClosed)
@@ -473,11 +539,7 @@ class ClientConductor implements Agent
                 ensureNotReentrant();
 
                 publication.internalClose();
-                if (publication == resourceByRegIdMap.remove(publication.registrationId()))
-                {
-                    releaseLogBuffers(publication.logBuffers(), publication.originalRegistrationId());
-                    asyncCommandIdSet.add(driverProxy.removePublication(publication.registrationId()));
-                }
+                removePublication(publication);
             }
         }
         finally
@@ -523,9 +585,59 @@ class ClientConductor implements Agent
         }
     }
 
+    long asyncAddSubscription(final String channel, final int streamId)
+    {
+        return asyncAddSubscription(channel, streamId, defaultAvailableImageHandler, defaultUnavailableImageHandler);
+    }
+
+    long asyncAddSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler)
+    {
+        ensureActive();
+
+        final long registrationId = driverProxy.nextCorrelationId();
+        commandQueue.offer(() -> sendAsyncAdd(
+            registrationId,
+            null,
+            () ->
+            {
+                driverProxy.addSubscription(registrationId, channel, streamId);
+                resourceByRegIdMap.put(registrationId, new Subscription(
+                    this, channel, streamId, registrationId, availableImageHandler, unavailableImageHandler));
+            }));
+
+        return registrationId;
+    }
+
+    Subscription getSubscription(final long registrationId)
+    {
+        return (Subscription)getAsyncResource(registrationId);
+    }
+
+    long asyncRemoveSubscription(final long registrationId)
+    {
+        if (isTerminating || isClosed)
+        {
+            return Aeron.NULL_VALUE;
+        }
+
+        final long correlationId = driverProxy.nextCorrelationId();
+        commandQueue.offer(() -> sendRemoveSubscription(registrationId, correlationId));
+
+        return correlationId;
+    }
+
     void releaseSubscription(final Subscription subscription)
     {
-        clientLock.lock();
+        if (!clientLock.tryLock())
+        {
+            commandQueue.offer(() -> closeSubscription(subscription));
+            return;
+        }
+
         try
         {
             if (isTerminating || isClosed)
@@ -536,13 +648,7 @@ class ClientConductor implements Agent
             if (!subscription.isClosed())
             {
                 ensureNotReentrant();
-
-                subscription.internalClose();
-                final long registrationId = subscription.registrationId();
-                if (subscription == resourceByRegIdMap.remove(registrationId))
-                {
-                    asyncCommandIdSet.add(driverProxy.removeSubscription(registrationId));
-                }
+                closeSubscription(subscription);
             }
         }
         finally
@@ -617,79 +723,55 @@ class ClientConductor implements Agent
 
     long asyncAddDestination(final long registrationId, final String endpointChannel)
     {
-        clientLock.lock();
-        try
-        {
-            ensureActive();
-            ensureNotReentrant();
+        ensureActive();
 
-            final long correlationId = driverProxy.addDestination(registrationId, endpointChannel);
-            asyncCommandIdSet.add(correlationId);
-            return correlationId;
-        }
-        finally
-        {
-            clientLock.unlock();
-        }
+        final long correlationId = driverProxy.nextCorrelationId();
+        commandQueue.offer(() -> sendAsyncCommand(
+            correlationId, () -> driverProxy.addDestination(correlationId, registrationId, endpointChannel)));
+
+        return correlationId;
     }
 
     long asyncRemoveDestination(final long registrationId, final String endpointChannel)
     {
-        clientLock.lock();
-        try
-        {
-            ensureActive();
-            ensureNotReentrant();
+        ensureActive();
 
-            final long correlationId = driverProxy.removeDestination(registrationId, endpointChannel);
-            asyncCommandIdSet.add(correlationId);
-            return correlationId;
-        }
-        finally
-        {
-            clientLock.unlock();
-        }
+        final long correlationId = driverProxy.nextCorrelationId();
+        commandQueue.offer(() -> sendAsyncCommand(
+            correlationId, () -> driverProxy.removeDestination(correlationId, registrationId, endpointChannel)));
+
+        return correlationId;
     }
 
     long asyncAddRcvDestination(final long registrationId, final String endpointChannel)
     {
-        clientLock.lock();
-        try
-        {
-            ensureActive();
-            ensureNotReentrant();
+        ensureActive();
 
-            final long correlationId = driverProxy.addRcvDestination(registrationId, endpointChannel);
-            asyncCommandIdSet.add(correlationId);
-            return correlationId;
-        }
-        finally
-        {
-            clientLock.unlock();
-        }
+        final long correlationId = driverProxy.nextCorrelationId();
+        commandQueue.offer(() -> sendAsyncCommand(
+            correlationId, () -> driverProxy.addRcvDestination(correlationId, registrationId, endpointChannel)));
+
+        return correlationId;
     }
 
     long asyncRemoveRcvDestination(final long registrationId, final String endpointChannel)
     {
-        clientLock.lock();
-        try
-        {
-            ensureActive();
-            ensureNotReentrant();
+        ensureActive();
 
-            final long correlationId = driverProxy.removeRcvDestination(registrationId, endpointChannel);
-            asyncCommandIdSet.add(correlationId);
-            return correlationId;
-        }
-        finally
-        {
-            clientLock.unlock();
-        }
+        final long correlationId = driverProxy.nextCorrelationId();
+        commandQueue.offer(() -> sendAsyncCommand(
+            correlationId, () -> driverProxy.removeRcvDestination(correlationId, registrationId, endpointChannel)));
+
+        return correlationId;
     }
 
     boolean isCommandActive(final long correlationId)
     {
-        clientLock.lock();
+        if (!clientLock.tryLock())
+        {
+            return !isClosed;
+        }
+
         try
         {
             if (isClosed)
@@ -698,6 +780,7 @@ class ClientConductor implements Agent
             }
 
             ensureActive();
+            processQueuedCommands();
 
             return asyncCommandIdSet.contains(correlationId);
         }
@@ -709,7 +792,11 @@ class ClientConductor implements Agent
 
     boolean hasActiveCommands()
     {
-        clientLock.lock();
+        if (!clientLock.tryLock())
+        {
+            return !isClosed;
+        }
+
         try
         {
             if (isClosed)
@@ -718,6 +805,7 @@ class ClientConductor implements Agent
             }
 
             ensureActive();
+            processQueuedCommands();
 
             return !asyncCommandIdSet.isEmpty();
         }
@@ -789,6 +877,75 @@ class ClientConductor implements Agent
         }
     }
 
+    long asyncAddCounter(
+        final int typeId,
+        final DirectBuffer keyBuffer,
+        final int keyOffset,
+        final int keyLength,
+        final DirectBuffer labelBuffer,
+        final int labelOffset,
+        final int labelLength)
+    {
+        ensureActive();
+
+        if (keyLength < 0 || keyLength > CountersManager.MAX_KEY_LENGTH)
+        {
+            throw new IllegalArgumentException("key length out of bounds: " + keyLength);
+        }
+
+        if (labelLength < 0 || labelLength > CountersManager.MAX_LABEL_LENGTH)
+        {
+            throw new IllegalArgumentException("label length out of bounds: " + labelLength);
+        }
+
+        final UnsafeBuffer key = new UnsafeBuffer(new byte[keyLength]);
+        key.putBytes(0, keyBuffer, keyOffset, keyLength);
+        final UnsafeBuffer label = new UnsafeBuffer(new byte[labelLength]);
+        label.putBytes(0, labelBuffer, labelOffset, labelLength);
+
+        final long registrationId = driverProxy.nextCorrelationId();
+        commandQueue.offer(() -> sendAsyncAdd(
+            registrationId,
+            null,
+            () -> driverProxy.addCounter(registrationId, typeId, key, 0, keyLength, label, 0, labelLength)));
+
+        return registrationId;
+    }
+
+    long asyncAddCounter(final int typeId, final String label)
+    {
+        ensureActive();
+
+        if (label.length() > CountersManager.MAX_LABEL_LENGTH)
+        {
+            throw new IllegalArgumentException("label length exceeds MAX_LABEL_LENGTH: " + label.length());
+        }
+
+        final long registrationId = driverProxy.nextCorrelationId();
+        commandQueue.offer(() -> sendAsyncAdd(
+            registrationId, null, () -> driverProxy.addCounter(registrationId, typeId, label)));
+
+        return registrationId;
+    }
+
+    Counter getCounter(final long registrationId)
+    {
+        return (Counter)getAsyncResource(registrationId);
+    }
+
+    long asyncRemoveCounter(final long registrationId)
+    {
+        if (isTerminating || isClosed)
+        {
+            return Aeron.NULL_VALUE;
+        }
+
+        final long correlationId = driverProxy.nextCorrelationId();
+        commandQueue.offer(() -> sendRemoveCounter(registrationId, correlationId));
+
+        return correlationId;
+    }
+
     long addAvailableCounterHandler(final AvailableCounterHandler handler)
     {
         clientLock.lock();
@@ -952,7 +1109,12 @@ class ClientConductor implements Agent
 
     void releaseCounter(final Counter counter)
     {
-        clientLock.lock();
+        if (!clientLock.tryLock())
+        {
+            commandQueue.offer(() -> removeCounter(counter));
+            return;
+        }
+
         try
         {
             if (isTerminating || isClosed)
@@ -961,12 +1123,7 @@ class ClientConductor implements Agent
             }
 
             ensureNotReentrant();
-
-            final long registrationId = counter.registrationId();
-            if (counter == resourceByRegIdMap.remove(registrationId))
-            {
-                asyncCommandIdSet.add(driverProxy.removeCounter(registrationId));
-            }
+            removeCounter(counter);
         }
         finally
         {
@@ -1042,6 +1199,63 @@ class ClientConductor implements Agent
         }
     }
 
+    private void addAsyncResource(final long registrationId)
+    {
+        asyncCommandIdSet.add(registrationId);
+        asyncResourceIdSet.add(registrationId);
+    }
+
+    private boolean cancelAsyncResource(final long registrationId)
+    {
+        asyncCommandIdSet.remove(registrationId);
+        return asyncResourceIdSet.remove(registrationId);
+    }
+
+    private Object getAsyncResource(final long registrationId)
+    {
+        if (!clientLock.tryLock())
+        {
+            ensureActive();
+            return null;
+        }
+
+        try
+        {
+            ensureActive();
+            processQueuedCommands();
+
+            final AeronException ex = asyncExceptionByRegIdMap.remove(registrationId);
+            if (null != ex)
+            {
+                throw ex;
+            }
+
+            if (asyncResourceIdSet.contains(registrationId))
+            {
+                return null;
+            }
+
+            return resourceByRegIdMap.get(registrationId);
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    private void closeFailedRegistration(final long registrationId)
+    {
+        stashedChannelByRegistrationId.remove(registrationId);
+
+        final Object resource = resourceByRegIdMap.get(registrationId);
+        if (resource instanceof Subscription)
+        {
+            final Subscription subscription = (Subscription)resource;
+            subscription.internalClose();
+            resourceByRegIdMap.remove(registrationId);
+        }
+    }
+
     private LogBuffers logBuffers(final long registrationId, final String logFileName, final String channel)
     {
         LogBuffers logBuffers = logBuffersByIdMap.get(registrationId);
@@ -1068,6 +1282,8 @@ class ClientConductor implements Agent
 
         try
         {
+            workCount += processCommandQueue();
+
             final long nowNs = nanoClock.nanoTime();
             workCount += checkTimeouts(nowNs);
             workCount += driverEventsAdapter.receive(correlationId);
@@ -1096,6 +1312,156 @@ class ClientConductor implements Agent
         return workCount;
     }
 
+    private int processCommandQueue()
+    {
+        int workCount = 0;
+        Runnable command;
+
+        while (null != (command = commandQueue.poll()))
+        {
+            try
+            {
+                command.run();
+            }
+            catch (final Throwable ex)
+            {
+                handleError(ex);
+            }
+
+            workCount++;
+        }
+
+        return workCount;
+    }
+
+    private void processQueuedCommands()
+    {
+        if (!isInCallback)
+        {
+            processCommandQueue();
+        }
+    }
+
+    private void sendAsyncAdd(final long registrationId, final String channel, final Runnable sendCommand)
+    {
+        try
+        {
+            sendCommand.run();
+        }
+        catch (final AeronException ex)
+        {
+            asyncExceptionByRegIdMap.put(registrationId, ex);
+            return;
+        }
+
+        if (null != channel)
+        {
+            stashedChannelByRegistrationId.put(registrationId, channel);
+        }
+
+        addAsyncResource(registrationId);
+    }
+
+    private void sendAsyncCommand(final long correlationId, final Runnable sendCommand)
+    {
+        sendCommand.run();
+        asyncCommandIdSet.add(correlationId);
+    }
+
+    private void sendRemovePublication(final long registrationId, final long correlationId)
+    {
+        final Object resource = resourceByRegIdMap.get(registrationId);
+        if (resource instanceof Publication)
+        {
+            final Publication publication = (Publication)resource;
+            if (!publication.isClosed())
+            {
+                publication.internalClose();
+            }
+
+            resourceByRegIdMap.remove(registrationId);
+            releaseLogBuffers(publication.logBuffers(), publication.originalRegistrationId());
+        }
+        else if (!cancelAsyncResource(registrationId))
+        {
+            return;
+        }
+
+        stashedChannelByRegistrationId.remove(registrationId);
+        sendAsyncCommand(correlationId, () -> driverProxy.removePublication(correlationId, registrationId));
+    }
+
+    private void sendRemoveSubscription(final long registrationId, final long correlationId)
+    {
+        final Object resource = resourceByRegIdMap.get(registrationId);
+        if (!(resource instanceof Subscription))
+        {
+            return;
+        }
+
+        final Subscription subscription = (Subscription)resource;
+        cancelAsyncResource(registrationId);
+        if (!subscription.isClosed())
+        {
+            subscription.internalClose();
+        }
+
+        resourceByRegIdMap.remove(registrationId);
+        sendAsyncCommand(correlationId, () -> driverProxy.removeSubscription(correlationId, registrationId));
+    }
+
+    private void sendRemoveCounter(final long registrationId, final long correlationId)
+    {
+        final Object resource = resourceByRegIdMap.get(registrationId);
+        if (resource instanceof Counter)
+        {
+            final Counter counter = (Counter)resource;
+            if (!counter.isClosed())
+            {
+                counter.internalClose();
+            }
+
+            resourceByRegIdMap.remove(registrationId);
+        }
+        else if (!cancelAsyncResource(registrationId))
+        {
+            return;
+        }
+
+        sendAsyncCommand(correlationId, () -> driverProxy.removeCounter(correlationId, registrationId));
+    }
+
+    private void removePublication(final Publication publication)
+    {
+        if (publication == resourceByRegIdMap.remove(publication.registrationId()))
+        {
+            releaseLogBuffers(publication.logBuffers(), publication.originalRegistrationId());
+            asyncCommandIdSet.add(driverProxy.removePublication(publication.registrationId()));
+        }
+    }
+
+    private void closeSubscription(final Subscription subscription)
+    {
+        if (!subscription.isClosed())
+        {
+            subscription.internalClose();
+            final long registrationId = subscription.registrationId();
+            if (subscription == resourceByRegIdMap.remove(registrationId))
+            {
+                asyncCommandIdSet.add(driverProxy.removeSubscription(registrationId));
+            }
+        }
+    }
+
+    private void removeCounter(final Counter counter)
+    {
+        final long registrationId = counter.registrationId();
+        if (counter == resourceByRegIdMap.remove(registrationId))
+        {
+            asyncCommandIdSet.add(driverProxy.removeCounter(registrationId));
+        }
+    }
+
     private static boolean isClientApiCall(final long correlationId)
     {
         return correlationId != NO_CORRELATION_ID;
@@ -1123,7 +1489,6 @@ class ClientConductor implements Agent
 
             if (driverEventsAdapter.receivedCorrelationId() == correlationId)
             {
-                stashedChannel = null;
                 final RegistrationException ex = driverException;
                 if (null != ex)
                 {
@@ -267,7 +267,7 @@ public class CommonContext implements Cloneable
 
     /**
      * Parameter name for Subscription URI param to indicate the congestion control algorithm to be used.
-     * Options include {@code static} and {@code cubic}.
+     * Options include {@code static}, {@code cubic}, {@code auto}, and {@code bbr}.
      */
     public static final String CONGESTION_CONTROL_PARAM_NAME = "cc";
 
@@ -287,6 +287,49 @@ public class CommonContext implements Cloneable
      */
     public static final String SPIES_SIMULATE_CONNECTION_PARAM_NAME = "ssc";
 
+    /**
+     * Parameter name for Publication URI param to indicate the relative weight of a network publication when the
+     * sender shares its duty cycle between publications. A publication may send up to its weight multiplied by the
+     * driver's send weight quantum length in bytes per duty cycle.
+     */
+    public static final String SEND_WEIGHT_PARAM_NAME = "send-weight";
+
+    /**
+     * Parameter name for Subscription URI param to select which receiver agent of the driver services the channel
+     * when the driver has more than one. The value must be a non-negative integer and is taken modulo the number of
+     * receiver agents.
+     */
+    public static final String RECEIVER_SHARD_PARAM_NAME = "rcv-shard";
+
+    /**
+     * Parameter name for Publication URI param to select which sender agent of the driver services the channel
+     * when the driver has more than one. The value must be a non-negative integer and is taken modulo the number of
+     * sender agents.
+     */
+    public static final String SENDER_SHARD_PARAM_NAME = "snd-shard";
+
+    /**
+     * Parameter name for channel URI param to opt in to UDP segmentation offload. A publication hands batches of
+     * equal length datagrams to the transport as one large send for the kernel to segment, and a subscription accepts
+     * coalesced datagrams which are split back into their segments. When the datagram transport of the driver does
+     * not support offload the channel falls back to sending and receiving one datagram at a time. Batches are only
+     * formed when the send batch length of the driver is greater than 1.
+     */
+    public static final String SEGMENT_OFFLOAD_PARAM_NAME = "gso";
+
+    /**
+     * Parameter name for channel URI param to opt in to latency tracking of a stream from send to receipt. A
+     * publication has the reserved value of each frame overwritten with the epoch time in nanoseconds at which it is
+     * sent, and a subscription has the latency distribution of frames received on its images recorded to the latency
+     * report of the driver. Measurements between hosts are only as accurate as the synchronisation of their clocks.
+     * Latency is only recorded when both the publication and the subscription opt in.
+     * <p>
+     * The timestamp replaces any reserved value supplied by the application and is written into the log buffer
+     * of the publication, so it is not available for other uses on the stream. Spies are not supported on a
+     * latency timestamped publication and will be rejected. Value is boolean.
+     */
+    public static final String LATENCY_TIMESTAMP_PARAM_NAME = "latency-ts";
+
     /**
      * Using an integer because there is no support for boolean. 1 is concluded, 0 is not concluded.
      */
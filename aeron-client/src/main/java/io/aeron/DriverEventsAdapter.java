@@ -141,9 +141,8 @@ class DriverEventsAdapter implements MessageHandler
                 publicationReady.wrap(buffer, index);
 
                 final long correlationId = publicationReady.correlationId();
-                if (correlationId == activeCorrelationId)
+                if (isResponseToCommand(correlationId))
                 {
-                    receivedCorrelationId = correlationId;
                     conductor.onNewPublication(
                         correlationId,
                         publicationReady.registrationId(),
@@ -161,9 +160,8 @@ class DriverEventsAdapter implements MessageHandler
                 subscriptionReady.wrap(buffer, index);
 
                 final long correlationId = subscriptionReady.correlationId();
-                if (correlationId == activeCorrelationId)
+                if (isResponseToCommand(correlationId))
                 {
-                    receivedCorrelationId = correlationId;
                     conductor.onNewSubscription(correlationId, subscriptionReady.channelStatusCounterId());
                 }
                 break;
@@ -197,9 +195,8 @@ class DriverEventsAdapter implements MessageHandler
                 publicationReady.wrap(buffer, index);
 
                 final long correlationId = publicationReady.correlationId();
-                if (correlationId == activeCorrelationId)
+                if (isResponseToCommand(correlationId))
                 {
-                    receivedCorrelationId = correlationId;
                     conductor.onNewExclusivePublication(
                         correlationId,
                         publicationReady.registrationId(),
@@ -218,9 +215,8 @@ class DriverEventsAdapter implements MessageHandler
 
                 final int counterId = counterUpdate.counterId();
                 final long correlationId = counterUpdate.correlationId();
-                if (correlationId == activeCorrelationId)
+                if (isResponseToCommand(correlationId))
                 {
-                    receivedCorrelationId = correlationId;
                     conductor.onNewCounter(correlationId, counterId);
                 }
                 else
@@ -250,4 +246,15 @@ class DriverEventsAdapter implements MessageHandler
             }
         }
     }
+
+    private boolean isResponseToCommand(final long correlationId)
+    {
+        if (correlationId == activeCorrelationId)
+        {
+            receivedCorrelationId = correlationId;
+            return true;
+        }
+
+        return asyncCommandIdSet.remove(correlationId);
+    }
 }
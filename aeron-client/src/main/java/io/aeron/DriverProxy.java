@@ -63,10 +63,21 @@ public class DriverProxy
         return toDriverCommandBuffer.consumerHeartbeatTime();
     }
 
+    public long nextCorrelationId()
+    {
+        return toDriverCommandBuffer.nextCorrelationId();
+    }
+
     public long addPublication(final String channel, final int streamId)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        addPublication(correlationId, channel, streamId);
+
+        return correlationId;
+    }
 
+    public void addPublication(final long correlationId, final String channel, final int streamId)
+    {
         publicationMessage.correlationId(correlationId);
         publicationMessage
             .streamId(streamId)
@@ -76,14 +87,18 @@ public class DriverProxy
         {
             throw new AeronException("could not write add publication command");
         }
-
-        return correlationId;
     }
 
     public long addExclusivePublication(final String channel, final int streamId)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        addExclusivePublication(correlationId, channel, streamId);
 
+        return correlationId;
+    }
+
+    public void addExclusivePublication(final long correlationId, final String channel, final int streamId)
+    {
         publicationMessage.correlationId(correlationId);
         publicationMessage
             .streamId(streamId)
@@ -93,14 +108,18 @@ public class DriverProxy
         {
             throw new AeronException("could not write add exclusive publication command");
         }
-
-        return correlationId;
     }
 
     public long removePublication(final long registrationId)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        removePublication(correlationId, registrationId);
+
+        return correlationId;
+    }
 
+    public void removePublication(final long correlationId, final long registrationId)
+    {
         removeMessage
             .registrationId(registrationId)
             .correlationId(correlationId);
@@ -109,14 +128,19 @@ public class DriverProxy
         {
             throw new AeronException("could not write remove publication command");
         }
+    }
+
+    public long addSubscription(final String channel, final int streamId)
+    {
+        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        addSubscription(correlationId, channel, streamId);
 
         return correlationId;
     }
 
-    public long addSubscription(final String channel, final int streamId)
+    public void addSubscription(final long correlationId, final String channel, final int streamId)
     {
         final long registrationId = Aeron.NULL_VALUE;
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
 
         subscriptionMessage.correlationId(correlationId);
         subscriptionMessage
@@ -128,14 +152,18 @@ public class DriverProxy
         {
             throw new AeronException("could not write add subscription command");
         }
-
-        return correlationId;
     }
 
     public long removeSubscription(final long registrationId)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        removeSubscription(correlationId, registrationId);
 
+        return correlationId;
+    }
+
+    public void removeSubscription(final long correlationId, final long registrationId)
+    {
         removeMessage
             .registrationId(registrationId)
             .correlationId(correlationId);
@@ -144,14 +172,18 @@ public class DriverProxy
         {
             throw new AeronException("could not write remove subscription message");
         }
-
-        return correlationId;
     }
 
     public long addDestination(final long registrationId, final String endpointChannel)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        addDestination(correlationId, registrationId, endpointChannel);
+
+        return correlationId;
+    }
 
+    public void addDestination(final long correlationId, final long registrationId, final String endpointChannel)
+    {
         destinationMessage
             .registrationCorrelationId(registrationId)
             .channel(endpointChannel)
@@ -161,14 +193,18 @@ public class DriverProxy
         {
             throw new AeronException("could not write add destination command");
         }
-
-        return correlationId;
     }
 
     public long removeDestination(final long registrationId, final String endpointChannel)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        removeDestination(correlationId, registrationId, endpointChannel);
 
+        return correlationId;
+    }
+
+    public void removeDestination(final long correlationId, final long registrationId, final String endpointChannel)
+    {
         destinationMessage
             .registrationCorrelationId(registrationId)
             .channel(endpointChannel)
@@ -178,14 +214,18 @@ public class DriverProxy
         {
             throw new AeronException("could not write remove destination command");
         }
-
-        return correlationId;
     }
 
     public long addRcvDestination(final long registrationId, final String endpointChannel)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        addRcvDestination(correlationId, registrationId, endpointChannel);
 
+        return correlationId;
+    }
+
+    public void addRcvDestination(final long correlationId, final long registrationId, final String endpointChannel)
+    {
         destinationMessage
             .registrationCorrelationId(registrationId)
             .channel(endpointChannel)
@@ -195,14 +235,18 @@ public class DriverProxy
         {
             throw new AeronException("could not write add rcv destination command");
         }
-
-        return correlationId;
     }
 
     public long removeRcvDestination(final long registrationId, final String endpointChannel)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        removeRcvDestination(correlationId, registrationId, endpointChannel);
 
+        return correlationId;
+    }
+
+    public void removeRcvDestination(final long correlationId, final long registrationId, final String endpointChannel)
+    {
         destinationMessage
             .registrationCorrelationId(registrationId)
             .channel(endpointChannel)
@@ -212,8 +256,6 @@ public class DriverProxy
         {
             throw new AeronException("could not write remove rcv destination command");
         }
-
-        return correlationId;
     }
 
     public long addCounter(
@@ -226,7 +268,21 @@ public class DriverProxy
         final int labelLength)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        addCounter(correlationId, typeId, keyBuffer, keyOffset, keyLength, labelBuffer, labelOffset, labelLength);
 
+        return correlationId;
+    }
+
+    public void addCounter(
+        final long correlationId,
+        final int typeId,
+        final DirectBuffer keyBuffer,
+        final int keyOffset,
+        final int keyLength,
+        final DirectBuffer labelBuffer,
+        final int labelOffset,
+        final int labelLength)
+    {
         counterMessage
             .typeId(typeId)
             .keyBuffer(keyBuffer, keyOffset, keyLength)
@@ -237,14 +293,18 @@ public class DriverProxy
         {
             throw new AeronException("could not write add counter command");
         }
-
-        return correlationId;
     }
 
     public long addCounter(final int typeId, final String label)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        addCounter(correlationId, typeId, label);
+
+        return correlationId;
+    }
 
+    public void addCounter(final long correlationId, final int typeId, final String label)
+    {
         counterMessage
             .typeId(typeId)
             .keyBuffer(null, 0, 0)
@@ -255,14 +315,18 @@ public class DriverProxy
         {
             throw new AeronException("could not write add counter command");
         }
-
-        return correlationId;
     }
 
     public long removeCounter(final long registrationId)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        removeCounter(correlationId, registrationId);
+
+        return correlationId;
+    }
 
+    public void removeCounter(final long correlationId, final long registrationId)
+    {
         removeMessage
             .registrationId(registrationId)
             .correlationId(correlationId);
@@ -271,8 +335,6 @@ public class DriverProxy
         {
             throw new AeronException("could not write remove counter command");
         }
-
-        return correlationId;
     }
 
     public void clientClose()
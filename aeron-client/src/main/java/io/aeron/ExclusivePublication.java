@@ -18,11 +18,13 @@ package io.aeron;
 import io.aeron.logbuffer.BufferClaim;
 import io.aeron.logbuffer.ExclusiveTermAppender;
 import io.aeron.logbuffer.LogBufferDescriptor;
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
 
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
 import static io.aeron.protocol.DataHeaderFlyweight.*;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
@@ -466,6 +468,67 @@ public class ExclusivePublication extends ExclusivePublicationValues
         return newPosition;
     }
 
+    /**
+     * Non-blocking publish of a batch of messages, each of which is appended as an unfragmented frame in the
+     * current term with a single position limit check and tail update.
+     * <p>
+     * The batch is appended in full or not at all. If the batch does not fit in the remaining space of the current
+     * term then the term is padded and {@link #ADMIN_ACTION} is returned so the batch can be offered again.
+     *
+     * @param messages each of which is published as a separate message.
+     * @return The new stream position after the last message, otherwise a negative error value of
+     * {@link #NOT_CONNECTED}, {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED}, or
+     * {@link #MAX_POSITION_EXCEEDED}.
+     * @throws IllegalArgumentException if the batch is empty, a message is greater than {@link #maxPayloadLength()},
+     *                                  or the batch is greater than {@link #maxMessageLength()} once framed.
+     */
+    public long offerBatch(final DirectBufferVector[] messages)
+    {
+        return offerBatch(messages, null);
+    }
+
+    /**
+     * Non-blocking publish of a batch of messages, each of which is appended as an unfragmented frame in the
+     * current term with a single position limit check and tail update.
+     * <p>
+     * The batch is appended in full or not at all. If the batch does not fit in the remaining space of the current
+     * term then the term is padded and {@link #ADMIN_ACTION} is returned so the batch can be offered again.
+     *
+     * @param messages              each of which is published as a separate message.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for each frame.
+     * @return The new stream position after the last message, otherwise a negative error value of
+     * {@link #NOT_CONNECTED}, {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED}, or
+     * {@link #MAX_POSITION_EXCEEDED}.
+     * @throws IllegalArgumentException if the batch is empty, a message is greater than {@link #maxPayloadLength()},
+     *                                  or the batch is greater than {@link #maxMessageLength()} once framed.
+     */
+    public long offerBatch(final DirectBufferVector[] messages, final ReservedValueSupplier reservedValueSupplier)
+    {
+        final int batchLength = validateAndComputeBatchLength(messages);
+        long newPosition = CLOSED;
+
+        if (!isClosed)
+        {
+            final long limit = positionLimit.getVolatile();
+            final ExclusiveTermAppender termAppender = termAppenders[activePartitionIndex];
+            final long position = termBeginPosition + termOffset;
+
+            if (position < limit)
+            {
+                final int result = termAppender.appendUnfragmentedMessages(
+                    termId, termOffset, headerWriter, messages, batchLength, reservedValueSupplier);
+
+                newPosition = newPosition(result);
+            }
+            else
+            {
+                newPosition = backPressureStatus(position, batchLength);
+            }
+        }
+
+        return newPosition;
+    }
+
     /**
      * Offer a block of pre-formatted message fragments directly into the current term.
      *
@@ -546,6 +609,34 @@ public class ExclusivePublication extends ExclusivePublicationValues
         }
     }
 
+    private int validateAndComputeBatchLength(final DirectBufferVector[] messages)
+    {
+        if (0 == messages.length)
+        {
+            throw new IllegalArgumentException("batch must contain at least one message");
+        }
+
+        int batchLength = 0;
+        for (final DirectBufferVector message : messages)
+        {
+            message.validate();
+            if (message.length > maxPayloadLength)
+            {
+                throw new IllegalArgumentException(
+                    "message exceeds maxPayloadLength of " + maxPayloadLength + ", length=" + message.length);
+            }
+
+            batchLength += BitUtil.align(message.length + HEADER_LENGTH, FRAME_ALIGNMENT);
+            if (batchLength > maxMessageLength)
+            {
+                throw new IllegalArgumentException(
+                    "batch exceeds maxMessageLength of " + maxMessageLength + ", length=" + batchLength);
+            }
+        }
+
+        return batchLength;
+    }
+
     private long newPosition(final int resultingOffset)
     {
         if (resultingOffset > 0)
@@ -404,6 +404,112 @@ public class Image
         return fragmentsRead;
     }
 
+    /**
+     * Poll for new messages in a stream. If new messages are found beyond the last consumed position then they
+     * will be delivered to the {@link FragmentBatchHandler} in batches of up to {@link FragmentBatch#capacity()}
+     * fragments until the limited number of fragments as specified have been consumed.
+     * <p>
+     * The {@link ControlledFragmentHandler.Action} returned by the handler is applied to the batch as a whole in the
+     * same way as it is applied to a single fragment by {@link #controlledPoll(ControlledFragmentHandler, int)}.
+     * Batches do not span a term boundary.
+     *
+     * @param handler       to which batches of message fragments are delivered.
+     * @param batch         to be filled with fragments and reused for each callback.
+     * @param fragmentLimit for the number of fragments to be consumed during one polling operation.
+     * @return the number of fragments that have been consumed.
+     */
+    public int batchPoll(final FragmentBatchHandler handler, final FragmentBatch batch, final int fragmentLimit)
+    {
+        if (isClosed)
+        {
+            return 0;
+        }
+
+        int fragmentsRead = 0;
+        long initialPosition = subscriberPosition.get();
+        int initialOffset = (int)initialPosition & termLengthMask;
+        int offset = initialOffset;
+        final UnsafeBuffer termBuffer = activeTermBuffer(initialPosition);
+        final int capacity = termBuffer.capacity();
+        final Header header = this.header;
+        header.buffer(termBuffer);
+
+        try
+        {
+            while (fragmentsRead < fragmentLimit && offset < capacity)
+            {
+                final int batchOffset = offset;
+                final int batchLimit = fragmentLimit - fragmentsRead;
+                int lastFrameOffset = 0;
+                batch.reset(termBuffer);
+
+                while (batch.count() < batchLimit && !batch.isFull() && offset < capacity)
+                {
+                    final int length = frameLengthVolatile(termBuffer, offset);
+                    if (length <= 0)
+                    {
+                        break;
+                    }
+
+                    final int frameOffset = offset;
+                    offset += BitUtil.align(length, FRAME_ALIGNMENT);
+
+                    if (isPaddingFrame(termBuffer, frameOffset))
+                    {
+                        continue;
+                    }
+
+                    lastFrameOffset = frameOffset;
+                    final long fragmentPosition = initialPosition + (offset - initialOffset);
+                    batch.add(frameOffset + HEADER_LENGTH, length - HEADER_LENGTH, fragmentPosition);
+                }
+
+                final int batchCount = batch.count();
+                if (0 == batchCount)
+                {
+                    break;
+                }
+
+                header.offset(lastFrameOffset);
+
+                final Action action = handler.onFragments(batch, header);
+
+                if (action == ABORT)
+                {
+                    offset = batchOffset;
+                    break;
+                }
+
+                fragmentsRead += batchCount;
+
+                if (action == BREAK)
+                {
+                    break;
+                }
+                else if (action == COMMIT)
+                {
+                    initialPosition += (offset - initialOffset);
+                    initialOffset = offset;
+                    subscriberPosition.setOrdered(initialPosition);
+                }
+            }
+        }
+        catch (final Throwable t)
+        {
+            errorHandler.onError(t);
+        }
+        finally
+        {
+            final long resultingPosition = initialPosition + (offset - initialOffset);
+            if (resultingPosition > initialPosition)
+            {
+                subscriberPosition.setOrdered(resultingPosition);
+            }
+        }
+
+        return fragmentsRead;
+    }
+
     /**
      * Poll for new messages in a stream. If new messages are found beyond the last consumed position then they
      * will be delivered to the {@link FragmentHandler} up to a limited number of fragments as specified or
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+
+import java.util.Arrays;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+
+/**
+ * A {@link FragmentHandler} that reassembles fragmented messages without copying them so the
+ * {@link VectoredMessageHandler} only sees whole messages. This is for a single session on an {@link Image}
+ * and not for multiple session {@link Image}s in a {@link Subscription}.
+ * <p>
+ * The fragments of a message are delivered as {@link DirectBufferVector}s over the term buffer in which they were
+ * received, skipping the frame headers between them. This is safe because a term buffer is not reused until the
+ * subscriber has moved on from it. Should a message continue in a different buffer then the fragments gathered so
+ * far are copied into a {@link BufferBuilder} and the message is delivered as a single vector over the copy.
+ * <p>
+ * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
+ *
+ * @see VectoredFragmentAssembler
+ */
+public class ImageVectoredFragmentAssembler implements FragmentHandler
+{
+    /**
+     * Default number of vectors to allocate for the fragments of a message before growing.
+     */
+    public static final int DEFAULT_INITIAL_VECTOR_COUNT = 16;
+
+    private final VectoredMessageHandler delegate;
+    private final BufferBuilder builder;
+    private final DirectBufferVector[] singleVector = new DirectBufferVector[]{ new DirectBufferVector() };
+    private DirectBufferVector[] vectors;
+    private int vectorCount;
+    private int messageLength;
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on only whole messages.
+     *
+     * @param delegate onto which whole messages are forwarded.
+     */
+    public ImageVectoredFragmentAssembler(final VectoredMessageHandler delegate)
+    {
+        this(delegate, DEFAULT_INITIAL_VECTOR_COUNT);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on only whole messages.
+     *
+     * @param delegate           onto which whole messages are forwarded.
+     * @param initialVectorCount of vectors to allocate for the fragments of a message before growing.
+     */
+    public ImageVectoredFragmentAssembler(final VectoredMessageHandler delegate, final int initialVectorCount)
+    {
+        this.delegate = delegate;
+        this.builder = new BufferBuilder();
+        this.vectors = newVectors(new DirectBufferVector[0], Math.max(initialVectorCount, 2));
+    }
+
+    /**
+     * Get the delegate unto which assembled messages are delegated.
+     *
+     * @return the delegate unto which assembled messages are delegated.
+     */
+    public VectoredMessageHandler delegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * Is a fragmented message in the process of being assembled?
+     *
+     * @return true if a fragmented message in the process of being assembled otherwise false.
+     */
+    public boolean isAssembling()
+    {
+        return messageLength > 0;
+    }
+
+    /**
+     * Reset the assembler and discard any partially assembled message.
+     */
+    public void reset()
+    {
+        vectorCount = 0;
+        messageLength = 0;
+        builder.reset();
+    }
+
+    /**
+     * The implementation of {@link FragmentHandler} that reassembles and forwards whole messages.
+     *
+     * @param buffer containing the data.
+     * @param offset at which the data begins.
+     * @param length of the data in bytes.
+     * @param header representing the meta data for the data.
+     */
+    public void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        final byte flags = header.flags();
+
+        if ((flags & UNFRAGMENTED) == UNFRAGMENTED)
+        {
+            singleVector[0].reset(buffer, offset, length);
+            delegate.onMessage(singleVector, 1, length, header);
+        }
+        else
+        {
+            handleFragment(buffer, offset, length, header, flags);
+        }
+    }
+
+    void handleFragment(
+        final DirectBuffer buffer, final int offset, final int length, final Header header, final byte flags)
+    {
+        if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
+        {
+            reset();
+            addVector(buffer, offset, length);
+        }
+        else if (messageLength > 0)
+        {
+            if (builder.limit() > 0)
+            {
+                builder.append(buffer, offset, length);
+                messageLength += length;
+            }
+            else if (buffer != vectors[0].buffer)
+            {
+                copyVectorsToBuilder();
+                builder.append(buffer, offset, length);
+                messageLength += length;
+            }
+            else
+            {
+                addVector(buffer, offset, length);
+            }
+
+            if ((flags & END_FRAG_FLAG) == END_FRAG_FLAG)
+            {
+                if (builder.limit() > 0)
+                {
+                    singleVector[0].reset(builder.buffer(), 0, builder.limit());
+                    delegate.onMessage(singleVector, 1, messageLength, header);
+                }
+                else
+                {
+                    delegate.onMessage(vectors, vectorCount, messageLength, header);
+                }
+
+                reset();
+            }
+        }
+    }
+
+    private void addVector(final DirectBuffer buffer, final int offset, final int length)
+    {
+        if (vectors.length == vectorCount)
+        {
+            vectors = newVectors(vectors, vectorCount << 1);
+        }
+
+        vectors[vectorCount++].reset(buffer, offset, length);
+        messageLength += length;
+    }
+
+    private void copyVectorsToBuilder()
+    {
+        for (int i = 0; i < vectorCount; i++)
+        {
+            final DirectBufferVector vector = vectors[i];
+            builder.append(vector.buffer, vector.offset, vector.length);
+        }
+
+        vectorCount = 0;
+    }
+
+    private static DirectBufferVector[] newVectors(final DirectBufferVector[] existing, final int length)
+    {
+        final DirectBufferVector[] vectors = Arrays.copyOf(existing, length);
+        for (int i = existing.length; i < length; i++)
+        {
+            vectors[i] = new DirectBufferVector();
+        }
+
+        return vectors;
+    }
+}
@@ -273,6 +273,9 @@ public abstract class Publication implements AutoCloseable
      * Release resources used by this Publication when there are no more references.
      * <p>
      * Publications are reference counted and are only truly closed when the ref count reaches zero.
+     * <p>
+     * If the client conductor is busy then the release is queued for the conductor so the calling thread does not
+     * block. The publication is marked closed before this method returns.
      */
     public void close()
     {
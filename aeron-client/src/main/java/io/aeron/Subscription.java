@@ -18,6 +18,8 @@ package io.aeron;
 import io.aeron.exceptions.AeronException;
 import io.aeron.logbuffer.BlockHandler;
 import io.aeron.logbuffer.ControlledFragmentHandler;
+import io.aeron.logbuffer.FragmentBatch;
+import io.aeron.logbuffer.FragmentBatchHandler;
 import io.aeron.logbuffer.FragmentHandler;
 import io.aeron.logbuffer.RawBlockHandler;
 import io.aeron.status.ChannelEndpointStatus;
@@ -241,6 +243,44 @@ public class Subscription extends SubscriptionFields implements AutoCloseable
         return fragmentsRead;
     }
 
+    /**
+     * Poll the {@link Image}s under the subscription for available message fragments which are delivered in batches.
+     * Control is applied to each batch within a stream. If more fragments can be read on another stream
+     * they will even if BREAK or ABORT is returned from the batch handler.
+     * <p>
+     * Each batch holds fragments from a single {@link Image} so fragments within a batch are ordered within a session.
+     *
+     * @param batchHandler  callback for handling each batch of message fragments as it is read.
+     * @param batch         to be filled with fragments and reused for each callback.
+     * @param fragmentLimit number of message fragments to limit when polling across multiple {@link Image}s.
+     * @return the number of fragments received
+     * @see Image#batchPoll(FragmentBatchHandler, FragmentBatch, int)
+     */
+    public int batchPoll(final FragmentBatchHandler batchHandler, final FragmentBatch batch, final int fragmentLimit)
+    {
+        final Image[] images = this.images;
+        final int length = images.length;
+        int fragmentsRead = 0;
+
+        int startingIndex = roundRobinIndex++;
+        if (startingIndex >= length)
+        {
+            roundRobinIndex = startingIndex = 0;
+        }
+
+        for (int i = startingIndex; i < length && fragmentsRead < fragmentLimit; i++)
+        {
+            fragmentsRead += images[i].batchPoll(batchHandler, batch, fragmentLimit - fragmentsRead);
+        }
+
+        for (int i = 0; i < startingIndex && fragmentsRead < fragmentLimit; i++)
+        {
+            fragmentsRead += images[i].batchPoll(batchHandler, batch, fragmentLimit - fragmentsRead);
+        }
+
+        return fragmentsRead;
+    }
+
     /**
      * Poll the {@link Image}s under the subscription for available message fragments in blocks.
      * <p>
@@ -379,7 +419,8 @@ public class Subscription extends SubscriptionFields implements AutoCloseable
     /**
      * Close the Subscription so that associated {@link Image}s can be released.
      * <p>
-     * This method is idempotent.
+     * This method is idempotent. If the client conductor is busy then the close is queued for the conductor and
+     * completes on its next duty cycle so the calling thread does not block.
      */
     public void close()
     {
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+
+/**
+ * A {@link FragmentHandler} that reassembles fragmented messages without copying them so the
+ * {@link VectoredMessageHandler} only sees whole messages. Fragments are tracked per session so this can be used
+ * to poll a {@link Subscription} with multiple {@link Image}s.
+ * <p>
+ * Unfragmented messages are delegated as a single vector. Fragmented messages are delegated as vectors over the
+ * term buffer in which they were received, see {@link ImageVectoredFragmentAssembler} for details.
+ * <p>
+ * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
+ * <p>
+ * Session based assemblers will be allocated as necessary. When sessions go inactive see
+ * {@link UnavailableImageHandler}, it is possible to free the assembler by calling {@link #freeSessionBuffer(int)}.
+ *
+ * @see Subscription#poll(FragmentHandler, int)
+ * @see Image#poll(FragmentHandler, int)
+ */
+public class VectoredFragmentAssembler implements FragmentHandler
+{
+    private final int initialVectorCount;
+    private final VectoredMessageHandler delegate;
+    private final DirectBufferVector[] singleVector = new DirectBufferVector[]{ new DirectBufferVector() };
+    private final Int2ObjectHashMap<ImageVectoredFragmentAssembler> assemblerBySessionIdMap =
+        new Int2ObjectHashMap<>();
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on whole messages.
+     *
+     * @param delegate onto which whole messages are forwarded.
+     */
+    public VectoredFragmentAssembler(final VectoredMessageHandler delegate)
+    {
+        this(delegate, ImageVectoredFragmentAssembler.DEFAULT_INITIAL_VECTOR_COUNT);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on whole messages.
+     *
+     * @param delegate           onto which whole messages are forwarded.
+     * @param initialVectorCount of vectors to allocate for the fragments of a message in each session.
+     */
+    public VectoredFragmentAssembler(final VectoredMessageHandler delegate, final int initialVectorCount)
+    {
+        this.delegate = delegate;
+        this.initialVectorCount = initialVectorCount;
+    }
+
+    /**
+     * Get the delegate unto which assembled messages are delegated.
+     *
+     * @return the delegate unto which assembled messages are delegated.
+     */
+    public VectoredMessageHandler delegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * The implementation of {@link FragmentHandler} that reassembles and forwards whole messages.
+     *
+     * @param buffer containing the data.
+     * @param offset at which the data begins.
+     * @param length of the data in bytes.
+     * @param header representing the meta data for the data.
+     */
+    public void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        final byte flags = header.flags();
+
+        if ((flags & UNFRAGMENTED) == UNFRAGMENTED)
+        {
+            singleVector[0].reset(buffer, offset, length);
+            delegate.onMessage(singleVector, 1, length, header);
+        }
+        else if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
+        {
+            getAssembler(header.sessionId()).handleFragment(buffer, offset, length, header, flags);
+        }
+        else
+        {
+            final ImageVectoredFragmentAssembler assembler = assemblerBySessionIdMap.get(header.sessionId());
+            if (null != assembler)
+            {
+                assembler.handleFragment(buffer, offset, length, header, flags);
+            }
+        }
+    }
+
+    /**
+     * Free an existing session assembler to reclaim memory which is no longer required.
+     *
+     * @param sessionId to have its assembler freed
+     * @return true if a session assembler was found and freed otherwise false.
+     */
+    public boolean freeSessionBuffer(final int sessionId)
+    {
+        return null != assemblerBySessionIdMap.remove(sessionId);
+    }
+
+    /**
+     * Clear down the cache of assemblers by session for reassembling messages.
+     */
+    public void clear()
+    {
+        assemblerBySessionIdMap.clear();
+    }
+
+    private ImageVectoredFragmentAssembler getAssembler(final int sessionId)
+    {
+        ImageVectoredFragmentAssembler assembler = assemblerBySessionIdMap.get(sessionId);
+
+        if (null == assembler)
+        {
+            assembler = new ImageVectoredFragmentAssembler(delegate, initialVectorCount);
+            assemblerBySessionIdMap.put(sessionId, assembler);
+        }
+
+        return assembler;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.Header;
+
+/**
+ * Handler for reading whole messages which are delivered as a sequence of {@link DirectBufferVector}s over the
+ * buffers in which the fragments were received, so the payload does not need to be copied to be reassembled.
+ *
+ * @see ImageVectoredFragmentAssembler
+ * @see VectoredFragmentAssembler
+ */
+@FunctionalInterface
+public interface VectoredMessageHandler
+{
+    /**
+     * Callback for handling a whole message.
+     * <p>
+     * The vectors reference the underlying term buffers and are only valid for the duration of the callback. They
+     * must be copied if the message is to be retained.
+     *
+     * @param vectors     which in order make up the payload of the message.
+     * @param vectorCount of the vectors which are valid starting from index 0.
+     * @param length      of the message in bytes which is the sum of the vector lengths.
+     * @param header      representing the meta data for the last fragment of the message.
+     */
+    void onMessage(DirectBufferVector[] vectors, int vectorCount, int length, Header header);
+}
@@ -307,6 +307,66 @@ public final class ExclusiveTermAppender
         return resultingOffset;
     }
 
+    /**
+     * Append a batch of messages to the term buffer, each as an unfragmented frame, with a single tail update.
+     * <p>
+     * The length of the first frame is committed last so the batch becomes visible to consumers as a whole.
+     *
+     * @param termId                for the current term.
+     * @param termOffset            in the term at which to append.
+     * @param header                for writing the default header.
+     * @param messages              each of which is appended as an unfragmented message.
+     * @param batchLength           of the aligned frames for all messages including headers.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for each frame.
+     * @return the resulting offset of the term after the append on success otherwise {@link #FAILED}.
+     */
+    public int appendUnfragmentedMessages(
+        final int termId,
+        final int termOffset,
+        final HeaderWriter header,
+        final DirectBufferVector[] messages,
+        final int batchLength,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        int resultingOffset = termOffset + batchLength;
+        putRawTailOrdered(termId, resultingOffset);
+
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            int frameOffset = termOffset;
+            for (final DirectBufferVector message : messages)
+            {
+                final int frameLength = message.length + HEADER_LENGTH;
+                header.write(termBuffer, frameOffset, frameLength, termId);
+                termBuffer.putBytes(frameOffset + HEADER_LENGTH, message.buffer, message.offset, message.length);
+
+                if (null != reservedValueSupplier)
+                {
+                    final long reservedValue = reservedValueSupplier.get(termBuffer, frameOffset, frameLength);
+                    termBuffer.putLong(frameOffset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+                }
+
+                if (frameOffset != termOffset)
+                {
+                    termBuffer.putInt(lengthOffset(frameOffset), frameLength, LITTLE_ENDIAN);
+                }
+
+                frameOffset += align(frameLength, FRAME_ALIGNMENT);
+            }
+
+            frameLengthOrdered(termBuffer, termOffset, messages[0].length + HEADER_LENGTH);
+        }
+
+        return resultingOffset;
+    }
+
     /**
      * Append a fragmented message to the the term buffer.
      * The message will be split up into fragments of MTU length minus header.
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import org.agrona.DirectBuffer;
+
+import static io.aeron.logbuffer.FrameDescriptor.flagsOffset;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+
+/**
+ * A batch of message fragments read from a term buffer which are described by arrays of offset, length, and
+ * position tuples so they can be processed in a tight loop without a callback per fragment.
+ * <p>
+ * The payload for fragment i is in {@link #buffer()} between {@link #offset(int)} and
+ * {@link #offset(int)} + {@link #length(int)}, and the header for the fragment begins at
+ * {@link #offset(int)} - {@link io.aeron.protocol.DataHeaderFlyweight#HEADER_LENGTH}. Only the first
+ * {@link #count()} entries in the arrays are valid and only for the duration of the callback.
+ * <p>
+ * <b>Note:</b> A batch is reused between polls and is not threadsafe.
+ *
+ * @see FragmentBatchHandler
+ * @see io.aeron.Image#batchPoll(FragmentBatchHandler, FragmentBatch, int)
+ */
+public final class FragmentBatch
+{
+    private DirectBuffer buffer;
+    private int count;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final long[] positions;
+
+    /**
+     * Construct a batch which can hold up to a given number of fragments.
+     *
+     * @param capacity for the maximum number of fragments in a batch.
+     */
+    public FragmentBatch(final int capacity)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+
+        offsets = new int[capacity];
+        lengths = new int[capacity];
+        positions = new long[capacity];
+    }
+
+    /**
+     * Maximum number of fragments which can be held in a batch.
+     *
+     * @return maximum number of fragments which can be held in a batch.
+     */
+    public int capacity()
+    {
+        return offsets.length;
+    }
+
+    /**
+     * Number of fragments in the batch.
+     *
+     * @return number of fragments in the batch.
+     */
+    public int count()
+    {
+        return count;
+    }
+
+    /**
+     * The term buffer containing the fragments.
+     *
+     * @return the term buffer containing the fragments.
+     */
+    public DirectBuffer buffer()
+    {
+        return buffer;
+    }
+
+    /**
+     * Offset in the buffer at which the payload of a fragment begins.
+     *
+     * @param index of the fragment in the batch.
+     * @return offset in the buffer at which the payload of the fragment begins.
+     */
+    public int offset(final int index)
+    {
+        return offsets[index];
+    }
+
+    /**
+     * Length of the payload of a fragment in bytes.
+     *
+     * @param index of the fragment in the batch.
+     * @return length of the payload of the fragment in bytes.
+     */
+    public int length(final int index)
+    {
+        return lengths[index];
+    }
+
+    /**
+     * Position of the stream after a fragment, which is the position to commit once it has been processed.
+     *
+     * @param index of the fragment in the batch.
+     * @return position of the stream after the fragment.
+     */
+    public long position(final int index)
+    {
+        return positions[index];
+    }
+
+    /**
+     * Flags of the header for a fragment to indicate if it is the beginning, end, or both of a message.
+     *
+     * @param index of the fragment in the batch.
+     * @return flags of the header for the fragment.
+     * @see FrameDescriptor#UNFRAGMENTED
+     */
+    public byte flags(final int index)
+    {
+        return buffer.getByte(flagsOffset(offsets[index] - HEADER_LENGTH));
+    }
+
+    /**
+     * Array of payload offsets for direct iteration. Only the first {@link #count()} entries are valid.
+     *
+     * @return array of payload offsets for direct iteration.
+     */
+    public int[] offsets()
+    {
+        return offsets;
+    }
+
+    /**
+     * Array of payload lengths for direct iteration. Only the first {@link #count()} entries are valid.
+     *
+     * @return array of payload lengths for direct iteration.
+     */
+    public int[] lengths()
+    {
+        return lengths;
+    }
+
+    /**
+     * Array of positions after each fragment for direct iteration. Only the first {@link #count()} entries are valid.
+     *
+     * @return array of positions after each fragment for direct iteration.
+     */
+    public long[] positions()
+    {
+        return positions;
+    }
+
+    /**
+     * Reset the batch to be empty for fragments from a term buffer.
+     *
+     * @param buffer containing the fragments to be added.
+     * @return this for a fluent API.
+     */
+    public FragmentBatch reset(final DirectBuffer buffer)
+    {
+        this.buffer = buffer;
+        count = 0;
+
+        return this;
+    }
+
+    /**
+     * Is the batch full so no more fragments can be added?
+     *
+     * @return true if the batch is full otherwise false.
+     */
+    public boolean isFull()
+    {
+        return count == offsets.length;
+    }
+
+    /**
+     * Add a fragment to the batch.
+     *
+     * @param offset   at which the payload begins.
+     * @param length   of the payload in bytes.
+     * @param position of the stream after the fragment.
+     */
+    public void add(final int offset, final int length, final long position)
+    {
+        final int index = count++;
+        offsets[index] = offset;
+        lengths[index] = length;
+        positions[index] = position;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+/**
+ * Handler for reading a batch of message fragments from a log buffer in one callback. The
+ * {@link ControlledFragmentHandler.Action} returned applies to the whole batch.
+ *
+ * @see io.aeron.Image#batchPoll(FragmentBatchHandler, FragmentBatch, int)
+ * @see io.aeron.Subscription#batchPoll(FragmentBatchHandler, FragmentBatch, int)
+ */
+@FunctionalInterface
+public interface FragmentBatchHandler
+{
+    /**
+     * Callback for handling a batch of fragments read from a term buffer.
+     * <p>
+     * {@link ControlledFragmentHandler.Action#ABORT} leaves the position before the first fragment in the batch so
+     * the whole batch will be delivered again. The other actions consume the whole batch.
+     *
+     * @param batch  of fragments which are valid for the duration of the callback.
+     * @param header representing the meta data for the last fragment in the batch.
+     * @return The action to be taken with regard to the stream position after the callback.
+     */
+    ControlledFragmentHandler.Action onFragments(FragmentBatch batch, Header header);
+}
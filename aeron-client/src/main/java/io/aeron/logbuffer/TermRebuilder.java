@@ -41,12 +41,25 @@ public class TermRebuilder
         if (0 == termBuffer.getInt(termOffset))
         {
             termBuffer.putBytes(termOffset + HEADER_LENGTH, packet, HEADER_LENGTH, length - HEADER_LENGTH);
+            insertHeader(termBuffer, termOffset, packet);
+        }
+    }
 
-            termBuffer.putLong(termOffset + 24, packet.getLong(24));
-            termBuffer.putLong(termOffset + 16, packet.getLong(16));
-            termBuffer.putLong(termOffset + 8, packet.getLong(8));
+    /**
+     * Insert the header of a packet of frames into the log when the remainder of the packet has already been placed
+     * in the term buffer after the header, e.g. by receiving it directly into the term. The frame length is written
+     * last so the packet only becomes visible once complete.
+     *
+     * @param termBuffer into which the header should be inserted.
+     * @param termOffset in the term at which the packet begins.
+     * @param header     of the first frame in the packet.
+     */
+    public static void insertHeader(final UnsafeBuffer termBuffer, final int termOffset, final UnsafeBuffer header)
+    {
+        termBuffer.putLong(termOffset + 24, header.getLong(24));
+        termBuffer.putLong(termOffset + 16, header.getLong(16));
+        termBuffer.putLong(termOffset + 8, header.getLong(8));
 
-            termBuffer.putLongOrdered(termOffset, packet.getLong(0));
-        }
+        termBuffer.putLongOrdered(termOffset, header.getLong(0));
     }
 }
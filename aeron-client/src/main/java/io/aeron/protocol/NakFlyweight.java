@@ -25,6 +25,10 @@ import static java.nio.ByteOrder.LITTLE_ENDIAN;
 /**
  * Flyweight for a NAK Message Frame.
  * <p>
+ * A NAK carries a single range of missing data in the fixed header. When the {@link #MULTI_RANGE_FLAG} is set then
+ * additional ranges of {@link #RANGE_LENGTH} follow the header up to the frame length. Receivers which do not
+ * understand the flag only act on the first range so multi-range NAKs remain compatible with older peers.
+ * <p>
  * <a target="_blank"
  *    href="https://github.com/real-logic/aeron/wiki/Transport-Protocol-Specification#data-recovery-via-retransmit-request">
  *    Data Loss Recovery</a> wiki page.
@@ -34,11 +38,34 @@ public class NakFlyweight extends HeaderFlyweight
 {
     public static final int HEADER_LENGTH = 28;
 
+    /**
+     * Flag to indicate additional ranges follow the header.
+     */
+    public static final short MULTI_RANGE_FLAG = 0x80;
+
+    /**
+     * Length of each additional range of (term-id, term-offset, length) which follows the header.
+     */
+    public static final int RANGE_LENGTH = 12;
+
+    /**
+     * Maximum number of ranges, including the one in the header, which can be carried in a NAK.
+     */
+    public static final int MAX_RANGE_COUNT = 32;
+
+    /**
+     * Maximum length of a NAK frame carrying {@link #MAX_RANGE_COUNT} ranges.
+     */
+    public static final int MAX_FRAME_LENGTH = HEADER_LENGTH + ((MAX_RANGE_COUNT - 1) * RANGE_LENGTH);
+
     private static final int SESSION_ID_FIELD_OFFSET = 8;
     private static final int STREAM_ID_FIELD_OFFSET = 12;
     private static final int TERM_ID_FIELD_OFFSET = 16;
     private static final int TERM_OFFSET_FIELD_OFFSET = 20;
     private static final int LENGTH_FIELD_OFFSET = 24;
+    private static final int RANGE_TERM_ID_OFFSET = 0;
+    private static final int RANGE_TERM_OFFSET_OFFSET = 4;
+    private static final int RANGE_LENGTH_OFFSET = 8;
 
     public NakFlyweight()
     {
@@ -169,6 +196,96 @@ public class NakFlyweight extends HeaderFlyweight
         return this;
     }
 
+    /**
+     * Length of a NAK frame which carries a given number of ranges.
+     *
+     * @param rangeCount of ranges in the frame including the one in the header.
+     * @return length of a NAK frame which carries a given number of ranges.
+     */
+    public static int multiRangeFrameLength(final int rangeCount)
+    {
+        return HEADER_LENGTH + ((rangeCount - 1) * RANGE_LENGTH);
+    }
+
+    /**
+     * The number of ranges in the frame which is 1 unless the {@link #MULTI_RANGE_FLAG} is set.
+     *
+     * @return the number of ranges in the frame.
+     */
+    public int rangeCount()
+    {
+        if (MULTI_RANGE_FLAG == (flags() & MULTI_RANGE_FLAG))
+        {
+            return 1 + ((frameLength() - HEADER_LENGTH) / RANGE_LENGTH);
+        }
+
+        return 1;
+    }
+
+    /**
+     * The term-id for a range in the frame.
+     *
+     * @param index of the range with 0 being the range in the header.
+     * @return term-id for the range.
+     */
+    public int rangeTermId(final int index)
+    {
+        return 0 == index ? termId() : getInt(rangeOffset(index) + RANGE_TERM_ID_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * The term-offset for a range in the frame.
+     *
+     * @param index of the range with 0 being the range in the header.
+     * @return term-offset for the range.
+     */
+    public int rangeTermOffset(final int index)
+    {
+        return 0 == index ? termOffset() : getInt(rangeOffset(index) + RANGE_TERM_OFFSET_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * The length of missing data for a range in the frame.
+     *
+     * @param index of the range with 0 being the range in the header.
+     * @return length of missing data for the range.
+     */
+    public int rangeLength(final int index)
+    {
+        return 0 == index ? length() : getInt(rangeOffset(index) + RANGE_LENGTH_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set a range in the frame. The frame length and flags are not updated.
+     *
+     * @param index      of the range with 0 being the range in the header.
+     * @param termId     for the range.
+     * @param termOffset for the range.
+     * @param length     of missing data for the range.
+     * @return this for a fluent API.
+     */
+    public NakFlyweight range(final int index, final int termId, final int termOffset, final int length)
+    {
+        if (0 == index)
+        {
+            termId(termId).termOffset(termOffset).length(length);
+        }
+        else
+        {
+            final int rangeOffset = rangeOffset(index);
+            putInt(rangeOffset + RANGE_TERM_ID_OFFSET, termId, LITTLE_ENDIAN);
+            putInt(rangeOffset + RANGE_TERM_OFFSET_OFFSET, termOffset, LITTLE_ENDIAN);
+            putInt(rangeOffset + RANGE_LENGTH_OFFSET, length, LITTLE_ENDIAN);
+        }
+
+        return this;
+    }
+
+    private static int rangeOffset(final int index)
+    {
+        return HEADER_LENGTH + ((index - 1) * RANGE_LENGTH);
+    }
+
     public String toString()
     {
         return "NAK{" +
@@ -181,6 +298,7 @@ public class NakFlyweight extends HeaderFlyweight
             " stream-id=" + streamId() +
             " term-id=" + termId() +
             " length=" + length() +
+            " range-count=" + rangeCount() +
             "}";
     }
 }
@@ -34,6 +34,14 @@ public class SetupFlyweight extends HeaderFlyweight
      */
     public static final int HEADER_LENGTH = 40;
 
+    /**
+     * Flag to indicate the publication overwrites the reserved value of each data frame with the epoch time in
+     * nanoseconds at which it is sent.
+     *
+     * @see io.aeron.CommonContext#LATENCY_TIMESTAMP_PARAM_NAME
+     */
+    public static final short LATENCY_TIMESTAMP_FLAG = 0x80;
+
     private static final int TERM_OFFSET_FIELD_OFFSET = 8;
     private static final int SESSION_ID_FIELD_OFFSET = 12;
     private static final int STREAM_ID_FIELD_OFFSET = 16;
@@ -29,6 +29,7 @@ import org.agrona.concurrent.broadcast.CopyBroadcastReceiver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.mockito.InOrder;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
@@ -37,6 +38,7 @@ import java.util.function.ToIntFunction;
 import static io.aeron.ErrorCode.INVALID_CHANNEL;
 import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
 import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.nio.ByteBuffer.allocateDirect;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -134,6 +136,7 @@ public class ClientConductorTest
         when(driverProxy.removePublication(CORRELATION_ID)).thenReturn(CLOSE_CORRELATION_ID);
         when(driverProxy.addSubscription(anyString(), anyInt())).thenReturn(CORRELATION_ID);
         when(driverProxy.removeSubscription(CORRELATION_ID)).thenReturn(CLOSE_CORRELATION_ID);
+        when(driverProxy.nextCorrelationId()).thenReturn(CORRELATION_ID, CLOSE_CORRELATION_ID);
 
         conductor = new ClientConductor(ctx, mockAeron);
 
@@ -241,6 +244,25 @@ public class ClientConductorTest
         verify(driverProxy).removePublication(CORRELATION_ID);
     }
 
+    @Test
+    public void closingPublicationWhenConductorIsBusyShouldQueueRelease()
+    {
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY, publicationReadyBuffer, (buffer) -> publicationReady.length());
+
+        final Publication publication = conductor.addPublication(CHANNEL, STREAM_ID_1);
+
+        when(mockClientLock.tryLock()).thenReturn(FALSE, TRUE);
+        publication.close();
+
+        assertTrue(publication.isClosed());
+        verify(driverProxy, never()).removePublication(CORRELATION_ID);
+
+        conductor.doWork();
+
+        verify(driverProxy).removePublication(CORRELATION_ID);
+    }
+
     @Test
     public void closingPublicationShouldPurgeCache()
     {
@@ -344,6 +366,101 @@ public class ClientConductorTest
         assertThat(publication.registrationId(), is(CORRELATION_ID));
     }
 
+    @Test
+    public void asyncAddPublicationShouldReturnPublicationOnceReady()
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        assertEquals(CORRELATION_ID, registrationId);
+        assertNull(conductor.getPublication(registrationId));
+        assertTrue(conductor.isCommandActive(registrationId));
+        verify(driverProxy).addPublication(CORRELATION_ID, CHANNEL, STREAM_ID_1);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY, publicationReadyBuffer, (buffer) -> publicationReady.length());
+        conductor.doWork();
+
+        final ConcurrentPublication publication = conductor.getPublication(registrationId);
+        assertNotNull(publication);
+        assertEquals(CHANNEL, publication.channel());
+        assertFalse(conductor.isCommandActive(registrationId));
+        verify(logBuffersFactory).map(SESSION_ID_1 + "-log");
+    }
+
+    @Test
+    public void asyncAddPublicationShouldThrowOnGetAfterMediaDriverError()
+    {
+        suppressPrintError = true;
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_ERROR,
+            errorMessageBuffer,
+            (buffer) ->
+            {
+                errorResponse.errorCode(INVALID_CHANNEL);
+                errorResponse.errorMessage("invalid channel");
+                errorResponse.offendingCommandCorrelationId(CORRELATION_ID);
+                return errorResponse.length();
+            });
+        conductor.doWork();
+
+        assertFalse(conductor.isCommandActive(registrationId));
+        assertThrows(RegistrationException.class, () -> conductor.getPublication(registrationId));
+        assertNull(conductor.getPublication(registrationId));
+        verify(mockClientErrorHandler, never()).onError(any(RegistrationException.class));
+    }
+
+    @Test
+    public void asyncRemovePublicationShouldCancelPendingPublication()
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        assertEquals(CLOSE_CORRELATION_ID, conductor.asyncRemovePublication(registrationId));
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY, publicationReadyBuffer, (buffer) -> publicationReady.length());
+        conductor.doWork();
+
+        verify(driverProxy).removePublication(CLOSE_CORRELATION_ID, CORRELATION_ID);
+        assertNull(conductor.getPublication(registrationId));
+        verify(logBuffersFactory, never()).map(anyString());
+    }
+
+    @Test
+    public void asyncRemovePublicationShouldNotSendCommandForUnknownRegistrationId()
+    {
+        final long correlationId = conductor.asyncRemovePublication(UNKNOWN_CORRELATION_ID);
+        conductor.doWork();
+
+        assertFalse(conductor.isCommandActive(correlationId));
+        verify(driverProxy, never()).removePublication(anyLong());
+        verify(driverProxy, never()).removePublication(anyLong(), anyLong());
+    }
+
+    @Test
+    public void asyncCommandsShouldBeQueuedWithoutTakingClientLock()
+    {
+        clearInvocations(mockClientLock);
+        when(mockClientLock.tryLock()).thenReturn(FALSE);
+
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+        final long correlationId = conductor.asyncAddDestination(registrationId, CHANNEL);
+
+        assertNull(conductor.getPublication(registrationId));
+        assertTrue(conductor.isCommandActive(correlationId));
+        verify(mockClientLock, never()).lock();
+        verify(driverProxy, never()).addPublication(anyLong(), anyString(), anyInt());
+
+        when(mockClientLock.tryLock()).thenReturn(TRUE);
+        conductor.doWork();
+
+        final InOrder inOrder = inOrder(driverProxy);
+        inOrder.verify(driverProxy).addPublication(CORRELATION_ID, CHANNEL, STREAM_ID_1);
+        inOrder.verify(driverProxy).addDestination(CLOSE_CORRELATION_ID, CORRELATION_ID, CHANNEL);
+        assertTrue(conductor.isCommandActive(correlationId));
+    }
+
     // ---------------------------------
     // Subscription related interactions
     // ---------------------------------
@@ -393,6 +510,32 @@ public class ClientConductorTest
         verify(driverProxy).removeSubscription(CORRELATION_ID);
     }
 
+    @Test
+    public void closingSubscriptionWhenConductorIsBusyShouldQueueClose()
+    {
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_SUBSCRIPTION_READY,
+            subscriptionReadyBuffer,
+            (buffer) ->
+            {
+                subscriptionReady.correlationId(CORRELATION_ID);
+                return SubscriptionReadyFlyweight.LENGTH;
+            });
+
+        final Subscription subscription = conductor.addSubscription(CHANNEL, STREAM_ID_1);
+
+        when(mockClientLock.tryLock()).thenReturn(FALSE, TRUE);
+        subscription.close();
+
+        assertFalse(subscription.isClosed());
+        verify(driverProxy, never()).removeSubscription(CORRELATION_ID);
+
+        conductor.doWork();
+
+        assertTrue(subscription.isClosed());
+        verify(driverProxy).removeSubscription(CORRELATION_ID);
+    }
+
     @Test
     @Timeout(5)
     public void addSubscriptionShouldTimeoutWithoutOperationSuccessful()
@@ -559,6 +702,40 @@ public class ClientConductorTest
         assertFalse(conductor.isClosed());
     }
 
+    @Test
+    public void asyncAddSubscriptionShouldReturnSubscriptionOnceReady()
+    {
+        final long registrationId = conductor.asyncAddSubscription(CHANNEL, STREAM_ID_1);
+
+        assertNull(conductor.getSubscription(registrationId));
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_SUBSCRIPTION_READY,
+            subscriptionReadyBuffer,
+            (buffer) ->
+            {
+                subscriptionReady.correlationId(CORRELATION_ID);
+                return SubscriptionReadyFlyweight.LENGTH;
+            });
+        conductor.doWork();
+
+        final Subscription subscription = conductor.getSubscription(registrationId);
+        assertNotNull(subscription);
+        assertEquals(STREAM_ID_1, subscription.streamId());
+        assertFalse(conductor.isCommandActive(registrationId));
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_OPERATION_SUCCESS,
+            operationSuccessBuffer,
+            (buffer) -> OperationSucceededFlyweight.LENGTH);
+
+        assertEquals(CLOSE_CORRELATION_ID, conductor.asyncRemoveSubscription(registrationId));
+        conductor.doWork();
+
+        assertTrue(subscription.isClosed());
+        verify(driverProxy).removeSubscription(CLOSE_CORRELATION_ID, CORRELATION_ID);
+    }
+
     private void whenReceiveBroadcastOnMessage(
         final int msgTypeId, final MutableDirectBuffer buffer, final ToIntFunction<MutableDirectBuffer> filler)
     {
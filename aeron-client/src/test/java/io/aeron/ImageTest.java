@@ -29,6 +29,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 import static java.nio.ByteBuffer.allocateDirect;
@@ -436,6 +440,81 @@ public class ImageTest
         inOrder.verify(position).setOrdered(initialPosition + (ALIGNED_FRAME_LENGTH * 2));
     }
 
+    @Test
+    public void shouldPollFragmentsInBatchesToFragmentBatchHandler()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(2));
+
+        final List<Long> positions = new ArrayList<>();
+        final FragmentBatchHandler handler = (batch, header) ->
+        {
+            for (int i = 0; i < batch.count(); i++)
+            {
+                assertThat(batch.offset(i), is(offsetForFrame(positions.size()) + HEADER_LENGTH));
+                assertThat(batch.length(i), is(DATA.length));
+                positions.add(batch.position(i));
+            }
+
+            assertThat(header.termOffset(), is(offsetForFrame(positions.size() - 1)));
+            return Action.CONTINUE;
+        };
+
+        final int fragmentsRead = image.batchPoll(handler, new FragmentBatch(2), Integer.MAX_VALUE);
+
+        assertThat(fragmentsRead, is(3));
+        assertThat(positions, is(Arrays.asList(
+            initialPosition + ALIGNED_FRAME_LENGTH,
+            initialPosition + (ALIGNED_FRAME_LENGTH * 2),
+            initialPosition + (ALIGNED_FRAME_LENGTH * 3))));
+        verify(position).setOrdered(initialPosition + (ALIGNED_FRAME_LENGTH * 3));
+    }
+
+    @Test
+    public void shouldLimitBatchToFragmentLimit()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+
+        final FragmentBatch batch = new FragmentBatch(4);
+        final int fragmentsRead = image.batchPoll((b, header) -> Action.CONTINUE, batch, 1);
+
+        assertThat(fragmentsRead, is(1));
+        assertThat(batch.count(), is(1));
+        assertThat(position.get(), is(initialPosition + ALIGNED_FRAME_LENGTH));
+    }
+
+    @Test
+    public void shouldNotAdvancePositionOnBatchAbort()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(2));
+
+        final FragmentBatchHandler handler = mock(FragmentBatchHandler.class);
+        when(handler.onFragments(any(FragmentBatch.class), any(Header.class)))
+            .thenReturn(Action.COMMIT, Action.ABORT);
+
+        final int fragmentsRead = image.batchPoll(handler, new FragmentBatch(2), Integer.MAX_VALUE);
+
+        assertThat(fragmentsRead, is(2));
+        verify(handler, times(2)).onFragments(any(FragmentBatch.class), any(Header.class));
+        assertThat(position.get(), is(initialPosition + (ALIGNED_FRAME_LENGTH * 2)));
+    }
+
     @Test
     public void shouldPollNoFragmentsToBoundedControlledFragmentHandlerWithMaxPositionBeforeInitialPosition()
     {
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FrameDescriptor;
+import io.aeron.logbuffer.Header;
+import io.aeron.logbuffer.LogBufferDescriptor;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class VectoredFragmentAssemblerTest
+{
+    private static final int SESSION_ID = 777;
+    private static final int INITIAL_TERM_ID = 3;
+
+    private final List<DirectBufferVector[]> messages = new ArrayList<>();
+    private final VectoredMessageHandler delegate = (vectors, vectorCount, length, header) ->
+    {
+        final DirectBufferVector[] copy = new DirectBufferVector[vectorCount];
+        int totalLength = 0;
+        for (int i = 0; i < vectorCount; i++)
+        {
+            copy[i] = new DirectBufferVector(vectors[i].buffer(), vectors[i].offset(), vectors[i].length());
+            totalLength += vectors[i].length();
+        }
+
+        assertEquals(totalLength, length);
+        assertEquals(SESSION_ID, header.sessionId());
+        messages.add(copy);
+    };
+
+    private final UnsafeBuffer termBuffer = mock(UnsafeBuffer.class);
+    private final Header header = spy(new Header(INITIAL_TERM_ID, LogBufferDescriptor.TERM_MIN_LENGTH));
+    private final VectoredFragmentAssembler adapter = new VectoredFragmentAssembler(delegate, 2);
+
+    @BeforeEach
+    public void setUp()
+    {
+        header.buffer(termBuffer);
+        when(termBuffer.getInt(anyInt(), any(ByteOrder.class))).thenReturn(SESSION_ID);
+    }
+
+    @Test
+    public void shouldPassThroughUnfragmentedMessage()
+    {
+        when(header.flags()).thenReturn(FrameDescriptor.UNFRAGMENTED);
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[128]);
+        final int offset = 8;
+        final int length = 32;
+
+        adapter.onFragment(srcBuffer, offset, length, header);
+
+        assertEquals(1, messages.size());
+        assertVector(messages.get(0)[0], srcBuffer, offset, length);
+    }
+
+    @Test
+    public void shouldAssembleFourPartMessageWithoutCopy()
+    {
+        when(header.flags())
+            .thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG)
+            .thenReturn((byte)0)
+            .thenReturn((byte)0)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[1024]);
+        final int frameLength = srcBuffer.capacity() / 4;
+        final int length = frameLength - FrameDescriptor.FRAME_ALIGNMENT;
+
+        for (int i = 0; i < 4; i++)
+        {
+            adapter.onFragment(srcBuffer, i * frameLength, length, header);
+        }
+
+        assertEquals(1, messages.size());
+        final DirectBufferVector[] vectors = messages.get(0);
+        assertEquals(4, vectors.length);
+        for (int i = 0; i < 4; i++)
+        {
+            assertVector(vectors[i], srcBuffer, i * frameLength, length);
+        }
+    }
+
+    @Test
+    public void shouldCopyWhenMessageContinuesInDifferentBuffer()
+    {
+        when(header.flags())
+            .thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG)
+            .thenReturn((byte)0)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        final UnsafeBuffer bufferOne = new UnsafeBuffer(new byte[256]);
+        final UnsafeBuffer bufferTwo = new UnsafeBuffer(new byte[256]);
+        final int length = 64;
+
+        bufferOne.setMemory(0, length, (byte)'A');
+        bufferOne.setMemory(length, length, (byte)'B');
+        bufferTwo.setMemory(0, length, (byte)'C');
+
+        adapter.onFragment(bufferOne, 0, length, header);
+        adapter.onFragment(bufferOne, length, length, header);
+        adapter.onFragment(bufferTwo, 0, length, header);
+
+        assertEquals(1, messages.size());
+        final DirectBufferVector[] vectors = messages.get(0);
+        assertEquals(1, vectors.length);
+        assertEquals(length * 3, vectors[0].length());
+
+        final DirectBuffer assembled = vectors[0].buffer();
+        for (int i = 0; i < length * 3; i++)
+        {
+            assertEquals('A' + (i / length), assembled.getByte(vectors[0].offset() + i), "same at i=" + i);
+        }
+    }
+
+    @Test
+    public void shouldIgnoreFragmentsWithoutBeginning()
+    {
+        when(header.flags())
+            .thenReturn((byte)0)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[256]);
+
+        adapter.onFragment(srcBuffer, 0, 64, header);
+        adapter.onFragment(srcBuffer, 64, 64, header);
+
+        assertTrue(messages.isEmpty());
+    }
+
+    @Test
+    public void shouldFreeSessionBuffer()
+    {
+        when(header.flags())
+            .thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[1024]);
+        final int length = srcBuffer.capacity() / 2;
+
+        assertFalse(adapter.freeSessionBuffer(SESSION_ID));
+
+        adapter.onFragment(srcBuffer, 0, length, header);
+        adapter.onFragment(srcBuffer, length, length, header);
+
+        assertTrue(adapter.freeSessionBuffer(SESSION_ID));
+        assertFalse(adapter.freeSessionBuffer(SESSION_ID));
+    }
+
+    private static void assertVector(
+        final DirectBufferVector vector, final DirectBuffer buffer, final int offset, final int length)
+    {
+        assertSame(buffer, vector.buffer());
+        assertEquals(offset, vector.offset());
+        assertEquals(length, vector.length());
+    }
+}
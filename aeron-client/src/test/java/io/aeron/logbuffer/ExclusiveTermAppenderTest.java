@@ -15,13 +15,19 @@
  */
 package io.aeron.logbuffer;
 
+import io.aeron.DirectBufferVector;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import static io.aeron.logbuffer.FrameDescriptor.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.logbuffer.ExclusiveTermAppender.FAILED;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.createDefaultHeader;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.align;
 import static org.agrona.BufferUtil.allocateDirectAligned;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -56,4 +62,64 @@ class ExclusiveTermAppenderTest
         inOrder.verify(termBuffer).putIntOrdered(termOffset, lengthOfFirstFrame);
         inOrder.verifyNoMoreInteractions();
     }
+
+    @Test
+    void appendUnfragmentedMessages()
+    {
+        final int termId = 43;
+        final int termOffset = 128;
+        final UnsafeBuffer logTermBuffer = new UnsafeBuffer(allocateDirectAligned(TERM_MIN_LENGTH, 64));
+        final ExclusiveTermAppender batchAppender = new ExclusiveTermAppender(logTermBuffer, metadataBuffer, 0);
+        final HeaderWriter headerWriter = HeaderWriter.newInstance(createDefaultHeader(0, 0, termId));
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[128]);
+        srcBuffer.setMemory(0, 100, (byte)'A');
+        srcBuffer.setMemory(100, 28, (byte)'B');
+        final DirectBufferVector[] messages =
+        {
+            new DirectBufferVector(srcBuffer, 0, 100),
+            new DirectBufferVector(srcBuffer, 100, 28)
+        };
+        final int frameLengthOne = 100 + HEADER_LENGTH;
+        final int frameLengthTwo = 28 + HEADER_LENGTH;
+        final int batchLength = align(frameLengthOne, FRAME_ALIGNMENT) + align(frameLengthTwo, FRAME_ALIGNMENT);
+
+        final int resultOffset = batchAppender.appendUnfragmentedMessages(
+            termId, termOffset, headerWriter, messages, batchLength, null);
+
+        assertEquals(termOffset + batchLength, resultOffset);
+        final long rawTail = rawTail(metadataBuffer, 0);
+        assertEquals(termId, termId(rawTail));
+        assertEquals(termOffset + batchLength, termOffset(rawTail));
+
+        final int frameOffsetTwo = termOffset + align(frameLengthOne, FRAME_ALIGNMENT);
+        assertEquals(frameLengthOne, frameLengthVolatile(logTermBuffer, termOffset));
+        assertEquals(frameLengthTwo, frameLengthVolatile(logTermBuffer, frameOffsetTwo));
+        assertEquals(UNFRAGMENTED, logTermBuffer.getByte(flagsOffset(frameOffsetTwo)));
+        assertEquals('A', logTermBuffer.getByte(termOffset + HEADER_LENGTH + 99));
+        assertEquals('B', logTermBuffer.getByte(frameOffsetTwo + HEADER_LENGTH));
+    }
+
+    @Test
+    void appendUnfragmentedMessagesShouldPadWhenBatchDoesNotFitInTerm()
+    {
+        final int termId = 43;
+        final int termOffset = TERM_MIN_LENGTH - 128;
+        final UnsafeBuffer logTermBuffer = new UnsafeBuffer(allocateDirectAligned(TERM_MIN_LENGTH, 64));
+        final ExclusiveTermAppender batchAppender = new ExclusiveTermAppender(logTermBuffer, metadataBuffer, 0);
+        final HeaderWriter headerWriter = HeaderWriter.newInstance(createDefaultHeader(0, 0, termId));
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[64]);
+        final DirectBufferVector[] messages =
+        {
+            new DirectBufferVector(srcBuffer, 0, 64),
+            new DirectBufferVector(srcBuffer, 0, 64)
+        };
+        final int batchLength = align(64 + HEADER_LENGTH, FRAME_ALIGNMENT) * 2;
+
+        final int resultOffset = batchAppender.appendUnfragmentedMessages(
+            termId, termOffset, headerWriter, messages, batchLength, null);
+
+        assertEquals(FAILED, resultOffset);
+        assertEquals(128, frameLengthVolatile(logTermBuffer, termOffset));
+        assertEquals(PADDING_FRAME_TYPE, frameType(logTermBuffer, termOffset));
+    }
 }
\ No newline at end of file
@@ -60,6 +60,23 @@ public class TermRebuilderTest
         inOrder.verify(termBuffer).putLongOrdered(termOffset, packet.getLong(0));
     }
 
+    @Test
+    public void shouldInsertHeaderWithFrameLengthLast()
+    {
+        final UnsafeBuffer header = new UnsafeBuffer(ByteBuffer.allocateDirect(HEADER_LENGTH));
+        final int termOffset = 1024;
+        header.putInt(0, 256, LITTLE_ENDIAN);
+
+        TermRebuilder.insertHeader(termBuffer, termOffset, header);
+
+        final InOrder inOrder = inOrder(termBuffer);
+        inOrder.verify(termBuffer).putLong(termOffset + 24, header.getLong(24));
+        inOrder.verify(termBuffer).putLong(termOffset + 16, header.getLong(16));
+        inOrder.verify(termBuffer).putLong(termOffset + 8, header.getLong(8));
+        inOrder.verify(termBuffer).putLongOrdered(termOffset, header.getLong(0));
+        verify(termBuffer, never()).putBytes(anyInt(), any(UnsafeBuffer.class), anyInt(), anyInt());
+    }
+
     @Test
     public void shouldInsertLastFrameIntoBuffer()
     {
@@ -21,11 +21,13 @@ import io.aeron.Image;
 import io.aeron.Publication;
 import io.aeron.exceptions.AeronException;
 import io.aeron.exceptions.ConfigurationException;
+import io.aeron.driver.media.DatagramTransport;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.logbuffer.BufferClaim;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.NakFlyweight;
 import org.agrona.BitUtil;
 import org.agrona.LangUtil;
 import org.agrona.collections.ArrayUtil;
@@ -113,6 +115,19 @@ public class Configuration
      */
     public static final int FILE_PAGE_SIZE_DEFAULT = 4 * 1024;
 
+    /**
+     * Property name for a directory on a hugetlbfs mount, or a tmpfs mount with transparent huge pages enabled, in
+     * which log buffers are created so terms are backed by huge pages to reduce TLB misses. The
+     * {@link #FILE_PAGE_SIZE_PROP_NAME} must be set to the huge page size and the directory must not be shared with
+     * another driver. When not set log buffers are created in the Aeron directory.
+     */
+    public static final String HUGE_PAGE_DIR_PROP_NAME = "aeron.huge.page.dir";
+
+    /**
+     * Minimum size of a huge page for the file page size when log buffers are created in a huge page directory.
+     */
+    public static final int HUGE_PAGE_MIN_SIZE = 2 * 1024 * 1024;
+
     /**
      * Property name for boolean value for if storage checks should be performed when allocating files.
      */
@@ -198,6 +213,17 @@ public class Configuration
      */
     public static final int LOSS_REPORT_BUFFER_LENGTH_DEFAULT = 1024 * 1024;
 
+    /**
+     * Property name for length of the memory mapped buffer for the latency report buffer. The buffer is only mapped
+     * when the first latency timestamped image is created, and a length of 0 disables the latency report.
+     */
+    public static final String LATENCY_REPORT_BUFFER_LENGTH_PROP_NAME = "aeron.latency.report.buffer.length";
+
+    /**
+     * Default buffer length for the latency report buffer.
+     */
+    public static final int LATENCY_REPORT_BUFFER_LENGTH_DEFAULT = 1024 * 1024;
+
     /**
      * Property name for length of the initial window which must be sufficient for Bandwidth Delay Produce (BDP).
      */
@@ -237,6 +263,85 @@ public class Configuration
      */
     public static final int SEND_TO_STATUS_POLL_RATIO_DEFAULT = 6;
 
+    /**
+     * Property name for if the {@link Sender} should adapt the ratio of sending data to polling status messages based
+     * on the arrival of status messages and NAKs and the volume of data sent between polls. When adapting the ratio
+     * starts at {@link #SEND_TO_STATUS_POLL_RATIO_PROP_NAME} and moves between 1 and
+     * {@link #SEND_TO_STATUS_POLL_RATIO_MAX_PROP_NAME}.
+     */
+    public static final String SEND_TO_STATUS_POLL_RATIO_ADAPTIVE_PROP_NAME =
+        "aeron.send.to.status.poll.ratio.adaptive";
+
+    /**
+     * Property name for the upper bound of the ratio of sending data to polling status messages when adaptive.
+     */
+    public static final String SEND_TO_STATUS_POLL_RATIO_MAX_PROP_NAME = "aeron.send.to.status.poll.ratio.max";
+
+    /**
+     * Default upper bound of the ratio of sending data to polling status messages when adaptive.
+     */
+    public static final int SEND_TO_STATUS_POLL_RATIO_MAX_DEFAULT = 64;
+
+    /**
+     * Property name for the number of datagrams the {@link Receiver} will attempt to read from a transport in a
+     * single pass before dispatching them as a batch.
+     */
+    public static final String RECEIVE_BATCH_LENGTH_PROP_NAME = "aeron.receive.batch.length";
+
+    /**
+     * Default number of datagrams to read from a transport in a single pass. A value of 1 reads a single datagram.
+     */
+    public static final int RECEIVE_BATCH_LENGTH_DEFAULT = 1;
+
+    /**
+     * Maximum number of datagrams which can be read from a transport in a single pass.
+     */
+    public static final int RECEIVE_BATCH_LENGTH_MAX = 64;
+
+    /**
+     * Property name for the number of datagrams a {@link NetworkPublication} will gather in a single pass of the
+     * {@link Sender} before flushing them together to the {@link SendChannelEndpoint}.
+     */
+    public static final String SEND_BATCH_LENGTH_PROP_NAME = "aeron.send.batch.length";
+
+    /**
+     * Default number of datagrams to gather in a single send pass. A value of 1 sends a single datagram per pass.
+     */
+    public static final int SEND_BATCH_LENGTH_DEFAULT = 1;
+
+    /**
+     * Maximum number of datagrams which can be gathered in a single send pass.
+     */
+    public static final int SEND_BATCH_LENGTH_MAX = 64;
+
+    /**
+     * Property name for the number of bytes a {@link NetworkPublication} may send per duty cycle of the {@link Sender}
+     * for each unit of its send weight. A publication with a send weight of n may send up to n times this length,
+     * rounded up to a whole datagram, in a single duty cycle so the sender can share its capacity between streams.
+     *
+     * @see io.aeron.CommonContext#SEND_WEIGHT_PARAM_NAME
+     */
+    public static final String SEND_WEIGHT_QUANTUM_LENGTH_PROP_NAME = "aeron.send.weight.quantum.length";
+
+    /**
+     * Default length in bytes of the send weight quantum. A value of 0 gives each publication a single batch of
+     * datagrams per duty cycle regardless of its weight.
+     */
+    public static final int SEND_WEIGHT_QUANTUM_LENGTH_DEFAULT = 0;
+
+    /**
+     * Default send weight of a {@link NetworkPublication} when not specified on the channel.
+     */
+    public static final int SEND_WEIGHT_DEFAULT = 1;
+
+    /**
+     * Property name for if the {@link Sender} and {@link Receiver} should busy poll their transports with
+     * non-blocking reads in round-robin order rather than fall back to a {@link java.nio.channels.Selector} once the
+     * number of transports is large. Counters of productive and empty polls per channel endpoint are allocated when
+     * true.
+     */
+    public static final String BUSY_POLL_TRANSPORTS_PROP_NAME = "aeron.busy.poll.transports";
+
     /**
      * Property name for SO_RCVBUF setting on UDP sockets which must be sufficient for Bandwidth Delay Product (BDP).
      */
@@ -464,6 +569,108 @@ public class Configuration
      */
     public static final String THREADING_MODE_PROP_NAME = "aeron.threading.mode";
 
+    /**
+     * Property name for the number of {@link Receiver} agents which share the receive channel endpoints of the
+     * driver. Each agent has its own data transport poller and command queue. Endpoints are assigned to an agent
+     * by the hash of their channel or explicitly with {@link io.aeron.CommonContext#RECEIVER_SHARD_PARAM_NAME}.
+     */
+    public static final String RECEIVER_THREAD_COUNT_PROP_NAME = "aeron.receiver.thread.count";
+
+    /**
+     * Default number of {@link Receiver} agents.
+     */
+    public static final int RECEIVER_THREAD_COUNT_DEFAULT = 1;
+
+    /**
+     * Property name for the number of {@link Sender} agents which share the send channel endpoints of the driver.
+     * Each agent has its own control transport poller and command queue. Endpoints are assigned to an agent by the
+     * hash of their channel or explicitly with {@link io.aeron.CommonContext#SENDER_SHARD_PARAM_NAME}.
+     */
+    public static final String SENDER_THREAD_COUNT_PROP_NAME = "aeron.sender.thread.count";
+
+    /**
+     * Default number of {@link Sender} agents.
+     */
+    public static final int SENDER_THREAD_COUNT_DEFAULT = 1;
+
+    /**
+     * Property name for the NUMA node on which the {@link Sender} threads are placed by their thread factory when
+     * running {@link ThreadingMode#DEDICATED}. When set the pages of network publication log buffers are first touched
+     * by the {@link Sender} so they are allocated on its node, and the node is appended to the label of the sender
+     * position counter as {@code configured-numa-node}.
+     * <p>
+     * The driver does not pin threads itself as Java has no portable thread affinity API. The node is a declaration
+     * of the placement made by the {@link MediaDriver.Context#senderThreadFactory()}, e.g. with an affinity library.
+     * <p>
+     * Placement is best-effort. The publication is made available to the client before the {@link Sender} has
+     * finished touching the log, so pages the client writes first are allocated on the node of the client. Logs
+     * which are not sparse, including pooled and prepared logs, are already faulted in when created so the touch
+     * has no effect on their placement. Use sparse term buffers, without pooling, for first touch by the
+     * {@link Sender}.
+     */
+    public static final String SENDER_NUMA_NODE_PROP_NAME = "aeron.sender.numa.node";
+
+    /**
+     * Property name for the NUMA node on which the {@link Receiver} threads are placed by their thread factory when
+     * running {@link ThreadingMode#DEDICATED}. When set the pages of publication image log buffers are first touched
+     * by the {@link Receiver} so they are allocated on its node, and the node is appended to the label of the receiver
+     * high water mark counter as {@code configured-numa-node}.
+     * <p>
+     * Placement is best-effort as the log is in use before the {@link Receiver} has finished touching it, and logs
+     * which are not sparse are already faulted in when created.
+     *
+     * @see #SENDER_NUMA_NODE_PROP_NAME
+     */
+    public static final String RECEIVER_NUMA_NODE_PROP_NAME = "aeron.receiver.numa.node";
+
+    /**
+     * Default NUMA node for an agent which indicates the placement is not known.
+     */
+    public static final int NUMA_NODE_DEFAULT = -1;
+
+    /**
+     * Property name for the number of freed log buffers of each term length which are kept mapped and pre-touched
+     * for reuse by new publications and images rather than being unmapped and deleted. Only log buffers which are
+     * not sparse are pooled. A freed log buffer is only reused after the client liveness timeout plus the client
+     * resource linger duration so clients which still have it mapped cannot see another stream.
+     */
+    public static final String LOG_BUFFER_POOL_CAPACITY_PROP_NAME = "aeron.log.buffer.pool.capacity";
+
+    /**
+     * Default number of freed log buffers of each term length to keep for reuse. A value of 0 disables pooling.
+     */
+    public static final int LOG_BUFFER_POOL_CAPACITY_DEFAULT = 0;
+
+    /**
+     * Property name for the number of log buffers of each requested term length which a background agent prepares
+     * ahead of demand so the {@link DriverConductor} does not create and pre-touch files while processing commands.
+     * The publication and IPC term lengths are prepared at startup. Preparation is not performed with
+     * {@link ThreadingMode#INVOKER} as the driver has no threads of its own.
+     */
+    public static final String LOG_BUFFER_PREPARE_COUNT_PROP_NAME = "aeron.log.buffer.prepare.count";
+
+    /**
+     * Default number of log buffers of each term length to prepare ahead of demand. A value of 0 disables it.
+     */
+    public static final int LOG_BUFFER_PREPARE_COUNT_DEFAULT = 0;
+
+    /**
+     * Maximum number of log buffers of each term length which can be prepared ahead of demand.
+     */
+    public static final int LOG_BUFFER_PREPARE_COUNT_MAX = 16;
+
+    /**
+     * Property name for {@link IdleStrategy} to be employed by the agent which prepares log buffers ahead of demand.
+     */
+    public static final String LOG_BUFFER_PREPARER_IDLE_STRATEGY_PROP_NAME = "aeron.log.buffer.preparer.idle.strategy";
+
+    /**
+     * Default {@link IdleStrategy} for the agent which prepares log buffers ahead of demand. It sleeps as the work
+     * is not latency sensitive and should not take CPU time from the other agents.
+     */
+    public static final String LOG_BUFFER_PREPARER_IDLE_STRATEGY_DEFAULT =
+        "org.agrona.concurrent.SleepingMillisIdleStrategy";
+
     /**
      * Interval in between checks for timers and timeouts.
      */
@@ -494,6 +701,11 @@ public class Configuration
      */
     public static final String RECEIVE_CHANNEL_ENDPOINT_SUPPLIER_PROP_NAME = "aeron.ReceiveChannelEndpoint.supplier";
 
+    /**
+     * Property name for {@link DatagramTransportSupplier}.
+     */
+    public static final String DATAGRAM_TRANSPORT_SUPPLIER_PROP_NAME = "aeron.DatagramTransport.supplier";
+
     /**
      * Property name for Application Specific Feedback added to Status Messages by the driver for flow control.
      * <p>
@@ -535,6 +747,12 @@ public class Configuration
      */
     public static final int COMMAND_DRAIN_LIMIT = 10;
 
+    /**
+     * Limit for the number of log buffer pages first touched by a {@link Sender} or {@link Receiver} in one duty cycle
+     * so the touching of a new log does not stall the other streams on the agent.
+     */
+    public static final int LOG_FIRST_TOUCH_PAGE_LIMIT = 16;
+
     /**
      * Capacity for the command queues used between driver agents.
      */
@@ -585,6 +803,17 @@ public class Configuration
      */
     public static final long NAK_UNICAST_DELAY_DEFAULT_NS = TimeUnit.MILLISECONDS.toNanos(60);
 
+    /**
+     * Property name for the maximum number of gaps which can be reported in a single multi-range NAK. A value of 1
+     * restricts NAKs to a single range as understood by older senders.
+     */
+    public static final String NAK_MAX_RANGE_COUNT_PROP_NAME = "aeron.nak.max.range.count";
+
+    /**
+     * Default maximum number of gaps which can be reported in a single NAK.
+     */
+    public static final int NAK_MAX_RANGE_COUNT_DEFAULT = 8;
+
     /**
      * Property for setting how long to delay before sending a retransmit following a NAK.
      */
@@ -629,6 +858,12 @@ public class Configuration
      */
     public static final long UNTETHERED_RESTING_TIMEOUT_DEFAULT_NS = TimeUnit.SECONDS.toNanos(10);
 
+    /**
+     * Property name for the max number of active retransmissions per connected stream. NAKs which overlap, or are
+     * adjacent to, an active retransmission are coalesced and do not consume an additional retransmission.
+     */
+    public static final String MAX_RETRANSMITS_PROP_NAME = "aeron.max.retransmits";
+
     /**
      * Default max number of active retransmissions per connected stream.
      */
@@ -751,6 +986,11 @@ public class Configuration
         return "true".equalsIgnoreCase(getProperty(SPIES_SIMULATE_CONNECTION_PROP_NAME, "false"));
     }
 
+    public static boolean busyPollTransports()
+    {
+        return "true".equalsIgnoreCase(getProperty(BUSY_POLL_TRANSPORTS_PROP_NAME, "false"));
+    }
+
     public static CommonContext.InferableBoolean receiverGroupConsideration()
     {
         return CommonContext.InferableBoolean.parse(getProperty(GROUP_RECEIVER_CONSIDERATION_PROP_NAME));
@@ -791,6 +1031,16 @@ public class Configuration
         return getDurationInNanos(NAK_UNICAST_DELAY_PROP_NAME, NAK_UNICAST_DELAY_DEFAULT_NS);
     }
 
+    public static int nakMaxRangeCount()
+    {
+        return getInteger(NAK_MAX_RANGE_COUNT_PROP_NAME, NAK_MAX_RANGE_COUNT_DEFAULT);
+    }
+
+    public static int maxRetransmits()
+    {
+        return getInteger(MAX_RETRANSMITS_PROP_NAME, MAX_RETRANSMITS_DEFAULT);
+    }
+
     public static long timerIntervalNs()
     {
         return getDurationInNanos(TIMER_INTERVAL_PROP_NAME, DEFAULT_TIMER_INTERVAL_NS);
@@ -860,6 +1110,11 @@ public class Configuration
         return getProperty(RESOLVER_NAME_PROP_NAME);
     }
 
+    public static String hugePageDir()
+    {
+        return getProperty(HUGE_PAGE_DIR_PROP_NAME);
+    }
+
     public static String resolverInterface()
     {
         return getProperty(RESOLVER_INTERFACE_PROP_NAME);
@@ -990,6 +1245,13 @@ public class Configuration
             getProperty(SHARED_IDLE_STRATEGY_PROP_NAME, DEFAULT_IDLE_STRATEGY), controllableStatus);
     }
 
+    public static IdleStrategy logBufferPreparerIdleStrategy(final StatusIndicator controllableStatus)
+    {
+        return agentIdleStrategy(
+            getProperty(LOG_BUFFER_PREPARER_IDLE_STRATEGY_PROP_NAME, LOG_BUFFER_PREPARER_IDLE_STRATEGY_DEFAULT),
+            controllableStatus);
+    }
+
     public static int termBufferLength()
     {
         return getSizeAsInt(TERM_BUFFER_LENGTH_PROP_NAME, TERM_BUFFER_LENGTH_DEFAULT);
@@ -1055,6 +1317,61 @@ public class Configuration
         return getInteger(SEND_TO_STATUS_POLL_RATIO_PROP_NAME, SEND_TO_STATUS_POLL_RATIO_DEFAULT);
     }
 
+    public static boolean sendToStatusMessagePollRatioAdaptive()
+    {
+        return "true".equalsIgnoreCase(getProperty(SEND_TO_STATUS_POLL_RATIO_ADAPTIVE_PROP_NAME, "false"));
+    }
+
+    public static int sendToStatusMessagePollRatioMax()
+    {
+        return getInteger(SEND_TO_STATUS_POLL_RATIO_MAX_PROP_NAME, SEND_TO_STATUS_POLL_RATIO_MAX_DEFAULT);
+    }
+
+    public static int receiveBatchLength()
+    {
+        return getInteger(RECEIVE_BATCH_LENGTH_PROP_NAME, RECEIVE_BATCH_LENGTH_DEFAULT);
+    }
+
+    public static int receiverThreadCount()
+    {
+        return getInteger(RECEIVER_THREAD_COUNT_PROP_NAME, RECEIVER_THREAD_COUNT_DEFAULT);
+    }
+
+    public static int senderThreadCount()
+    {
+        return getInteger(SENDER_THREAD_COUNT_PROP_NAME, SENDER_THREAD_COUNT_DEFAULT);
+    }
+
+    public static int senderNumaNode()
+    {
+        return getInteger(SENDER_NUMA_NODE_PROP_NAME, NUMA_NODE_DEFAULT);
+    }
+
+    public static int receiverNumaNode()
+    {
+        return getInteger(RECEIVER_NUMA_NODE_PROP_NAME, NUMA_NODE_DEFAULT);
+    }
+
+    public static int logBufferPoolCapacity()
+    {
+        return getInteger(LOG_BUFFER_POOL_CAPACITY_PROP_NAME, LOG_BUFFER_POOL_CAPACITY_DEFAULT);
+    }
+
+    public static int logBufferPrepareCount()
+    {
+        return getInteger(LOG_BUFFER_PREPARE_COUNT_PROP_NAME, LOG_BUFFER_PREPARE_COUNT_DEFAULT);
+    }
+
+    public static int sendWeightQuantumLength()
+    {
+        return getSizeAsInt(SEND_WEIGHT_QUANTUM_LENGTH_PROP_NAME, SEND_WEIGHT_QUANTUM_LENGTH_DEFAULT);
+    }
+
+    public static int sendBatchLength()
+    {
+        return getInteger(SEND_BATCH_LENGTH_PROP_NAME, SEND_BATCH_LENGTH_DEFAULT);
+    }
+
     public static long counterFreeToReuseTimeoutNs()
     {
         return getDurationInNanos(COUNTER_FREE_TO_REUSE_TIMEOUT_PROP_NAME, DEFAULT_COUNTER_FREE_TO_REUSE_TIMEOUT_NS);
@@ -1100,6 +1417,11 @@ public class Configuration
         return getSizeAsInt(LOSS_REPORT_BUFFER_LENGTH_PROP_NAME, LOSS_REPORT_BUFFER_LENGTH_DEFAULT);
     }
 
+    public static int latencyReportBufferLength()
+    {
+        return getSizeAsInt(LATENCY_REPORT_BUFFER_LENGTH_PROP_NAME, LATENCY_REPORT_BUFFER_LENGTH_DEFAULT);
+    }
+
     public static ThreadingMode threadingMode()
     {
         final String propertyValue = getProperty(THREADING_MODE_PROP_NAME);
@@ -1176,6 +1498,33 @@ public class Configuration
         return supplier;
     }
 
+    /**
+     * Get the supplier of {@link DatagramTransport}s which are used beneath the channel endpoints to send and
+     * receive datagrams.
+     *
+     * @return the {@link DatagramTransportSupplier}.
+     */
+    public static DatagramTransportSupplier datagramTransportSupplier()
+    {
+        DatagramTransportSupplier supplier = null;
+        try
+        {
+            final String className = getProperty(DATAGRAM_TRANSPORT_SUPPLIER_PROP_NAME);
+            if (null == className)
+            {
+                return new DefaultDatagramTransportSupplier();
+            }
+
+            supplier = (DatagramTransportSupplier)Class.forName(className).getConstructor().newInstance();
+        }
+        catch (final Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return supplier;
+    }
+
     /**
      * Get the supplier of {@link FlowControl}s which can be used for changing behavior of flow control for unicast
      * publications.
@@ -1418,6 +1767,178 @@ public class Configuration
         }
     }
 
+    /**
+     * Validate that the file page size is at least the minimum huge page size when log buffers are created in a huge
+     * page directory.
+     *
+     * @param pageSize to be checked.
+     * @throws ConfigurationException if the size is not valid.
+     */
+    public static void validateHugePageSize(final int pageSize)
+    {
+        if (pageSize < HUGE_PAGE_MIN_SIZE)
+        {
+            throw new ConfigurationException(
+                "file page size must be >= " + HUGE_PAGE_MIN_SIZE + " for a huge page directory: " + pageSize);
+        }
+    }
+
+    /**
+     * Validate that the receive batch length is within the supported range.
+     *
+     * @param batchLength to be checked.
+     * @throws ConfigurationException if the length is not valid.
+     */
+    public static void validateReceiveBatchLength(final int batchLength)
+    {
+        if (batchLength < 1 || batchLength > RECEIVE_BATCH_LENGTH_MAX)
+        {
+            throw new ConfigurationException(
+                "receive batch length must be >= 1 and <= " + RECEIVE_BATCH_LENGTH_MAX + ": " + batchLength);
+        }
+    }
+
+    /**
+     * Validate the ratio of sending data to polling status messages and its upper bound when adaptive. The upper
+     * bound is only checked when adaptive so a fixed ratio above the default max remains valid.
+     *
+     * @param ratio      of sending data to polling status messages.
+     * @param isAdaptive true if the ratio adapts to status message arrivals.
+     * @param maxRatio   upper bound of the ratio when adaptive.
+     * @throws ConfigurationException if the values are not valid.
+     */
+    public static void validateSendToStatusMessagePollRatio(
+        final int ratio, final boolean isAdaptive, final int maxRatio)
+    {
+        if (ratio < 1)
+        {
+            throw new ConfigurationException("send to status poll ratio must be >= 1: " + ratio);
+        }
+
+        if (isAdaptive && maxRatio < ratio)
+        {
+            throw new ConfigurationException(
+                "send to status poll ratio max must be >= send to status poll ratio " + ratio + ": " + maxRatio);
+        }
+    }
+
+    /**
+     * Validate that the send batch length is within the supported range.
+     *
+     * @param batchLength to be checked.
+     * @throws ConfigurationException if the length is not valid.
+     */
+    public static void validateSendBatchLength(final int batchLength)
+    {
+        if (batchLength < 1 || batchLength > SEND_BATCH_LENGTH_MAX)
+        {
+            throw new ConfigurationException(
+                "send batch length must be >= 1 and <= " + SEND_BATCH_LENGTH_MAX + ": " + batchLength);
+        }
+    }
+
+    /**
+     * Validate that the number of agents for a role is at least one.
+     *
+     * @param role        of the agents for the error message.
+     * @param threadCount to be checked.
+     * @throws ConfigurationException if the count is not valid.
+     */
+    public static void validateThreadCount(final String role, final int threadCount)
+    {
+        if (threadCount < 1)
+        {
+            throw new ConfigurationException(role + " thread count must be >= 1: " + threadCount);
+        }
+    }
+
+    /**
+     * Validate that the NUMA node for an agent is a valid node or {@link #NUMA_NODE_DEFAULT} when not known.
+     *
+     * @param role     of the agent for the error message.
+     * @param numaNode to be checked.
+     * @throws ConfigurationException if the node is not valid.
+     */
+    public static void validateNumaNode(final String role, final int numaNode)
+    {
+        if (numaNode < NUMA_NODE_DEFAULT)
+        {
+            throw new ConfigurationException(role + " NUMA node must be >= " + NUMA_NODE_DEFAULT + ": " + numaNode);
+        }
+    }
+
+    /**
+     * Validate that the capacity of the log buffer pool is not negative.
+     *
+     * @param capacity to be checked.
+     * @throws ConfigurationException if the capacity is not valid.
+     */
+    public static void validateLogBufferPoolCapacity(final int capacity)
+    {
+        if (capacity < 0)
+        {
+            throw new ConfigurationException("log buffer pool capacity must be >= 0: " + capacity);
+        }
+    }
+
+    /**
+     * Validate that the number of log buffers to prepare ahead of demand is in range.
+     *
+     * @param prepareCount to be checked.
+     * @throws ConfigurationException if the count is not valid.
+     */
+    public static void validateLogBufferPrepareCount(final int prepareCount)
+    {
+        if (prepareCount < 0 || prepareCount > LOG_BUFFER_PREPARE_COUNT_MAX)
+        {
+            throw new ConfigurationException(
+                "log buffer prepare count must be >= 0 and <= " + LOG_BUFFER_PREPARE_COUNT_MAX + ": " + prepareCount);
+        }
+    }
+
+    /**
+     * Validate that the maximum number of ranges in a NAK is in range.
+     *
+     * @param rangeCount to be checked.
+     * @throws ConfigurationException if the count is not valid.
+     */
+    public static void validateNakMaxRangeCount(final int rangeCount)
+    {
+        if (rangeCount < 1 || rangeCount > NakFlyweight.MAX_RANGE_COUNT)
+        {
+            throw new ConfigurationException(
+                "NAK max range count must be >= 1 and <= " + NakFlyweight.MAX_RANGE_COUNT + ": " + rangeCount);
+        }
+    }
+
+    /**
+     * Validate that the max number of active retransmissions per stream is positive.
+     *
+     * @param maxRetransmits to be checked.
+     * @throws ConfigurationException if the value is not valid.
+     */
+    public static void validateMaxRetransmits(final int maxRetransmits)
+    {
+        if (maxRetransmits < 1)
+        {
+            throw new ConfigurationException("max retransmits must be >= 1: " + maxRetransmits);
+        }
+    }
+
+    /**
+     * Validate that the send weight quantum length is not negative.
+     *
+     * @param quantumLength to be checked.
+     * @throws ConfigurationException if the length is not valid.
+     */
+    public static void validateSendWeightQuantumLength(final int quantumLength)
+    {
+        if (quantumLength < 0)
+        {
+            throw new ConfigurationException("send weight quantum length must be >= 0: " + quantumLength);
+        }
+    }
+
     /**
      * Validate the range of session ids based on a high and low value provided which accounts for the values wrapping.
      *
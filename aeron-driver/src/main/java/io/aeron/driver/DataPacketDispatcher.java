@@ -17,6 +17,7 @@ package io.aeron.driver;
 
 import io.aeron.driver.exceptions.UnknownSubscriptionException;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
+import io.aeron.driver.media.ReceiveChannelEndpointThreadLocals;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
@@ -25,6 +26,7 @@ import org.agrona.collections.IntHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 
 import static io.aeron.driver.DataPacketDispatcher.SessionState.*;
 
@@ -35,6 +37,12 @@ import static io.aeron.driver.DataPacketDispatcher.SessionState.*;
  */
 public class DataPacketDispatcher
 {
+    /**
+     * Returned from {@link #onDirectDataPacket(DataHeaderFlyweight, UnsafeBuffer, int, InetSocketAddress, int)} when
+     * the packet was not the expected frame and has not been inserted into the term buffer.
+     */
+    public static final int DIRECT_RECEIVE_REJECTED = -1;
+
     enum SessionState
     {
         ACTIVE,
@@ -70,6 +78,7 @@ public class DataPacketDispatcher
     private final Int2ObjectHashMap<StreamInterest> streamInterestByIdMap = new Int2ObjectHashMap<>();
     private final DriverConductorProxy conductorProxy;
     private final Receiver receiver;
+    private PublicationImage soleImage;
 
     public DataPacketDispatcher(final DriverConductorProxy conductorProxy, final Receiver receiver)
     {
@@ -77,6 +86,16 @@ public class DataPacketDispatcher
         this.receiver = receiver;
     }
 
+    /**
+     * Thread locals of the {@link Receiver} which services the endpoint of this dispatcher.
+     *
+     * @return thread locals of the {@link Receiver} or null if there is no receiver.
+     */
+    public ReceiveChannelEndpointThreadLocals receiveChannelEndpointThreadLocals()
+    {
+        return null != receiver ? receiver.receiveChannelEndpointThreadLocals() : null;
+    }
+
     public void addSubscription(final int streamId)
     {
         final StreamInterest streamInterest = streamInterestByIdMap.get(streamId);
@@ -155,6 +174,8 @@ public class DataPacketDispatcher
         {
             streamInterestByIdMap.remove(streamId);
         }
+
+        updateSoleImage();
     }
 
     public void removeSubscription(final int streamId, final int sessionId)
@@ -180,6 +201,8 @@ public class DataPacketDispatcher
         {
             streamInterestByIdMap.remove(streamId);
         }
+
+        updateSoleImage();
     }
 
     public void addPublicationImage(final PublicationImage image)
@@ -199,6 +222,7 @@ public class DataPacketDispatcher
 
         sessionInterest.image = image;
         image.activate();
+        updateSoleImage();
     }
 
     public void removePublicationImage(final PublicationImage image)
@@ -218,6 +242,7 @@ public class DataPacketDispatcher
         }
 
         image.deactivate();
+        updateSoleImage();
     }
 
     public void removePendingSetup(final int sessionId, final int streamId)
@@ -287,6 +312,45 @@ public class DataPacketDispatcher
         return 0;
     }
 
+    /**
+     * The region of the term buffer into which the body of the next datagram can be received directly when the
+     * endpoint has a single image so the next frame is predictable.
+     *
+     * @return the region of the term buffer for the body of the next frame or null if not predictable.
+     */
+    public ByteBuffer directReceiveBody()
+    {
+        return null != soleImage ? soleImage.directReceiveBody() : null;
+    }
+
+    /**
+     * Dispatch a data packet whose body has been received into the region given by {@link #directReceiveBody()}.
+     *
+     * @param header         of the first frame in the packet.
+     * @param buffer         containing the header of the first frame.
+     * @param length         of the packet including the header.
+     * @param srcAddress     from which the packet came.
+     * @param transportIndex from which the packet came.
+     * @return number of bytes applied or {@link #DIRECT_RECEIVE_REJECTED} if the packet has not been inserted.
+     */
+    public int onDirectDataPacket(
+        final DataHeaderFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress,
+        final int transportIndex)
+    {
+        final PublicationImage image = soleImage;
+
+        if (null != image && header.sessionId() == image.sessionId() && header.streamId() == image.streamId())
+        {
+            return image.insertDirectPacket(
+                header.termId(), header.termOffset(), buffer, length, transportIndex, srcAddress);
+        }
+
+        return DIRECT_RECEIVE_REJECTED;
+    }
+
     public void onSetupMessage(
         final ReceiveChannelEndpoint channelEndpoint,
         final SetupFlyweight header,
@@ -318,7 +382,8 @@ public class DataPacketDispatcher
                         header.termOffset(),
                         header.termLength(),
                         header.mtuLength(),
-                        header.ttl());
+                        header.ttl(),
+                        isLatencyTimestamped(header));
                 }
                 else if (null != sessionInterest.image)
                 {
@@ -339,7 +404,8 @@ public class DataPacketDispatcher
                     header.termOffset(),
                     header.termLength(),
                     header.mtuLength(),
-                    header.ttl());
+                    header.ttl(),
+                    isLatencyTimestamped(header));
             }
             else
             {
@@ -385,6 +451,26 @@ public class DataPacketDispatcher
         return !streamInterestByIdMap.isEmpty();
     }
 
+    private void updateSoleImage()
+    {
+        PublicationImage soleImage = null;
+        int imageCount = 0;
+
+        for (final StreamInterest streamInterest : streamInterestByIdMap.values())
+        {
+            for (final SessionInterest sessionInterest : streamInterest.sessionInterestByIdMap.values())
+            {
+                if (null != sessionInterest.image)
+                {
+                    soleImage = sessionInterest.image;
+                    imageCount++;
+                }
+            }
+        }
+
+        this.soleImage = 1 == imageCount ? soleImage : null;
+    }
+
     private void elicitSetupMessageFromSource(
         final ReceiveChannelEndpoint channelEndpoint,
         final int transportIndex,
@@ -410,7 +496,8 @@ public class DataPacketDispatcher
         final int termOffset,
         final int termLength,
         final int mtuLength,
-        final int setupTtl)
+        final int setupTtl,
+        final boolean isLatencyTimestamped)
     {
         final InetSocketAddress controlAddress = channelEndpoint.isMulticast(transportIndex) ?
             channelEndpoint.udpChannel(transportIndex).remoteControl() : srcAddress;
@@ -431,6 +518,12 @@ public class DataPacketDispatcher
             transportIndex,
             controlAddress,
             srcAddress,
-            channelEndpoint);
+            channelEndpoint,
+            isLatencyTimestamped);
+    }
+
+    private static boolean isLatencyTimestamped(final SetupFlyweight header)
+    {
+        return SetupFlyweight.LATENCY_TIMESTAMP_FLAG == (header.flags() & SetupFlyweight.LATENCY_TIMESTAMP_FLAG);
     }
 }
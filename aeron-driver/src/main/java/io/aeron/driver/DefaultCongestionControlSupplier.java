@@ -16,6 +16,8 @@
 package io.aeron.driver;
 
 import io.aeron.CommonContext;
+import io.aeron.driver.ext.AutoTuningCongestionControl;
+import io.aeron.driver.ext.BbrCongestionControl;
 import io.aeron.driver.ext.CubicCongestionControl;
 import io.aeron.driver.media.UdpChannel;
 import org.agrona.concurrent.NanoClock;
@@ -77,6 +79,36 @@ public class DefaultCongestionControlSupplier implements CongestionControlSuppli
                 context,
                 countersManager);
         }
+        else if (AutoTuningCongestionControl.CC_PARAM_VALUE.equals(ccStr))
+        {
+            return new AutoTuningCongestionControl(
+                registrationId,
+                udpChannel,
+                streamId,
+                sessionId,
+                termLength,
+                senderMtuLength,
+                controlAddress,
+                sourceAddress,
+                nanoClock,
+                context,
+                countersManager);
+        }
+        else if (BbrCongestionControl.CC_PARAM_VALUE.equals(ccStr))
+        {
+            return new BbrCongestionControl(
+                registrationId,
+                udpChannel,
+                streamId,
+                sessionId,
+                termLength,
+                senderMtuLength,
+                controlAddress,
+                sourceAddress,
+                nanoClock,
+                context,
+                countersManager);
+        }
 
         throw new IllegalArgumentException("unsupported congestion control : cc=" + ccStr);
     }
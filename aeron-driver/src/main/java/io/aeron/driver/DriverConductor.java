@@ -15,6 +15,7 @@
  */
 package io.aeron.driver;
 
+import io.aeron.Aeron;
 import io.aeron.ChannelUri;
 import io.aeron.CommonContext;
 import io.aeron.CommonContext.InferableBoolean;
@@ -26,6 +27,7 @@ import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveDestinationTransport;
 import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.media.UdpChannelTransport;
 import io.aeron.driver.status.*;
 import io.aeron.exceptions.ControlProtocolException;
 import io.aeron.logbuffer.LogBufferDescriptor;
@@ -50,6 +52,7 @@ import static io.aeron.CommonContext.IPC_MEDIA;
 import static io.aeron.CommonContext.InferableBoolean.FORCE_TRUE;
 import static io.aeron.CommonContext.InferableBoolean.INFER;
 import static io.aeron.ErrorCode.*;
+import static io.aeron.driver.Configuration.NUMA_NODE_DEFAULT;
 import static io.aeron.driver.PublicationParams.*;
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
@@ -75,8 +78,8 @@ public class DriverConductor implements Agent
 
     private final Context ctx;
     private final LogFactory logFactory;
-    private final ReceiverProxy receiverProxy;
-    private final SenderProxy senderProxy;
+    private final ReceiverProxy[] receiverProxies;
+    private final SenderProxy[] senderProxies;
     private final ClientProxy clientProxy;
     private final RingBuffer toDriverCommands;
     private final ClientCommandAdapter clientCommandAdapter;
@@ -98,10 +101,12 @@ public class DriverConductor implements Agent
     private final CachedEpochClock cachedEpochClock;
     private final CachedNanoClock cachedNanoClock;
     private final CountersManager countersManager;
-    private final NetworkPublicationThreadLocals networkPublicationThreadLocals = new NetworkPublicationThreadLocals();
+    private final NetworkPublicationThreadLocals[] networkPublicationThreadLocals;
     private final MutableDirectBuffer tempBuffer;
     private final DataHeaderFlyweight defaultDataHeader = new DataHeaderFlyweight(createDefaultHeader(0, 0, 0));
     private final NameResolver nameResolver;
+    private final int senderNumaNode;
+    private final int receiverNumaNode;
     private final DriverNameResolver driverNameResolver;
 
     public DriverConductor(final Context ctx)
@@ -111,8 +116,15 @@ public class DriverConductor implements Agent
         clientLivenessTimeoutNs = ctx.clientLivenessTimeoutNs();
         statusMessageTimeoutNs = ctx.statusMessageTimeoutNs();
         driverCmdQueue = ctx.driverCommandQueue();
-        receiverProxy = ctx.receiverProxy();
-        senderProxy = ctx.senderProxy();
+        receiverProxies = null != ctx.receiverProxies() ?
+            ctx.receiverProxies() : new ReceiverProxy[]{ ctx.receiverProxy() };
+        senderProxies = null != ctx.senderProxies() ?
+            ctx.senderProxies() : new SenderProxy[]{ ctx.senderProxy() };
+        networkPublicationThreadLocals = new NetworkPublicationThreadLocals[senderProxies.length];
+        for (int i = 0; i < senderProxies.length; i++)
+        {
+            networkPublicationThreadLocals[i] = new NetworkPublicationThreadLocals();
+        }
         logFactory = ctx.logFactory();
         epochClock = ctx.epochClock();
         nanoClock = ctx.nanoClock();
@@ -121,6 +133,8 @@ public class DriverConductor implements Agent
         toDriverCommands = ctx.toDriverCommands();
         clientProxy = ctx.clientProxy();
         tempBuffer = ctx.tempBuffer();
+        senderNumaNode = ctx.senderAgentNumaNode();
+        receiverNumaNode = ctx.receiverAgentNumaNode();
 
         countersManager = ctx.countersManager();
         if (null == ctx.resolverInterface())
@@ -195,7 +209,8 @@ public class DriverConductor implements Agent
         final int transportIndex,
         final InetSocketAddress controlAddress,
         final InetSocketAddress sourceAddress,
-        final ReceiveChannelEndpoint channelEndpoint)
+        final ReceiveChannelEndpoint channelEndpoint,
+        final boolean isLatencyTimestamped)
     {
         Configuration.validateMtuLength(senderMtuLength);
         Configuration.validateInitialWindowLength(ctx.initialWindowLength(), senderMtuLength);
@@ -240,6 +255,10 @@ public class DriverConductor implements Agent
             final FeedbackDelayGenerator feedbackDelayGenerator = treatAsMulticast ?
                 ctx.multicastFeedbackDelayGenerator() : ctx.unicastFeedbackDelayGenerator();
 
+            final UnsafeBufferPosition hwmPosition = appendNumaNode(
+                ReceiverHwm.allocate(tempBuffer, countersManager, registrationId, sessionId, streamId, channel),
+                receiverNumaNode);
+
             final PublicationImage image = new PublicationImage(
                 registrationId,
                 ctx,
@@ -254,13 +273,14 @@ public class DriverConductor implements Agent
                 rawLog,
                 feedbackDelayGenerator,
                 subscriberPositions,
-                ReceiverHwm.allocate(tempBuffer, countersManager, registrationId, sessionId, streamId, channel),
+                hwmPosition,
                 ReceiverPos.allocate(tempBuffer, countersManager, registrationId, sessionId, streamId, channel),
                 sourceAddress,
-                congestionControl);
+                congestionControl,
+                isLatencyTimestamped);
 
             publicationImages.add(image);
-            receiverProxy.newPublicationImage(channelEndpoint, image);
+            receiverProxy(channelEndpoint).newPublicationImage(channelEndpoint, image);
 
             final String sourceIdentity = Configuration.sourceIdentity(sourceAddress);
             for (int i = 0, size = subscriberPositions.size(); i < size; i++)
@@ -296,7 +316,7 @@ public class DriverConductor implements Agent
 
             if (!address.equals(newAddress))
             {
-                senderProxy.onResolutionChange(channelEndpoint, endpoint, newAddress);
+                senderProxy(channelEndpoint).onResolutionChange(channelEndpoint, endpoint, newAddress);
             }
         }
         catch (final UnknownHostException ex)
@@ -318,7 +338,7 @@ public class DriverConductor implements Agent
 
             if (!address.equals(newAddress))
             {
-                receiverProxy.onResolutionChange(channelEndpoint, udpChannel, newAddress);
+                receiverProxy(channelEndpoint).onResolutionChange(channelEndpoint, udpChannel, newAddress);
             }
         }
         catch (final UnknownHostException ex)
@@ -387,6 +407,10 @@ public class DriverConductor implements Agent
         final ChannelUri channelUri = udpChannel.channelUri();
         final PublicationParams params = getPublicationParams(channelUri, ctx, this, isExclusive, false);
         validateMtuForMaxMessage(params);
+        if (params.isLatencyTimestamped)
+        {
+            checkForSpyOfLatencyTimestampedPublication(udpChannel, streamId);
+        }
 
         final SendChannelEndpoint channelEndpoint = getOrCreateSendChannelEndpoint(udpChannel, correlationId);
 
@@ -465,11 +489,11 @@ public class DriverConductor implements Agent
         final SendChannelEndpoint channelEndpoint = publication.channelEndpoint();
         final String channel = channelEndpoint.udpChannel().canonicalForm();
         activeSessionSet.remove(new SessionKey(publication.sessionId(), publication.streamId(), channel));
-        senderProxy.removeNetworkPublication(publication);
+        senderProxy(channelEndpoint).removeNetworkPublication(publication);
 
         if (channelEndpoint.shouldBeClosed())
         {
-            senderProxy.closeSendChannelEndpoint(channelEndpoint);
+            senderProxy(channelEndpoint).closeSendChannelEndpoint(channelEndpoint);
             channelEndpoint.closeStatusIndicator();
             sendChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
         }
@@ -485,14 +509,14 @@ public class DriverConductor implements Agent
             {
                 if (0 == channelEndpoint.decRefToStreamAndSession(subscription.streamId(), subscription.sessionId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    receiverProxy(channelEndpoint).removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
             else
             {
                 if (0 == channelEndpoint.decRefToStream(subscription.streamId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    receiverProxy(channelEndpoint).removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
 
@@ -500,7 +524,7 @@ public class DriverConductor implements Agent
             {
                 channelEndpoint.closeStatusIndicator();
                 receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
-                receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
+                receiverProxy(channelEndpoint).closeReceiveChannelEndpoint(channelEndpoint);
             }
         }
     }
@@ -522,7 +546,8 @@ public class DriverConductor implements Agent
 
         if (rejoin)
         {
-            receiverProxy.removeCoolDown(image.channelEndpoint(), image.sessionId(), image.streamId());
+            final ReceiveChannelEndpoint channelEndpoint = image.channelEndpoint();
+            receiverProxy(channelEndpoint).removeCoolDown(channelEndpoint, image.sessionId(), image.streamId());
         }
     }
 
@@ -655,7 +680,7 @@ public class DriverConductor implements Agent
 
         final ChannelUri channelUri = ChannelUri.parse(destinationChannel);
         final InetSocketAddress dstAddress = UdpChannel.destinationAddress(channelUri, nameResolver);
-        senderProxy.addDestination(sendChannelEndpoint, channelUri, dstAddress);
+        senderProxy(sendChannelEndpoint).addDestination(sendChannelEndpoint, channelUri, dstAddress);
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -683,7 +708,7 @@ public class DriverConductor implements Agent
 
         final ChannelUri channelUri = ChannelUri.parse(destinationChannel);
         final InetSocketAddress dstAddress = UdpChannel.destinationAddress(channelUri, nameResolver);
-        senderProxy.removeDestination(sendChannelEndpoint, channelUri, dstAddress);
+        senderProxy(sendChannelEndpoint).removeDestination(sendChannelEndpoint, channelUri, dstAddress);
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -701,14 +726,14 @@ public class DriverConductor implements Agent
         {
             if (1 == channelEndpoint.incRefToStreamAndSession(streamId, params.sessionId))
             {
-                receiverProxy.addSubscription(channelEndpoint, streamId, params.sessionId);
+                receiverProxy(channelEndpoint).addSubscription(channelEndpoint, streamId, params.sessionId);
             }
         }
         else
         {
             if (1 == channelEndpoint.incRefToStream(streamId))
             {
-                receiverProxy.addSubscription(channelEndpoint, streamId);
+                receiverProxy(channelEndpoint).addSubscription(channelEndpoint, streamId);
             }
         }
 
@@ -768,6 +793,18 @@ public class DriverConductor implements Agent
         final SpySubscriptionLink subscriptionLink = new SpySubscriptionLink(
             registrationId, udpChannel, streamId, client, params);
 
+        for (int i = 0, size = networkPublications.size(); i < size; i++)
+        {
+            final NetworkPublication publication = networkPublications.get(i);
+            if (NetworkPublication.State.ACTIVE == publication.state() &&
+                publication.isLatencyTimestamped() &&
+                subscriptionLink.matches(publication))
+            {
+                throw new InvalidChannelException(
+                    "spy not supported on latency timestamped publication: " + udpChannel.originalUriString());
+            }
+        }
+
         subscriptionLinks.add(subscriptionLink);
 
         for (int i = 0, size = networkPublications.size(); i < size; i++)
@@ -815,7 +852,7 @@ public class DriverConductor implements Agent
             {
                 if (0 == channelEndpoint.decRefToStreamAndSession(subscription.streamId(), subscription.sessionId()))
                 {
-                    receiverProxy.removeSubscription(
+                    receiverProxy(channelEndpoint).removeSubscription(
                         channelEndpoint, subscription.streamId(), subscription.sessionId());
                 }
             }
@@ -823,13 +860,13 @@ public class DriverConductor implements Agent
             {
                 if (0 == channelEndpoint.decRefToStream(subscription.streamId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    receiverProxy(channelEndpoint).removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
 
             if (channelEndpoint.shouldBeClosed())
             {
-                receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
+                receiverProxy(channelEndpoint).closeReceiveChannelEndpoint(channelEndpoint);
                 channelEndpoint.closeStatusIndicator();
                 receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
             }
@@ -932,7 +969,7 @@ public class DriverConductor implements Agent
         final ReceiveDestinationTransport transport = new ReceiveDestinationTransport(
             udpChannel, ctx, localSocketAddressIndicator);
 
-        receiverProxy.addDestination(receiveChannelEndpoint, transport);
+        receiverProxy(receiveChannelEndpoint).addDestination(receiveChannelEndpoint, transport);
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -957,7 +994,8 @@ public class DriverConductor implements Agent
 
         receiveChannelEndpoint.validateAllowsDestinationControl();
 
-        receiverProxy.removeDestination(receiveChannelEndpoint, UdpChannel.parse(destinationChannel, nameResolver));
+        receiverProxy(receiveChannelEndpoint).removeDestination(
+            receiveChannelEndpoint, UdpChannel.parse(destinationChannel, nameResolver));
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -1076,8 +1114,9 @@ public class DriverConductor implements Agent
             tempBuffer, countersManager, registrationId, sessionId, streamId, channel);
         final UnsafeBufferPosition publisherLimit = PublisherLimit.allocate(
             tempBuffer, countersManager, registrationId, sessionId, streamId, channel);
-        final UnsafeBufferPosition senderPosition = SenderPos.allocate(
-            tempBuffer, countersManager, registrationId, sessionId, streamId, channel);
+        final UnsafeBufferPosition senderPosition = appendNumaNode(
+            SenderPos.allocate(tempBuffer, countersManager, registrationId, sessionId, streamId, channel),
+            senderNumaNode);
         final UnsafeBufferPosition senderLimit = SenderLimit.allocate(
             tempBuffer, countersManager, registrationId, sessionId, streamId, channel);
 
@@ -1094,8 +1133,11 @@ public class DriverConductor implements Agent
         final RetransmitHandler retransmitHandler = new RetransmitHandler(
             cachedNanoClock,
             ctx.systemCounters().get(INVALID_PACKETS),
+            ctx.systemCounters().get(RETRANSMITS_COALESCED),
+            ctx.systemCounters().get(RETRANSMITS_DROPPED),
             ctx.retransmitUnicastDelayGenerator(),
-            ctx.retransmitUnicastLingerGenerator());
+            ctx.retransmitUnicastLingerGenerator(),
+            ctx.maxRetransmits());
 
         final NetworkPublication publication = new NetworkPublication(
             registrationId,
@@ -1109,17 +1151,18 @@ public class DriverConductor implements Agent
             senderPosition,
             senderLimit,
             SenderBpe.allocate(tempBuffer, countersManager, registrationId, sessionId, streamId, channel),
+            SenderBytesPerCycle.allocate(tempBuffer, countersManager, registrationId, sessionId, streamId, channel),
             sessionId,
             streamId,
             initialTermId,
             flowControl,
             retransmitHandler,
-            networkPublicationThreadLocals,
+            networkPublicationThreadLocals[channelEndpoint.senderIndex()],
             isExclusive);
 
         channelEndpoint.incRef();
         networkPublications.add(publication);
-        senderProxy.newNetworkPublication(publication);
+        senderProxy(channelEndpoint).newNetworkPublication(publication);
         linkSpies(subscriptionLinks, publication);
         activeSessionSet.add(new SessionKey(sessionId, streamId, canonicalForm));
 
@@ -1152,6 +1195,16 @@ public class DriverConductor implements Agent
         return rawLog;
     }
 
+    private UnsafeBufferPosition appendNumaNode(final UnsafeBufferPosition position, final int numaNode)
+    {
+        if (NUMA_NODE_DEFAULT != numaNode)
+        {
+            countersManager.appendToLabel(position.id(), " configured-numa-node=" + numaNode);
+        }
+
+        return position;
+    }
+
     private void initPublicationMetadata(
         final int sessionId,
         final int streamId,
@@ -1236,17 +1289,31 @@ public class DriverConductor implements Agent
         SendChannelEndpoint channelEndpoint = findExistingSendChannelEndpoint(udpChannel);
         if (null == channelEndpoint)
         {
+            final int senderIndex = senderIndex(udpChannel);
             channelEndpoint = ctx.sendChannelEndpointSupplier().newInstance(
                 udpChannel,
                 SendChannelStatus.allocate(tempBuffer, countersManager, registrationId, udpChannel.originalUriString()),
                 ctx);
+            channelEndpoint.senderIndex(senderIndex);
 
             final AtomicCounter counter = SendLocalSocketAddress.allocate(
                 tempBuffer, countersManager, registrationId, channelEndpoint.statusIndicatorCounterId());
 
             channelEndpoint.localSocketAddressIndicator(counter);
+
+            if (ctx.busyPollTransports())
+            {
+                allocatePollCounters(
+                    channelEndpoint,
+                    registrationId,
+                    channelEndpoint.statusIndicatorCounterId(),
+                    TransportPolls.SEND_PRODUCTIVE_NAME,
+                    TransportPolls.SEND_EMPTY_NAME,
+                    udpChannel.originalUriString());
+            }
+
             sendChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
-            senderProxy.registerSendChannelEndpoint(channelEndpoint);
+            senderProxy(channelEndpoint).registerSendChannelEndpoint(channelEndpoint);
         }
 
         return channelEndpoint;
@@ -1408,11 +1475,13 @@ public class DriverConductor implements Agent
         if (null == channelEndpoint)
         {
             final String channel = udpChannel.originalUriString();
+            final int receiverIndex = receiverIndex(udpChannel);
             channelEndpoint = ctx.receiveChannelEndpointSupplier().newInstance(
                 udpChannel,
-                new DataPacketDispatcher(ctx.driverConductorProxy(), receiverProxy.receiver()),
+                new DataPacketDispatcher(ctx.driverConductorProxy(), receiverProxies[receiverIndex].receiver()),
                 ReceiveChannelStatus.allocate(tempBuffer, countersManager, registrationId, channel),
                 ctx);
+            channelEndpoint.receiverIndex(receiverIndex);
 
             if (!udpChannel.isManualControlMode())
             {
@@ -1422,13 +1491,91 @@ public class DriverConductor implements Agent
                 channelEndpoint.localSocketAddressIndicator(counter);
             }
 
+            if (ctx.busyPollTransports())
+            {
+                allocatePollCounters(
+                    channelEndpoint,
+                    registrationId,
+                    channelEndpoint.statusIndicatorCounterId(),
+                    TransportPolls.RECEIVE_PRODUCTIVE_NAME,
+                    TransportPolls.RECEIVE_EMPTY_NAME,
+                    channel);
+            }
+
             receiveChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
-            receiverProxy.registerReceiveChannelEndpoint(channelEndpoint);
+            receiverProxy(channelEndpoint).registerReceiveChannelEndpoint(channelEndpoint);
         }
 
         return channelEndpoint;
     }
 
+    private SenderProxy senderProxy(final SendChannelEndpoint channelEndpoint)
+    {
+        return senderProxies[channelEndpoint.senderIndex()];
+    }
+
+    private int senderIndex(final UdpChannel udpChannel)
+    {
+        final int senderCount = senderProxies.length;
+        if (1 == senderCount)
+        {
+            return 0;
+        }
+
+        final int shard = udpChannel.senderShard();
+        final int hash = Aeron.NULL_VALUE != shard ? shard : udpChannel.canonicalForm().hashCode();
+
+        return (hash & Integer.MAX_VALUE) % senderCount;
+    }
+
+    private ReceiverProxy receiverProxy(final ReceiveChannelEndpoint channelEndpoint)
+    {
+        return receiverProxies[channelEndpoint.receiverIndex()];
+    }
+
+    private int receiverIndex(final UdpChannel udpChannel)
+    {
+        final int receiverCount = receiverProxies.length;
+        if (1 == receiverCount)
+        {
+            return 0;
+        }
+
+        final int shard = udpChannel.receiverShard();
+        final int hash = Aeron.NULL_VALUE != shard ? shard : udpChannel.canonicalForm().hashCode();
+
+        return (hash & Integer.MAX_VALUE) % receiverCount;
+    }
+
+    private void allocatePollCounters(
+        final UdpChannelTransport channelEndpoint,
+        final long registrationId,
+        final int channelStatusId,
+        final String productiveName,
+        final String emptyName,
+        final String channel)
+    {
+        final AtomicCounter productivePolls = TransportPolls.allocate(
+            tempBuffer,
+            countersManager,
+            registrationId,
+            channelStatusId,
+            productiveName,
+            TransportPolls.PRODUCTIVE_POLLS_TYPE_ID,
+            channel);
+
+        final AtomicCounter emptyPolls = TransportPolls.allocate(
+            tempBuffer,
+            countersManager,
+            registrationId,
+            channelStatusId,
+            emptyName,
+            TransportPolls.EMPTY_POLLS_TYPE_ID,
+            channel);
+
+        channelEndpoint.pollCounters(productivePolls, emptyPolls);
+    }
+
     private ReceiveChannelEndpoint findExistingReceiveChannelEndpoint(final UdpChannel udpChannel)
     {
         if (udpChannel.hasTag())
@@ -1612,6 +1759,20 @@ public class DriverConductor implements Agent
         }
     }
 
+    private void checkForSpyOfLatencyTimestampedPublication(final UdpChannel udpChannel, final int streamId)
+    {
+        for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
+        {
+            final SubscriptionLink subscription = subscriptionLinks.get(i);
+            if (subscription instanceof SpySubscriptionLink &&
+                ((SpySubscriptionLink)subscription).mayMatch(udpChannel, streamId))
+            {
+                throw new InvalidChannelException(
+                    "latency timestamps not supported on spied publication: " + udpChannel.originalUriString());
+            }
+        }
+    }
+
     private int nextAvailableSessionId(final int streamId, final String channel)
     {
         final SessionKey sessionKey = new SessionKey(streamId, channel);
@@ -62,7 +62,8 @@ public class DriverConductorProxy
         final int transportIndex,
         final InetSocketAddress controlAddress,
         final InetSocketAddress srcAddress,
-        final ReceiveChannelEndpoint channelEndpoint)
+        final ReceiveChannelEndpoint channelEndpoint,
+        final boolean isLatencyTimestamped)
     {
         if (notConcurrent())
         {
@@ -77,7 +78,8 @@ public class DriverConductorProxy
                 transportIndex,
                 controlAddress,
                 srcAddress,
-                channelEndpoint);
+                channelEndpoint,
+                isLatencyTimestamped);
         }
         else
         {
@@ -92,7 +94,8 @@ public class DriverConductorProxy
                 transportIndex,
                 controlAddress,
                 srcAddress,
-                channelEndpoint));
+                channelEndpoint,
+                isLatencyTimestamped));
         }
     }
 
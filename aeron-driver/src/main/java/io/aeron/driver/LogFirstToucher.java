@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.buffer.RawLog;
+
+import java.util.ArrayDeque;
+
+/**
+ * First touches the pages of log buffers from the thread of the agent which owns it, a limited number of pages
+ * per duty cycle, so the pages are allocated on the NUMA node of the agent without stalling its other streams.
+ * <p>
+ * A log must be removed before the agent releases it so it is not touched after being unmapped.
+ */
+final class LogFirstToucher
+{
+    private final int pageSize;
+    private final int pageLimit;
+    private final ArrayDeque<RawLog> rawLogs = new ArrayDeque<>();
+    private long offset = 0;
+
+    LogFirstToucher(final int pageSize, final int pageLimit)
+    {
+        this.pageSize = pageSize;
+        this.pageLimit = pageLimit;
+    }
+
+    void add(final RawLog rawLog)
+    {
+        rawLogs.addLast(rawLog);
+    }
+
+    void remove(final RawLog rawLog)
+    {
+        if (rawLogs.peekFirst() == rawLog)
+        {
+            rawLogs.pollFirst();
+            offset = 0;
+        }
+        else
+        {
+            rawLogs.remove(rawLog);
+        }
+    }
+
+    int doWork()
+    {
+        final RawLog rawLog = rawLogs.peekFirst();
+        if (null == rawLog)
+        {
+            return 0;
+        }
+
+        offset = rawLog.preTouch(pageSize, offset, pageLimit);
+        if (offset >= (long)rawLog.termLength() * rawLog.termBuffers().length)
+        {
+            rawLogs.pollFirst();
+            offset = 0;
+        }
+
+        return 1;
+    }
+}
@@ -24,7 +24,9 @@ import static io.aeron.logbuffer.TermGapScanner.scanForGap;
 /**
  * Detecting and handling of gaps in a message stream.
  * <p>
- * Each detector only notifies a single run of a gap in a message stream.
+ * Each detector tracks the first run of a gap in a message stream for timing of feedback. When configured for more
+ * than one gap then the following gaps in the same term are reported along with it so they can be repaired in a
+ * single round trip. The following gaps are only scanned for when the feedback is due, not on every scan.
  */
 public class LossDetector implements TermGapScanner.GapHandler
 {
@@ -38,6 +40,10 @@ public class LossDetector implements TermGapScanner.GapHandler
     private int activeTermOffset = -1;
     private int activeLength;
 
+    private final int maxGapCount;
+    private final int[] gapTermOffsets;
+    private final int[] gapLengths;
+
     private final FeedbackDelayGenerator delayGenerator;
     private final LossHandler lossHandler;
 
@@ -48,9 +54,25 @@ public class LossDetector implements TermGapScanner.GapHandler
      * @param lossHandler    to call when signalling a gap
      */
     public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler)
+    {
+        this(delayGenerator, lossHandler, 1);
+    }
+
+    /**
+     * Create a loss detector for a channel which can report multiple gaps at once.
+     *
+     * @param delayGenerator to use for delay determination
+     * @param lossHandler    to call when signalling gaps
+     * @param maxGapCount    maximum number of gaps in a term to report at once
+     */
+    public LossDetector(
+        final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler, final int maxGapCount)
     {
         this.delayGenerator = delayGenerator;
         this.lossHandler = lossHandler;
+        this.maxGapCount = maxGapCount;
+        this.gapTermOffsets = new int[maxGapCount];
+        this.gapLengths = new int[maxGapCount];
     }
 
     /**
@@ -97,7 +119,7 @@ public class LossDetector implements TermGapScanner.GapHandler
                     lossFound = true;
                 }
 
-                checkTimerExpiry(nowNs);
+                checkTimerExpiry(nowNs, termBuffer, rebuildTermId, limitOffset);
             }
         }
 
@@ -161,11 +183,44 @@ public class LossDetector implements TermGapScanner.GapHandler
         }
     }
 
-    private void checkTimerExpiry(final long nowNs)
+    private int scanForFollowingGaps(final UnsafeBuffer termBuffer, final int termId, final int limitOffset)
+    {
+        gapTermOffsets[0] = activeTermOffset;
+        gapLengths[0] = activeLength;
+
+        int gapCount = 1;
+        int offset = activeTermOffset + activeLength;
+        while (gapCount < maxGapCount && offset < limitOffset)
+        {
+            if (scanForGap(termBuffer, termId, offset, limitOffset, this) >= limitOffset)
+            {
+                break;
+            }
+
+            gapTermOffsets[gapCount] = scannedTermOffset;
+            gapLengths[gapCount] = scannedLength;
+            gapCount++;
+            offset = scannedTermOffset + scannedLength;
+        }
+
+        return gapCount;
+    }
+
+    private void checkTimerExpiry(
+        final long nowNs, final UnsafeBuffer termBuffer, final int termId, final int limitOffset)
     {
         if (deadlineNs - nowNs <= 0)
         {
-            lossHandler.onGapDetected(activeTermId, activeTermOffset, activeLength);
+            final int gapCount = maxGapCount > 1 ? scanForFollowingGaps(termBuffer, termId, limitOffset) : 1;
+            if (gapCount > 1)
+            {
+                lossHandler.onGapsDetected(activeTermId, gapTermOffsets, gapLengths, gapCount);
+            }
+            else
+            {
+                lossHandler.onGapDetected(activeTermId, activeTermOffset, activeLength);
+            }
+
             deadlineNs = nowNs + delayGenerator.generateDelay();
         }
     }
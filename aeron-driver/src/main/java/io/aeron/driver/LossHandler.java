@@ -29,4 +29,22 @@ public interface LossHandler
      * @param length     of the gap
      */
     void onGapDetected(int termId, int termOffset, int length);
+
+    /**
+     * Called when multiple gaps in the same term of a message stream have been detected and can be reported together.
+     * <p>
+     * The default implementation reports each gap in turn to {@link #onGapDetected(int, int, int)}.
+     *
+     * @param termId      for the gaps
+     * @param termOffsets for the beginning of each gap
+     * @param lengths     of each gap
+     * @param gapCount    of gaps in the arrays
+     */
+    default void onGapsDetected(int termId, int[] termOffsets, int[] lengths, int gapCount)
+    {
+        for (int i = 0; i < gapCount; i++)
+        {
+            onGapDetected(termId, termOffsets[i], lengths[i]);
+        }
+    }
 }
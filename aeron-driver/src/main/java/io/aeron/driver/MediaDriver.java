@@ -15,13 +15,18 @@
  */
 package io.aeron.driver;
 
+import io.aeron.Aeron;
 import io.aeron.CncFileDescriptor;
 import io.aeron.CommonContext;
 import io.aeron.driver.buffer.FileStoreLogFactory;
+import io.aeron.driver.buffer.LogBufferPreparer;
 import io.aeron.driver.buffer.LogFactory;
+import io.aeron.driver.buffer.PooledLogFactory;
 import io.aeron.driver.exceptions.ActiveDriverException;
 import io.aeron.driver.media.*;
+import io.aeron.driver.reports.LatencyReport;
 import io.aeron.driver.reports.LossReport;
+import io.aeron.driver.status.SenderShard;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.exceptions.ConcurrentConcludeException;
 import io.aeron.logbuffer.BufferClaim;
@@ -49,8 +54,10 @@ import java.util.function.Consumer;
 
 import static io.aeron.CncFileDescriptor.*;
 import static io.aeron.driver.Configuration.*;
+import static io.aeron.driver.reports.LatencyReportUtil.mapLatencyReport;
 import static io.aeron.driver.reports.LossReportUtil.mapLossReport;
 import static io.aeron.driver.status.SystemCounterDescriptor.CONTROLLABLE_IDLE_STRATEGY;
+import static io.aeron.driver.status.SenderShard.*;
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
 import static java.nio.charset.StandardCharsets.US_ASCII;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
@@ -76,9 +83,10 @@ public final class MediaDriver implements AutoCloseable
     private final AgentRunner sharedRunner;
     private final AgentRunner sharedNetworkRunner;
     private final AgentRunner conductorRunner;
-    private final AgentRunner receiverRunner;
-    private final AgentRunner senderRunner;
+    private final AgentRunner[] receiverRunners;
+    private final AgentRunner[] senderRunners;
     private final AgentInvoker sharedInvoker;
+    private final AgentRunner logBufferPreparerRunner;
     private final Context ctx;
 
     /**
@@ -119,27 +127,29 @@ public final class MediaDriver implements AutoCloseable
             ctx.conclude();
             this.ctx = ctx;
 
+            final Sender[] senders = newSenders(ctx);
+            final Receiver[] receivers = newReceivers(ctx);
             final DriverConductor conductor = new DriverConductor(ctx);
-            final Receiver receiver = new Receiver(ctx);
-            final Sender sender = new Sender(ctx);
 
-            ctx.receiverProxy().receiver(receiver);
-            ctx.senderProxy().sender(sender);
             ctx.driverConductorProxy().driverConductor(conductor);
 
             final AtomicCounter errorCounter = ctx.systemCounters().get(ERRORS);
             final ErrorHandler errorHandler = ctx.errorHandler();
 
+            final LogBufferPreparer logBufferPreparer = ctx.logBufferPreparer();
+            logBufferPreparerRunner = null == logBufferPreparer ? null : new AgentRunner(
+                ctx.logBufferPreparerIdleStrategy(), errorHandler, errorCounter, logBufferPreparer);
+
             switch (ctx.threadingMode())
             {
                 case INVOKER:
                     sharedInvoker = new AgentInvoker(
-                        errorHandler, errorCounter, new CompositeAgent(sender, receiver, conductor));
+                        errorHandler, errorCounter, new CompositeAgent(networkAgents(senders, receivers, conductor)));
                     sharedRunner = null;
                     sharedNetworkRunner = null;
                     conductorRunner = null;
-                    receiverRunner = null;
-                    senderRunner = null;
+                    receiverRunners = null;
+                    senderRunners = null;
                     break;
 
                 case SHARED:
@@ -147,11 +157,11 @@ public final class MediaDriver implements AutoCloseable
                         ctx.sharedIdleStrategy(),
                         errorHandler,
                         errorCounter,
-                        new CompositeAgent(sender, receiver, conductor));
+                        new CompositeAgent(networkAgents(senders, receivers, conductor)));
                     sharedNetworkRunner = null;
                     conductorRunner = null;
-                    receiverRunner = null;
-                    senderRunner = null;
+                    receiverRunners = null;
+                    senderRunners = null;
                     sharedInvoker = null;
                     break;
 
@@ -160,19 +170,29 @@ public final class MediaDriver implements AutoCloseable
                         ctx.sharedNetworkIdleStrategy(),
                         errorHandler,
                         errorCounter,
-                        new CompositeAgent(sender, receiver));
+                        new CompositeAgent(networkAgents(senders, receivers, null)));
                     conductorRunner = new AgentRunner(
                         ctx.conductorIdleStrategy(), errorHandler, errorCounter, conductor);
                     sharedRunner = null;
-                    receiverRunner = null;
-                    senderRunner = null;
+                    receiverRunners = null;
+                    senderRunners = null;
                     sharedInvoker = null;
                     break;
 
                 default:
                 case DEDICATED:
-                    senderRunner = new AgentRunner(ctx.senderIdleStrategy(), errorHandler, errorCounter, sender);
-                    receiverRunner = new AgentRunner(ctx.receiverIdleStrategy(), errorHandler, errorCounter, receiver);
+                    senderRunners = new AgentRunner[senders.length];
+                    for (int i = 0; i < senders.length; i++)
+                    {
+                        senderRunners[i] = new AgentRunner(
+                            ctx.senderIdleStrategy(), errorHandler, errorCounter, senders[i]);
+                    }
+                    receiverRunners = new AgentRunner[receivers.length];
+                    for (int i = 0; i < receivers.length; i++)
+                    {
+                        receiverRunners[i] = new AgentRunner(
+                            ctx.receiverIdleStrategy(), errorHandler, errorCounter, receivers[i]);
+                    }
                     conductorRunner = new AgentRunner(
                         ctx.conductorIdleStrategy(), errorHandler, errorCounter, conductor);
                     sharedNetworkRunner = null;
@@ -256,19 +276,30 @@ public final class MediaDriver implements AutoCloseable
             }
         }
 
+        if (null != mediaDriver.logBufferPreparerRunner)
+        {
+            AgentRunner.startOnThread(mediaDriver.logBufferPreparerRunner, ctx.logBufferPreparerThreadFactory());
+        }
+
         if (null != mediaDriver.conductorRunner)
         {
             AgentRunner.startOnThread(mediaDriver.conductorRunner, ctx.conductorThreadFactory());
         }
 
-        if (null != mediaDriver.senderRunner)
+        if (null != mediaDriver.senderRunners)
         {
-            AgentRunner.startOnThread(mediaDriver.senderRunner, ctx.senderThreadFactory());
+            for (final AgentRunner senderRunner : mediaDriver.senderRunners)
+            {
+                AgentRunner.startOnThread(senderRunner, ctx.senderThreadFactory());
+            }
         }
 
-        if (null != mediaDriver.receiverRunner)
+        if (null != mediaDriver.receiverRunners)
         {
-            AgentRunner.startOnThread(mediaDriver.receiverRunner, ctx.receiverThreadFactory());
+            for (final AgentRunner receiverRunner : mediaDriver.receiverRunners)
+            {
+                AgentRunner.startOnThread(receiverRunner, ctx.receiverThreadFactory());
+            }
         }
 
         if (null != mediaDriver.sharedNetworkRunner)
@@ -322,8 +353,17 @@ public final class MediaDriver implements AutoCloseable
             }
         }
 
-        CloseHelper.closeAll(
-            sharedRunner, sharedNetworkRunner, receiverRunner, senderRunner, conductorRunner, sharedInvoker);
+        CloseHelper.close(logBufferPreparerRunner);
+        CloseHelper.closeAll(sharedRunner, sharedNetworkRunner);
+        if (null != receiverRunners)
+        {
+            CloseHelper.closeAll(receiverRunners);
+        }
+        if (null != senderRunners)
+        {
+            CloseHelper.closeAll(senderRunners);
+        }
+        CloseHelper.closeAll(conductorRunner, sharedInvoker);
     }
 
     /**
@@ -337,6 +377,97 @@ public final class MediaDriver implements AutoCloseable
         return ctx.aeronDirectoryName();
     }
 
+    private static Sender[] newSenders(final Context ctx)
+    {
+        final int senderCount = ctx.senderThreadCount();
+        final Sender[] senders = new Sender[senderCount];
+        final SenderProxy[] senderProxies = new SenderProxy[senderCount];
+
+        if (1 == senderCount)
+        {
+            senders[0] = new Sender(ctx);
+        }
+        else
+        {
+            senders[0] = newSenderShard(ctx, 0, ctx.controlTransportPoller(), ctx.senderCommandQueue());
+        }
+        senderProxies[0] = ctx.senderProxy();
+        senderProxies[0].sender(senders[0]);
+
+        for (int i = 1; i < senderCount; i++)
+        {
+            final OneToOneConcurrentArrayQueue<Runnable> commandQueue =
+                new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
+
+            senders[i] = newSenderShard(ctx, i, ctx.newControlTransportPoller(), commandQueue);
+            senderProxies[i] = new SenderProxy(
+                ctx.threadingMode(), commandQueue, ctx.systemCounters().get(SENDER_PROXY_FAILS));
+            senderProxies[i].sender(senders[i]);
+        }
+
+        ctx.senderProxies(senderProxies);
+
+        return senders;
+    }
+
+    private static Sender newSenderShard(
+        final Context ctx,
+        final int senderIndex,
+        final ControlTransportPoller controlTransportPoller,
+        final OneToOneConcurrentArrayQueue<Runnable> commandQueue)
+    {
+        final AtomicCounter dutyCycles = SenderShard.allocate(
+            ctx.tempBuffer(), ctx.countersManager(), senderIndex, DUTY_CYCLES_NAME, DUTY_CYCLES_TYPE_ID);
+        final AtomicCounter controlPollRatio = SenderShard.allocate(
+            ctx.tempBuffer(),
+            ctx.countersManager(),
+            senderIndex,
+            CONTROL_POLL_RATIO_NAME,
+            CONTROL_POLL_RATIO_TYPE_ID);
+
+        return new Sender(ctx, senderIndex, controlTransportPoller, commandQueue, dutyCycles, controlPollRatio);
+    }
+
+    private static Receiver[] newReceivers(final Context ctx)
+    {
+        final int receiverCount = ctx.receiverThreadCount();
+        final Receiver[] receivers = new Receiver[receiverCount];
+        final ReceiverProxy[] receiverProxies = new ReceiverProxy[receiverCount];
+
+        receivers[0] = new Receiver(ctx);
+        receiverProxies[0] = ctx.receiverProxy();
+        receiverProxies[0].receiver(receivers[0]);
+
+        for (int i = 1; i < receiverCount; i++)
+        {
+            final OneToOneConcurrentArrayQueue<Runnable> commandQueue =
+                new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
+
+            receivers[i] = new Receiver(
+                ctx, i, ctx.newDataTransportPoller(), commandQueue, new ReceiveChannelEndpointThreadLocals());
+            receiverProxies[i] = new ReceiverProxy(
+                ctx.threadingMode(), commandQueue, ctx.systemCounters().get(RECEIVER_PROXY_FAILS));
+            receiverProxies[i].receiver(receivers[i]);
+        }
+
+        ctx.receiverProxies(receiverProxies);
+
+        return receivers;
+    }
+
+    private static Agent[] networkAgents(final Sender[] senders, final Receiver[] receivers, final Agent conductor)
+    {
+        final Agent[] agents = new Agent[senders.length + receivers.length + (null != conductor ? 1 : 0)];
+        System.arraycopy(senders, 0, agents, 0, senders.length);
+        System.arraycopy(receivers, 0, agents, senders.length, receivers.length);
+        if (null != conductor)
+        {
+            agents[agents.length - 1] = conductor;
+        }
+
+        return agents;
+    }
+
     private static void ensureDirectoryIsRecreated(final Context ctx)
     {
         if (ctx.aeronDirectory().isDirectory())
@@ -367,6 +498,10 @@ public final class MediaDriver implements AutoCloseable
 
             ctx.deleteDirectory();
         }
+        else
+        {
+            ctx.deleteHugePageDirectories();
+        }
 
         IoUtil.ensureDirectoryExists(ctx.aeronDirectory(), "aeron");
     }
@@ -445,6 +580,8 @@ public final class MediaDriver implements AutoCloseable
         private int counterValuesBufferLength = Configuration.counterValuesBufferLength();
         private int errorBufferLength = Configuration.errorBufferLength();
         private int nakMulticastGroupSize = Configuration.nakMulticastGroupSize();
+        private int nakMaxRangeCount = Configuration.nakMaxRangeCount();
+        private int maxRetransmits = Configuration.maxRetransmits();
         private int publicationTermBufferLength = Configuration.termBufferLength();
         private int ipcTermBufferLength = Configuration.ipcTermBufferLength();
         private int publicationTermWindowLength = Configuration.publicationTermWindowLength();
@@ -456,10 +593,24 @@ public final class MediaDriver implements AutoCloseable
         private int mtuLength = Configuration.mtuLength();
         private int ipcMtuLength = Configuration.ipcMtuLength();
         private int filePageSize = Configuration.filePageSize();
+        private String hugePageDir = Configuration.hugePageDir();
         private int publicationReservedSessionIdLow = Configuration.publicationReservedSessionIdLow();
         private int publicationReservedSessionIdHigh = Configuration.publicationReservedSessionIdHigh();
         private int lossReportBufferLength = Configuration.lossReportBufferLength();
+        private int latencyReportBufferLength = Configuration.latencyReportBufferLength();
         private int sendToStatusMessagePollRatio = Configuration.sendToStatusMessagePollRatio();
+        private boolean sendToStatusMessagePollRatioAdaptive = Configuration.sendToStatusMessagePollRatioAdaptive();
+        private int sendToStatusMessagePollRatioMax = Configuration.sendToStatusMessagePollRatioMax();
+        private int receiveBatchLength = Configuration.receiveBatchLength();
+        private int sendBatchLength = Configuration.sendBatchLength();
+        private int sendWeightQuantumLength = Configuration.sendWeightQuantumLength();
+        private boolean busyPollTransports = Configuration.busyPollTransports();
+        private int receiverThreadCount = Configuration.receiverThreadCount();
+        private int senderThreadCount = Configuration.senderThreadCount();
+        private int senderNumaNode = Configuration.senderNumaNode();
+        private int receiverNumaNode = Configuration.receiverNumaNode();
+        private int logBufferPoolCapacity = Configuration.logBufferPoolCapacity();
+        private int logBufferPrepareCount = Configuration.logBufferPrepareCount();
 
         private Long receiverGroupTag = Configuration.groupTag();
         private long flowControlGroupTag = Configuration.flowControlGroupTag();
@@ -471,6 +622,7 @@ public final class MediaDriver implements AutoCloseable
 
         private EpochClock epochClock;
         private NanoClock nanoClock;
+        private EpochNanoClock epochNanoClock;
         private CachedEpochClock cachedEpochClock;
         private CachedNanoClock cachedNanoClock;
         private ThreadingMode threadingMode;
@@ -479,12 +631,15 @@ public final class MediaDriver implements AutoCloseable
         private ThreadFactory receiverThreadFactory;
         private ThreadFactory sharedThreadFactory;
         private ThreadFactory sharedNetworkThreadFactory;
+        private ThreadFactory logBufferPreparerThreadFactory;
         private IdleStrategy conductorIdleStrategy;
         private IdleStrategy senderIdleStrategy;
         private IdleStrategy receiverIdleStrategy;
         private IdleStrategy sharedNetworkIdleStrategy;
         private IdleStrategy sharedIdleStrategy;
+        private IdleStrategy logBufferPreparerIdleStrategy;
         private SendChannelEndpointSupplier sendChannelEndpointSupplier;
+        private DatagramTransportSupplier datagramTransportSupplier;
         private ReceiveChannelEndpointSupplier receiveChannelEndpointSupplier;
         private ReceiveChannelEndpointThreadLocals receiveChannelEndpointThreadLocals;
         private MutableDirectBuffer tempBuffer;
@@ -506,20 +661,25 @@ public final class MediaDriver implements AutoCloseable
         private CountersManager countersManager;
         private SystemCounters systemCounters;
         private LossReport lossReport;
+        private LatencyReport latencyReport;
 
         private LogFactory logFactory;
+        private LogBufferPreparer logBufferPreparer;
         private DataTransportPoller dataTransportPoller;
         private ControlTransportPoller controlTransportPoller;
         private ManyToOneConcurrentArrayQueue<Runnable> driverCommandQueue;
         private OneToOneConcurrentArrayQueue<Runnable> receiverCommandQueue;
         private OneToOneConcurrentArrayQueue<Runnable> senderCommandQueue;
         private ReceiverProxy receiverProxy;
+        private ReceiverProxy[] receiverProxies;
         private SenderProxy senderProxy;
+        private SenderProxy[] senderProxies;
         private DriverConductorProxy driverConductorProxy;
         private ClientProxy clientProxy;
         private RingBuffer toDriverCommands;
 
         private MappedByteBuffer lossReportBuffer;
+        private MappedByteBuffer latencyReportBuffer;
         private MappedByteBuffer cncByteBuffer;
         private UnsafeBuffer cncMetaDataBuffer;
 
@@ -556,6 +716,9 @@ public final class MediaDriver implements AutoCloseable
                 IoUtil.unmap(lossReportBuffer);
                 this.lossReportBuffer = null;
 
+                IoUtil.unmap(latencyReportBuffer);
+                this.latencyReportBuffer = null;
+
                 IoUtil.unmap(cncByteBuffer);
                 this.cncByteBuffer = null;
 
@@ -574,11 +737,30 @@ public final class MediaDriver implements AutoCloseable
 
             try
             {
+                validateReceiveBatchLength(receiveBatchLength);
+                validateSendBatchLength(sendBatchLength);
+                validateSendWeightQuantumLength(sendWeightQuantumLength);
+                validateNakMaxRangeCount(nakMaxRangeCount);
+                validateMaxRetransmits(maxRetransmits);
+                validateThreadCount("receiver", receiverThreadCount);
+                validateThreadCount("sender", senderThreadCount);
+                validateNumaNode("sender", senderNumaNode);
+                validateNumaNode("receiver", receiverNumaNode);
+                validateLogBufferPoolCapacity(logBufferPoolCapacity);
+                validateLogBufferPrepareCount(logBufferPrepareCount);
+                validateSendToStatusMessagePollRatio(
+                    sendToStatusMessagePollRatio,
+                    sendToStatusMessagePollRatioAdaptive,
+                    sendToStatusMessagePollRatioMax);
                 concludeNullProperties();
 
                 validateMtuLength(mtuLength);
                 validateMtuLength(ipcMtuLength);
                 validatePageSize(filePageSize);
+                if (null != hugePageDir)
+                {
+                    validateHugePageSize(filePageSize);
+                }
                 validateSessionIdRange(publicationReservedSessionIdLow, publicationReservedSessionIdHigh);
 
                 LogBufferDescriptor.checkTermLength(publicationTermBufferLength);
@@ -632,7 +814,8 @@ public final class MediaDriver implements AutoCloseable
 
         /**
          * Delete the directory used by the {@link MediaDriver} which delegates to
-         * {@link CommonContext#deleteAeronDirectory()}.
+         * {@link CommonContext#deleteAeronDirectory()}, along with the log buffer directories under the
+         * {@link #hugePageDir()} if set.
          */
         public void deleteDirectory()
         {
@@ -640,6 +823,22 @@ public final class MediaDriver implements AutoCloseable
             {
                 super.deleteAeronDirectory();
             }
+
+            deleteHugePageDirectories();
+        }
+
+        /**
+         * Delete the publications, images, and prepared log buffer directories under the {@link #hugePageDir()} as
+         * they are not removed with the Aeron directory. The huge page directory itself is left in place as it is
+         * typically a mount point.
+         */
+        public void deleteHugePageDirectories()
+        {
+            if (null != hugePageDir)
+            {
+                FileStoreLogFactory.deleteLogDirectories(hugePageDir);
+                LogBufferPreparer.deletePreparedDirectory(hugePageDir);
+            }
         }
 
         /**
@@ -990,6 +1189,30 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * The length in bytes of the latency report buffer.
+         *
+         * @return the length in bytes of the latency report buffer.
+         * @see Configuration#LATENCY_REPORT_BUFFER_LENGTH_PROP_NAME
+         */
+        public int latencyReportBufferLength()
+        {
+            return latencyReportBufferLength;
+        }
+
+        /**
+         * The length in bytes of the latency report buffer.
+         *
+         * @param length of the buffer to be used for the latency report.
+         * @return this for a fluent API.
+         * @see Configuration#LATENCY_REPORT_BUFFER_LENGTH_PROP_NAME
+         */
+        public Context latencyReportBufferLength(final int length)
+        {
+            latencyReportBufferLength = length;
+            return this;
+        }
+
         /**
          * Page size for alignment of all files.
          *
@@ -1014,6 +1237,32 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Directory on a hugetlbfs mount, or a tmpfs mount with transparent huge pages enabled, in which log buffers
+         * are created so terms are backed by huge pages. The {@link #filePageSize()} must be the huge page size.
+         *
+         * @return directory in which log buffers are created on huge pages or null for the Aeron directory.
+         * @see Configuration#HUGE_PAGE_DIR_PROP_NAME
+         */
+        public String hugePageDir()
+        {
+            return hugePageDir;
+        }
+
+        /**
+         * Directory on a hugetlbfs mount, or a tmpfs mount with transparent huge pages enabled, in which log buffers
+         * are created so terms are backed by huge pages. The {@link #filePageSize()} must be the huge page size.
+         *
+         * @param hugePageDir in which log buffers are created on huge pages or null for the Aeron directory.
+         * @return this for a fluent API.
+         * @see Configuration#HUGE_PAGE_DIR_PROP_NAME
+         */
+        public Context hugePageDir(final String hugePageDir)
+        {
+            this.hugePageDir = hugePageDir;
+            return this;
+        }
+
         /**
          * Interval in nanoseconds between checks for timers and timeouts.
          *
@@ -1259,6 +1508,54 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Maximum number of gaps which a receiver will report in a single multi-range NAK.
+         *
+         * @return maximum number of gaps which a receiver will report in a single multi-range NAK.
+         * @see Configuration#NAK_MAX_RANGE_COUNT_PROP_NAME
+         */
+        public int nakMaxRangeCount()
+        {
+            return nakMaxRangeCount;
+        }
+
+        /**
+         * Maximum number of gaps which a receiver will report in a single multi-range NAK.
+         *
+         * @param nakMaxRangeCount maximum number of gaps which a receiver will report in a single NAK.
+         * @return this for a fluent API.
+         * @see Configuration#NAK_MAX_RANGE_COUNT_PROP_NAME
+         */
+        public Context nakMaxRangeCount(final int nakMaxRangeCount)
+        {
+            this.nakMaxRangeCount = nakMaxRangeCount;
+            return this;
+        }
+
+        /**
+         * Max number of active retransmissions per network publication.
+         *
+         * @return max number of active retransmissions per network publication.
+         * @see Configuration#MAX_RETRANSMITS_PROP_NAME
+         */
+        public int maxRetransmits()
+        {
+            return maxRetransmits;
+        }
+
+        /**
+         * Max number of active retransmissions per network publication.
+         *
+         * @param maxRetransmits number of active retransmissions per network publication.
+         * @return this for a fluent API.
+         * @see Configuration#MAX_RETRANSMITS_PROP_NAME
+         */
+        public Context maxRetransmits(final int maxRetransmits)
+        {
+            this.maxRetransmits = maxRetransmits;
+            return this;
+        }
+
         /**
          * Time in nanoseconds after which a client is considered dead if a keep alive is not received.
          *
@@ -1850,6 +2147,32 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * The {@link EpochNanoClock} as a source of wall clock time in nanoseconds for timestamping frames when
+         * measuring latency between hosts.
+         *
+         * @return the {@link EpochNanoClock} as a source of wall clock time in nanoseconds.
+         * @see io.aeron.CommonContext#LATENCY_TIMESTAMP_PARAM_NAME
+         */
+        public EpochNanoClock epochNanoClock()
+        {
+            return epochNanoClock;
+        }
+
+        /**
+         * The {@link EpochNanoClock} as a source of wall clock time in nanoseconds for timestamping frames when
+         * measuring latency between hosts.
+         *
+         * @param clock to be used.
+         * @return this for a fluent API.
+         * @see io.aeron.CommonContext#LATENCY_TIMESTAMP_PARAM_NAME
+         */
+        public Context epochNanoClock(final EpochNanoClock clock)
+        {
+            epochNanoClock = clock;
+            return this;
+        }
+
         /**
          * The {@link CachedEpochClock} as a source of time in milliseconds for wall clock time.
          *
@@ -1919,6 +2242,242 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Number of {@link Receiver} agents which share the receive channel endpoints of the driver. With
+         * {@link ThreadingMode#DEDICATED} each agent runs on its own thread, otherwise the agents are composed with
+         * the other agents of the driver.
+         *
+         * @return number of {@link Receiver} agents.
+         * @see Configuration#RECEIVER_THREAD_COUNT_PROP_NAME
+         */
+        public int receiverThreadCount()
+        {
+            return receiverThreadCount;
+        }
+
+        /**
+         * Number of {@link Receiver} agents which share the receive channel endpoints of the driver. With
+         * {@link ThreadingMode#DEDICATED} each agent runs on its own thread, otherwise the agents are composed with
+         * the other agents of the driver.
+         *
+         * @param receiverThreadCount number of {@link Receiver} agents.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_THREAD_COUNT_PROP_NAME
+         */
+        public Context receiverThreadCount(final int receiverThreadCount)
+        {
+            this.receiverThreadCount = receiverThreadCount;
+            return this;
+        }
+
+        /**
+         * Number of {@link Sender} agents which share the send channel endpoints of the driver. With
+         * {@link ThreadingMode#DEDICATED} each agent runs on its own thread, otherwise the agents are composed with
+         * the other agents of the driver.
+         *
+         * @return number of {@link Sender} agents.
+         * @see Configuration#SENDER_THREAD_COUNT_PROP_NAME
+         */
+        public int senderThreadCount()
+        {
+            return senderThreadCount;
+        }
+
+        /**
+         * Number of {@link Sender} agents which share the send channel endpoints of the driver. With
+         * {@link ThreadingMode#DEDICATED} each agent runs on its own thread, otherwise the agents are composed with
+         * the other agents of the driver.
+         *
+         * @param senderThreadCount number of {@link Sender} agents.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_THREAD_COUNT_PROP_NAME
+         */
+        public Context senderThreadCount(final int senderThreadCount)
+        {
+            this.senderThreadCount = senderThreadCount;
+            return this;
+        }
+
+        /**
+         * NUMA node on which the {@link Sender} threads are placed by the {@link #senderThreadFactory()} when running
+         * {@link ThreadingMode#DEDICATED}. When set the pages of network publication log buffers are first touched by
+         * the {@link Sender}.
+         *
+         * @return NUMA node of the {@link Sender} threads or {@link Configuration#NUMA_NODE_DEFAULT}.
+         * @see Configuration#SENDER_NUMA_NODE_PROP_NAME
+         */
+        public int senderNumaNode()
+        {
+            return senderNumaNode;
+        }
+
+        /**
+         * NUMA node on which the {@link Sender} threads are placed by the {@link #senderThreadFactory()} when running
+         * {@link ThreadingMode#DEDICATED}. When set the pages of network publication log buffers are first touched by
+         * the {@link Sender}.
+         *
+         * @param numaNode of the {@link Sender} threads or {@link Configuration#NUMA_NODE_DEFAULT}.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_NUMA_NODE_PROP_NAME
+         */
+        public Context senderNumaNode(final int numaNode)
+        {
+            this.senderNumaNode = numaNode;
+            return this;
+        }
+
+        /**
+         * NUMA node on which the {@link Receiver} threads are placed by the {@link #receiverThreadFactory()} when
+         * running {@link ThreadingMode#DEDICATED}. When set the pages of publication image log buffers are first
+         * touched by the {@link Receiver}.
+         *
+         * @return NUMA node of the {@link Receiver} threads or {@link Configuration#NUMA_NODE_DEFAULT}.
+         * @see Configuration#RECEIVER_NUMA_NODE_PROP_NAME
+         */
+        public int receiverNumaNode()
+        {
+            return receiverNumaNode;
+        }
+
+        /**
+         * NUMA node on which the {@link Receiver} threads are placed by the {@link #receiverThreadFactory()} when
+         * running {@link ThreadingMode#DEDICATED}. When set the pages of publication image log buffers are first
+         * touched by the {@link Receiver}.
+         *
+         * @param numaNode of the {@link Receiver} threads or {@link Configuration#NUMA_NODE_DEFAULT}.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_NUMA_NODE_PROP_NAME
+         */
+        public Context receiverNumaNode(final int numaNode)
+        {
+            this.receiverNumaNode = numaNode;
+            return this;
+        }
+
+        /**
+         * NUMA node of the thread which runs the {@link Sender} agents for the {@link #threadingMode()}.
+         *
+         * @return NUMA node of the thread which runs the {@link Sender} or {@link Configuration#NUMA_NODE_DEFAULT}.
+         */
+        int senderAgentNumaNode()
+        {
+            return ThreadingMode.DEDICATED == threadingMode ? senderNumaNode : NUMA_NODE_DEFAULT;
+        }
+
+        /**
+         * NUMA node of the thread which runs the {@link Receiver} agents for the {@link #threadingMode()}.
+         *
+         * @return NUMA node of the thread which runs the {@link Receiver} or {@link Configuration#NUMA_NODE_DEFAULT}.
+         */
+        int receiverAgentNumaNode()
+        {
+            return ThreadingMode.DEDICATED == threadingMode ? receiverNumaNode : NUMA_NODE_DEFAULT;
+        }
+
+        /**
+         * Number of freed log buffers of each term length which are kept mapped and pre-touched for reuse by new
+         * publications and images. A value of 0 disables pooling.
+         *
+         * @return number of freed log buffers of each term length which are kept for reuse.
+         * @see Configuration#LOG_BUFFER_POOL_CAPACITY_PROP_NAME
+         */
+        public int logBufferPoolCapacity()
+        {
+            return logBufferPoolCapacity;
+        }
+
+        /**
+         * Number of freed log buffers of each term length which are kept mapped and pre-touched for reuse by new
+         * publications and images. A value of 0 disables pooling.
+         *
+         * @param logBufferPoolCapacity number of freed log buffers of each term length to keep for reuse.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFER_POOL_CAPACITY_PROP_NAME
+         */
+        public Context logBufferPoolCapacity(final int logBufferPoolCapacity)
+        {
+            this.logBufferPoolCapacity = logBufferPoolCapacity;
+            return this;
+        }
+
+        /**
+         * Number of log buffers of each requested term length which are prepared ahead of demand by a background
+         * agent. A value of 0 disables preparation.
+         *
+         * @return number of log buffers of each requested term length which are prepared ahead of demand.
+         * @see Configuration#LOG_BUFFER_PREPARE_COUNT_PROP_NAME
+         */
+        public int logBufferPrepareCount()
+        {
+            return logBufferPrepareCount;
+        }
+
+        /**
+         * Number of log buffers of each requested term length which are prepared ahead of demand by a background
+         * agent. A value of 0 disables preparation.
+         *
+         * @param logBufferPrepareCount number of log buffers of each requested term length to prepare.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFER_PREPARE_COUNT_PROP_NAME
+         */
+        public Context logBufferPrepareCount(final int logBufferPrepareCount)
+        {
+            this.logBufferPrepareCount = logBufferPrepareCount;
+            return this;
+        }
+
+        /**
+         * {@link ThreadFactory} to be used for creating the thread of the agent which prepares log buffers ahead of
+         * demand when {@link #logBufferPrepareCount()} is greater than 0.
+         *
+         * @return {@link ThreadFactory} to be used for creating the thread of the log buffer preparer.
+         */
+        public ThreadFactory logBufferPreparerThreadFactory()
+        {
+            return logBufferPreparerThreadFactory;
+        }
+
+        /**
+         * {@link ThreadFactory} to be used for creating the thread of the agent which prepares log buffers ahead of
+         * demand when {@link #logBufferPrepareCount()} is greater than 0.
+         * <p>
+         * If none is provided then this will default a simple new operation.
+         *
+         * @param factory to be used for creating the thread of the log buffer preparer.
+         * @return this for a fluent API.
+         */
+        public Context logBufferPreparerThreadFactory(final ThreadFactory factory)
+        {
+            logBufferPreparerThreadFactory = factory;
+            return this;
+        }
+
+        /**
+         * {@link IdleStrategy} to be used by the agent which prepares log buffers ahead of demand when
+         * {@link #logBufferPrepareCount()} is greater than 0.
+         *
+         * @return {@link IdleStrategy} used by the log buffer preparer.
+         * @see Configuration#LOG_BUFFER_PREPARER_IDLE_STRATEGY_PROP_NAME
+         */
+        public IdleStrategy logBufferPreparerIdleStrategy()
+        {
+            return logBufferPreparerIdleStrategy;
+        }
+
+        /**
+         * {@link IdleStrategy} to be used by the agent which prepares log buffers ahead of demand when
+         * {@link #logBufferPrepareCount()} is greater than 0.
+         *
+         * @param strategy to be used by the log buffer preparer.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFER_PREPARER_IDLE_STRATEGY_PROP_NAME
+         */
+        public Context logBufferPreparerIdleStrategy(final IdleStrategy strategy)
+        {
+            logBufferPreparerIdleStrategy = strategy;
+            return this;
+        }
+
         /**
          * {@link ThreadFactory} to be used for creating agent thread for the {@link Sender} when running in
          * {@link ThreadingMode#DEDICATED}.
@@ -2228,7 +2787,34 @@ public final class MediaDriver implements AutoCloseable
         }
 
         /**
-         * The thread local buffers and associated objects for use by subclasses of {@link ReceiveChannelEndpoint}.
+         * Supplier of {@link DatagramTransport}s used beneath the channel endpoints to send and receive datagrams,
+         * which allows for alternatives to {@link java.nio.channels.DatagramChannel}.
+         *
+         * @return the supplier of {@link DatagramTransport}s used beneath the channel endpoints.
+         * @see Configuration#DATAGRAM_TRANSPORT_SUPPLIER_PROP_NAME
+         */
+        public DatagramTransportSupplier datagramTransportSupplier()
+        {
+            return datagramTransportSupplier;
+        }
+
+        /**
+         * Supplier of {@link DatagramTransport}s used beneath the channel endpoints to send and receive datagrams,
+         * which allows for alternatives to {@link java.nio.channels.DatagramChannel}.
+         *
+         * @param supplier of {@link DatagramTransport}s used beneath the channel endpoints.
+         * @return this for a fluent API.
+         * @see Configuration#DATAGRAM_TRANSPORT_SUPPLIER_PROP_NAME
+         */
+        public Context datagramTransportSupplier(final DatagramTransportSupplier supplier)
+        {
+            datagramTransportSupplier = supplier;
+            return this;
+        }
+
+        /**
+         * The thread local buffers and associated objects for use by subclasses of {@link ReceiveChannelEndpoint}
+         * serviced by the first {@link Receiver}. Each additional receiver has its own.
          *
          * @return thread local buffers and associated objects for use by subclasses of {@link ReceiveChannelEndpoint}.
          */
@@ -2542,6 +3128,37 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * {@link LatencyReport} for recording the latency distribution on streams which request it. The report is
+         * mapped on first use so drivers without latency timestamped streams do not create the file.
+         *
+         * @return {@link LatencyReport} for recording the latency distribution on streams which request it, or null
+         * if the latency report buffer length is 0.
+         */
+        LatencyReport latencyReport()
+        {
+            if (null == latencyReport && latencyReportBufferLength > 0)
+            {
+                latencyReportBuffer = mapLatencyReport(
+                    aeronDirectoryName(), align(latencyReportBufferLength, filePageSize));
+                latencyReport = new LatencyReport(new UnsafeBuffer(latencyReportBuffer));
+            }
+
+            return latencyReport;
+        }
+
+        /**
+         * {@link LatencyReport} for recording the latency distribution on streams which request it.
+         *
+         * @param latencyReport for recording the latency distribution on streams which request it.
+         * @return this for a fluent API.
+         */
+        Context latencyReport(final LatencyReport latencyReport)
+        {
+            this.latencyReport = latencyReport;
+            return this;
+        }
+
         /**
          * Low end of the publication reserved session id range which will not be automatically assigned.
          *
@@ -2762,6 +3379,164 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Should the {@link Sender} adapt the ratio for sending data to polling status messages based on the arrival
+         * of status messages and NAKs and the volume of data sent between polls.
+         *
+         * @return true if the ratio for sending data to polling status messages should be adaptive.
+         * @see Configuration#SEND_TO_STATUS_POLL_RATIO_ADAPTIVE_PROP_NAME
+         */
+        public boolean sendToStatusMessagePollRatioAdaptive()
+        {
+            return sendToStatusMessagePollRatioAdaptive;
+        }
+
+        /**
+         * Should the {@link Sender} adapt the ratio for sending data to polling status messages based on the arrival
+         * of status messages and NAKs and the volume of data sent between polls.
+         *
+         * @param adaptive true if the ratio for sending data to polling status messages should be adaptive.
+         * @return this for fluent API.
+         * @see Configuration#SEND_TO_STATUS_POLL_RATIO_ADAPTIVE_PROP_NAME
+         */
+        public Context sendToStatusMessagePollRatioAdaptive(final boolean adaptive)
+        {
+            this.sendToStatusMessagePollRatioAdaptive = adaptive;
+            return this;
+        }
+
+        /**
+         * Get the upper bound for the ratio for sending data to polling status messages when adaptive.
+         *
+         * @return upper bound for the ratio for sending data to polling status messages when adaptive.
+         * @see Configuration#SEND_TO_STATUS_POLL_RATIO_MAX_PROP_NAME
+         */
+        public int sendToStatusMessagePollRatioMax()
+        {
+            return sendToStatusMessagePollRatioMax;
+        }
+
+        /**
+         * Set the upper bound for the ratio for sending data to polling status messages when adaptive.
+         *
+         * @param maxRatio to use.
+         * @return this for fluent API.
+         * @see Configuration#SEND_TO_STATUS_POLL_RATIO_MAX_PROP_NAME
+         */
+        public Context sendToStatusMessagePollRatioMax(final int maxRatio)
+        {
+            this.sendToStatusMessagePollRatioMax = maxRatio;
+            return this;
+        }
+
+        /**
+         * Get the number of datagrams the {@link Receiver} will read from a transport in a single pass before
+         * dispatching them as a batch.
+         *
+         * @return number of datagrams to read from a transport in a single pass.
+         * @see Configuration#RECEIVE_BATCH_LENGTH_PROP_NAME
+         */
+        public int receiveBatchLength()
+        {
+            return receiveBatchLength;
+        }
+
+        /**
+         * Set the number of datagrams the {@link Receiver} will read from a transport in a single pass before
+         * dispatching them as a batch.
+         *
+         * @param batchLength number of datagrams to read from a transport in a single pass.
+         * @return this for fluent API.
+         * @see Configuration#RECEIVE_BATCH_LENGTH_PROP_NAME
+         */
+        public Context receiveBatchLength(final int batchLength)
+        {
+            this.receiveBatchLength = batchLength;
+            return this;
+        }
+
+        /**
+         * Get the number of datagrams a {@link NetworkPublication} will gather in a single pass of the {@link Sender}
+         * before flushing them together to the {@link SendChannelEndpoint}.
+         *
+         * @return number of datagrams to gather in a single send pass.
+         * @see Configuration#SEND_BATCH_LENGTH_PROP_NAME
+         */
+        public int sendBatchLength()
+        {
+            return sendBatchLength;
+        }
+
+        /**
+         * Set the number of datagrams a {@link NetworkPublication} will gather in a single pass of the {@link Sender}
+         * before flushing them together to the {@link SendChannelEndpoint}.
+         *
+         * @param batchLength number of datagrams to gather in a single send pass.
+         * @return this for fluent API.
+         * @see Configuration#SEND_BATCH_LENGTH_PROP_NAME
+         */
+        public Context sendBatchLength(final int batchLength)
+        {
+            this.sendBatchLength = batchLength;
+            return this;
+        }
+
+        /**
+         * Get the number of bytes a {@link NetworkPublication} may send per duty cycle of the {@link Sender} for each
+         * unit of its send weight. A value of 0 gives each publication a single batch per duty cycle.
+         *
+         * @return the number of bytes a publication may send per duty cycle for each unit of its send weight.
+         * @see Configuration#SEND_WEIGHT_QUANTUM_LENGTH_PROP_NAME
+         * @see io.aeron.CommonContext#SEND_WEIGHT_PARAM_NAME
+         */
+        public int sendWeightQuantumLength()
+        {
+            return sendWeightQuantumLength;
+        }
+
+        /**
+         * Set the number of bytes a {@link NetworkPublication} may send per duty cycle of the {@link Sender} for each
+         * unit of its send weight. A value of 0 gives each publication a single batch per duty cycle.
+         *
+         * @param quantumLength in bytes for each unit of send weight.
+         * @return this for fluent API.
+         * @see Configuration#SEND_WEIGHT_QUANTUM_LENGTH_PROP_NAME
+         * @see io.aeron.CommonContext#SEND_WEIGHT_PARAM_NAME
+         */
+        public Context sendWeightQuantumLength(final int quantumLength)
+        {
+            this.sendWeightQuantumLength = quantumLength;
+            return this;
+        }
+
+        /**
+         * Should the {@link Sender} and {@link Receiver} busy poll their transports in round-robin order without
+         * using a {@link java.nio.channels.Selector}, and count the productive and empty polls per channel endpoint.
+         *
+         * @return true if transports are busy polled without a selector.
+         * @see Configuration#BUSY_POLL_TRANSPORTS_PROP_NAME
+         */
+        public boolean busyPollTransports()
+        {
+            return busyPollTransports;
+        }
+
+        /**
+         * Should the {@link Sender} and {@link Receiver} busy poll their transports in round-robin order without
+         * using a {@link java.nio.channels.Selector}, and count the productive and empty polls per channel endpoint.
+         * <p>
+         * Only applies to transport pollers created by default, i.e. not when pollers are supplied.
+         *
+         * @param busyPollTransports true if transports are busy polled without a selector.
+         * @return this for fluent API.
+         * @see Configuration#BUSY_POLL_TRANSPORTS_PROP_NAME
+         */
+        public Context busyPollTransports(final boolean busyPollTransports)
+        {
+            this.busyPollTransports = busyPollTransports;
+            return this;
+        }
+
         /**
          * Get the group tag (gtag) to be sent in Status Messages from the Receiver.
          *
@@ -3032,29 +3807,60 @@ public final class MediaDriver implements AutoCloseable
             return logFactory;
         }
 
+        LogBufferPreparer logBufferPreparer()
+        {
+            return logBufferPreparer;
+        }
+
         Context logFactory(final LogFactory logFactory)
         {
             this.logFactory = logFactory;
             return this;
         }
 
-        DataTransportPoller dataTransportPoller()
+        /**
+         * Get the poller used by the {@link Receiver} for the data transports of the receive channel endpoints.
+         *
+         * @return the poller used by the {@link Receiver} for data transports.
+         */
+        public DataTransportPoller dataTransportPoller()
         {
             return dataTransportPoller;
         }
 
-        Context dataTransportPoller(final DataTransportPoller transportPoller)
+        /**
+         * Set the poller used by the {@link Receiver} for the data transports of the receive channel endpoints.
+         * If not set then a {@link DataTransportPoller} or {@link BusyPollDataTransportPoller} is created depending
+         * on {@link #busyPollTransports()}.
+         *
+         * @param transportPoller used by the {@link Receiver} for data transports.
+         * @return this for fluent API.
+         */
+        public Context dataTransportPoller(final DataTransportPoller transportPoller)
         {
             this.dataTransportPoller = transportPoller;
             return this;
         }
 
-        ControlTransportPoller controlTransportPoller()
+        /**
+         * Get the poller used by the {@link Sender} for the control transports of the send channel endpoints.
+         *
+         * @return the poller used by the {@link Sender} for control transports.
+         */
+        public ControlTransportPoller controlTransportPoller()
         {
             return controlTransportPoller;
         }
 
-        Context controlTransportPoller(final ControlTransportPoller transportPoller)
+        /**
+         * Set the poller used by the {@link Sender} for the control transports of the send channel endpoints.
+         * If not set then a {@link ControlTransportPoller} or {@link BusyPollControlTransportPoller} is created
+         * depending on {@link #busyPollTransports()}.
+         *
+         * @param transportPoller used by the {@link Sender} for control transports.
+         * @return this for fluent API.
+         */
+        public Context controlTransportPoller(final ControlTransportPoller transportPoller)
         {
             this.controlTransportPoller = transportPoller;
             return this;
@@ -3071,6 +3877,17 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        ReceiverProxy[] receiverProxies()
+        {
+            return receiverProxies;
+        }
+
+        Context receiverProxies(final ReceiverProxy[] receiverProxies)
+        {
+            this.receiverProxies = receiverProxies;
+            return this;
+        }
+
         SenderProxy senderProxy()
         {
             return senderProxy;
@@ -3082,6 +3899,17 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        SenderProxy[] senderProxies()
+        {
+            return senderProxies;
+        }
+
+        Context senderProxies(final SenderProxy[] senderProxies)
+        {
+            this.senderProxies = senderProxies;
+            return this;
+        }
+
         DriverConductorProxy driverConductorProxy()
         {
             return driverConductorProxy;
@@ -3111,6 +3939,11 @@ public final class MediaDriver implements AutoCloseable
                 nanoClock = SystemNanoClock.INSTANCE;
             }
 
+            if (null == epochNanoClock)
+            {
+                epochNanoClock = new SystemEpochNanoClock();
+            }
+
             if (null == cachedEpochClock)
             {
                 cachedEpochClock = new CachedEpochClock();
@@ -3136,6 +3969,11 @@ public final class MediaDriver implements AutoCloseable
                 sendChannelEndpointSupplier = Configuration.sendChannelEndpointSupplier();
             }
 
+            if (null == datagramTransportSupplier)
+            {
+                datagramTransportSupplier = Configuration.datagramTransportSupplier();
+            }
+
             if (null == receiveChannelEndpointSupplier)
             {
                 receiveChannelEndpointSupplier = Configuration.receiveChannelEndpointSupplier();
@@ -3143,12 +3981,12 @@ public final class MediaDriver implements AutoCloseable
 
             if (null == dataTransportPoller)
             {
-                dataTransportPoller = new DataTransportPoller(errorHandler);
+                dataTransportPoller = newDataTransportPoller();
             }
 
             if (null == controlTransportPoller)
             {
-                controlTransportPoller = new ControlTransportPoller(errorHandler);
+                controlTransportPoller = newControlTransportPoller();
             }
 
             if (null == applicationSpecificFeedback)
@@ -3234,6 +4072,20 @@ public final class MediaDriver implements AutoCloseable
             }
         }
 
+        DataTransportPoller newDataTransportPoller()
+        {
+            return busyPollTransports ?
+                new BusyPollDataTransportPoller(errorHandler, receiveBatchLength) :
+                new DataTransportPoller(errorHandler, receiveBatchLength);
+        }
+
+        ControlTransportPoller newControlTransportPoller()
+        {
+            return busyPollTransports ?
+                new BusyPollControlTransportPoller(errorHandler) :
+                new ControlTransportPoller(errorHandler);
+        }
+
         private void concludeDependantProperties()
         {
             clientProxy = new ClientProxy(new BroadcastTransmitter(
@@ -3261,8 +4113,54 @@ public final class MediaDriver implements AutoCloseable
 
             if (null == logFactory)
             {
-                logFactory = new FileStoreLogFactory(
-                    aeronDirectoryName(), filePageSize, performStorageChecks, lowStorageWarningThreshold, errorHandler);
+                final boolean isPrepared = logBufferPrepareCount > 0 && ThreadingMode.INVOKER != threadingMode;
+                if (logBufferPoolCapacity > 0 || isPrepared)
+                {
+                    if (isPrepared)
+                    {
+                        logBufferPreparer = new LogBufferPreparer(
+                            aeronDirectoryName(),
+                            filePageSize,
+                            performStorageChecks,
+                            lowStorageWarningThreshold,
+                            errorHandler,
+                            hugePageDir,
+                            nanoClock);
+                    }
+
+                    final PooledLogFactory pooledLogFactory = new PooledLogFactory(
+                        aeronDirectoryName(),
+                        filePageSize,
+                        performStorageChecks,
+                        lowStorageWarningThreshold,
+                        errorHandler,
+                        hugePageDir,
+                        logBufferPoolCapacity,
+                        systemCounters.get(LOG_BUFFER_POOL_HITS),
+                        systemCounters.get(LOG_BUFFER_POOL_MISSES),
+                        nanoClock,
+                        clientLivenessTimeoutNs + Aeron.Configuration.resourceLingerDurationNs(),
+                        logBufferPreparer,
+                        isPrepared ? logBufferPrepareCount : 0);
+
+                    if (isPrepared && (!termBufferSparseFile || null != hugePageDir))
+                    {
+                        pooledLogFactory.prepareAhead(publicationTermBufferLength);
+                        pooledLogFactory.prepareAhead(ipcTermBufferLength);
+                    }
+
+                    logFactory = pooledLogFactory;
+                }
+                else
+                {
+                    logFactory = new FileStoreLogFactory(
+                        aeronDirectoryName(),
+                        filePageSize,
+                        performStorageChecks,
+                        lowStorageWarningThreshold,
+                        errorHandler,
+                        hugePageDir);
+                }
             }
 
             if (null == lossReport)
@@ -3369,6 +4267,18 @@ public final class MediaDriver implements AutoCloseable
                     }
                     break;
             }
+
+            if (null != logBufferPreparer)
+            {
+                if (null == logBufferPreparerThreadFactory)
+                {
+                    logBufferPreparerThreadFactory = Thread::new;
+                }
+                if (null == logBufferPreparerIdleStrategy)
+                {
+                    logBufferPreparerIdleStrategy = Configuration.logBufferPreparerIdleStrategy(indicator);
+                }
+            }
         }
 
         @SuppressWarnings("MethodLength")
@@ -3409,6 +4319,8 @@ public final class MediaDriver implements AutoCloseable
                 "\n    nakUnicastDelayNs=" + nakUnicastDelayNs +
                 "\n    nakMulticastMaxBackoffNs=" + nakMulticastMaxBackoffNs +
                 "\n    nakMulticastGroupSize=" + nakMulticastGroupSize +
+                "\n    nakMaxRangeCount=" + nakMaxRangeCount +
+                "\n    maxRetransmits=" + maxRetransmits +
                 "\n    statusMessageTimeoutNs=" + statusMessageTimeoutNs +
                 "\n    counterFreeToReuseTimeoutNs=" + counterFreeToReuseTimeoutNs +
                 "\n    publicationTermBufferLength=" + publicationTermBufferLength +
@@ -3422,11 +4334,14 @@ public final class MediaDriver implements AutoCloseable
                 "\n    mtuLength=" + mtuLength +
                 "\n    ipcMtuLength=" + ipcMtuLength +
                 "\n    filePageSize=" + filePageSize +
+                "\n    hugePageDir=" + hugePageDir +
                 "\n    publicationReservedSessionIdLow=" + publicationReservedSessionIdLow +
                 "\n    publicationReservedSessionIdHigh=" + publicationReservedSessionIdHigh +
                 "\n    lossReportBufferLength=" + lossReportBufferLength +
+                "\n    latencyReportBufferLength=" + latencyReportBufferLength +
                 "\n    epochClock=" + epochClock +
                 "\n    nanoClock=" + nanoClock +
+                "\n    epochNanoClock=" + epochNanoClock +
                 "\n    cachedEpochClock=" + cachedEpochClock +
                 "\n    cachedNanoClock=" + cachedNanoClock +
                 "\n    threadingMode=" + threadingMode +
@@ -3435,12 +4350,15 @@ public final class MediaDriver implements AutoCloseable
                 "\n    receiverThreadFactory=" + receiverThreadFactory +
                 "\n    sharedThreadFactory=" + sharedThreadFactory +
                 "\n    sharedNetworkThreadFactory=" + sharedNetworkThreadFactory +
+                "\n    logBufferPreparerThreadFactory=" + logBufferPreparerThreadFactory +
                 "\n    conductorIdleStrategy=" + conductorIdleStrategy +
                 "\n    senderIdleStrategy=" + senderIdleStrategy +
                 "\n    receiverIdleStrategy=" + receiverIdleStrategy +
                 "\n    sharedNetworkIdleStrategy=" + sharedNetworkIdleStrategy +
                 "\n    sharedIdleStrategy=" + sharedIdleStrategy +
+                "\n    logBufferPreparerIdleStrategy=" + logBufferPreparerIdleStrategy +
                 "\n    sendChannelEndpointSupplier=" + sendChannelEndpointSupplier +
+                "\n    datagramTransportSupplier=" + datagramTransportSupplier +
                 "\n    receiveChannelEndpointSupplier=" + receiveChannelEndpointSupplier +
                 "\n    receiveChannelEndpointThreadLocals=" + receiveChannelEndpointThreadLocals +
                 "\n    tempBuffer=" + tempBuffer +
@@ -3461,6 +4379,18 @@ public final class MediaDriver implements AutoCloseable
                 "\n    resolverInterface=" + resolverInterface +
                 "\n    resolverBootstrapNeighbor=" + resolverBootstrapNeighbor +
                 "\n    sendToStatusMessagePollRatio=" + sendToStatusMessagePollRatio +
+                "\n    sendToStatusMessagePollRatioAdaptive=" + sendToStatusMessagePollRatioAdaptive +
+                "\n    sendToStatusMessagePollRatioMax=" + sendToStatusMessagePollRatioMax +
+                "\n    receiveBatchLength=" + receiveBatchLength +
+                "\n    sendBatchLength=" + sendBatchLength +
+                "\n    sendWeightQuantumLength=" + sendWeightQuantumLength +
+                "\n    busyPollTransports=" + busyPollTransports +
+                "\n    receiverThreadCount=" + receiverThreadCount +
+                "\n    senderThreadCount=" + senderThreadCount +
+                "\n    senderNumaNode=" + senderNumaNode +
+                "\n    receiverNumaNode=" + receiverNumaNode +
+                "\n    logBufferPoolCapacity=" + logBufferPoolCapacity +
+                "\n    logBufferPrepareCount=" + logBufferPrepareCount +
                 "\n    unicastFeedbackDelayGenerator=" + unicastFeedbackDelayGenerator +
                 "\n    multicastFeedbackDelayGenerator=" + multicastFeedbackDelayGenerator +
                 "\n    retransmitUnicastDelayGenerator=" + retransmitUnicastDelayGenerator +
@@ -3471,6 +4401,7 @@ public final class MediaDriver implements AutoCloseable
                 "\n    countersManager=" + countersManager +
                 "\n    systemCounters=" + systemCounters +
                 "\n    lossReport=" + lossReport +
+                "\n    latencyReport=" + latencyReport +
                 "\n    logFactory=" + logFactory +
                 "\n    dataTransportPoller=" + dataTransportPoller +
                 "\n    controlTransportPoller=" + controlTransportPoller +
@@ -3483,6 +4414,7 @@ public final class MediaDriver implements AutoCloseable
                 "\n    clientProxy=" + clientProxy +
                 "\n    toDriverCommands=" + toDriverCommands +
                 "\n    lossReportBuffer=" + lossReportBuffer +
+                "\n    latencyReportBuffer=" + latencyReportBuffer +
                 "\n    cncByteBuffer=" + cncByteBuffer +
                 "\n    cncMetaDataBuffer=" + cncMetaDataBuffer +
                 "\n}";
@@ -22,6 +22,7 @@ import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.LogBufferUnblocker;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.NakFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
@@ -30,6 +31,7 @@ import org.agrona.ErrorHandler;
 import org.agrona.collections.ArrayListUtil;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.CachedNanoClock;
+import org.agrona.concurrent.EpochNanoClock;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.status.Position;
@@ -37,16 +39,21 @@ import org.agrona.concurrent.status.ReadablePosition;
 
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 
 import static io.aeron.driver.Configuration.PUBLICATION_HEARTBEAT_TIMEOUT_NS;
 import static io.aeron.driver.Configuration.PUBLICATION_SETUP_TIMEOUT_NS;
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.FrameDescriptor.frameLength;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.logbuffer.TermScanner.*;
 import static io.aeron.protocol.DataHeaderFlyweight.BEGIN_AND_END_FLAGS;
 import static io.aeron.protocol.DataHeaderFlyweight.BEGIN_END_AND_EOS_FLAGS;
+import static io.aeron.protocol.DataHeaderFlyweight.RESERVED_VALUE_OFFSET;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.BitUtil.align;
 
 @SuppressWarnings("unused")
 class NetworkPublicationPadding1
@@ -121,11 +128,16 @@ public class NetworkPublication
     private final int termLengthMask;
     private final int mtuLength;
     private final int termWindowLength;
+    private final int sendBatchLength;
+    private final int sendBudgetLength;
+    private int lastBytesPerCycle;
     private final int sessionId;
     private final int streamId;
     private final boolean isExclusive;
     private final boolean spiesSimulateConnection;
     private final boolean signalEos;
+    private final boolean isLatencyTimestamped;
+    private final boolean hasPeerSenders;
     private volatile boolean hasReceivers;
     private volatile boolean hasSpies;
     private volatile boolean isConnected;
@@ -134,7 +146,10 @@ public class NetworkPublication
     private State state = State.ACTIVE;
 
     private final UnsafeBuffer[] termBuffers;
-    private final ByteBuffer[] sendBuffers;
+    private final ByteBuffer[][] sendBatchBuffers;
+    private final ByteBuffer[] sendBatch;
+    private final int[] sendBatchAvailable;
+    private final int[] sendBatchPadding;
     private final ErrorHandler errorHandler;
     private final Position publisherPos;
     private final Position publisherLimit;
@@ -149,6 +164,7 @@ public class NetworkPublication
     private final RttMeasurementFlyweight rttMeasurementHeader;
     private final FlowControl flowControl;
     private final CachedNanoClock nanoClock;
+    private final EpochNanoClock epochNanoClock;
     private final RetransmitHandler retransmitHandler;
     private final UnsafeBuffer metaDataBuffer;
     private final RawLog rawLog;
@@ -156,6 +172,7 @@ public class NetworkPublication
     private final AtomicCounter retransmitsSent;
     private final AtomicCounter senderFlowControlLimits;
     private final AtomicCounter senderBpe;
+    private final AtomicCounter senderBytesPerCycle;
     private final AtomicCounter shortSends;
     private final AtomicCounter unblockedPublications;
 
@@ -171,6 +188,7 @@ public class NetworkPublication
         final Position senderPosition,
         final Position senderLimit,
         final AtomicCounter senderBpe,
+        final AtomicCounter senderBytesPerCycle,
         final int sessionId,
         final int streamId,
         final int initialTermId,
@@ -189,6 +207,7 @@ public class NetworkPublication
         this.channelEndpoint = channelEndpoint;
         this.rawLog = rawLog;
         this.nanoClock = ctx.cachedNanoClock();
+        this.epochNanoClock = ctx.epochNanoClock();
         this.senderPosition = senderPosition;
         this.senderLimit = senderLimit;
         this.flowControl = flowControl;
@@ -201,6 +220,7 @@ public class NetworkPublication
         this.streamId = streamId;
         this.spiesSimulateConnection = params.spiesSimulateConnection;
         this.signalEos = params.signalEos;
+        this.isLatencyTimestamped = params.isLatencyTimestamped;
         this.isExclusive = isExclusive;
 
         metaDataBuffer = rawLog.metaData();
@@ -211,6 +231,7 @@ public class NetworkPublication
         rttMeasurementBuffer = threadLocals.rttMeasurementBuffer();
         rttMeasurementHeader = threadLocals.rttMeasurementHeader();
 
+        hasPeerSenders = ctx.senderThreadCount() > 1;
         final SystemCounters systemCounters = ctx.systemCounters();
         heartbeatsSent = systemCounters.get(HEARTBEATS_SENT);
         shortSends = systemCounters.get(SHORT_SENDS);
@@ -218,11 +239,22 @@ public class NetworkPublication
         senderFlowControlLimits = systemCounters.get(SENDER_FLOW_CONTROL_LIMITS);
         unblockedPublications = systemCounters.get(UNBLOCKED_PUBLICATIONS);
         this.senderBpe = senderBpe;
+        this.senderBytesPerCycle = senderBytesPerCycle;
 
         termBuffers = rawLog.termBuffers();
-        sendBuffers = rawLog.sliceTerms();
         errorHandler = ctx.errorHandler();
 
+        sendBatchLength = ctx.sendBatchLength();
+        sendBudgetLength = (int)Math.min((long)params.sendWeight * ctx.sendWeightQuantumLength(), Integer.MAX_VALUE);
+        sendBatchBuffers = new ByteBuffer[sendBatchLength][];
+        for (int i = 0; i < sendBatchLength; i++)
+        {
+            sendBatchBuffers[i] = rawLog.sliceTerms();
+        }
+        sendBatch = new ByteBuffer[sendBatchLength];
+        sendBatchAvailable = new int[sendBatchLength];
+        sendBatchPadding = new int[sendBatchLength];
+
         final int termLength = rawLog.termLength();
         termBufferLength = termLength;
         termLengthMask = termLength - 1;
@@ -252,6 +284,7 @@ public class NetworkPublication
         CloseHelper.close(errorHandler, senderPosition);
         CloseHelper.close(errorHandler, senderLimit);
         CloseHelper.close(errorHandler, senderBpe);
+        CloseHelper.close(errorHandler, senderBytesPerCycle);
         CloseHelper.closeAll(errorHandler, spyPositions);
 
         for (int i = 0, size = untetheredSubscriptions.size(); i < size; i++)
@@ -301,6 +334,17 @@ public class NetworkPublication
         return spiesSimulateConnection;
     }
 
+    /**
+     * Is the reserved value of each frame overwritten with the time it is sent for latency tracking.
+     *
+     * @return true if the reserved value of each frame is overwritten with the time it is sent.
+     * @see io.aeron.CommonContext#LATENCY_TIMESTAMP_PARAM_NAME
+     */
+    public boolean isLatencyTimestamped()
+    {
+        return isLatencyTimestamped;
+    }
+
     public final int send(final long nowNs)
     {
         final long senderPosition = this.senderPosition.get();
@@ -313,6 +357,11 @@ public class NetworkPublication
         }
 
         int bytesSent = sendData(nowNs, senderPosition, termOffset);
+        if (bytesSent != lastBytesPerCycle)
+        {
+            lastBytesPerCycle = bytesSent;
+            senderBytesPerCycle.setOrdered(bytesSent);
+        }
 
         if (0 == bytesSent)
         {
@@ -366,15 +415,12 @@ public class NetworkPublication
         {
             final int activeIndex = indexByPosition(resendPosition, positionBitsToShift);
             final UnsafeBuffer termBuffer = termBuffers[activeIndex];
-            final ByteBuffer sendBuffer = sendBuffers[activeIndex];
 
             int remainingBytes = length;
-            int bytesSent = 0;
             int offset = termOffset;
+            int batchCount = 0;
             do
             {
-                offset += bytesSent;
-
                 final long scanOutcome = scanForAvailability(termBuffer, offset, Math.min(mtuLength, remainingBytes));
                 final int available = available(scanOutcome);
                 if (available <= 0)
@@ -382,20 +428,33 @@ public class NetworkPublication
                     break;
                 }
 
+                final ByteBuffer sendBuffer = sendBatchBuffers[batchCount][activeIndex];
                 sendBuffer.limit(offset + available).position(offset);
+                sendBatch[batchCount++] = sendBuffer;
+
+                final int bytesScanned = available + padding(scanOutcome);
+                offset += bytesScanned;
+                remainingBytes -= bytesScanned;
 
-                if (available != channelEndpoint.send(sendBuffer))
+                if (sendBatchLength == batchCount)
                 {
-                    shortSends.increment();
-                    break;
+                    final int sentCount = sendBatch(batchCount);
+                    batchCount = 0;
+                    if (sendBatchLength != sentCount)
+                    {
+                        shortSends.increment();
+                        break;
+                    }
                 }
-
-                bytesSent = available + padding(scanOutcome);
-                remainingBytes -= bytesSent;
             }
             while (remainingBytes > 0);
 
-            retransmitsSent.incrementOrdered();
+            if (batchCount > 0 && batchCount != sendBatch(batchCount))
+            {
+                shortSends.increment();
+            }
+
+            increment(retransmitsSent);
         }
     }
 
@@ -449,6 +508,11 @@ public class NetworkPublication
         retransmitHandler.onNak(termId, termOffset, length, termBufferLength, this);
     }
 
+    public void onNak(final NakFlyweight msg, final int rangeCount)
+    {
+        retransmitHandler.onNak(msg, rangeCount, termBufferLength, this);
+    }
+
     public void onStatusMessage(final StatusMessageFlyweight msg, final InetSocketAddress srcAddress)
     {
         if (!hasReceivers)
@@ -561,43 +625,139 @@ public class NetworkPublication
     private int sendData(final long nowNs, final long senderPosition, final int termOffset)
     {
         int bytesSent = 0;
-        final int availableWindow = (int)(senderLimit.get() - senderPosition);
+        final long senderLimit = this.senderLimit.get();
+        final int availableWindow = (int)(senderLimit - senderPosition);
         if (availableWindow > 0)
         {
-            final int scanLimit = Math.min(availableWindow, mtuLength);
-            final int activeIndex = indexByPosition(senderPosition, positionBitsToShift);
-
-            final long scanOutcome = scanForAvailability(termBuffers[activeIndex], termOffset, scanLimit);
-            final int available = available(scanOutcome);
-            if (available > 0)
+            if (0 == sendBudgetLength)
             {
-                final ByteBuffer sendBuffer = sendBuffers[activeIndex];
-                sendBuffer.limit(termOffset + available).position(termOffset);
+                return sendDataBatch(nowNs, senderPosition, termOffset, availableWindow, Integer.MAX_VALUE);
+            }
 
-                if (available == channelEndpoint.send(sendBuffer))
-                {
-                    timeOfLastSendOrHeartbeatNs = nowNs;
-                    trackSenderLimits = true;
+            long position = senderPosition;
+            int offset = termOffset;
+            do
+            {
+                final int batchBytesSent = sendDataBatch(
+                    nowNs, position, offset, (int)(senderLimit - position), sendBudgetLength - bytesSent);
 
-                    bytesSent = available;
-                    this.senderPosition.setOrdered(senderPosition + bytesSent + padding(scanOutcome));
-                }
-                else
+                if (0 == batchBytesSent)
                 {
-                    shortSends.increment();
+                    break;
                 }
+
+                bytesSent += batchBytesSent;
+                position = this.senderPosition.get();
+                offset = (int)position & termLengthMask;
             }
+            while (bytesSent < sendBudgetLength && position < senderLimit);
         }
         else if (trackSenderLimits)
         {
             trackSenderLimits = false;
             senderBpe.incrementOrdered();
-            senderFlowControlLimits.incrementOrdered();
+            increment(senderFlowControlLimits);
+        }
+
+        return bytesSent;
+    }
+
+    private int sendDataBatch(
+        final long nowNs, final long senderPosition, final int termOffset, final int window, final int budget)
+    {
+        int bytesSent = 0;
+        int remainingWindow = window;
+        int scanOffset = termOffset;
+        long scanPosition = senderPosition;
+        int batchCount = 0;
+        int bytesScanned = 0;
+        long timestampNs = 0;
+
+        do
+        {
+            final int scanLimit = Math.min(remainingWindow, mtuLength);
+            final int activeIndex = indexByPosition(scanPosition, positionBitsToShift);
+
+            final long scanOutcome = scanForAvailability(termBuffers[activeIndex], scanOffset, scanLimit);
+            final int available = available(scanOutcome);
+            if (available <= 0)
+            {
+                break;
+            }
+
+            if (isLatencyTimestamped)
+            {
+                timestampNs = 0 == timestampNs ? epochNanoClock.nanoTime() : timestampNs;
+                timestampFrames(termBuffers[activeIndex], scanOffset, available, timestampNs);
+            }
+
+            final ByteBuffer sendBuffer = sendBatchBuffers[batchCount][activeIndex];
+            sendBuffer.limit(scanOffset + available).position(scanOffset);
+            sendBatch[batchCount] = sendBuffer;
+            sendBatchAvailable[batchCount] = available;
+            sendBatchPadding[batchCount++] = padding(scanOutcome);
+
+            final int frameBytesScanned = available + padding(scanOutcome);
+            bytesScanned += frameBytesScanned;
+            remainingWindow -= frameBytesScanned;
+            scanPosition += frameBytesScanned;
+            scanOffset = (int)scanPosition & termLengthMask;
+        }
+        while (batchCount < sendBatchLength && remainingWindow > 0 && bytesScanned < budget);
+
+        if (batchCount > 0)
+        {
+            final int sentCount = sendBatch(batchCount);
+
+            long newSenderPosition = senderPosition;
+            for (int i = 0; i < sentCount; i++)
+            {
+                bytesSent += sendBatchAvailable[i];
+                newSenderPosition += sendBatchAvailable[i] + sendBatchPadding[i];
+            }
+
+            if (sentCount > 0)
+            {
+                timeOfLastSendOrHeartbeatNs = nowNs;
+                trackSenderLimits = true;
+                this.senderPosition.setOrdered(newSenderPosition);
+            }
+
+            if (sentCount != batchCount)
+            {
+                shortSends.increment();
+            }
         }
 
         return bytesSent;
     }
 
+    private static void timestampFrames(
+        final UnsafeBuffer termBuffer, final int termOffset, final int length, final long timestampNs)
+    {
+        final int limit = termOffset + length;
+        int frameOffset = termOffset;
+
+        while (frameOffset < limit)
+        {
+            termBuffer.putLong(frameOffset + RESERVED_VALUE_OFFSET, timestampNs, ByteOrder.LITTLE_ENDIAN);
+            frameOffset += align(frameLength(termBuffer, frameOffset), FRAME_ALIGNMENT);
+        }
+    }
+
+    private int sendBatch(final int batchCount)
+    {
+        if (1 == batchCount)
+        {
+            final ByteBuffer sendBuffer = sendBatch[0];
+            final int bytesToSend = sendBuffer.remaining();
+
+            return bytesToSend == channelEndpoint.send(sendBuffer) ? 1 : 0;
+        }
+
+        return channelEndpoint.send(sendBatch, batchCount);
+    }
+
     private void setupMessageCheck(final long nowNs, final int activeTermId, final int termOffset)
     {
         if ((timeOfLastSetupNs + PUBLICATION_SETUP_TIMEOUT_NS) - nowNs < 0)
@@ -614,7 +774,8 @@ public class NetworkPublication
                 .initialTermId(initialTermId)
                 .termLength(termBufferLength)
                 .mtuLength(mtuLength)
-                .ttl(channelEndpoint.multicastTtl());
+                .ttl(channelEndpoint.multicastTtl())
+                .flags(isLatencyTimestamped ? SetupFlyweight.LATENCY_TIMESTAMP_FLAG : 0);
 
             if (SetupFlyweight.HEADER_LENGTH != channelEndpoint.send(setupBuffer))
             {
@@ -650,7 +811,7 @@ public class NetworkPublication
             }
 
             timeOfLastSendOrHeartbeatNs = nowNs;
-            heartbeatsSent.incrementOrdered();
+            increment(heartbeatsSent);
         }
 
         return bytesSent;
@@ -914,4 +1075,16 @@ public class NetworkPublication
     {
         return senderPosition.getVolatile();
     }
+
+    private void increment(final AtomicCounter counter)
+    {
+        if (hasPeerSenders)
+        {
+            counter.increment();
+        }
+        else
+        {
+            counter.incrementOrdered();
+        }
+    }
 }
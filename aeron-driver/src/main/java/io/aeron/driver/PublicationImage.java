@@ -20,6 +20,7 @@ import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.media.ImageConnection;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveDestinationTransport;
+import io.aeron.driver.reports.LatencyReport;
 import io.aeron.driver.reports.LossReport;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.LogBufferDescriptor;
@@ -32,6 +33,7 @@ import org.agrona.collections.ArrayListUtil;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.CachedEpochClock;
 import org.agrona.concurrent.CachedNanoClock;
+import org.agrona.concurrent.EpochNanoClock;
 import org.agrona.concurrent.NanoClock;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
@@ -39,15 +41,24 @@ import org.agrona.concurrent.status.Position;
 import org.agrona.concurrent.status.ReadablePosition;
 
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 
+import static io.aeron.driver.Configuration.MAX_UDP_PAYLOAD_LENGTH;
+import static io.aeron.driver.DataPacketDispatcher.DIRECT_RECEIVE_REJECTED;
 import static io.aeron.driver.LossDetector.lossFound;
 import static io.aeron.driver.LossDetector.rebuildOffset;
 import static io.aeron.driver.PublicationImage.State.ACTIVE;
 import static io.aeron.driver.PublicationImage.State.INIT;
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.FrameDescriptor.frameLength;
+import static io.aeron.logbuffer.FrameDescriptor.frameType;
 import static io.aeron.logbuffer.TermGapFiller.tryFillGap;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
+import static org.agrona.BitUtil.align;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.agrona.UnsafeAccess.UNSAFE;
 
@@ -122,6 +133,11 @@ public class PublicationImage
     private int lossTermId;
     private int lossTermOffset;
     private int lossLength;
+    private int lossGapCount;
+    private final int[] lossTermOffsets;
+    private final int[] lossLengths;
+    private final int[] nakTermOffsets;
+    private final int[] nakLengths;
 
     private long timeOfLastStateChangeNs;
 
@@ -135,6 +151,7 @@ public class PublicationImage
     private final int termLengthMask;
     private final int initialTermId;
     private final boolean isReliable;
+    private final boolean hasPeerReceivers;
 
     private boolean isRebuilding = true;
     private volatile State state = INIT;
@@ -155,8 +172,13 @@ public class PublicationImage
     private final AtomicCounter flowControlUnderRuns;
     private final AtomicCounter flowControlOverRuns;
     private final AtomicCounter lossGapFills;
+    private final AtomicCounter directReceives;
     private final CachedEpochClock cachedEpochClock;
+    private final EpochNanoClock epochNanoClock;
+    private final LatencyReport.ReportEntry latencyReportEntry;
     private final RawLog rawLog;
+    private final ByteBuffer[] termByteBuffers;
+    private long directReceivePosition = Aeron.NULL_VALUE;
 
     public PublicationImage(
         final long correlationId,
@@ -175,7 +197,8 @@ public class PublicationImage
         final Position hwmPosition,
         final Position rebuildPosition,
         final InetSocketAddress sourceAddress,
-        final CongestionControl congestionControl)
+        final CongestionControl congestionControl,
+        final boolean isLatencyTimestamped)
     {
         this.correlationId = correlationId;
         this.imageLivenessTimeoutNs = ctx.imageLivenessTimeoutNs();
@@ -203,6 +226,10 @@ public class PublicationImage
 
         this.subscriberPositions = positionArray(subscriberPositions, nowNs);
         this.isReliable = subscriberPositions.get(0).subscription().isReliable();
+        this.hasPeerReceivers = ctx.receiverThreadCount() > 1;
+        this.epochNanoClock = ctx.epochNanoClock();
+        this.latencyReportEntry = isLatencyTimestamped ?
+            newLatencyReportEntry(ctx.latencyReport(), subscriberPositions) : null;
 
         final SystemCounters systemCounters = ctx.systemCounters();
         heartbeatsReceived = systemCounters.get(HEARTBEATS_RECEIVED);
@@ -211,12 +238,19 @@ public class PublicationImage
         flowControlUnderRuns = systemCounters.get(FLOW_CONTROL_UNDER_RUNS);
         flowControlOverRuns = systemCounters.get(FLOW_CONTROL_OVER_RUNS);
         lossGapFills = systemCounters.get(LOSS_GAP_FILLS);
+        directReceives = systemCounters.get(DIRECT_RECEIVES);
 
         imageConnections = ArrayUtil.ensureCapacity(imageConnections, transportIndex + 1);
         imageConnections[transportIndex] = new ImageConnection(nowNs, controlAddress);
 
         termBuffers = rawLog.termBuffers();
-        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this);
+        termByteBuffers = rawLog.sliceTerms();
+        final int nakMaxRangeCount = ctx.nakMaxRangeCount();
+        lossTermOffsets = new int[nakMaxRangeCount];
+        lossLengths = new int[nakMaxRangeCount];
+        nakTermOffsets = new int[nakMaxRangeCount];
+        nakLengths = new int[nakMaxRangeCount];
+        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this, nakMaxRangeCount);
 
         final int termLength = rawLog.termLength();
         termLengthMask = termLength - 1;
@@ -356,9 +390,44 @@ public class PublicationImage
         lossTermId = termId;
         lossTermOffset = termOffset;
         lossLength = length;
+        lossGapCount = 1;
 
         endLossChange = changeNumber;
 
+        recordLoss(length);
+    }
+
+    /**
+     * Called from the {@link LossDetector} when multiple gaps are detected by the {@link DriverConductor} thread.
+     * <p>
+     * {@inheritDoc}
+     */
+    public void onGapsDetected(final int termId, final int[] termOffsets, final int[] lengths, final int gapCount)
+    {
+        final long changeNumber = beginLossChange + 1;
+
+        beginLossChange = changeNumber;
+
+        lossTermId = termId;
+        lossTermOffset = termOffsets[0];
+        lossLength = lengths[0];
+        System.arraycopy(termOffsets, 0, lossTermOffsets, 0, gapCount);
+        System.arraycopy(lengths, 0, lossLengths, 0, gapCount);
+        lossGapCount = gapCount;
+
+        endLossChange = changeNumber;
+
+        int totalLength = 0;
+        for (int i = 0; i < gapCount; i++)
+        {
+            totalLength += lengths[i];
+        }
+
+        recordLoss(totalLength);
+    }
+
+    private void recordLoss(final int length)
+    {
         if (null != reportEntry)
         {
             reportEntry.recordObservation(length, cachedEpochClock.time());
@@ -568,11 +637,16 @@ public class PublicationImage
                         isEndOfStream = true;
                     }
 
-                    heartbeatsReceived.incrementOrdered();
+                    increment(heartbeatsReceived);
                 }
                 else
                 {
                     final UnsafeBuffer termBuffer = termBuffers[indexByPosition(packetPosition, positionBitsToShift)];
+                    if (null != latencyReportEntry && 0 == termBuffer.getInt(termOffset))
+                    {
+                        recordLatency(buffer, 0, length);
+                    }
+
                     TermRebuilder.insert(termBuffer, termOffset, buffer, length);
                 }
 
@@ -587,6 +661,89 @@ public class PublicationImage
         return length;
     }
 
+    /**
+     * The region of the term buffer following the header of the next expected frame, at the high-water mark, so the
+     * body of a datagram can be received directly into the log rather than copied from a receive buffer.
+     *
+     * @return the region of the term buffer for the body of the next expected frame or null if not available.
+     * @see #insertDirectPacket(int, int, UnsafeBuffer, int, int, InetSocketAddress)
+     */
+    ByteBuffer directReceiveBody()
+    {
+        directReceivePosition = Aeron.NULL_VALUE;
+
+        if (ACTIVE != state || null == termByteBuffers)
+        {
+            return null;
+        }
+
+        final long position = hwmPosition.get();
+        final int termOffset = (int)position & termLengthMask;
+        if ((termLengthMask + 1) - termOffset < MAX_UDP_PAYLOAD_LENGTH)
+        {
+            return null;
+        }
+
+        final ByteBuffer termBuffer = termByteBuffers[indexByPosition(position, positionBitsToShift)];
+        termBuffer.limit(termOffset + MAX_UDP_PAYLOAD_LENGTH).position(termOffset + DataHeaderFlyweight.HEADER_LENGTH);
+        directReceivePosition = position;
+
+        return termBuffer;
+    }
+
+    /**
+     * Insert a packet whose body has been received directly into the term buffer region given by
+     * {@link #directReceiveBody()} so only the header needs to be written.
+     * <p>
+     * The packet is rejected if it is not the next expected frame from the source of the image, is a heartbeat, or is
+     * outside the flow control window, in which case the caller must remove the body from the term buffer and
+     * insert the packet via {@link #insertPacket(int, int, UnsafeBuffer, int, int, InetSocketAddress)}.
+     *
+     * @param termId         for the data packet.
+     * @param termOffset     for the start of the packet in the term.
+     * @param header         of the first frame in the packet.
+     * @param length         of the data packet including the header.
+     * @param transportIndex from which the packet came.
+     * @param srcAddress     from which the packet came.
+     * @return number of bytes applied as a result of this insertion or {@link #DIRECT_RECEIVE_REJECTED}.
+     */
+    int insertDirectPacket(
+        final int termId,
+        final int termOffset,
+        final UnsafeBuffer header,
+        final int length,
+        final int transportIndex,
+        final InetSocketAddress srcAddress)
+    {
+        final long packetPosition = computePosition(termId, termOffset, positionBitsToShift, initialTermId);
+        final long proposedPosition = packetPosition + length;
+
+        if (packetPosition != directReceivePosition ||
+            DataHeaderFlyweight.isHeartbeat(header, length) ||
+            proposedPosition > lastSmWindowLimit ||
+            packetPosition < lastSmPosition ||
+            !sourceAddress.equals(srcAddress))
+        {
+            return DIRECT_RECEIVE_REJECTED;
+        }
+
+        final long nowNs = cachedNanoClock.nanoTime();
+        timeOfLastPacketNs = nowNs;
+        trackConnection(transportIndex, srcAddress, nowNs);
+
+        final UnsafeBuffer termBuffer = termBuffers[indexByPosition(packetPosition, positionBitsToShift)];
+        TermRebuilder.insertHeader(termBuffer, termOffset, header);
+        hwmPosition.proposeMaxOrdered(proposedPosition);
+        increment(directReceives);
+
+        if (null != latencyReportEntry)
+        {
+            recordLatency(termBuffer, termOffset, length);
+        }
+
+        return length;
+    }
+
     /**
      * To be called from the {@link Receiver} to see if a image should be retained.
      *
@@ -634,7 +791,7 @@ public class PublicationImage
                     channelEndpoint.sendStatusMessage(
                         imageConnections, sessionId, streamId, termId, termOffset, receiverWindowLength, (byte)0);
 
-                    statusMessagesSent.incrementOrdered();
+                    increment(statusMessagesSent);
 
                     lastSmPosition = smPosition;
                     lastSmWindowLimit = smPosition + receiverWindowLength;
@@ -665,6 +822,12 @@ public class PublicationImage
             final int termId = lossTermId;
             final int termOffset = lossTermOffset;
             final int length = lossLength;
+            final int gapCount = lossGapCount;
+            if (gapCount > 1)
+            {
+                System.arraycopy(lossTermOffsets, 0, nakTermOffsets, 0, gapCount);
+                System.arraycopy(lossLengths, 0, nakLengths, 0, gapCount);
+            }
 
             UNSAFE.loadFence();
 
@@ -672,15 +835,32 @@ public class PublicationImage
             {
                 if (isReliable)
                 {
-                    channelEndpoint.sendNakMessage(imageConnections, sessionId, streamId, termId, termOffset, length);
-                    nakMessagesSent.incrementOrdered();
+                    if (gapCount > 1)
+                    {
+                        channelEndpoint.sendNakMessage(
+                            imageConnections, sessionId, streamId, termId, nakTermOffsets, nakLengths, gapCount);
+                    }
+                    else
+                    {
+                        channelEndpoint.sendNakMessage(
+                            imageConnections, sessionId, streamId, termId, termOffset, length);
+                    }
+                    increment(nakMessagesSent);
                 }
                 else
                 {
                     final UnsafeBuffer termBuffer = termBuffers[indexByTerm(initialTermId, termId)];
                     if (tryFillGap(rawLog.metaData(), termBuffer, termId, termOffset, length))
                     {
-                        lossGapFills.incrementOrdered();
+                        increment(lossGapFills);
+                    }
+
+                    for (int i = 1; i < gapCount; i++)
+                    {
+                        if (tryFillGap(rawLog.metaData(), termBuffer, termId, nakTermOffsets[i], nakLengths[i]))
+                        {
+                            increment(lossGapFills);
+                        }
                     }
                 }
 
@@ -818,7 +998,7 @@ public class PublicationImage
 
         if (isFlowControlUnderRun)
         {
-            flowControlUnderRuns.incrementOrdered();
+            increment(flowControlUnderRuns);
         }
 
         return isFlowControlUnderRun;
@@ -830,12 +1010,57 @@ public class PublicationImage
 
         if (isFlowControlOverRun)
         {
-            flowControlOverRuns.incrementOrdered();
+            increment(flowControlOverRuns);
         }
 
         return isFlowControlOverRun;
     }
 
+    private LatencyReport.ReportEntry newLatencyReportEntry(
+        final LatencyReport latencyReport, final ArrayList<SubscriberPosition> subscriberPositions)
+    {
+        if (null != latencyReport)
+        {
+            for (int i = 0, size = subscriberPositions.size(); i < size; i++)
+            {
+                if (subscriberPositions.get(i).subscription().isLatencyTimestamped())
+                {
+                    final String source = Configuration.sourceIdentity(sourceAddress);
+                    final long timeMs = cachedEpochClock.time();
+
+                    return latencyReport.createEntry(timeMs, sessionId, streamId, channel(), source);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private void recordLatency(final UnsafeBuffer buffer, final int offset, final int length)
+    {
+        final long nowNs = epochNanoClock.nanoTime();
+        final int limit = offset + length;
+        int frameOffset = offset;
+
+        while (frameOffset < limit)
+        {
+            final int frameLength = frameLength(buffer, frameOffset);
+            if (frameLength <= 0)
+            {
+                break;
+            }
+
+            if (HDR_TYPE_DATA == frameType(buffer, frameOffset))
+            {
+                final long timestampNs = buffer.getLong(
+                    frameOffset + DataHeaderFlyweight.RESERVED_VALUE_OFFSET, ByteOrder.LITTLE_ENDIAN);
+                latencyReportEntry.record(nowNs - timestampNs);
+            }
+
+            frameOffset += align(frameLength, FRAME_ALIGNMENT);
+        }
+    }
+
     private void cleanBufferTo(final long position)
     {
         final long cleanPosition = this.cleanPosition;
@@ -1011,4 +1236,16 @@ public class PublicationImage
 
         return positions;
     }
+
+    private void increment(final AtomicCounter counter)
+    {
+        if (hasPeerReceivers)
+        {
+            counter.increment();
+        }
+        else
+        {
+            counter.incrementOrdered();
+        }
+    }
 }
@@ -34,12 +34,14 @@ final class PublicationParams
     int termId = 0;
     int termOffset = 0;
     int sessionId = 0;
+    int sendWeight = Configuration.SEND_WEIGHT_DEFAULT;
     boolean hasPosition = false;
     boolean hasSessionId = false;
     boolean isSessionIdTagged = false;
     boolean signalEos = true;
     boolean isSparse;
     boolean spiesSimulateConnection;
+    boolean isLatencyTimestamped;
 
     PublicationParams()
     {
@@ -62,6 +64,8 @@ final class PublicationParams
         params.getEos(channelUri);
         params.getSparse(channelUri, ctx);
         params.getSpiesSimulateConnection(channelUri, ctx);
+        params.getSendWeight(channelUri);
+        params.isLatencyTimestamped = "true".equals(channelUri.get(LATENCY_TIMESTAMP_PARAM_NAME));
 
         int count = 0;
 
@@ -293,6 +297,21 @@ final class PublicationParams
         spiesSimulateConnection = null != sscStr ? "true".equals(sscStr) : ctx.spiesSimulateConnection();
     }
 
+    private void getSendWeight(final ChannelUri channelUri)
+    {
+        final String sendWeightStr = channelUri.get(SEND_WEIGHT_PARAM_NAME);
+        if (null != sendWeightStr)
+        {
+            final int sendWeight = Integer.parseInt(sendWeightStr);
+            if (sendWeight < 1)
+            {
+                throw new IllegalArgumentException(SEND_WEIGHT_PARAM_NAME + "=" + sendWeight + " must be > 0");
+            }
+
+            this.sendWeight = sendWeight;
+        }
+    }
+
     private static void validateEntityTag(final long entityTag, final DriverConductor driverConductor)
     {
         if (INVALID_TAG == entityTag)
@@ -318,12 +337,14 @@ final class PublicationParams
             ", termId=" + termId +
             ", termOffset=" + termOffset +
             ", sessionId=" + sessionId +
+            ", sendWeight=" + sendWeight +
             ", hasPosition=" + hasPosition +
             ", hasSessionId=" + hasSessionId +
             ", isSessionIdTagged=" + isSessionIdTagged +
             ", isSparse=" + isSparse +
             ", signalEos=" + signalEos +
             ", spiesSimulateConnection=" + spiesSimulateConnection +
+            ", isLatencyTimestamped=" + isLatencyTimestamped +
             '}';
     }
 }
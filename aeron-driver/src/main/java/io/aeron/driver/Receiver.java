@@ -17,6 +17,7 @@ package io.aeron.driver;
 
 import io.aeron.driver.media.DataTransportPoller;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
+import io.aeron.driver.media.ReceiveChannelEndpointThreadLocals;
 import io.aeron.driver.media.ReceiveDestinationTransport;
 import io.aeron.driver.media.UdpChannel;
 import org.agrona.CloseHelper;
@@ -49,11 +50,44 @@ public class Receiver implements Agent
     private final DriverConductorProxy conductorProxy;
     private final long reResolutionCheckIntervalNs;
     private long reResolutionDeadlineNs;
+    private final int receiverIndex;
+    private final boolean hasPeerReceivers;
+    private final LogFirstToucher logFirstToucher;
+    private final ReceiveChannelEndpointThreadLocals receiveChannelEndpointThreadLocals;
 
     public Receiver(final MediaDriver.Context ctx)
     {
-        dataTransportPoller = ctx.dataTransportPoller();
-        commandQueue = ctx.receiverCommandQueue();
+        this(
+            ctx,
+            0,
+            ctx.dataTransportPoller(),
+            ctx.receiverCommandQueue(),
+            ctx.receiveChannelEndpointThreadLocals());
+    }
+
+    /**
+     * Construct one of a number of receiver agents which share the receive channel endpoints of the driver.
+     *
+     * @param ctx                 for the driver.
+     * @param receiverIndex       of the agent among the receivers of the driver.
+     * @param dataTransportPoller owned by the agent for polling its endpoints.
+     * @param commandQueue        from which the agent takes commands from the {@link DriverConductor}.
+     * @param threadLocals        for the endpoints serviced by the agent so frames are not shared with other agents.
+     */
+    public Receiver(
+        final MediaDriver.Context ctx,
+        final int receiverIndex,
+        final DataTransportPoller dataTransportPoller,
+        final OneToOneConcurrentArrayQueue<Runnable> commandQueue,
+        final ReceiveChannelEndpointThreadLocals threadLocals)
+    {
+        this.receiverIndex = receiverIndex;
+        this.dataTransportPoller = dataTransportPoller;
+        this.commandQueue = commandQueue;
+        this.receiveChannelEndpointThreadLocals = threadLocals;
+        hasPeerReceivers = ctx.receiverThreadCount() > 1;
+        logFirstToucher = Configuration.NUMA_NODE_DEFAULT != ctx.receiverAgentNumaNode() ?
+            new LogFirstToucher(ctx.filePageSize(), Configuration.LOG_FIRST_TOUCH_PAGE_LIMIT) : null;
         totalBytesReceived = ctx.systemCounters().get(BYTES_RECEIVED);
         resolutionChanges = ctx.systemCounters().get(RESOLUTION_CHANGES);
         cachedNanoClock = ctx.cachedNanoClock();
@@ -67,16 +101,36 @@ public class Receiver implements Agent
         dataTransportPoller.close();
     }
 
+    /**
+     * Thread locals for the {@link ReceiveChannelEndpoint}s serviced by this agent.
+     *
+     * @return thread locals for the {@link ReceiveChannelEndpoint}s serviced by this agent.
+     */
+    public ReceiveChannelEndpointThreadLocals receiveChannelEndpointThreadLocals()
+    {
+        return receiveChannelEndpointThreadLocals;
+    }
+
     public String roleName()
     {
-        return "receiver";
+        return 0 == receiverIndex ? "receiver" : "receiver-" + receiverIndex;
     }
 
     public int doWork()
     {
         int workCount = commandQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
         final int bytesReceived = dataTransportPoller.pollTransports();
-        totalBytesReceived.getAndAddOrdered(bytesReceived);
+        if (hasPeerReceivers)
+        {
+            if (bytesReceived > 0)
+            {
+                totalBytesReceived.getAndAdd(bytesReceived);
+            }
+        }
+        else
+        {
+            totalBytesReceived.getAndAddOrdered(bytesReceived);
+        }
         final long nowNs = cachedNanoClock.nanoTime();
 
         final PublicationImage[] publicationImages = this.publicationImages;
@@ -92,6 +146,10 @@ public class Receiver implements Agent
             else
             {
                 image.removeFromDispatcher();
+                if (null != logFirstToucher)
+                {
+                    logFirstToucher.remove(image.rawLog());
+                }
                 this.publicationImages = 1 == this.publicationImages.length ?
                     EMPTY_IMAGES : ArrayUtil.remove(this.publicationImages, i);
             }
@@ -99,6 +157,11 @@ public class Receiver implements Agent
 
         checkPendingSetupMessages(nowNs);
 
+        if (null != logFirstToucher)
+        {
+            workCount += logFirstToucher.doWork();
+        }
+
         if (reResolutionCheckIntervalNs > 0 && (reResolutionDeadlineNs - nowNs) < 0)
         {
             dataTransportPoller.checkForReResolutions(nowNs, conductorProxy);
@@ -147,6 +210,11 @@ public class Receiver implements Agent
 
     public void onNewPublicationImage(final ReceiveChannelEndpoint channelEndpoint, final PublicationImage image)
     {
+        if (null != logFirstToucher)
+        {
+            logFirstToucher.add(image.rawLog());
+        }
+
         publicationImages = ArrayUtil.add(publicationImages, image);
         channelEndpoint.addPublicationImage(image);
     }
@@ -253,7 +321,7 @@ public class Receiver implements Agent
                 pending.transportIndex() == transportIndex)
             {
                 pending.controlAddress(newAddress);
-                resolutionChanges.getAndAddOrdered(1);
+                resolutionChanges.increment();
             }
         }
 
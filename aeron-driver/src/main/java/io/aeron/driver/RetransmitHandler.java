@@ -16,49 +16,62 @@
 package io.aeron.driver;
 
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.NakFlyweight;
 import org.agrona.collections.BiInt2ObjectMap;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.NanoClock;
 
-import static io.aeron.driver.Configuration.MAX_RETRANSMITS_DEFAULT;
 import static io.aeron.driver.RetransmitHandler.State.DELAYED;
 import static io.aeron.driver.RetransmitHandler.State.LINGERING;
 
 /**
  * Tracking and handling of retransmit request, NAKs, for senders, and receivers.
  * <p>
- * A max number of retransmits is permitted by {@link Configuration#MAX_RETRANSMITS_DEFAULT}. Additional received NAKs
- * will be ignored if this maximum is reached.
+ * A max number of active retransmits is permitted which defaults to {@link Configuration#MAX_RETRANSMITS_DEFAULT}.
+ * NAKs which overlap, or are adjacent to, a delayed retransmit are coalesced into it and NAKs for data which has
+ * just been retransmitted are suppressed while the retransmit lingers. Additional received NAKs will be dropped if
+ * the maximum is reached.
  */
 public class RetransmitHandler
 {
     private final BiInt2ObjectMap<RetransmitAction> activeRetransmitsMap = new BiInt2ObjectMap<>();
-    private final RetransmitAction[] retransmitActionPool = new RetransmitAction[MAX_RETRANSMITS_DEFAULT];
+    private final RetransmitAction[] retransmitActionPool;
     private final NanoClock nanoClock;
     private final FeedbackDelayGenerator delayGenerator;
     private final FeedbackDelayGenerator lingerTimeoutGenerator;
     private final AtomicCounter invalidPackets;
+    private final AtomicCounter coalescedRetransmits;
+    private final AtomicCounter droppedRetransmits;
 
     /**
      * Create a retransmit handler.
      *
      * @param nanoClock              used to determine time
      * @param invalidPackets         for recording invalid packets
+     * @param coalescedRetransmits   for recording NAKs coalesced into an existing retransmit
+     * @param droppedRetransmits     for recording NAKs dropped due to the maximum active retransmits being reached
      * @param delayGenerator         to use for delay determination
      * @param lingerTimeoutGenerator to use for linger timeout
+     * @param maxRetransmits         number of retransmits which can be active at one time
      */
     public RetransmitHandler(
         final NanoClock nanoClock,
         final AtomicCounter invalidPackets,
+        final AtomicCounter coalescedRetransmits,
+        final AtomicCounter droppedRetransmits,
         final FeedbackDelayGenerator delayGenerator,
-        final FeedbackDelayGenerator lingerTimeoutGenerator)
+        final FeedbackDelayGenerator lingerTimeoutGenerator,
+        final int maxRetransmits)
     {
         this.nanoClock = nanoClock;
         this.invalidPackets = invalidPackets;
+        this.coalescedRetransmits = coalescedRetransmits;
+        this.droppedRetransmits = droppedRetransmits;
         this.delayGenerator = delayGenerator;
         this.lingerTimeoutGenerator = lingerTimeoutGenerator;
 
-        for (int i = 0; i < MAX_RETRANSMITS_DEFAULT; i++)
+        retransmitActionPool = new RetransmitAction[maxRetransmits];
+        for (int i = 0; i < maxRetransmits; i++)
         {
             retransmitActionPool[i] = new RetransmitAction();
         }
@@ -82,26 +95,43 @@ public class RetransmitHandler
     {
         if (!isInvalid(termOffset, termLength))
         {
-            if (null == activeRetransmitsMap.get(termId, termOffset) &&
-                activeRetransmitsMap.size() < MAX_RETRANSMITS_DEFAULT)
-            {
-                final RetransmitAction action = assignRetransmitAction();
-                action.termId = termId;
-                action.termOffset = termOffset;
-                action.length = Math.min(length, termLength - termOffset);
+            onNakRange(
+                termId,
+                termOffset,
+                length,
+                termLength,
+                delayGenerator.generateDelay(),
+                nanoClock.nanoTime(),
+                retransmitSender);
+        }
+    }
 
-                final long delay = delayGenerator.generateDelay();
-                if (0 == delay)
-                {
-                    retransmitSender.resend(termId, termOffset, action.length);
-                    action.linger(lingerTimeoutGenerator.generateDelay(), nanoClock.nanoTime());
-                }
-                else
-                {
-                    action.delay(delay, nanoClock.nanoTime());
-                }
+    /**
+     * Called on reception of a multi-range NAK to start retransmits handling for each range as a batch.
+     * <p>
+     * The ranges share a single delay so that any delayed retransmits expire, and are sent, together.
+     *
+     * @param nak              containing the ranges to be retransmitted.
+     * @param rangeCount       of ranges in the NAK to be serviced.
+     * @param termLength       of the term buffer.
+     * @param retransmitSender to call if an immediate retransmit is required
+     */
+    public void onNak(
+        final NakFlyweight nak,
+        final int rangeCount,
+        final int termLength,
+        final RetransmitSender retransmitSender)
+    {
+        final long delayNs = delayGenerator.generateDelay();
+        final long nowNs = nanoClock.nanoTime();
 
-                activeRetransmitsMap.put(termId, termOffset, action);
+        for (int i = 0; i < rangeCount; i++)
+        {
+            final int termOffset = nak.rangeTermOffset(i);
+            if (!isInvalid(termOffset, termLength))
+            {
+                final int length = nak.rangeLength(i);
+                onNakRange(nak.rangeTermId(i), termOffset, length, termLength, delayNs, nowNs, retransmitSender);
             }
         }
     }
@@ -152,6 +182,106 @@ public class RetransmitHandler
         }
     }
 
+    private void onNakRange(
+        final int termId,
+        final int termOffset,
+        final int length,
+        final int termLength,
+        final long delayNs,
+        final long nowNs,
+        final RetransmitSender retransmitSender)
+    {
+        final int endOffset = termOffset + Math.min(length, termLength - termOffset);
+        final int offset = skipLingeringRetransmits(termId, termOffset);
+
+        if (offset >= endOffset ||
+            coalesceIntoDelayedRetransmit(termId, offset, endOffset) ||
+            null != activeRetransmitsMap.get(termId, offset))
+        {
+            coalescedRetransmits.increment();
+        }
+        else if (activeRetransmitsMap.size() >= retransmitActionPool.length)
+        {
+            droppedRetransmits.increment();
+        }
+        else
+        {
+            final RetransmitAction action = assignRetransmitAction();
+            action.termId = termId;
+            action.termOffset = offset;
+            action.length = endOffset - offset;
+
+            if (0 == delayNs)
+            {
+                retransmitSender.resend(termId, offset, action.length);
+                action.linger(lingerTimeoutGenerator.generateDelay(), nowNs);
+            }
+            else
+            {
+                action.delay(delayNs, nowNs);
+            }
+
+            activeRetransmitsMap.put(termId, offset, action);
+        }
+    }
+
+    private int skipLingeringRetransmits(final int termId, final int termOffset)
+    {
+        int offset = termOffset;
+        boolean isSkipped;
+
+        do
+        {
+            isSkipped = false;
+            for (final RetransmitAction action : retransmitActionPool)
+            {
+                if (LINGERING == action.state &&
+                    termId == action.termId &&
+                    action.termOffset <= offset &&
+                    offset < action.endOffset())
+                {
+                    offset = action.endOffset();
+                    isSkipped = true;
+                }
+            }
+        }
+        while (isSkipped);
+
+        return offset;
+    }
+
+    private boolean coalesceIntoDelayedRetransmit(final int termId, final int offset, final int endOffset)
+    {
+        for (final RetransmitAction action : retransmitActionPool)
+        {
+            if (DELAYED == action.state &&
+                termId == action.termId &&
+                action.termOffset <= endOffset &&
+                offset <= action.endOffset())
+            {
+                final int actionEndOffset = Math.max(action.endOffset(), endOffset);
+
+                if (offset < action.termOffset)
+                {
+                    if (null != activeRetransmitsMap.get(termId, offset))
+                    {
+                        continue;
+                    }
+
+                    activeRetransmitsMap.remove(termId, action.termOffset);
+                    action.termOffset = offset;
+                    activeRetransmitsMap.put(termId, offset, action);
+                }
+
+                action.length = actionEndOffset - action.termOffset;
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     private boolean isInvalid(final int termOffset, final int termLength)
     {
         final boolean isInvalid = (termOffset > (termLength - DataHeaderFlyweight.HEADER_LENGTH)) || (termOffset < 0);
@@ -208,5 +338,10 @@ public class RetransmitHandler
         {
             state = State.INACTIVE;
         }
+
+        int endOffset()
+        {
+            return termOffset + length;
+        }
     }
 }
@@ -18,6 +18,7 @@ package io.aeron.driver;
 import io.aeron.ChannelUri;
 import io.aeron.driver.media.ControlTransportPoller;
 import io.aeron.driver.media.SendChannelEndpoint;
+import org.agrona.CloseHelper;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.status.AtomicCounter;
@@ -26,6 +27,7 @@ import java.net.InetSocketAddress;
 
 import static io.aeron.driver.status.SystemCounterDescriptor.BYTES_SENT;
 import static io.aeron.driver.status.SystemCounterDescriptor.RESOLUTION_CHANGES;
+import static io.aeron.driver.status.SystemCounterDescriptor.SENDER_CONTROL_POLL_RATIO;
 
 class SenderLhsPadding
 {
@@ -39,7 +41,9 @@ class SenderHotFields extends SenderLhsPadding
 {
     protected long controlPollDeadlineNs;
     protected long reResolutionDeadlineNs;
+    protected long bytesSentSinceControlPoll;
     protected int dutyCycleCounter;
+    protected int dutyCycleRatio;
     protected int roundRobinIndex = 0;
 }
 
@@ -60,24 +64,66 @@ public class Sender extends SenderRhsPadding implements Agent
 
     private final long statusMessageReadTimeoutNs;
     private final long reResolutionCheckIntervalNs;
-    private final int dutyCycleRatio;
+    private final boolean isAdaptiveDutyCycleRatio;
+    private final int maxDutyCycleRatio;
+    private final int senderIndex;
+    private final boolean hasPeerSenders;
+    private final LogFirstToucher logFirstToucher;
     private final ControlTransportPoller controlTransportPoller;
     private final OneToOneConcurrentArrayQueue<Runnable> commandQueue;
     private final AtomicCounter totalBytesSent;
     private final AtomicCounter resolutionChanges;
+    private final AtomicCounter dutyCycleRatioCounter;
+    private final AtomicCounter dutyCycles;
     private final CachedNanoClock cachedNanoClock;
     private final DriverConductorProxy conductorProxy;
 
     public Sender(final MediaDriver.Context ctx)
     {
-        this.controlTransportPoller = ctx.controlTransportPoller();
-        this.commandQueue = ctx.senderCommandQueue();
+        this(
+            ctx,
+            0,
+            ctx.controlTransportPoller(),
+            ctx.senderCommandQueue(),
+            null,
+            ctx.systemCounters().get(SENDER_CONTROL_POLL_RATIO));
+    }
+
+    /**
+     * Construct one of a number of sender agents which share the send channel endpoints of the driver.
+     *
+     * @param ctx                    for the driver.
+     * @param senderIndex            of the agent among the senders of the driver.
+     * @param controlTransportPoller owned by the agent for polling its endpoints.
+     * @param commandQueue           from which the agent takes commands from the {@link DriverConductor}.
+     * @param dutyCycles             counter for the duty cycles of the agent or null if not tracked.
+     * @param dutyCycleRatioCounter  counter for the ratio of send to control polls of the agent.
+     */
+    public Sender(
+        final MediaDriver.Context ctx,
+        final int senderIndex,
+        final ControlTransportPoller controlTransportPoller,
+        final OneToOneConcurrentArrayQueue<Runnable> commandQueue,
+        final AtomicCounter dutyCycles,
+        final AtomicCounter dutyCycleRatioCounter)
+    {
+        this.senderIndex = senderIndex;
+        this.controlTransportPoller = controlTransportPoller;
+        this.commandQueue = commandQueue;
+        this.dutyCycles = dutyCycles;
+        this.dutyCycleRatioCounter = dutyCycleRatioCounter;
+        this.hasPeerSenders = ctx.senderThreadCount() > 1;
+        this.logFirstToucher = Configuration.NUMA_NODE_DEFAULT != ctx.senderAgentNumaNode() ?
+            new LogFirstToucher(ctx.filePageSize(), Configuration.LOG_FIRST_TOUCH_PAGE_LIMIT) : null;
         this.totalBytesSent = ctx.systemCounters().get(BYTES_SENT);
         this.resolutionChanges = ctx.systemCounters().get(RESOLUTION_CHANGES);
         this.cachedNanoClock = ctx.cachedNanoClock();
         this.statusMessageReadTimeoutNs = ctx.statusMessageTimeoutNs() >> 1;
         this.reResolutionCheckIntervalNs = ctx.reResolutionCheckIntervalNs();
         this.dutyCycleRatio = ctx.sendToStatusMessagePollRatio();
+        this.isAdaptiveDutyCycleRatio = ctx.sendToStatusMessagePollRatioAdaptive();
+        this.maxDutyCycleRatio = ctx.sendToStatusMessagePollRatioMax();
+        this.dutyCycleRatioCounter.setOrdered(dutyCycleRatio);
         this.conductorProxy = ctx.driverConductorProxy();
         this.reResolutionDeadlineNs = cachedNanoClock.nanoTime() + reResolutionCheckIntervalNs;
     }
@@ -85,19 +131,35 @@ public class Sender extends SenderRhsPadding implements Agent
     public void onClose()
     {
         controlTransportPoller.close();
+        if (null != dutyCycles)
+        {
+            CloseHelper.closeAll(dutyCycles, dutyCycleRatioCounter);
+        }
     }
 
     public int doWork()
     {
-        final int workCount = commandQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
+        if (null != dutyCycles)
+        {
+            dutyCycles.incrementOrdered();
+        }
+
+        int workCount = commandQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
         final long nowNs = cachedNanoClock.nanoTime();
         final int bytesSent = doSend(nowNs);
+        bytesSentSinceControlPoll += bytesSent;
 
         int bytesReceived = 0;
         if (0 == bytesSent || ++dutyCycleCounter >= dutyCycleRatio || (controlPollDeadlineNs - nowNs < 0))
         {
             bytesReceived = controlTransportPoller.pollTransports();
 
+            if (isAdaptiveDutyCycleRatio)
+            {
+                adaptDutyCycleRatio(bytesReceived);
+            }
+
+            bytesSentSinceControlPoll = 0;
             dutyCycleCounter = 0;
             controlPollDeadlineNs = nowNs + statusMessageReadTimeoutNs;
         }
@@ -108,12 +170,17 @@ public class Sender extends SenderRhsPadding implements Agent
             reResolutionDeadlineNs = nowNs + reResolutionCheckIntervalNs;
         }
 
+        if (null != logFirstToucher)
+        {
+            workCount += logFirstToucher.doWork();
+        }
+
         return workCount + bytesSent + bytesReceived;
     }
 
     public String roleName()
     {
-        return "sender";
+        return 0 == senderIndex ? "sender" : "sender-" + senderIndex;
     }
 
     public void onRegisterSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
@@ -130,6 +197,11 @@ public class Sender extends SenderRhsPadding implements Agent
 
     public void onNewNetworkPublication(final NetworkPublication publication)
     {
+        if (null != logFirstToucher)
+        {
+            logFirstToucher.add(publication.rawLog());
+        }
+
         networkPublications = ArrayUtil.add(networkPublications, publication);
         publication.channelEndpoint().registerForSend(publication);
     }
@@ -138,6 +210,10 @@ public class Sender extends SenderRhsPadding implements Agent
     {
         networkPublications = ArrayUtil.remove(networkPublications, publication);
         publication.channelEndpoint().unregisterForSend(publication);
+        if (null != logFirstToucher)
+        {
+            logFirstToucher.remove(publication.rawLog());
+        }
         publication.senderRelease();
     }
 
@@ -157,7 +233,27 @@ public class Sender extends SenderRhsPadding implements Agent
         final SendChannelEndpoint channelEndpoint, final String endpoint, final InetSocketAddress newAddress)
     {
         channelEndpoint.resolutionChange(endpoint, newAddress);
-        resolutionChanges.getAndAddOrdered(1);
+        resolutionChanges.increment();
+    }
+
+    private void adaptDutyCycleRatio(final int bytesReceived)
+    {
+        int ratio = dutyCycleRatio;
+
+        if (bytesReceived > 0)
+        {
+            ratio = Math.max(1, ratio >> 1);
+        }
+        else if (bytesSentSinceControlPoll > 0)
+        {
+            ratio = Math.min(maxDutyCycleRatio, ratio + 1);
+        }
+
+        if (ratio != dutyCycleRatio)
+        {
+            dutyCycleRatio = ratio;
+            dutyCycleRatioCounter.setOrdered(ratio);
+        }
     }
 
     private int doSend(final long nowNs)
@@ -182,7 +278,17 @@ public class Sender extends SenderRhsPadding implements Agent
             bytesSent += publications[i].send(nowNs);
         }
 
-        totalBytesSent.getAndAddOrdered(bytesSent);
+        if (hasPeerSenders)
+        {
+            if (bytesSent > 0)
+            {
+                totalBytesSent.getAndAdd(bytesSent);
+            }
+        }
+        else
+        {
+            totalBytesSent.getAndAddOrdered(bytesSent);
+        }
 
         return bytesSent;
     }
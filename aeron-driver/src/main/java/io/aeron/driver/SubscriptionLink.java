@@ -34,6 +34,7 @@ public abstract class SubscriptionLink implements DriverManagedResource
     protected final boolean hasSessionId;
     protected final boolean isSparse;
     protected final boolean isTether;
+    protected final boolean isLatencyTimestamped;
     protected boolean reachedEndOfLife = false;
     protected final CommonContext.InferableBoolean group;
     protected final String channel;
@@ -55,6 +56,7 @@ public abstract class SubscriptionLink implements DriverManagedResource
         this.sessionId = params.sessionId;
         this.isSparse = params.isSparse;
         this.isTether = params.isTether;
+        this.isLatencyTimestamped = params.isLatencyTimestamped;
         this.group = params.group;
 
         positionBySubscribableMap = new IdentityHashMap<>(hasSessionId ? 1 : 8);
@@ -110,6 +112,11 @@ public abstract class SubscriptionLink implements DriverManagedResource
         return isSparse;
     }
 
+    public boolean isLatencyTimestamped()
+    {
+        return isLatencyTimestamped;
+    }
+
     public CommonContext.InferableBoolean group()
     {
         return group;
@@ -200,6 +207,7 @@ public abstract class SubscriptionLink implements DriverManagedResource
             ", isReliable=" + isReliable() +
             ", isSparse=" + isSparse() +
             ", isTether=" + isTether() +
+            ", isLatencyTimestamped=" + isLatencyTimestamped +
             ", isRejoin=" + isRejoin() +
             ", reachedEndOfLife=" + reachedEndOfLife +
             ", group=" + group +
@@ -316,6 +324,22 @@ class SpySubscriptionLink extends SubscriptionLink
             (isWildcardOrSessionIdMatch(publication.sessionId()) &&
             udpChannel.canonicalForm().equals(publicationChannel.canonicalForm())));
     }
+
+    /**
+     * Could this spy match a publication on the given channel and stream regardless of its session id.
+     *
+     * @param publicationChannel of the publication.
+     * @param streamId           of the publication.
+     * @return true if a publication on the channel and stream could be spied upon by this link.
+     */
+    boolean mayMatch(final UdpChannel publicationChannel, final int streamId)
+    {
+        final boolean isSameChannelTag =
+            udpChannel.hasTag() && udpChannel.tag() == publicationChannel.tag();
+
+        return this.streamId == streamId &&
+            (isSameChannelTag || udpChannel.canonicalForm().equals(publicationChannel.canonicalForm()));
+    }
 }
 
 class UntetheredSubscription
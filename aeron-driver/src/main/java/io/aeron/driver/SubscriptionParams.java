@@ -34,6 +34,7 @@ class SubscriptionParams
     boolean isRejoin = true;
     boolean isSparse = true;
     boolean isTether = true;
+    boolean isLatencyTimestamped = false;
     InferableBoolean group = InferableBoolean.INFER;
 
     static SubscriptionParams getSubscriptionParams(final ChannelUri channelUri, final MediaDriver.Context context)
@@ -106,6 +107,8 @@ class SubscriptionParams
         final String sparseStr = channelUri.get(SPARSE_PARAM_NAME);
         params.isSparse = null != sparseStr ? "true".equals(sparseStr) : context.termBufferSparseFile();
 
+        params.isLatencyTimestamped = "true".equals(channelUri.get(LATENCY_TIMESTAMP_PARAM_NAME));
+
         final String groupStr = channelUri.get(GROUP_PARAM_NAME);
         params.group = null != groupStr ? InferableBoolean.parse(groupStr) : context.receiverGroupConsideration();
 
@@ -125,6 +128,7 @@ class SubscriptionParams
             ", isRejoin=" + isRejoin +
             ", isSparse=" + isSparse +
             ", isTether=" + isTether +
+            ", isLatencyTimestamped=" + isLatencyTimestamped +
             ", group=" + group +
             '}';
     }
@@ -16,6 +16,7 @@
 package io.aeron.driver.buffer;
 
 import io.aeron.exceptions.AeronException;
+import io.aeron.logbuffer.LogBufferDescriptor;
 import org.agrona.*;
 
 import java.io.File;
@@ -30,16 +31,22 @@ import static io.aeron.logbuffer.LogBufferDescriptor.computeLogLength;
 
 /**
  * Factory for creating {@link RawLog}s in the source publications or publication images directories as appropriate.
+ * <p>
+ * When a huge page directory is provided, e.g. on a hugetlbfs mount, the logs are created under it rather than the
+ * data directory. Files are then sized by mapping rather than writing, as hugetlbfs does not support writes, and
+ * the pages are always pre-touched at the file page size which must be the huge page size.
  */
 public class FileStoreLogFactory implements LogFactory
 {
     private static final String PUBLICATIONS = "publications";
     private static final String IMAGES = "images";
+    private static final String BLANK_TEMPLATE = "blank.template";
 
     private long blankTemplateLength;
     private final long lowStorageWarningThreshold;
     private final int filePageSize;
     private final boolean checkStorage;
+    private final boolean useHugePages;
     private final ErrorHandler errorHandler;
     private final File publicationsDir;
     private final File imagesDir;
@@ -53,24 +60,61 @@ public class FileStoreLogFactory implements LogFactory
         final boolean checkStorage,
         final long lowStorageWarningThreshold,
         final ErrorHandler errorHandler)
+    {
+        this(dataDirectoryName, filePageSize, checkStorage, lowStorageWarningThreshold, errorHandler, null);
+    }
+
+    public FileStoreLogFactory(
+        final String dataDirectoryName,
+        final int filePageSize,
+        final boolean checkStorage,
+        final long lowStorageWarningThreshold,
+        final ErrorHandler errorHandler,
+        final String hugePageDirectoryName)
+    {
+        this(
+            dataDirectoryName,
+            filePageSize,
+            checkStorage,
+            lowStorageWarningThreshold,
+            errorHandler,
+            hugePageDirectoryName,
+            BLANK_TEMPLATE);
+    }
+
+    FileStoreLogFactory(
+        final String dataDirectoryName,
+        final int filePageSize,
+        final boolean checkStorage,
+        final long lowStorageWarningThreshold,
+        final ErrorHandler errorHandler,
+        final String hugePageDirectoryName,
+        final String blankTemplateName)
     {
         this.filePageSize = filePageSize;
         this.lowStorageWarningThreshold = lowStorageWarningThreshold;
         this.checkStorage = checkStorage;
         this.errorHandler = errorHandler;
+        this.useHugePages = null != hugePageDirectoryName;
 
         final File dataDir = new File(dataDirectoryName);
+        final File logDir = useHugePages ? new File(hugePageDirectoryName) : dataDir;
 
-        publicationsDir = new File(dataDir, PUBLICATIONS);
-        imagesDir = new File(dataDir, IMAGES);
+        if (useHugePages)
+        {
+            LogBufferDescriptor.checkPageSize(filePageSize);
+        }
+
+        publicationsDir = new File(logDir, PUBLICATIONS);
+        imagesDir = new File(logDir, IMAGES);
 
         IoUtil.ensureDirectoryExists(publicationsDir, PUBLICATIONS);
         IoUtil.ensureDirectoryExists(imagesDir, IMAGES);
 
         try
         {
-            fileStore = checkStorage ? Files.getFileStore(dataDir.toPath()) : null;
-            blankFile = new RandomAccessFile(new File(dataDir, "blank.template"), "rw");
+            fileStore = checkStorage ? Files.getFileStore(logDir.toPath()) : null;
+            blankFile = new RandomAccessFile(new File(dataDir, blankTemplateName), "rw");
             blankChannel = blankFile.getChannel();
         }
         catch (final IOException ex)
@@ -84,6 +128,18 @@ public class FileStoreLogFactory implements LogFactory
         CloseHelper.close(blankChannel);
     }
 
+    /**
+     * Delete the source publications and publication images directories, and the logs in them, under a directory.
+     * This is required when the logs are created under a huge page directory outside the Aeron directory.
+     *
+     * @param logDirectoryName under which the publications and images directories were created.
+     */
+    public static void deleteLogDirectories(final String logDirectoryName)
+    {
+        IoUtil.delete(new File(logDirectoryName, PUBLICATIONS), true);
+        IoUtil.delete(new File(logDirectoryName, IMAGES), true);
+    }
+
     /**
      * Create new {@link RawLog} in the publications directory for the supplied triplet.
      *
@@ -110,7 +166,22 @@ public class FileStoreLogFactory implements LogFactory
         return newInstance(imagesDir, correlationId, termBufferLength, useSparseFiles);
     }
 
-    private RawLog newInstance(
+    File publicationsDir()
+    {
+        return publicationsDir;
+    }
+
+    File imagesDir()
+    {
+        return imagesDir;
+    }
+
+    boolean useHugePages()
+    {
+        return useHugePages;
+    }
+
+    MappedRawLog newInstance(
         final File rootDir,
         final long correlationId,
         final int termLength,
@@ -119,7 +190,7 @@ public class FileStoreLogFactory implements LogFactory
         final long logLength = computeLogLength(termLength, filePageSize);
         checkStorage(logLength);
 
-        if (logLength > blankTemplateLength)
+        if (!useHugePages && logLength > blankTemplateLength)
         {
             try
             {
@@ -136,7 +207,7 @@ public class FileStoreLogFactory implements LogFactory
         final File location = streamLocation(rootDir, correlationId);
 
         return new MappedRawLog(
-            location, blankChannel, useSparseFiles, logLength, termLength, filePageSize, errorHandler);
+            location, blankChannel, useSparseFiles, useHugePages, logLength, termLength, filePageSize, errorHandler);
     }
 
     private void checkStorage(final long logLength)
@@ -175,7 +246,7 @@ public class FileStoreLogFactory implements LogFactory
         return usableSpace;
     }
 
-    private static File streamLocation(final File rootDir, final long correlationId)
+    static File streamLocation(final File rootDir, final long correlationId)
     {
         final String fileName = correlationId + ".logbuffer";
 
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import java.io.File;
+
+/**
+ * Agent which prepares log buffers ahead of demand on its own thread so that creating, sizing, and pre-touching
+ * the files does not stall the {@link io.aeron.driver.DriverConductor} while it processes client commands and
+ * checks liveness.
+ * <p>
+ * Requests for a log buffer of a term length are received from a {@link PooledLogFactory} which adds the prepared
+ * logs to its pool so they can be taken by new publications and images. Freed logs are also received from the
+ * factory and cleared once their reuse deadline has passed so they can be returned to the pool.
+ */
+public class LogBufferPreparer implements Agent
+{
+    /**
+     * Capacity of the queues of requests and prepared logs which is sufficient for the maximum prepare count for
+     * every valid term length.
+     */
+    static final int QUEUE_CAPACITY = 256;
+
+    private static final String PREPARED = "prepared";
+    private static final String PREPARED_TEMPLATE = "prepared.template";
+
+    private boolean isClosed = false;
+    private long preparedCount = 0;
+    private final File preparedDir;
+    private final ErrorHandler errorHandler;
+    private final NanoClock nanoClock;
+    private final FileStoreLogFactory logFactory;
+    final OneToOneConcurrentArrayQueue<Integer> requestQueue = new OneToOneConcurrentArrayQueue<>(QUEUE_CAPACITY);
+    final OneToOneConcurrentArrayQueue<FreedLog> freedQueue = new OneToOneConcurrentArrayQueue<>(QUEUE_CAPACITY);
+    final OneToOneConcurrentArrayQueue<PreparedLog> preparedQueue = new OneToOneConcurrentArrayQueue<>(QUEUE_CAPACITY);
+
+    public LogBufferPreparer(
+        final String dataDirectoryName,
+        final int filePageSize,
+        final boolean checkStorage,
+        final long lowStorageWarningThreshold,
+        final ErrorHandler errorHandler,
+        final String hugePageDirectoryName,
+        final NanoClock nanoClock)
+    {
+        this.errorHandler = errorHandler;
+        this.nanoClock = nanoClock;
+
+        preparedDir = new File(null != hugePageDirectoryName ? hugePageDirectoryName : dataDirectoryName, PREPARED);
+        IoUtil.ensureDirectoryExists(preparedDir, PREPARED);
+
+        logFactory = new FileStoreLogFactory(
+            dataDirectoryName,
+            filePageSize,
+            checkStorage,
+            lowStorageWarningThreshold,
+            errorHandler,
+            hugePageDirectoryName,
+            PREPARED_TEMPLATE);
+    }
+
+    public void onClose()
+    {
+        if (!isClosed)
+        {
+            isClosed = true;
+            CloseHelper.close(errorHandler, logFactory);
+        }
+    }
+
+    public String roleName()
+    {
+        return "log-buffer-preparer";
+    }
+
+    /**
+     * Delete the directory of prepared logs, and the logs in it, under a directory. This is required when the logs
+     * are prepared under a huge page directory outside the Aeron directory.
+     *
+     * @param directoryName under which the prepared directory was created.
+     */
+    public static void deletePreparedDirectory(final String directoryName)
+    {
+        IoUtil.delete(new File(directoryName, PREPARED), true);
+    }
+
+    public int doWork()
+    {
+        return clearFreedLog() + prepareLog();
+    }
+
+    private int clearFreedLog()
+    {
+        final FreedLog freedLog = freedQueue.peek();
+        if (null == freedLog ||
+            nanoClock.nanoTime() - freedLog.reuseDeadlineNs < 0 ||
+            0 == preparedQueue.remainingCapacity())
+        {
+            return 0;
+        }
+
+        freedQueue.poll();
+        final MappedRawLog rawLog = freedLog.rawLog;
+        rawLog.clear();
+        preparedQueue.offer(new PreparedLog(rawLog.termLength(), rawLog, true));
+
+        return 1;
+    }
+
+    private int prepareLog()
+    {
+        final Integer termLength = requestQueue.poll();
+        if (null == termLength)
+        {
+            return 0;
+        }
+
+        MappedRawLog rawLog = null;
+        try
+        {
+            rawLog = logFactory.newInstance(preparedDir, preparedCount++, termLength, false);
+        }
+        catch (final Exception ex)
+        {
+            errorHandler.onError(ex);
+        }
+
+        if (!preparedQueue.offer(new PreparedLog(termLength, rawLog, false)))
+        {
+            CloseHelper.close(errorHandler, rawLog);
+        }
+
+        return 1;
+    }
+
+    static final class PreparedLog
+    {
+        final int termLength;
+        final MappedRawLog rawLog;
+        final boolean isRecycled;
+
+        PreparedLog(final int termLength, final MappedRawLog rawLog, final boolean isRecycled)
+        {
+            this.termLength = termLength;
+            this.rawLog = rawLog;
+            this.isRecycled = isRecycled;
+        }
+    }
+
+    static final class FreedLog
+    {
+        final MappedRawLog rawLog;
+        final long reuseDeadlineNs;
+
+        FreedLog(final MappedRawLog rawLog, final long reuseDeadlineNs)
+        {
+            this.rawLog = rawLog;
+            this.reuseDeadlineNs = reuseDeadlineNs;
+        }
+    }
+}
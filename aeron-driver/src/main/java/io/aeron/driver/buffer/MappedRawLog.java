@@ -57,6 +57,7 @@ class MappedRawLog implements RawLog
         final File location,
         final FileChannel blankChannel,
         final boolean useSparseFiles,
+        final boolean useHugePages,
         final long logLength,
         final int termLength,
         final int filePageSize,
@@ -70,7 +71,7 @@ class MappedRawLog implements RawLog
 
         try (FileChannel logChannel = FileChannel.open(logFile.toPath(), options, NO_ATTRIBUTES))
         {
-            if (!useSparseFiles)
+            if (!useSparseFiles && !useHugePages)
             {
                 allocatePages(blankChannel, logChannel, logLength);
             }
@@ -115,9 +116,9 @@ class MappedRawLog implements RawLog
                     LOG_META_DATA_LENGTH);
             }
 
-            if (!useSparseFiles)
+            if (!useSparseFiles || useHugePages)
             {
-                preTouchPages(termBuffers, termLength, filePageSize);
+                preTouchPages(mappedBuffers, filePageSize);
             }
         }
         catch (final IOException ex)
@@ -208,6 +209,36 @@ class MappedRawLog implements RawLog
         return logFile.getAbsolutePath();
     }
 
+    /**
+     * Zero the terms and meta data so the mapped log can be reused as if newly created.
+     */
+    void clear()
+    {
+        for (final UnsafeBuffer termBuffer : termBuffers)
+        {
+            termBuffer.setMemory(0, termLength, (byte)0);
+        }
+
+        logMetaDataBuffer.setMemory(0, LOG_META_DATA_LENGTH, (byte)0);
+    }
+
+    /**
+     * Rename the file of a mapped log so it can be reused under a new location.
+     *
+     * @param location for the log file.
+     * @return true if the file was renamed otherwise false.
+     */
+    boolean moveTo(final File location)
+    {
+        if (null != logFile && logFile.renameTo(location))
+        {
+            logFile = location;
+            return true;
+        }
+
+        return false;
+    }
+
     private static void allocatePages(final FileChannel blankChannel, final FileChannel logChannel, final long length)
         throws IOException
     {
@@ -219,13 +250,13 @@ class MappedRawLog implements RawLog
         while (remaining > 0);
     }
 
-    private static void preTouchPages(final UnsafeBuffer[] buffers, final int length, final int pageSize)
+    private static void preTouchPages(final MappedByteBuffer[] buffers, final int pageSize)
     {
-        for (final UnsafeBuffer buffer : buffers)
+        for (final MappedByteBuffer buffer : buffers)
         {
-            for (long i = 0; i < length; i += pageSize)
+            for (long i = 0, length = buffer.capacity(); i < length; i += pageSize)
             {
-                buffer.putByte((int)i, (byte)0);
+                buffer.put((int)i, (byte)0);
             }
         }
     }
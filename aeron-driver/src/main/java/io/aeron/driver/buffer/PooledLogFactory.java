@@ -0,0 +1,342 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.ErrorHandler;
+import org.agrona.collections.Int2IntCounterMap;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.io.File;
+import java.util.ArrayDeque;
+
+/**
+ * {@link FileStoreLogFactory} which keeps a bounded pool of freed log buffers, for each term length, which remain
+ * mapped and pre-touched so they can be reused by new publications and images without creating, sizing, and
+ * faulting in a new file. A log is renamed for its new owner when reused.
+ * <p>
+ * A freed log is not reused until the reuse delay has passed so a client which may still have the log mapped, such
+ * as one which is lingering the resource or has timed out, cannot see the log of another stream. The delay should
+ * be at least the client liveness timeout plus the client resource linger duration. Freed logs are cleared before
+ * reuse, on the {@link LogBufferPreparer} thread when there is one, otherwise when taken from the pool.
+ * <p>
+ * Only log buffers which are not sparse, or are on huge pages and so always fully backed, are pooled. Hits and misses
+ * on the pool are recorded in counters.
+ * <p>
+ * When a {@link LogBufferPreparer} is provided the pool is topped up ahead of demand, with log buffers created on
+ * the preparer's thread, to the prepare count for each term length which has been requested.
+ * <p>
+ * All methods should be called from the {@link io.aeron.driver.DriverConductor} thread.
+ */
+public class PooledLogFactory extends FileStoreLogFactory
+{
+    private boolean isClosed = false;
+    private final int poolCapacity;
+    private final int prepareCount;
+    private final long reuseDelayNs;
+    private final NanoClock nanoClock;
+    private final LogBufferPreparer preparer;
+    private final Int2IntCounterMap pendingByTermLength = new Int2IntCounterMap(0);
+    private final Int2IntCounterMap freedByTermLength = new Int2IntCounterMap(0);
+    private final ArrayDeque<LogBufferPreparer.FreedLog> freedLogs = new ArrayDeque<>();
+    private final AtomicCounter poolHits;
+    private final AtomicCounter poolMisses;
+    private final Int2ObjectHashMap<ArrayDeque<MappedRawLog>> poolByTermLength = new Int2ObjectHashMap<>();
+
+    public PooledLogFactory(
+        final String dataDirectoryName,
+        final int filePageSize,
+        final boolean checkStorage,
+        final long lowStorageWarningThreshold,
+        final ErrorHandler errorHandler,
+        final int poolCapacity,
+        final AtomicCounter poolHits,
+        final AtomicCounter poolMisses,
+        final NanoClock nanoClock,
+        final long reuseDelayNs)
+    {
+        this(
+            dataDirectoryName,
+            filePageSize,
+            checkStorage,
+            lowStorageWarningThreshold,
+            errorHandler,
+            null,
+            poolCapacity,
+            poolHits,
+            poolMisses,
+            nanoClock,
+            reuseDelayNs,
+            null,
+            0);
+    }
+
+    public PooledLogFactory(
+        final String dataDirectoryName,
+        final int filePageSize,
+        final boolean checkStorage,
+        final long lowStorageWarningThreshold,
+        final ErrorHandler errorHandler,
+        final String hugePageDirectoryName,
+        final int poolCapacity,
+        final AtomicCounter poolHits,
+        final AtomicCounter poolMisses,
+        final NanoClock nanoClock,
+        final long reuseDelayNs,
+        final LogBufferPreparer preparer,
+        final int prepareCount)
+    {
+        super(
+            dataDirectoryName,
+            filePageSize,
+            checkStorage,
+            lowStorageWarningThreshold,
+            errorHandler,
+            hugePageDirectoryName);
+
+        this.poolCapacity = poolCapacity;
+        this.poolHits = poolHits;
+        this.poolMisses = poolMisses;
+        this.nanoClock = nanoClock;
+        this.reuseDelayNs = reuseDelayNs;
+        this.preparer = preparer;
+        this.prepareCount = prepareCount;
+    }
+
+    public void close()
+    {
+        if (!isClosed)
+        {
+            isClosed = true;
+
+            if (null != preparer)
+            {
+                preparer.onClose();
+                drainPreparedLogs();
+
+                LogBufferPreparer.FreedLog freedLog;
+                while (null != (freedLog = preparer.freedQueue.poll()))
+                {
+                    freedLog.rawLog.close();
+                }
+            }
+
+            LogBufferPreparer.FreedLog freedLog;
+            while (null != (freedLog = freedLogs.pollFirst()))
+            {
+                freedLog.rawLog.close();
+            }
+
+            for (final ArrayDeque<MappedRawLog> pool : poolByTermLength.values())
+            {
+                MappedRawLog rawLog;
+                while (null != (rawLog = pool.pollFirst()))
+                {
+                    rawLog.close();
+                }
+            }
+
+            poolByTermLength.clear();
+        }
+
+        super.close();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public RawLog newPublication(final long correlationId, final int termBufferLength, final boolean useSparseFiles)
+    {
+        return newPooledInstance(publicationsDir(), correlationId, termBufferLength, useSparseFiles);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public RawLog newImage(final long correlationId, final int termBufferLength, final boolean useSparseFiles)
+    {
+        return newPooledInstance(imagesDir(), correlationId, termBufferLength, useSparseFiles);
+    }
+
+    /**
+     * Number of log buffers held in the pool, and available for reuse, for a given term length.
+     *
+     * @param termLength of the log buffers.
+     * @return number of log buffers held in the pool, and available for reuse, for the term length.
+     */
+    public int pooledCount(final int termLength)
+    {
+        final ArrayDeque<MappedRawLog> pool = poolByTermLength.get(termLength);
+
+        return null == pool ? 0 : pool.size();
+    }
+
+    /**
+     * Request log buffers of a term length be prepared ahead of demand so the pool holds the prepare count.
+     * Has no effect if there is no {@link LogBufferPreparer}.
+     *
+     * @param termLength of the log buffers to prepare.
+     */
+    public void prepareAhead(final int termLength)
+    {
+        if (null != preparer && !isClosed)
+        {
+            drainPreparedLogs();
+
+            for (int i = pooledCount(termLength) + pendingByTermLength.get(termLength); i < prepareCount; i++)
+            {
+                if (!preparer.requestQueue.offer(termLength))
+                {
+                    break;
+                }
+
+                pendingByTermLength.incrementAndGet(termLength);
+            }
+        }
+    }
+
+    /**
+     * Number of freed log buffers, for a given term length, which are waiting for the reuse delay to pass or to be
+     * cleared before they are returned to the pool.
+     *
+     * @param termLength of the log buffers.
+     * @return number of freed log buffers for the term length which are not yet available for reuse.
+     */
+    public int freedCount(final int termLength)
+    {
+        return freedByTermLength.get(termLength);
+    }
+
+    boolean recycle(final MappedRawLog rawLog)
+    {
+        if (isClosed)
+        {
+            return false;
+        }
+
+        final int termLength = rawLog.termLength();
+        if (pooledCount(termLength) + freedByTermLength.get(termLength) >= poolCapacity)
+        {
+            return false;
+        }
+
+        final LogBufferPreparer.FreedLog freedLog =
+            new LogBufferPreparer.FreedLog(rawLog, nanoClock.nanoTime() + reuseDelayNs);
+
+        if (null != preparer)
+        {
+            if (!preparer.freedQueue.offer(freedLog))
+            {
+                return false;
+            }
+        }
+        else
+        {
+            freedLogs.addLast(freedLog);
+        }
+
+        freedByTermLength.incrementAndGet(termLength);
+
+        return true;
+    }
+
+    private RawLog newPooledInstance(
+        final File rootDir, final long correlationId, final int termLength, final boolean useSparseFiles)
+    {
+        if (useSparseFiles && !useHugePages())
+        {
+            return newInstance(rootDir, correlationId, termLength, true);
+        }
+
+        final RawLog rawLog = takeFromPool(rootDir, correlationId, termLength);
+        prepareAhead(termLength);
+
+        return rawLog;
+    }
+
+    private RawLog takeFromPool(final File rootDir, final long correlationId, final int termLength)
+    {
+        drainPreparedLogs();
+
+        final ArrayDeque<MappedRawLog> pool = poolByTermLength.get(termLength);
+        if (null != pool)
+        {
+            MappedRawLog rawLog;
+            while (null != (rawLog = pool.pollFirst()))
+            {
+                if (rawLog.moveTo(streamLocation(rootDir, correlationId)))
+                {
+                    if (null == preparer)
+                    {
+                        rawLog.clear();
+                    }
+
+                    poolHits.incrementOrdered();
+                    return new PooledRawLog(this, rawLog);
+                }
+
+                rawLog.close();
+            }
+        }
+
+        poolMisses.incrementOrdered();
+
+        return new PooledRawLog(this, newInstance(rootDir, correlationId, termLength, false));
+    }
+
+    private ArrayDeque<MappedRawLog> pool(final int termLength)
+    {
+        return poolByTermLength.computeIfAbsent(termLength, (length) -> new ArrayDeque<>(poolCapacity + prepareCount));
+    }
+
+    private void drainPreparedLogs()
+    {
+        if (null != preparer)
+        {
+            LogBufferPreparer.PreparedLog preparedLog;
+            while (null != (preparedLog = preparer.preparedQueue.poll()))
+            {
+                final int termLength = preparedLog.termLength;
+                if (preparedLog.isRecycled)
+                {
+                    freedByTermLength.decrementAndGet(termLength);
+                }
+                else
+                {
+                    pendingByTermLength.decrementAndGet(termLength);
+                }
+
+                if (null != preparedLog.rawLog)
+                {
+                    pool(termLength).addLast(preparedLog.rawLog);
+                }
+            }
+        }
+        else
+        {
+            final long nowNs = nanoClock.nanoTime();
+            LogBufferPreparer.FreedLog freedLog;
+            while (null != (freedLog = freedLogs.peekFirst()) && nowNs - freedLog.reuseDeadlineNs >= 0)
+            {
+                freedLogs.pollFirst();
+                final int termLength = freedLog.rawLog.termLength();
+                freedByTermLength.decrementAndGet(termLength);
+                pool(termLength).addLast(freedLog.rawLog);
+            }
+        }
+    }
+}
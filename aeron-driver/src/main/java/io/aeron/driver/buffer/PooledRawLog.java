@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link RawLog} from a {@link PooledLogFactory} which returns the underlying mapped log to the pool when freed
+ * rather than unmapping and deleting it, unless the pool is full.
+ */
+final class PooledRawLog implements RawLog
+{
+    private boolean isInactive = false;
+    private boolean isRecycled = false;
+    private final PooledLogFactory logFactory;
+    private final MappedRawLog rawLog;
+
+    PooledRawLog(final PooledLogFactory logFactory, final MappedRawLog rawLog)
+    {
+        this.logFactory = logFactory;
+        this.rawLog = rawLog;
+    }
+
+    public int termLength()
+    {
+        return rawLog.termLength();
+    }
+
+    public UnsafeBuffer[] termBuffers()
+    {
+        return rawLog.termBuffers();
+    }
+
+    public UnsafeBuffer metaData()
+    {
+        return rawLog.metaData();
+    }
+
+    public ByteBuffer[] sliceTerms()
+    {
+        return rawLog.sliceTerms();
+    }
+
+    public String fileName()
+    {
+        return rawLog.fileName();
+    }
+
+    public boolean free()
+    {
+        if (!isInactive)
+        {
+            isInactive = true;
+            isRecycled = logFactory.recycle(rawLog);
+        }
+
+        return isRecycled || rawLog.free();
+    }
+
+    public boolean isInactive()
+    {
+        return isInactive;
+    }
+
+    public void close()
+    {
+        if (!isRecycled)
+        {
+            rawLog.close();
+        }
+    }
+}
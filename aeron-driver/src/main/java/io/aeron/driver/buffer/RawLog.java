@@ -53,6 +53,43 @@ public interface RawLog extends AutoCloseable
      */
     ByteBuffer[] sliceTerms();
 
+    /**
+     * Touch each page of the term buffers from the calling thread so, when the pages have not yet been faulted in,
+     * they are allocated on the NUMA node of the calling thread by first touch. The touch writes a zero only where a
+     * zero is already present, atomically, so it is safe while the log is in use by other threads.
+     *
+     * @param pageSize at which the term buffers are touched.
+     */
+    default void preTouch(final int pageSize)
+    {
+        preTouch(pageSize, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Touch a limited number of pages of the term buffers, starting at an offset from the beginning of the first term,
+     * so the touching of a log can be spread over many duty cycles of an agent.
+     *
+     * @param pageSize  at which the term buffers are touched.
+     * @param offset    from the beginning of the first term at which to start touching.
+     * @param pageLimit for the number of pages to touch.
+     * @return offset at which touching should continue which is the total length of the terms when complete.
+     * @see #preTouch(int)
+     */
+    default long preTouch(final int pageSize, final long offset, final int pageLimit)
+    {
+        final UnsafeBuffer[] termBuffers = termBuffers();
+        final long termLength = termBuffers[0].capacity();
+        final long length = termLength * termBuffers.length;
+
+        long position = offset;
+        for (int i = 0; i < pageLimit && position < length; i++, position += pageSize)
+        {
+            termBuffers[(int)(position / termLength)].compareAndSetInt((int)(position % termLength), 0, 0);
+        }
+
+        return Math.min(position, length);
+    }
+
     /**
      * Get the fully qualified file name for the log file.
      *
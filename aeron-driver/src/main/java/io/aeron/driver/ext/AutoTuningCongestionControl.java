@@ -0,0 +1,215 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.Aeron;
+import io.aeron.driver.CongestionControl;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.PerImageIndicator;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.driver.CongestionControl.packOutcome;
+
+/**
+ * Congestion control which auto-tunes the receiver window length to the bandwidth-delay product of the stream.
+ * <p>
+ * Each interval of at least one RTT, the bytes consumed by the subscribers are scaled to a rate per RTT and the
+ * window targets twice that so a sender which is limited by the window can double its rate each RTT, in the manner
+ * of receive buffer auto-tuning in TCP stacks. When consumption falls behind the window then it decays towards the
+ * target to limit buffer bloat and on loss it is cut back to the consumption per RTT. The window is held while the
+ * stream is idle and is bounded by {@link AutoTuningCongestionControlConfiguration#MIN_WINDOW_LENGTH},
+ * {@link AutoTuningCongestionControlConfiguration#MAX_WINDOW_LENGTH}, and half the term length.
+ * <p>
+ * RTT is measured to the sender on the {@link io.aeron.driver.Receiver} thread and the window is published in a per
+ * image counter which is updated on the {@link io.aeron.driver.DriverConductor} thread.
+ */
+public class AutoTuningCongestionControl implements CongestionControl
+{
+    /**
+     * URI param value to identify this {@link CongestionControl} strategy.
+     */
+    public static final String CC_PARAM_VALUE = "auto";
+
+    private static final long RTT_MAX_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MIN_UPDATE_INTERVAL_NS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int minWindowLength;
+    private final int maxWindowLength;
+    private final long rttMeasurementIntervalNs;
+    private final ErrorHandler errorHandler;
+    private final AtomicCounter rttIndicator;
+    private final AtomicCounter windowIndicator;
+
+    private boolean hasRttMeasurement;
+    private boolean hasOutstandingRttMeasurement;
+    private long lastRttTimestampNs;
+
+    private boolean lossOccurredInInterval;
+    private long lastUpdateTimestampNs;
+    private long lastConsumptionPosition = Aeron.NULL_VALUE;
+    private long lastHwmPosition;
+    private int windowLength;
+
+    public AutoTuningCongestionControl(
+        final long registrationId,
+        final UdpChannel udpChannel,
+        final int streamId,
+        final int sessionId,
+        final int termLength,
+        final int senderMtuLength,
+        final InetSocketAddress controlAddress,
+        final InetSocketAddress sourceAddress,
+        final NanoClock clock,
+        final MediaDriver.Context context,
+        final CountersManager countersManager)
+    {
+        maxWindowLength = Math.max(
+            senderMtuLength, Math.min(termLength >> 1, AutoTuningCongestionControlConfiguration.MAX_WINDOW_LENGTH));
+        minWindowLength = Math.max(
+            senderMtuLength, Math.min(maxWindowLength, AutoTuningCongestionControlConfiguration.MIN_WINDOW_LENGTH));
+        windowLength = clamp(context.initialWindowLength());
+        rttMeasurementIntervalNs = AutoTuningCongestionControlConfiguration.RTT_MEASUREMENT_INTERVAL_NS;
+
+        rttIndicator = PerImageIndicator.allocate(
+            context.tempBuffer(),
+            "rcv-cc-auto-rtt",
+            countersManager,
+            registrationId,
+            sessionId,
+            streamId,
+            udpChannel.originalUriString());
+
+        windowIndicator = PerImageIndicator.allocate(
+            context.tempBuffer(),
+            "rcv-cc-auto-wnd",
+            countersManager,
+            registrationId,
+            sessionId,
+            streamId,
+            udpChannel.originalUriString());
+
+        rttIndicator.setOrdered(AutoTuningCongestionControlConfiguration.INITIAL_RTT_NS);
+        windowIndicator.setOrdered(windowLength);
+
+        lastUpdateTimestampNs = clock.nanoTime();
+        errorHandler = context.errorHandler();
+    }
+
+    public boolean shouldMeasureRtt(final long nowNs)
+    {
+        return (!hasOutstandingRttMeasurement && ((lastRttTimestampNs + rttMeasurementIntervalNs) - nowNs < 0)) ||
+            ((lastRttTimestampNs + RTT_MAX_TIMEOUT_NS) - nowNs < 0);
+    }
+
+    public void onRttMeasurementSent(final long nowNs)
+    {
+        lastRttTimestampNs = nowNs;
+        hasOutstandingRttMeasurement = true;
+    }
+
+    public void onRttMeasurement(final long nowNs, final long rttNs, final InetSocketAddress srcAddress)
+    {
+        hasOutstandingRttMeasurement = false;
+        lastRttTimestampNs = nowNs;
+
+        if (hasRttMeasurement)
+        {
+            final long smoothedRttNs = rttIndicator.get();
+            rttIndicator.setOrdered(smoothedRttNs + ((Math.max(rttNs, 0) - smoothedRttNs) >> 3));
+        }
+        else
+        {
+            hasRttMeasurement = true;
+            rttIndicator.setOrdered(Math.max(rttNs, 0));
+        }
+    }
+
+    public long onTrackRebuild(
+        final long nowNs,
+        final long newConsumptionPosition,
+        final long lastSmPosition,
+        final long hwmPosition,
+        final long startingRebuildPosition,
+        final long endingRebuildPosition,
+        final boolean lossOccurred)
+    {
+        lossOccurredInInterval |= lossOccurred;
+
+        final long rttNs = Math.max(1, rttIndicator.get());
+        final long intervalNs = nowNs - lastUpdateTimestampNs;
+        boolean forceStatusMessage = false;
+
+        if (Aeron.NULL_VALUE == lastConsumptionPosition)
+        {
+            lastUpdateTimestampNs = nowNs;
+            lastConsumptionPosition = newConsumptionPosition;
+            lastHwmPosition = hwmPosition;
+        }
+        else if (intervalNs >= Math.max(rttNs, MIN_UPDATE_INTERVAL_NS))
+        {
+            if (hwmPosition != lastHwmPosition)
+            {
+                final long bytesConsumed = Math.max(0, newConsumptionPosition - lastConsumptionPosition);
+                final long bytesPerRtt = (long)((double)bytesConsumed * rttNs / intervalNs);
+
+                if (lossOccurredInInterval)
+                {
+                    windowLength = clamp(Math.min(windowLength, bytesPerRtt));
+                    forceStatusMessage = true;
+                }
+                else
+                {
+                    final long targetLength = bytesPerRtt << 1;
+                    windowLength = clamp(targetLength >= windowLength ?
+                        targetLength : windowLength - ((windowLength - targetLength) >> 2));
+                }
+
+                windowIndicator.setOrdered(windowLength);
+            }
+
+            lossOccurredInInterval = false;
+            lastUpdateTimestampNs = nowNs;
+            lastConsumptionPosition = newConsumptionPosition;
+            lastHwmPosition = hwmPosition;
+        }
+
+        return packOutcome(windowLength, forceStatusMessage);
+    }
+
+    public int initialWindowLength()
+    {
+        return windowLength;
+    }
+
+    public void close()
+    {
+        CloseHelper.close(errorHandler, rttIndicator);
+        CloseHelper.close(errorHandler, windowIndicator);
+    }
+
+    private int clamp(final long windowLength)
+    {
+        return (int)Math.min(maxWindowLength, Math.max(minWindowLength, windowLength));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.SystemUtil.getDurationInNanos;
+import static org.agrona.SystemUtil.getSizeAsInt;
+
+/**
+ * Configuration options to be applied when {@link AutoTuningCongestionControl} is loaded.
+ */
+public class AutoTuningCongestionControlConfiguration
+{
+    /**
+     * Property name for the lower bound on the receiver window length in bytes.
+     */
+    public static final String MIN_WINDOW_LENGTH_PROP_NAME = "aeron.AutoTuningCongestionControl.minWindowLength";
+
+    /**
+     * Default lower bound on the receiver window length in bytes.
+     */
+    public static final int MIN_WINDOW_LENGTH_DEFAULT = 64 * 1024;
+
+    /**
+     * Property name for the upper bound on the receiver window length in bytes. The window is also bounded by half
+     * the term length of the stream.
+     */
+    public static final String MAX_WINDOW_LENGTH_PROP_NAME = "aeron.AutoTuningCongestionControl.maxWindowLength";
+
+    /**
+     * Default upper bound on the receiver window length in bytes.
+     */
+    public static final int MAX_WINDOW_LENGTH_DEFAULT = 16 * 1024 * 1024;
+
+    /**
+     * Property name for the RTT in nanoseconds assumed until the first measurement is taken.
+     */
+    public static final String INITIAL_RTT_NS_PROP_NAME = "aeron.AutoTuningCongestionControl.initialRtt";
+
+    /**
+     * Default RTT in nanoseconds assumed until the first measurement is taken.
+     */
+    public static final long INITIAL_RTT_NS_DEFAULT = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * Property name for the interval in nanoseconds between RTT measurements to the sender.
+     */
+    public static final String RTT_MEASUREMENT_INTERVAL_NS_PROP_NAME =
+        "aeron.AutoTuningCongestionControl.rttMeasurementInterval";
+
+    /**
+     * Default interval in nanoseconds between RTT measurements to the sender.
+     */
+    public static final long RTT_MEASUREMENT_INTERVAL_NS_DEFAULT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    public static final int MIN_WINDOW_LENGTH = getSizeAsInt(MIN_WINDOW_LENGTH_PROP_NAME, MIN_WINDOW_LENGTH_DEFAULT);
+    public static final int MAX_WINDOW_LENGTH = getSizeAsInt(MAX_WINDOW_LENGTH_PROP_NAME, MAX_WINDOW_LENGTH_DEFAULT);
+    public static final long INITIAL_RTT_NS = getDurationInNanos(INITIAL_RTT_NS_PROP_NAME, INITIAL_RTT_NS_DEFAULT);
+    public static final long RTT_MEASUREMENT_INTERVAL_NS =
+        getDurationInNanos(RTT_MEASUREMENT_INTERVAL_NS_PROP_NAME, RTT_MEASUREMENT_INTERVAL_NS_DEFAULT);
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.Aeron;
+import io.aeron.driver.CongestionControl;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.PerImageIndicator;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.driver.CongestionControl.packOutcome;
+
+/**
+ * BBR style congestion control which sizes the receiver window from a model of the bottleneck bandwidth and round
+ * trip propagation time of the path rather than from loss, so random loss does not collapse the window.
+ * <p>
+ * <a target="_blank" href="https://queue.acm.org/detail.cfm?id=3022184">
+ * https://queue.acm.org/detail.cfm?id=3022184</a>
+ * <p>
+ * The bottleneck bandwidth is the max of the delivery rate, the rate at which the rebuild position of the image
+ * advances, over the last 10 rounds of at least one RTT. The round trip propagation time is the min RTT measured to
+ * the sender over {@link BbrCongestionControlConfiguration#MIN_RTT_WINDOW_NS}. The window is a gain applied to their
+ * product, the bandwidth-delay product, which depends on the phase.
+ * <ul>
+ * <li>STARTUP grows the window by 2/ln(2) of the BDP each round until the bandwidth stops growing by 25%.</li>
+ * <li>DRAIN holds the window to the BDP for a round to drain the queue built in STARTUP.</li>
+ * <li>PROBE_BW cycles the gain on twice the BDP through 1.25, 0.75, then 1 for 6 rounds to probe for bandwidth.</li>
+ * <li>PROBE_RTT drops the window to 4 MTUs for 200ms, or an RTT if longer, when the min RTT sample is older than
+ * the min RTT window to expose the propagation time.</li>
+ * </ul>
+ * Without a pacing sender the window is the only control, so it is not reduced below the initial window length
+ * outside of PROBE_RTT. The min RTT, bandwidth, and window are published in per image counters.
+ * <p>
+ * RTT measurements are taken on the {@link io.aeron.driver.Receiver} and the window is computed on the
+ * {@link io.aeron.driver.DriverConductor}, so each field has a single writer. The Receiver publishes the min RTT
+ * sample and its timestamp, and the conductor starts a new min RTT sample by advancing the probe RTT epoch when it
+ * enters PROBE_RTT.
+ */
+public class BbrCongestionControl implements CongestionControl
+{
+    /**
+     * URI param value to identify this {@link CongestionControl} strategy.
+     */
+    public static final String CC_PARAM_VALUE = "bbr";
+
+    enum State
+    {
+        STARTUP, DRAIN, PROBE_BW, PROBE_RTT
+    }
+
+    static final int BANDWIDTH_WINDOW_ROUNDS = 10;
+    static final int FULL_BANDWIDTH_ROUNDS = 3;
+    static final double FULL_BANDWIDTH_GROWTH = 1.25;
+    static final double STARTUP_GAIN = 2.0 / Math.log(2.0);
+    static final double PROBE_BW_WINDOW_GAIN = 2.0;
+    static final double[] PROBE_BW_CYCLE_GAINS = { 1.25, 0.75, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0 };
+    static final int PROBE_RTT_WINDOW_MTUS = 4;
+    static final long PROBE_RTT_DURATION_NS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private static final long RTT_MAX_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MIN_ROUND_NS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double SECOND_IN_NS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int initialWindowLength;
+    private final int probeRttWindowLength;
+    private final int maxWindowLength;
+    private final long rttMeasurementIntervalNs;
+    private final long minRttWindowNs;
+    private final ErrorHandler errorHandler;
+    private final AtomicCounter rttIndicator;
+    private final AtomicCounter bandwidthIndicator;
+    private final AtomicCounter windowIndicator;
+
+    private boolean hasOutstandingRttMeasurement;
+    private long lastRttTimestampNs;
+    private long minRttNs = Long.MAX_VALUE;
+    private long minRttEpoch;
+    private volatile long minRttTimestampNs;
+    private volatile long probeRttEpoch;
+
+    private final long[] bandwidthSamples = new long[BANDWIDTH_WINDOW_ROUNDS];
+    private int bandwidthSampleIndex;
+    private long maxBandwidth;
+    private long fullBandwidth;
+    private int fullBandwidthCount;
+    private boolean isFullBandwidthReached;
+    private int cycleIndex;
+    private State state = State.STARTUP;
+    private long roundStartTimestampNs;
+    private long roundStartPosition = Aeron.NULL_VALUE;
+    private long lastHwmPosition;
+    private long probeRttStartTimestampNs;
+    private long probeRttDoneTimestampNs;
+    private int windowLength;
+
+    public BbrCongestionControl(
+        final long registrationId,
+        final UdpChannel udpChannel,
+        final int streamId,
+        final int sessionId,
+        final int termLength,
+        final int senderMtuLength,
+        final InetSocketAddress controlAddress,
+        final InetSocketAddress sourceAddress,
+        final NanoClock clock,
+        final MediaDriver.Context context,
+        final CountersManager countersManager)
+    {
+        maxWindowLength = Math.max(
+            senderMtuLength, Math.min(termLength >> 1, BbrCongestionControlConfiguration.MAX_WINDOW_LENGTH));
+        initialWindowLength = Math.min(maxWindowLength, context.initialWindowLength());
+        probeRttWindowLength = Math.min(initialWindowLength, PROBE_RTT_WINDOW_MTUS * senderMtuLength);
+        windowLength = initialWindowLength;
+        rttMeasurementIntervalNs = BbrCongestionControlConfiguration.RTT_MEASUREMENT_INTERVAL_NS;
+        minRttWindowNs = BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS;
+
+        rttIndicator = PerImageIndicator.allocate(
+            context.tempBuffer(),
+            "rcv-cc-bbr-rtt",
+            countersManager,
+            registrationId,
+            sessionId,
+            streamId,
+            udpChannel.originalUriString());
+
+        bandwidthIndicator = PerImageIndicator.allocate(
+            context.tempBuffer(),
+            "rcv-cc-bbr-bw",
+            countersManager,
+            registrationId,
+            sessionId,
+            streamId,
+            udpChannel.originalUriString());
+
+        windowIndicator = PerImageIndicator.allocate(
+            context.tempBuffer(),
+            "rcv-cc-bbr-wnd",
+            countersManager,
+            registrationId,
+            sessionId,
+            streamId,
+            udpChannel.originalUriString());
+
+        rttIndicator.setOrdered(BbrCongestionControlConfiguration.INITIAL_RTT_NS);
+        bandwidthIndicator.setOrdered(0);
+        windowIndicator.setOrdered(windowLength);
+
+        final long nowNs = clock.nanoTime();
+        minRttTimestampNs = nowNs;
+        probeRttDoneTimestampNs = nowNs;
+
+        errorHandler = context.errorHandler();
+    }
+
+    public boolean shouldMeasureRtt(final long nowNs)
+    {
+        return (!hasOutstandingRttMeasurement && ((lastRttTimestampNs + rttMeasurementIntervalNs) - nowNs < 0)) ||
+            ((lastRttTimestampNs + RTT_MAX_TIMEOUT_NS) - nowNs < 0);
+    }
+
+    public void onRttMeasurementSent(final long nowNs)
+    {
+        lastRttTimestampNs = nowNs;
+        hasOutstandingRttMeasurement = true;
+    }
+
+    public void onRttMeasurement(final long nowNs, final long rttNs, final InetSocketAddress srcAddress)
+    {
+        hasOutstandingRttMeasurement = false;
+        lastRttTimestampNs = nowNs;
+
+        final long epoch = probeRttEpoch;
+        if (rttNs <= minRttNs || epoch != minRttEpoch)
+        {
+            minRttEpoch = epoch;
+            minRttNs = Math.max(rttNs, 0);
+            rttIndicator.setOrdered(minRttNs);
+            minRttTimestampNs = nowNs;
+        }
+    }
+
+    public long onTrackRebuild(
+        final long nowNs,
+        final long newConsumptionPosition,
+        final long lastSmPosition,
+        final long hwmPosition,
+        final long startingRebuildPosition,
+        final long endingRebuildPosition,
+        final boolean lossOccurred)
+    {
+        if (Aeron.NULL_VALUE == roundStartPosition)
+        {
+            startRound(nowNs, endingRebuildPosition, hwmPosition);
+            return packOutcome(windowLength, false);
+        }
+
+        final long rttNs = Math.max(1, rttIndicator.get());
+        final long roundDurationNs = nowNs - roundStartTimestampNs;
+
+        if (roundDurationNs >= Math.max(rttNs, MIN_ROUND_NS))
+        {
+            if (hwmPosition != lastHwmPosition)
+            {
+                final long bytesDelivered = Math.max(0, endingRebuildPosition - roundStartPosition);
+                updateMaxBandwidth((long)(bytesDelivered * SECOND_IN_NS / roundDurationNs));
+                onRoundEnd();
+            }
+
+            startRound(nowNs, endingRebuildPosition, hwmPosition);
+        }
+
+        checkProbeRtt(nowNs, rttNs);
+
+        final int newWindowLength = computeWindowLength(rttNs);
+        if (newWindowLength != windowLength)
+        {
+            windowLength = newWindowLength;
+            windowIndicator.setOrdered(newWindowLength);
+        }
+
+        return packOutcome(windowLength, false);
+    }
+
+    public int initialWindowLength()
+    {
+        return initialWindowLength;
+    }
+
+    public void close()
+    {
+        CloseHelper.close(errorHandler, rttIndicator);
+        CloseHelper.close(errorHandler, bandwidthIndicator);
+        CloseHelper.close(errorHandler, windowIndicator);
+    }
+
+    State state()
+    {
+        return state;
+    }
+
+    long maxBandwidth()
+    {
+        return maxBandwidth;
+    }
+
+    long minRttNs()
+    {
+        return rttIndicator.get();
+    }
+
+    private void startRound(final long nowNs, final long rebuildPosition, final long hwmPosition)
+    {
+        roundStartTimestampNs = nowNs;
+        roundStartPosition = rebuildPosition;
+        lastHwmPosition = hwmPosition;
+    }
+
+    private void updateMaxBandwidth(final long bandwidth)
+    {
+        bandwidthSamples[bandwidthSampleIndex] = bandwidth;
+        bandwidthSampleIndex = (bandwidthSampleIndex + 1) % BANDWIDTH_WINDOW_ROUNDS;
+
+        long max = 0;
+        for (final long sample : bandwidthSamples)
+        {
+            max = Math.max(max, sample);
+        }
+
+        maxBandwidth = max;
+        bandwidthIndicator.setOrdered(max);
+    }
+
+    private void onRoundEnd()
+    {
+        if (!isFullBandwidthReached)
+        {
+            if (maxBandwidth >= fullBandwidth * FULL_BANDWIDTH_GROWTH)
+            {
+                fullBandwidth = maxBandwidth;
+                fullBandwidthCount = 0;
+            }
+            else if (++fullBandwidthCount >= FULL_BANDWIDTH_ROUNDS)
+            {
+                isFullBandwidthReached = true;
+            }
+        }
+
+        switch (state)
+        {
+            case STARTUP:
+                if (isFullBandwidthReached)
+                {
+                    state = State.DRAIN;
+                }
+                break;
+
+            case DRAIN:
+                state = State.PROBE_BW;
+                cycleIndex = 0;
+                break;
+
+            case PROBE_BW:
+                cycleIndex = (cycleIndex + 1) % PROBE_BW_CYCLE_GAINS.length;
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private void checkProbeRtt(final long nowNs, final long rttNs)
+    {
+        if (State.PROBE_RTT == state)
+        {
+            if (nowNs - probeRttStartTimestampNs >= Math.max(PROBE_RTT_DURATION_NS, rttNs))
+            {
+                probeRttDoneTimestampNs = nowNs;
+                state = isFullBandwidthReached ? State.PROBE_BW : State.STARTUP;
+            }
+        }
+        else if ((Math.max(minRttTimestampNs, probeRttDoneTimestampNs) + minRttWindowNs) - nowNs < 0)
+        {
+            probeRttEpoch++;
+            probeRttStartTimestampNs = nowNs;
+            state = State.PROBE_RTT;
+        }
+    }
+
+    private int computeWindowLength(final long rttNs)
+    {
+        final double gain;
+        switch (state)
+        {
+            case STARTUP:
+                gain = STARTUP_GAIN;
+                break;
+
+            case DRAIN:
+                gain = 1.0;
+                break;
+
+            case PROBE_BW:
+                gain = PROBE_BW_WINDOW_GAIN * PROBE_BW_CYCLE_GAINS[cycleIndex];
+                break;
+
+            default:
+                return probeRttWindowLength;
+        }
+
+        final double bdp = maxBandwidth * (rttNs / SECOND_IN_NS);
+
+        return (int)Math.min(maxWindowLength, Math.max(initialWindowLength, (long)(gain * bdp)));
+    }
+}
@@ -96,6 +96,16 @@ public class DebugReceiveChannelEndpoint extends ReceiveChannelEndpoint
         return result;
     }
 
+    /**
+     * Direct receive is disabled so that all data frames pass through the loss generator.
+     *
+     * @return null.
+     */
+    public ByteBuffer directReceiveBody()
+    {
+        return null;
+    }
+
     public void onSetupMessage(
         final SetupFlyweight header,
         final UnsafeBuffer buffer,
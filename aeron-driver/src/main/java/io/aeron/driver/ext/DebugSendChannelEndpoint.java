@@ -73,6 +73,25 @@ public class DebugSendChannelEndpoint extends SendChannelEndpoint
         return count;
     }
 
+    public int send(final ByteBuffer[] buffers, final int bufferCount)
+    {
+        int sentCount = 0;
+
+        while (sentCount < bufferCount)
+        {
+            final ByteBuffer buffer = buffers[sentCount];
+            final int bytesToSend = buffer.remaining();
+            if (bytesToSend != send(buffer))
+            {
+                break;
+            }
+
+            sentCount++;
+        }
+
+        return sentCount;
+    }
+
     public void onStatusMessage(
         final StatusMessageFlyweight msg,
         final UnsafeBuffer buffer,
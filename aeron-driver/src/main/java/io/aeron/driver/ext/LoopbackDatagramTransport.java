@@ -0,0 +1,356 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.DatagramTransport;
+import io.aeron.driver.media.UdpChannel;
+import org.agrona.collections.ArrayUtil;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+
+import java.io.IOException;
+import java.net.BindException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NotYetConnectedException;
+import java.nio.channels.SelectableChannel;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process {@link DatagramTransport} which exchanges datagrams between transports in the same JVM without using
+ * the network so the driver can be tested in isolation from the host network configuration.
+ * <p>
+ * Transports are addressed by port only so all hosts are treated as the local host. Unicast transports bind a port
+ * exclusively and multicast transports share the port of the group so each receives a copy of datagrams sent to the
+ * group. As with UDP, datagrams are dropped when the queue of the receiving transport is full and truncated if the
+ * receiving buffer is too small.
+ * <p>
+ * A {@link java.nio.channels.Selector} is not supported so transports are always polled by iteration.
+ * <p>
+ * UDP segmentation offload is supported. Segments are delivered as one coalesced datagram to a transport for a
+ * channel which has opted in to offload, as with GRO, and as separate datagrams otherwise.
+ * <p>
+ * A scattering receive is supported so the body of a datagram can be received directly into a term buffer.
+ */
+public class LoopbackDatagramTransport implements DatagramTransport
+{
+    /**
+     * Number of datagrams which can be queued for a transport before further datagrams are dropped.
+     */
+    public static final int DATAGRAM_QUEUE_CAPACITY = 4096;
+
+    private static final int EPHEMERAL_PORT_LOW = 32768;
+    private static final int EPHEMERAL_PORT_HIGH = 60999;
+    private static final ConcurrentHashMap<Integer, LoopbackDatagramTransport[]> TRANSPORTS_BY_PORT =
+        new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_EPHEMERAL_PORT = new AtomicInteger(EPHEMERAL_PORT_LOW);
+
+    private final ManyToOneConcurrentArrayQueue<Datagram> datagrams =
+        new ManyToOneConcurrentArrayQueue<>(DATAGRAM_QUEUE_CAPACITY);
+    private InetSocketAddress localAddress;
+    private InetSocketAddress sourceAddress;
+    private InetSocketAddress connectAddress;
+    private boolean isMulticast;
+    private boolean isSegmentOffload;
+    private int receivedSegmentLength;
+    private volatile boolean isOpen;
+
+    public void open(
+        final UdpChannel udpChannel,
+        final InetSocketAddress endPointAddress,
+        final InetSocketAddress bindAddress,
+        final InetSocketAddress connectAddress,
+        final MediaDriver.Context context) throws IOException
+    {
+        isMulticast = udpChannel.isMulticast();
+        isSegmentOffload = udpChannel.isSegmentOffload();
+
+        if (isMulticast)
+        {
+            localAddress = new InetSocketAddress(bind(this, endPointAddress.getPort()));
+            sourceAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), nextEphemeralPort());
+        }
+        else
+        {
+            final int port = 0 == bindAddress.getPort() ? bindEphemeral(this) : bind(this, bindAddress.getPort());
+            localAddress = new InetSocketAddress(bindAddress.getAddress(), port);
+            sourceAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        }
+
+        this.connectAddress = connectAddress;
+        isOpen = true;
+    }
+
+    public boolean isOpen()
+    {
+        return isOpen;
+    }
+
+    public boolean isConnected()
+    {
+        return null != connectAddress;
+    }
+
+    public void connect(final InetSocketAddress remoteAddress)
+    {
+        connectAddress = remoteAddress;
+    }
+
+    public InetSocketAddress localAddress()
+    {
+        return localAddress;
+    }
+
+    public int multicastTtl()
+    {
+        return 0;
+    }
+
+    public int write(final ByteBuffer buffer) throws IOException
+    {
+        if (null == connectAddress)
+        {
+            throw new NotYetConnectedException();
+        }
+
+        return send(buffer, connectAddress);
+    }
+
+    public int send(final ByteBuffer buffer, final InetSocketAddress remoteAddress) throws IOException
+    {
+        if (!isOpen)
+        {
+            throw new ClosedChannelException();
+        }
+
+        final int length = buffer.remaining();
+        final LoopbackDatagramTransport[] transports = TRANSPORTS_BY_PORT.get(remoteAddress.getPort());
+        if (null != transports)
+        {
+            final byte[] payload = new byte[length];
+            buffer.duplicate().get(payload);
+
+            for (final LoopbackDatagramTransport transport : transports)
+            {
+                transport.datagrams.offer(new Datagram(payload, sourceAddress, 0));
+            }
+        }
+
+        buffer.position(buffer.limit());
+
+        return length;
+    }
+
+    public boolean isSegmentOffloadSupported()
+    {
+        return true;
+    }
+
+    public int writeSegments(final ByteBuffer[] buffers, final int offset, final int count, final int segmentLength)
+        throws IOException
+    {
+        if (null == connectAddress)
+        {
+            throw new NotYetConnectedException();
+        }
+
+        if (!isOpen)
+        {
+            throw new ClosedChannelException();
+        }
+
+        int length = 0;
+        for (int i = offset, limit = offset + count; i < limit; i++)
+        {
+            length += buffers[i].remaining();
+        }
+
+        final LoopbackDatagramTransport[] transports = TRANSPORTS_BY_PORT.get(connectAddress.getPort());
+        if (null != transports)
+        {
+            final byte[] payload = new byte[length];
+            int position = 0;
+            for (int i = offset, limit = offset + count; i < limit; i++)
+            {
+                final int segmentRemaining = buffers[i].remaining();
+                buffers[i].duplicate().get(payload, position, segmentRemaining);
+                position += segmentRemaining;
+            }
+
+            for (final LoopbackDatagramTransport transport : transports)
+            {
+                if (transport.isSegmentOffload)
+                {
+                    transport.datagrams.offer(new Datagram(payload, sourceAddress, segmentLength));
+                }
+                else
+                {
+                    for (int segmentOffset = 0; segmentOffset < length; segmentOffset += segmentLength)
+                    {
+                        final int segmentEnd = Math.min(length, segmentOffset + segmentLength);
+                        transport.datagrams.offer(new Datagram(
+                            Arrays.copyOfRange(payload, segmentOffset, segmentEnd), sourceAddress, 0));
+                    }
+                }
+            }
+        }
+
+        for (int i = offset, limit = offset + count; i < limit; i++)
+        {
+            buffers[i].position(buffers[i].limit());
+        }
+
+        return length;
+    }
+
+    public int receivedSegmentLength()
+    {
+        return receivedSegmentLength;
+    }
+
+    public InetSocketAddress receive(final ByteBuffer buffer)
+    {
+        final Datagram datagram = datagrams.poll();
+        if (null == datagram)
+        {
+            return null;
+        }
+
+        buffer.put(datagram.payload, 0, Math.min(datagram.payload.length, buffer.remaining()));
+        receivedSegmentLength = datagram.segmentLength;
+
+        return datagram.sourceAddress;
+    }
+
+    public boolean isScatterReceiveSupported()
+    {
+        return true;
+    }
+
+    public InetSocketAddress receive(final ByteBuffer header, final ByteBuffer body)
+    {
+        final Datagram datagram = datagrams.poll();
+        if (null == datagram)
+        {
+            return null;
+        }
+
+        final byte[] payload = datagram.payload;
+        final int headerLength = Math.min(payload.length, header.remaining());
+        header.put(payload, 0, headerLength);
+        body.put(payload, headerLength, Math.min(payload.length - headerLength, body.remaining()));
+        receivedSegmentLength = datagram.segmentLength;
+
+        return datagram.sourceAddress;
+    }
+
+    public SelectableChannel selectableChannel()
+    {
+        return null;
+    }
+
+    public void close()
+    {
+        if (isOpen)
+        {
+            isOpen = false;
+            unbind(this, localAddress.getPort());
+            datagrams.clear();
+        }
+    }
+
+    private static int nextEphemeralPort()
+    {
+        return NEXT_EPHEMERAL_PORT.getAndUpdate(
+            (current) -> current >= EPHEMERAL_PORT_HIGH ? EPHEMERAL_PORT_LOW : current + 1);
+    }
+
+    private static int bindEphemeral(final LoopbackDatagramTransport transport) throws BindException
+    {
+        for (int i = EPHEMERAL_PORT_LOW; i <= EPHEMERAL_PORT_HIGH; i++)
+        {
+            try
+            {
+                return bind(transport, nextEphemeralPort());
+            }
+            catch (final BindException ignore)
+            {
+            }
+        }
+
+        throw new BindException("no ephemeral loopback ports available");
+    }
+
+    private static int bind(final LoopbackDatagramTransport transport, final int port) throws BindException
+    {
+        final boolean[] isBound = { false };
+
+        TRANSPORTS_BY_PORT.compute(
+            port,
+            (key, transports) ->
+            {
+                if (null == transports)
+                {
+                    isBound[0] = true;
+                    return new LoopbackDatagramTransport[]{ transport };
+                }
+
+                if (transport.isMulticast && transports[0].isMulticast)
+                {
+                    isBound[0] = true;
+                    return ArrayUtil.add(transports, transport);
+                }
+
+                return transports;
+            });
+
+        if (!isBound[0])
+        {
+            throw new BindException("loopback port already in use: " + port);
+        }
+
+        return port;
+    }
+
+    private static void unbind(final LoopbackDatagramTransport transport, final int port)
+    {
+        TRANSPORTS_BY_PORT.computeIfPresent(
+            port,
+            (key, transports) ->
+            {
+                final LoopbackDatagramTransport[] remaining = ArrayUtil.remove(transports, transport);
+                return remaining.length > 0 ? remaining : null;
+            });
+    }
+
+    static final class Datagram
+    {
+        final byte[] payload;
+        final InetSocketAddress sourceAddress;
+        final int segmentLength;
+
+        Datagram(final byte[] payload, final InetSocketAddress sourceAddress, final int segmentLength)
+        {
+            this.payload = payload;
+            this.sourceAddress = sourceAddress;
+            this.segmentLength = segmentLength;
+        }
+    }
+}
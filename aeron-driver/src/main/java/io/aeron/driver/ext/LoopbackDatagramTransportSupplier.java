@@ -0,0 +1,31 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.DatagramTransportSupplier;
+import io.aeron.driver.media.DatagramTransport;
+import io.aeron.driver.media.UdpChannel;
+
+/**
+ * Supply an in-process {@link LoopbackDatagramTransport} so the driver can be run without a network.
+ */
+public class LoopbackDatagramTransportSupplier implements DatagramTransportSupplier
+{
+    public DatagramTransport newInstance(final UdpChannel udpChannel)
+    {
+        return new LoopbackDatagramTransport();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import org.agrona.ErrorHandler;
+
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+
+/**
+ * Polls control {@link UdpChannelTransport}s with non-blocking reads in round-robin order without using a
+ * {@link java.nio.channels.Selector} regardless of the number of transports.
+ * <p>
+ * A transport which has been idle for {@link #BUSY_POLL_IDLE_THRESHOLD} consecutive polls is skipped for an increasing
+ * number of cycles, up to {@link #BUSY_POLL_MAX_SKIP}, until it is next found to be productive. Productive and empty
+ * polls are counted for each {@link SendChannelEndpoint} when the counters have been allocated.
+ */
+public class BusyPollControlTransportPoller extends ControlTransportPoller
+{
+    public BusyPollControlTransportPoller(final ErrorHandler errorHandler)
+    {
+        super(errorHandler);
+    }
+
+    public int pollTransports()
+    {
+        int bytesReceived = 0;
+        for (final SendChannelEndpoint transport : transports)
+        {
+            if (skipPoll(transport))
+            {
+                continue;
+            }
+
+            final int length = poll(transport);
+            bytesReceived += length;
+
+            onPoll(transport, length > 0, transport.productivePolls(), transport.emptyPolls());
+        }
+
+        return bytesReceived;
+    }
+
+    public void selectNowWithoutProcessing()
+    {
+    }
+
+    protected SelectionKey registerChannel(final SelectableChannel channel, final Object attachment)
+    {
+        return null;
+    }
+}
@@ -48,7 +48,8 @@ public class ControlTransportPoller extends UdpTransportPoller
     private final NakFlyweight nakMessage = new NakFlyweight(unsafeBuffer);
     private final StatusMessageFlyweight statusMessage = new StatusMessageFlyweight(unsafeBuffer);
     private final RttMeasurementFlyweight rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
-    private SendChannelEndpoint[] transports = new SendChannelEndpoint[0];
+    SendChannelEndpoint[] transports = new SendChannelEndpoint[0];
+    private boolean hasUnselectableTransports = false;
 
     public ControlTransportPoller(final ErrorHandler errorHandler)
     {
@@ -67,7 +68,7 @@ public class ControlTransportPoller extends UdpTransportPoller
         int bytesReceived = 0;
         try
         {
-            if (transports.length <= ITERATION_THRESHOLD)
+            if (transports.length <= ITERATION_THRESHOLD || hasUnselectableTransports)
             {
                 for (final SendChannelEndpoint transport : transports)
                 {
@@ -105,8 +106,9 @@ public class ControlTransportPoller extends UdpTransportPoller
         SelectionKey key = null;
         try
         {
-            key = transport.receiveDatagramChannel().register(selector, SelectionKey.OP_READ, transport);
+            key = registerChannel(transport.datagramTransport().selectableChannel(), transport);
             transports = ArrayUtil.add(transports, transport);
+            hasUnselectableTransports |= isUnselectable(transport);
         }
         catch (final ClosedChannelException ex)
         {
@@ -124,6 +126,13 @@ public class ControlTransportPoller extends UdpTransportPoller
     public void cancelRead(final SendChannelEndpoint transport)
     {
         transports = ArrayUtil.remove(transports, transport);
+
+        boolean hasUnselectableTransports = false;
+        for (final SendChannelEndpoint channelEndpoint : transports)
+        {
+            hasUnselectableTransports |= isUnselectable(channelEndpoint);
+        }
+        this.hasUnselectableTransports = hasUnselectableTransports;
     }
 
     public void checkForReResolutions(final long nowNs, final DriverConductorProxy conductorProxy)
@@ -134,7 +143,7 @@ public class ControlTransportPoller extends UdpTransportPoller
         }
     }
 
-    private int poll(final SendChannelEndpoint channelEndpoint)
+    int poll(final SendChannelEndpoint channelEndpoint)
     {
         int bytesReceived = 0;
         final InetSocketAddress srcAddress = channelEndpoint.receive(byteBuffer);
@@ -33,28 +33,61 @@ import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 
+import static io.aeron.driver.DataPacketDispatcher.DIRECT_RECEIVE_REJECTED;
 import static io.aeron.logbuffer.FrameDescriptor.frameType;
+import static io.aeron.logbuffer.FrameDescriptor.frameVersion;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 import static io.aeron.protocol.HeaderFlyweight.*;
 import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 
 /**
  * Encapsulates the polling of data {@link UdpChannelTransport}s using whatever means provides the lowest latency.
+ * <p>
+ * Each transport is drained of up to {@link #receiveBatchLength()} datagrams in a single pass into a ring of
+ * pre-allocated receive buffers before the batch is dispatched to the {@link ReceiveChannelEndpoint}.
+ * <p>
+ * Datagrams coalesced by UDP segmentation offload are split back into their segments before dispatch.
+ * <p>
+ * When the transport supports a scattering receive and the endpoint can predict the next frame, because it has a
+ * single image, the header of each datagram is received into a receive buffer and the body directly into the term
+ * buffer to avoid a copy. Should the datagram not be the expected frame then the body is moved back to the receive
+ * buffer, the term buffer cleared, and the datagram dispatched as normal.
  */
 public class DataTransportPoller extends UdpTransportPoller
 {
     private static final ChannelAndTransport[] EMPTY_TRANSPORTS = new ChannelAndTransport[0];
 
-    private final ByteBuffer byteBuffer = BufferUtil.allocateDirectAligned(
-        Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH);
-    private final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(byteBuffer);
-    private final DataHeaderFlyweight dataMessage = new DataHeaderFlyweight(unsafeBuffer);
-    private final SetupFlyweight setupMessage = new SetupFlyweight(unsafeBuffer);
-    private final RttMeasurementFlyweight rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
-    private ChannelAndTransport[] channelAndTransports = EMPTY_TRANSPORTS;
+    private final ReceiveSlot[] receiveSlots;
+    private final UnsafeBuffer directBody = new UnsafeBuffer(0, 0);
+    int directBytesReceived;
+    ChannelAndTransport[] channelAndTransports = EMPTY_TRANSPORTS;
+    private boolean hasUnselectableTransports = false;
 
     public DataTransportPoller(final ErrorHandler errorHandler)
+    {
+        this(errorHandler, Configuration.RECEIVE_BATCH_LENGTH_DEFAULT);
+    }
+
+    public DataTransportPoller(final ErrorHandler errorHandler, final int receiveBatchLength)
     {
         super(errorHandler);
+
+        Configuration.validateReceiveBatchLength(receiveBatchLength);
+        receiveSlots = new ReceiveSlot[receiveBatchLength];
+        for (int i = 0; i < receiveBatchLength; i++)
+        {
+            receiveSlots[i] = new ReceiveSlot();
+        }
+    }
+
+    /**
+     * The maximum number of datagrams which will be read from a transport in a single pass.
+     *
+     * @return maximum number of datagrams which will be read from a transport in a single pass.
+     */
+    public int receiveBatchLength()
+    {
+        return receiveSlots.length;
     }
 
     public void close()
@@ -74,7 +107,7 @@ public class DataTransportPoller extends UdpTransportPoller
         int bytesReceived = 0;
         try
         {
-            if (channelAndTransports.length <= ITERATION_THRESHOLD)
+            if (channelAndTransports.length <= ITERATION_THRESHOLD || hasUnselectableTransports)
             {
                 for (final ChannelAndTransport channelAndTransport : channelAndTransports)
                 {
@@ -116,8 +149,9 @@ public class DataTransportPoller extends UdpTransportPoller
             final ChannelAndTransport channelAndTransport = new ChannelAndTransport(
                 channelEndpoint, transport, transportIndex);
 
-            key = transport.receiveDatagramChannel().register(selector, SelectionKey.OP_READ, channelAndTransport);
+            key = registerChannel(transport.datagramTransport().selectableChannel(), channelAndTransport);
             channelAndTransports = ArrayUtil.add(channelAndTransports, channelAndTransport);
+            hasUnselectableTransports |= isUnselectable(transport);
         }
         catch (final ClosedChannelException ex)
         {
@@ -149,6 +183,13 @@ public class DataTransportPoller extends UdpTransportPoller
         if (index != ArrayUtil.UNKNOWN_INDEX)
         {
             channelAndTransports = 1 == transports.length ? EMPTY_TRANSPORTS : ArrayUtil.remove(transports, index);
+
+            boolean hasUnselectableTransports = false;
+            for (final ChannelAndTransport channelAndTransport : channelAndTransports)
+            {
+                hasUnselectableTransports |= isUnselectable(channelAndTransport.transport);
+            }
+            this.hasUnselectableTransports = hasUnselectableTransports;
         }
     }
 
@@ -162,40 +203,235 @@ public class DataTransportPoller extends UdpTransportPoller
 
     private int poll(final ChannelAndTransport channelAndTransport)
     {
+        if (canReceiveDirect(channelAndTransport))
+        {
+            receiveDirect(channelAndTransport);
+            return directBytesReceived;
+        }
+
+        return dispatchBatch(channelAndTransport, receiveBatch(channelAndTransport.transport));
+    }
+
+    /**
+     * Can the body of the next datagram from a transport be received directly into a term buffer.
+     *
+     * @param channelAndTransport to read from.
+     * @return true if the body of the next datagram can be received directly into a term buffer.
+     */
+    boolean canReceiveDirect(final ChannelAndTransport channelAndTransport)
+    {
+        return channelAndTransport.transport.isScatterReceiveSupported() &&
+            null != channelAndTransport.channelEndpoint.directReceiveBody();
+    }
+
+    /**
+     * Read and dispatch up to {@link #receiveBatchLength()} datagrams from a transport with the body of each received
+     * directly into a term buffer while the next frame remains predictable. The number of data bytes received is
+     * available from {@link #directBytesReceived} on return.
+     *
+     * @param channelAndTransport to read from.
+     * @return the number of datagrams read.
+     */
+    int receiveDirect(final ChannelAndTransport channelAndTransport)
+    {
+        final UdpChannelTransport transport = channelAndTransport.transport;
+        final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+        final ReceiveSlot slot = receiveSlots[0];
+        final UnsafeBuffer header = slot.unsafeBuffer;
+        int datagramCount = 0;
         int bytesReceived = 0;
-        final InetSocketAddress srcAddress = channelAndTransport.transport.receive(byteBuffer);
 
-        if (null != srcAddress)
+        ByteBuffer body;
+        while (datagramCount < receiveSlots.length && null != (body = channelEndpoint.directReceiveBody()))
         {
-            final int length = byteBuffer.position();
-            final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+            final int bodyOffset = body.position();
+            slot.byteBuffer.clear().limit(HEADER_LENGTH);
+
+            final InetSocketAddress srcAddress = transport.receive(slot.byteBuffer, body);
+            if (null == srcAddress)
+            {
+                break;
+            }
 
-            if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+            datagramCount++;
+            final int headerLength = slot.byteBuffer.position();
+            final int bodyLength = body.position() - bodyOffset;
+            final int length = headerLength + bodyLength;
+            int result = DIRECT_RECEIVE_REJECTED;
+
+            if (HEADER_LENGTH == headerLength &&
+                CURRENT_VERSION == frameVersion(header, 0) &&
+                HDR_TYPE_DATA == frameType(header, 0))
             {
-                channelEndpoint.receiveHook(unsafeBuffer, length, srcAddress);
+                result = channelEndpoint.onDirectDataPacket(
+                    slot.dataMessage, header, length, srcAddress, channelAndTransport.transportIndex);
+            }
 
-                final int frameType = frameType(unsafeBuffer, 0);
-                if (HDR_TYPE_DATA == frameType || HDR_TYPE_PAD == frameType)
-                {
-                    bytesReceived = channelEndpoint.onDataPacket(
-                        dataMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
-                }
-                else if (HDR_TYPE_SETUP == frameType)
-                {
-                    channelEndpoint.onSetupMessage(
-                        setupMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
-                }
-                else if (HDR_TYPE_RTTM == frameType)
-                {
-                    channelEndpoint.onRttMeasurement(
-                        rttMeasurement, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
-                }
+            if (DIRECT_RECEIVE_REJECTED == result)
+            {
+                directBody.wrap(body);
+                header.putBytes(headerLength, directBody, bodyOffset, bodyLength);
+                directBody.setMemory(bodyOffset, bodyLength, (byte)0);
+
+                slot.srcAddress = srcAddress;
+                slot.length = length;
+                slot.segmentLength = 0;
+                result = dispatch(channelAndTransport, slot);
+                slot.srcAddress = null;
+            }
+
+            bytesReceived += result;
+        }
+
+        directBytesReceived = bytesReceived;
+
+        return datagramCount;
+    }
+
+    /**
+     * Read up to {@link #receiveBatchLength()} datagrams from a transport into the receive slots.
+     *
+     * @param transport to read from.
+     * @return the number of datagrams read.
+     */
+    int receiveBatch(final UdpChannelTransport transport)
+    {
+        final ReceiveSlot[] receiveSlots = this.receiveSlots;
+        int batchLength = 0;
+
+        while (batchLength < receiveSlots.length)
+        {
+            final ReceiveSlot slot = receiveSlots[batchLength];
+            final InetSocketAddress srcAddress = transport.receive(slot.byteBuffer);
+            if (null == srcAddress)
+            {
+                break;
+            }
+
+            slot.srcAddress = srcAddress;
+            slot.length = slot.byteBuffer.position();
+            slot.segmentLength = transport.receivedSegmentLength();
+            batchLength++;
+        }
+
+        return batchLength;
+    }
+
+    /**
+     * Dispatch the datagrams previously read by {@link #receiveBatch(UdpChannelTransport)} to the endpoint.
+     *
+     * @param channelAndTransport from which the datagrams were read.
+     * @param batchLength         number of datagrams read.
+     * @return the number of data bytes received.
+     */
+    int dispatchBatch(final ChannelAndTransport channelAndTransport, final int batchLength)
+    {
+        final ReceiveSlot[] receiveSlots = this.receiveSlots;
+        int bytesReceived = 0;
+
+        for (int i = 0; i < batchLength; i++)
+        {
+            final ReceiveSlot slot = receiveSlots[i];
+            bytesReceived += dispatch(channelAndTransport, slot);
+            slot.srcAddress = null;
+        }
+
+        return bytesReceived;
+    }
+
+    private int dispatch(final ChannelAndTransport channelAndTransport, final ReceiveSlot slot)
+    {
+        final int length = slot.length;
+        final int segmentLength = slot.segmentLength;
+
+        if (segmentLength <= 0 || length <= segmentLength)
+        {
+            return dispatch(
+                channelAndTransport,
+                slot.unsafeBuffer,
+                slot.dataMessage,
+                slot.setupMessage,
+                slot.rttMeasurement,
+                length,
+                slot.srcAddress);
+        }
+
+        int bytesReceived = 0;
+        for (int offset = 0; offset < length; offset += segmentLength)
+        {
+            final int segmentRemaining = Math.min(segmentLength, length - offset);
+            slot.segmentBuffer.wrap(slot.unsafeBuffer, offset, segmentRemaining);
+            slot.segmentDataMessage.wrap(slot.unsafeBuffer, offset, segmentRemaining);
+            slot.segmentSetupMessage.wrap(slot.unsafeBuffer, offset, segmentRemaining);
+            slot.segmentRttMeasurement.wrap(slot.unsafeBuffer, offset, segmentRemaining);
+
+            bytesReceived += dispatch(
+                channelAndTransport,
+                slot.segmentBuffer,
+                slot.segmentDataMessage,
+                slot.segmentSetupMessage,
+                slot.segmentRttMeasurement,
+                segmentRemaining,
+                slot.srcAddress);
+        }
+
+        return bytesReceived;
+    }
+
+    private static int dispatch(
+        final ChannelAndTransport channelAndTransport,
+        final UnsafeBuffer unsafeBuffer,
+        final DataHeaderFlyweight dataMessage,
+        final SetupFlyweight setupMessage,
+        final RttMeasurementFlyweight rttMeasurement,
+        final int length,
+        final InetSocketAddress srcAddress)
+    {
+        int bytesReceived = 0;
+        final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+
+        if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+        {
+            channelEndpoint.receiveHook(unsafeBuffer, length, srcAddress);
+
+            final int frameType = frameType(unsafeBuffer, 0);
+            if (HDR_TYPE_DATA == frameType || HDR_TYPE_PAD == frameType)
+            {
+                bytesReceived = channelEndpoint.onDataPacket(
+                    dataMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+            }
+            else if (HDR_TYPE_SETUP == frameType)
+            {
+                channelEndpoint.onSetupMessage(
+                    setupMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+            }
+            else if (HDR_TYPE_RTTM == frameType)
+            {
+                channelEndpoint.onRttMeasurement(
+                    rttMeasurement, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
             }
         }
 
         return bytesReceived;
     }
 
+    static final class ReceiveSlot
+    {
+        final ByteBuffer byteBuffer = BufferUtil.allocateDirectAligned(
+            Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH);
+        final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(byteBuffer);
+        final DataHeaderFlyweight dataMessage = new DataHeaderFlyweight(unsafeBuffer);
+        final SetupFlyweight setupMessage = new SetupFlyweight(unsafeBuffer);
+        final RttMeasurementFlyweight rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
+        final UnsafeBuffer segmentBuffer = new UnsafeBuffer(unsafeBuffer, 0, 0);
+        final DataHeaderFlyweight segmentDataMessage = new DataHeaderFlyweight();
+        final SetupFlyweight segmentSetupMessage = new SetupFlyweight();
+        final RttMeasurementFlyweight segmentRttMeasurement = new RttMeasurementFlyweight();
+        InetSocketAddress srcAddress;
+        int length;
+        int segmentLength;
+    }
+
     static class ChannelAndTransport
     {
         final ReceiveChannelEndpoint channelEndpoint;
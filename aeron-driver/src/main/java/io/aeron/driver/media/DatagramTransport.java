@@ -0,0 +1,197 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import io.aeron.driver.MediaDriver;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+
+/**
+ * Datagram socket layer beneath a {@link UdpChannelTransport} which can be replaced to use an alternative to
+ * {@link java.nio.channels.DatagramChannel}, e.g. a native socket layer or an in-process loopback for testing.
+ * <p>
+ * Buffers passed to send and receive are direct buffers so the bytes between position and limit form an address
+ * range which can be used by native implementations. The position of a buffer is advanced by the bytes sent or
+ * received in the same manner as {@link java.nio.channels.DatagramChannel}.
+ * <p>
+ * Implementations are used by a single thread after being opened.
+ */
+public interface DatagramTransport extends AutoCloseable
+{
+    /**
+     * Open the transport for the channel, binding, connecting, and joining multicast groups as required.
+     *
+     * @param udpChannel      for which the transport is being opened.
+     * @param endPointAddress for the channel which is the group address for multicast.
+     * @param bindAddress     to bind to for unicast.
+     * @param connectAddress  to connect to for sending, may be null.
+     * @param context         for the configuration of the driver.
+     * @throws IOException if the transport cannot be opened.
+     */
+    void open(
+        UdpChannel udpChannel,
+        InetSocketAddress endPointAddress,
+        InetSocketAddress bindAddress,
+        InetSocketAddress connectAddress,
+        MediaDriver.Context context) throws IOException;
+
+    /**
+     * Is the transport open for sending and receiving.
+     *
+     * @return true if the transport is open.
+     */
+    boolean isOpen();
+
+    /**
+     * Is the sending side of the transport connected to a remote address.
+     *
+     * @return true if the sending side is connected.
+     */
+    boolean isConnected();
+
+    /**
+     * Connect the sending side of the transport to a new remote address, disconnecting from any previous address.
+     *
+     * @param remoteAddress to connect to.
+     * @throws IOException if the connect fails.
+     */
+    void connect(InetSocketAddress remoteAddress) throws IOException;
+
+    /**
+     * The address to which the receiving side of the transport is bound.
+     *
+     * @return the address to which the receiving side of the transport is bound or null if not bound.
+     * @throws IOException if the address cannot be determined.
+     */
+    InetSocketAddress localAddress() throws IOException;
+
+    /**
+     * The multicast TTL in use for sending, or 0 if not set.
+     *
+     * @return the multicast TTL in use for sending, or 0 if not set.
+     */
+    int multicastTtl();
+
+    /**
+     * Send a datagram to the connected remote address.
+     *
+     * @param buffer containing the datagram between position and limit.
+     * @return the number of bytes sent which will be 0 if the datagram could not be sent.
+     * @throws IOException if an error occurs sending.
+     */
+    int write(ByteBuffer buffer) throws IOException;
+
+    /**
+     * Send a datagram to a given remote address.
+     *
+     * @param buffer        containing the datagram between position and limit.
+     * @param remoteAddress to which the datagram is sent.
+     * @return the number of bytes sent which will be 0 if the datagram could not be sent.
+     * @throws IOException if an error occurs sending.
+     */
+    int send(ByteBuffer buffer, InetSocketAddress remoteAddress) throws IOException;
+
+    /**
+     * Receive a datagram, if available, without blocking.
+     *
+     * @param buffer into which the datagram is received from position up to limit.
+     * @return the address of the source of the datagram or null if none was available.
+     * @throws IOException if an error occurs receiving.
+     */
+    InetSocketAddress receive(ByteBuffer buffer) throws IOException;
+
+    /**
+     * Does the transport support UDP segmentation offload so that {@link #writeSegments(ByteBuffer[], int, int, int)}
+     * can be used, and will it deliver coalesced datagrams for a channel which has opted in to offload.
+     *
+     * @return true if UDP segmentation offload is supported.
+     * @see UdpChannel#isSegmentOffload()
+     */
+    default boolean isSegmentOffloadSupported()
+    {
+        return false;
+    }
+
+    /**
+     * Send a run of datagrams to the connected remote address as a single operation which is segmented by the
+     * kernel or NIC. Each datagram other than the last must be of the segment length and the last must be no longer
+     * than the segment length.
+     *
+     * @param buffers       containing the datagrams between position and limit.
+     * @param offset        in the array of the first datagram to send.
+     * @param count         of datagrams to send.
+     * @param segmentLength length of each datagram other than the last.
+     * @return the number of bytes sent which will be 0 if the datagrams could not be sent.
+     * @throws IOException if an error occurs sending.
+     */
+    default int writeSegments(final ByteBuffer[] buffers, final int offset, final int count, final int segmentLength)
+        throws IOException
+    {
+        throw new UnsupportedOperationException("segmentation offload not supported");
+    }
+
+    /**
+     * The segment length of the last datagram returned by {@link #receive(ByteBuffer)} if it was coalesced from a
+     * number of datagrams, otherwise 0.
+     *
+     * @return the segment length of the last datagram received if coalesced, otherwise 0.
+     */
+    default int receivedSegmentLength()
+    {
+        return 0;
+    }
+
+    /**
+     * Does the transport support a scattering receive with {@link #receive(ByteBuffer, ByteBuffer)} so the body of
+     * a datagram can be placed directly into a separate buffer from its header.
+     *
+     * @return true if a scattering receive is supported.
+     */
+    default boolean isScatterReceiveSupported()
+    {
+        return false;
+    }
+
+    /**
+     * Receive a datagram, if available, without blocking, filling the header buffer up to its limit before
+     * placing the remainder of the datagram in the body buffer.
+     *
+     * @param header into which the start of the datagram is received from position up to limit.
+     * @param body   into which the remainder of the datagram is received from position up to limit.
+     * @return the address of the source of the datagram or null if none was available.
+     * @throws IOException if an error occurs receiving.
+     */
+    default InetSocketAddress receive(final ByteBuffer header, final ByteBuffer body) throws IOException
+    {
+        throw new UnsupportedOperationException("scatter receive not supported");
+    }
+
+    /**
+     * The channel which can be registered with a {@link java.nio.channels.Selector} for readiness of the receive
+     * side, or null if the transport does not support selection in which case it will be polled by iteration.
+     *
+     * @return the channel which can be registered with a selector or null if not supported.
+     */
+    SelectableChannel selectableChannel();
+
+    /**
+     * Close the transport and release any resources.
+     */
+    void close();
+}
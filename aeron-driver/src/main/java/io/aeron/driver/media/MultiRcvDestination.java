@@ -169,10 +169,10 @@ final class MultiRcvDestination
         int bytesSent = 0;
         try
         {
-            if (null != transport && null != transport.sendDatagramChannel && transport.sendDatagramChannel.isOpen())
+            if (null != transport && null != transport.datagramTransport && transport.datagramTransport.isOpen())
             {
                 transport.sendHook(buffer, remoteAddress);
-                bytesSent = transport.sendDatagramChannel.send(buffer, remoteAddress);
+                bytesSent = transport.datagramTransport.send(buffer, remoteAddress);
             }
         }
         catch (final IOException ex)
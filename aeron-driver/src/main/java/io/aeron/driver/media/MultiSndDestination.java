@@ -26,7 +26,6 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.PortUnreachableException;
 import java.nio.ByteBuffer;
-import java.nio.channels.DatagramChannel;
 
 import static io.aeron.driver.media.SendChannelEndpoint.DESTINATION_TIMEOUT;
 import static io.aeron.driver.media.UdpChannelTransport.sendError;
@@ -43,7 +42,11 @@ abstract class MultiSndDestination
         this.nanoClock = nanoClock;
     }
 
-    abstract int send(DatagramChannel channel, ByteBuffer buffer, SendChannelEndpoint channelEndpoint, int bytesToSend);
+    abstract int send(
+        DatagramTransport transport, ByteBuffer buffer, SendChannelEndpoint channelEndpoint, int bytesToSend);
+
+    abstract int send(
+        DatagramTransport transport, ByteBuffer[] buffers, int bufferCount, SendChannelEndpoint channelEndpoint);
 
     abstract void onStatusMessage(StatusMessageFlyweight msg, InetSocketAddress address);
 
@@ -65,7 +68,7 @@ abstract class MultiSndDestination
     }
 
     static int send(
-        final DatagramChannel datagramChannel,
+        final DatagramTransport transport,
         final ByteBuffer buffer,
         final SendChannelEndpoint channelEndpoint,
         final int bytesToSend,
@@ -75,11 +78,11 @@ abstract class MultiSndDestination
         int bytesSent = 0;
         try
         {
-            if (datagramChannel.isOpen())
+            if (transport.isOpen())
             {
                 buffer.position(position);
                 channelEndpoint.sendHook(buffer, destination);
-                bytesSent = datagramChannel.send(buffer, destination);
+                bytesSent = transport.send(buffer, destination);
             }
         }
         catch (final PortUnreachableException ignore)
@@ -92,6 +95,49 @@ abstract class MultiSndDestination
 
         return bytesSent;
     }
+
+    static int send(
+        final DatagramTransport transport,
+        final ByteBuffer[] buffers,
+        final int bufferCount,
+        final SendChannelEndpoint channelEndpoint,
+        final InetSocketAddress destination)
+    {
+        int sentCount = 0;
+        int bytesToSend = 0;
+        try
+        {
+            if (transport.isOpen())
+            {
+                while (sentCount < bufferCount)
+                {
+                    final ByteBuffer buffer = buffers[sentCount];
+                    final int position = buffer.position();
+                    bytesToSend = buffer.remaining();
+
+                    channelEndpoint.sendHook(buffer, destination);
+                    final int bytesSent = transport.send(buffer, destination);
+                    buffer.position(position);
+
+                    if (bytesToSend != bytesSent)
+                    {
+                        break;
+                    }
+
+                    sentCount++;
+                }
+            }
+        }
+        catch (final PortUnreachableException ignore)
+        {
+        }
+        catch (final IOException ex)
+        {
+            sendError(bytesToSend, ex, destination);
+        }
+
+        return sentCount;
+    }
 }
 
 class ManualSndMultiDestination extends MultiSndDestination
@@ -128,7 +174,7 @@ class ManualSndMultiDestination extends MultiSndDestination
     }
 
     int send(
-        final DatagramChannel channel,
+        final DatagramTransport transport,
         final ByteBuffer buffer,
         final SendChannelEndpoint channelEndpoint,
         final int bytesToSend)
@@ -139,12 +185,29 @@ class ManualSndMultiDestination extends MultiSndDestination
         for (final Destination destination : destinations)
         {
             minBytesSent = Math.min(
-                minBytesSent, send(channel, buffer, channelEndpoint, bytesToSend, position, destination.address));
+                minBytesSent, send(transport, buffer, channelEndpoint, bytesToSend, position, destination.address));
         }
 
         return minBytesSent;
     }
 
+    int send(
+        final DatagramTransport transport,
+        final ByteBuffer[] buffers,
+        final int bufferCount,
+        final SendChannelEndpoint channelEndpoint)
+    {
+        int minSentCount = bufferCount;
+
+        for (final Destination destination : destinations)
+        {
+            minSentCount = Math.min(
+                minSentCount, send(transport, buffers, bufferCount, channelEndpoint, destination.address));
+        }
+
+        return minSentCount;
+    }
+
     void addDestination(final ChannelUri channelUri, final InetSocketAddress address)
     {
         destinations = ArrayUtil.add(destinations, new Destination(nanoClock.nanoTime(), channelUri, address));
@@ -237,7 +300,7 @@ class DynamicSndMultiDestination extends MultiSndDestination
     }
 
     int send(
-        final DatagramChannel channel,
+        final DatagramTransport transport,
         final ByteBuffer buffer,
         final SendChannelEndpoint channelEndpoint,
         final int bytesToSend)
@@ -261,7 +324,7 @@ class DynamicSndMultiDestination extends MultiSndDestination
             else
             {
                 minBytesSent = Math.min(
-                    minBytesSent, send(channel, buffer, channelEndpoint, bytesToSend, position, destination.address));
+                    minBytesSent, send(transport, buffer, channelEndpoint, bytesToSend, position, destination.address));
             }
         }
 
@@ -273,6 +336,42 @@ class DynamicSndMultiDestination extends MultiSndDestination
         return minBytesSent;
     }
 
+    int send(
+        final DatagramTransport transport,
+        final ByteBuffer[] buffers,
+        final int bufferCount,
+        final SendChannelEndpoint channelEndpoint)
+    {
+        final long nowNs = nanoClock.nanoTime();
+        int minSentCount = bufferCount;
+        int removed = 0;
+
+        for (int lastIndex = destinations.length - 1, i = lastIndex; i >= 0; i--)
+        {
+            final Destination destination = destinations[i];
+            if ((destination.timeOfLastActivityNs + DESTINATION_TIMEOUT) - nowNs < 0)
+            {
+                if (i != lastIndex)
+                {
+                    destinations[i] = destinations[lastIndex--];
+                }
+                removed++;
+            }
+            else
+            {
+                minSentCount = Math.min(
+                    minSentCount, send(transport, buffers, bufferCount, channelEndpoint, destination.address));
+            }
+        }
+
+        if (removed > 0)
+        {
+            truncateDestinations(removed);
+        }
+
+        return minSentCount;
+    }
+
     private void add(final Destination destination)
     {
         destinations = ArrayUtil.add(destinations, destination);
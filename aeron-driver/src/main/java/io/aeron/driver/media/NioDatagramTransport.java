@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import io.aeron.driver.MediaDriver;
+import org.agrona.CloseHelper;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectableChannel;
+
+import static java.net.StandardSocketOptions.SO_RCVBUF;
+import static java.net.StandardSocketOptions.SO_SNDBUF;
+
+/**
+ * Default {@link DatagramTransport} which uses non-blocking {@link DatagramChannel}s. A separate channel is used for
+ * receiving when a multicast channel is connected for sending.
+ */
+public class NioDatagramTransport implements DatagramTransport
+{
+    private DatagramChannel sendDatagramChannel;
+    private DatagramChannel receiveDatagramChannel;
+    private int multicastTtl = 0;
+
+    public void open(
+        final UdpChannel udpChannel,
+        final InetSocketAddress endPointAddress,
+        final InetSocketAddress bindAddress,
+        final InetSocketAddress connectAddress,
+        final MediaDriver.Context context) throws IOException
+    {
+        try
+        {
+            sendDatagramChannel = DatagramChannel.open(udpChannel.protocolFamily());
+            receiveDatagramChannel = sendDatagramChannel;
+
+            if (udpChannel.isMulticast())
+            {
+                if (null != connectAddress)
+                {
+                    receiveDatagramChannel = DatagramChannel.open(udpChannel.protocolFamily());
+                }
+
+                receiveDatagramChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+                receiveDatagramChannel.bind(new InetSocketAddress(endPointAddress.getPort()));
+                receiveDatagramChannel.join(endPointAddress.getAddress(), udpChannel.localInterface());
+                sendDatagramChannel.setOption(StandardSocketOptions.IP_MULTICAST_IF, udpChannel.localInterface());
+
+                if (udpChannel.hasMulticastTtl())
+                {
+                    sendDatagramChannel.setOption(StandardSocketOptions.IP_MULTICAST_TTL, udpChannel.multicastTtl());
+                    multicastTtl = sendDatagramChannel.getOption(StandardSocketOptions.IP_MULTICAST_TTL);
+                }
+                else if (context.socketMulticastTtl() != 0)
+                {
+                    sendDatagramChannel.setOption(StandardSocketOptions.IP_MULTICAST_TTL, context.socketMulticastTtl());
+                    multicastTtl = sendDatagramChannel.getOption(StandardSocketOptions.IP_MULTICAST_TTL);
+                }
+            }
+            else
+            {
+                sendDatagramChannel.bind(bindAddress);
+            }
+
+            if (null != connectAddress)
+            {
+                sendDatagramChannel.connect(connectAddress);
+            }
+
+            if (0 != context.socketSndbufLength())
+            {
+                sendDatagramChannel.setOption(SO_SNDBUF, context.socketSndbufLength());
+            }
+
+            if (0 != context.socketRcvbufLength())
+            {
+                receiveDatagramChannel.setOption(SO_RCVBUF, context.socketRcvbufLength());
+            }
+
+            sendDatagramChannel.configureBlocking(false);
+            receiveDatagramChannel.configureBlocking(false);
+        }
+        catch (final IOException ex)
+        {
+            CloseHelper.quietClose(sendDatagramChannel);
+            if (receiveDatagramChannel != sendDatagramChannel)
+            {
+                CloseHelper.quietClose(receiveDatagramChannel);
+            }
+
+            sendDatagramChannel = null;
+            receiveDatagramChannel = null;
+
+            throw ex;
+        }
+    }
+
+    public boolean isOpen()
+    {
+        return null != sendDatagramChannel && sendDatagramChannel.isOpen();
+    }
+
+    public boolean isConnected()
+    {
+        return sendDatagramChannel.isConnected();
+    }
+
+    public void connect(final InetSocketAddress remoteAddress) throws IOException
+    {
+        sendDatagramChannel.disconnect();
+        sendDatagramChannel.connect(remoteAddress);
+    }
+
+    public InetSocketAddress localAddress() throws IOException
+    {
+        return (InetSocketAddress)receiveDatagramChannel.getLocalAddress();
+    }
+
+    public int multicastTtl()
+    {
+        return multicastTtl;
+    }
+
+    public int write(final ByteBuffer buffer) throws IOException
+    {
+        return sendDatagramChannel.write(buffer);
+    }
+
+    public int send(final ByteBuffer buffer, final InetSocketAddress remoteAddress) throws IOException
+    {
+        return sendDatagramChannel.send(buffer, remoteAddress);
+    }
+
+    public InetSocketAddress receive(final ByteBuffer buffer) throws IOException
+    {
+        return (InetSocketAddress)receiveDatagramChannel.receive(buffer);
+    }
+
+    public SelectableChannel selectableChannel()
+    {
+        return receiveDatagramChannel;
+    }
+
+    public void close()
+    {
+        CloseHelper.close(sendDatagramChannel);
+
+        if (receiveDatagramChannel != sendDatagramChannel)
+        {
+            CloseHelper.close(receiveDatagramChannel);
+        }
+    }
+}
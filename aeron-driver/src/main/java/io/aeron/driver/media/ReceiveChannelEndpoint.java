@@ -26,6 +26,7 @@ import io.aeron.exceptions.ControlProtocolException;
 import io.aeron.protocol.*;
 import io.aeron.status.LocalSocketAddressStatus;
 import io.aeron.status.ChannelEndpointStatus;
+import org.agrona.CloseHelper;
 import org.agrona.collections.Hashing;
 import org.agrona.collections.Int2IntCounterMap;
 import org.agrona.collections.Long2LongCounterMap;
@@ -83,6 +84,7 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointHotFields
     private final Long groupTag;
 
     private final long receiverId;
+    private int receiverIndex;
     private InetSocketAddress currentControlAddress;
     private AtomicCounter localSocketAddressIndicator;
 
@@ -100,7 +102,9 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointHotFields
         shortSends = context.systemCounters().get(SHORT_SENDS);
         possibleTtlAsymmetry = context.systemCounters().get(POSSIBLE_TTL_ASYMMETRY);
 
-        final ReceiveChannelEndpointThreadLocals threadLocals = context.receiveChannelEndpointThreadLocals();
+        final ReceiveChannelEndpointThreadLocals receiverThreadLocals = dispatcher.receiveChannelEndpointThreadLocals();
+        final ReceiveChannelEndpointThreadLocals threadLocals = null != receiverThreadLocals ?
+            receiverThreadLocals : context.receiveChannelEndpointThreadLocals();
         smBuffer = threadLocals.smBuffer();
         statusMessageFlyweight = threadLocals.statusMessageFlyweight();
         nakBuffer = threadLocals.nakBuffer();
@@ -133,6 +137,26 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointHotFields
         localSocketAddressIndicator = counter;
     }
 
+    /**
+     * Index of the {@link io.aeron.driver.Receiver} agent which services this endpoint.
+     *
+     * @param receiverIndex of the {@link io.aeron.driver.Receiver} agent which services this endpoint.
+     */
+    public void receiverIndex(final int receiverIndex)
+    {
+        this.receiverIndex = receiverIndex;
+    }
+
+    /**
+     * Index of the {@link io.aeron.driver.Receiver} agent which services this endpoint.
+     *
+     * @return index of the {@link io.aeron.driver.Receiver} agent which services this endpoint.
+     */
+    public int receiverIndex()
+    {
+        return receiverIndex;
+    }
+
     /**
      * Send contents of {@link java.nio.ByteBuffer} to the remote address.
      *
@@ -146,12 +170,12 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointHotFields
         int bytesSent = 0;
         try
         {
-            if (null != sendDatagramChannel)
+            if (null != datagramTransport)
             {
-                if (sendDatagramChannel.isOpen())
+                if (datagramTransport.isOpen())
                 {
                     sendHook(buffer, remoteAddress);
-                    bytesSent = sendDatagramChannel.send(buffer, remoteAddress);
+                    bytesSent = datagramTransport.send(buffer, remoteAddress);
                 }
             }
         }
@@ -215,6 +239,8 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointHotFields
         {
             localSocketAddressIndicator.close();
         }
+
+        CloseHelper.closeAll(productivePolls, emptyPolls);
     }
 
     public void closeMultiRcvDestination(final DataTransportPoller poller)
@@ -250,7 +276,7 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointHotFields
 
     public void possibleTtlAsymmetryEncountered()
     {
-        possibleTtlAsymmetry.incrementOrdered();
+        possibleTtlAsymmetry.increment();
     }
 
     public int incRefToStream(final int streamId)
@@ -433,6 +459,33 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointHotFields
         return dispatcher.onDataPacket(this, header, buffer, length, srcAddress, transportIndex);
     }
 
+    /**
+     * The region of a term buffer into which the body of the next datagram can be received directly, or null if the
+     * next frame is not predictable and datagrams must be received into a separate buffer and copied.
+     *
+     * @return the region of a term buffer into which the body of the next datagram can be received or null.
+     */
+    public ByteBuffer directReceiveBody()
+    {
+        return dispatcher.directReceiveBody();
+    }
+
+    public int onDirectDataPacket(
+        final DataHeaderFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress,
+        final int transportIndex)
+    {
+        final int bytesReceived = dispatcher.onDirectDataPacket(header, buffer, length, srcAddress, transportIndex);
+        if (DataPacketDispatcher.DIRECT_RECEIVE_REJECTED != bytesReceived)
+        {
+            updateTimeOfLastActivityNs(cachedNanoClock.nanoTime(), transportIndex);
+        }
+
+        return bytesReceived;
+    }
+
     public void onSetupMessage(
         final SetupFlyweight header,
         final UnsafeBuffer buffer,
@@ -541,18 +594,62 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointHotFields
     {
         if (!isClosed)
         {
-            nakBuffer.clear();
+            nakBuffer.clear().limit(NakFlyweight.HEADER_LENGTH);
             nakFlyweight
                 .streamId(streamId)
                 .sessionId(sessionId)
                 .termId(termId)
                 .termOffset(termOffset)
-                .length(length);
+                .length(length)
+                .flags((short)0)
+                .frameLength(NakFlyweight.HEADER_LENGTH);
 
             send(nakBuffer, NakFlyweight.HEADER_LENGTH, controlAddresses);
         }
     }
 
+    /**
+     * Send a NAK carrying multiple ranges of missing data in the same term. Senders which do not understand the
+     * {@link NakFlyweight#MULTI_RANGE_FLAG} will only act on the first range.
+     *
+     * @param controlAddresses to send the NAK to.
+     * @param sessionId        of the stream.
+     * @param streamId         of the stream.
+     * @param termId           of the term containing the ranges.
+     * @param termOffsets      of the ranges of missing data.
+     * @param lengths          of the ranges of missing data.
+     * @param rangeCount       of ranges to send which is limited to {@link NakFlyweight#MAX_RANGE_COUNT}.
+     */
+    public void sendNakMessage(
+        final ImageConnection[] controlAddresses,
+        final int sessionId,
+        final int streamId,
+        final int termId,
+        final int[] termOffsets,
+        final int[] lengths,
+        final int rangeCount)
+    {
+        if (!isClosed)
+        {
+            final int count = Math.min(rangeCount, NakFlyweight.MAX_RANGE_COUNT);
+            final int frameLength = NakFlyweight.multiRangeFrameLength(count);
+
+            nakBuffer.clear().limit(frameLength);
+            nakFlyweight
+                .streamId(streamId)
+                .sessionId(sessionId)
+                .flags(count > 1 ? NakFlyweight.MULTI_RANGE_FLAG : 0)
+                .frameLength(frameLength);
+
+            for (int i = 0; i < count; i++)
+            {
+                nakFlyweight.range(i, termId, termOffsets[i], lengths[i]);
+            }
+
+            send(nakBuffer, frameLength, controlAddresses);
+        }
+    }
+
     public void sendRttMeasurement(
         final ImageConnection[] controlAddresses,
         final int sessionId,
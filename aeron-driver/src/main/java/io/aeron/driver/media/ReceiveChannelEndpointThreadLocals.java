@@ -48,7 +48,7 @@ public class ReceiveChannelEndpointThreadLocals
         final int smLength = StatusMessageFlyweight.HEADER_LENGTH + SIZE_OF_LONG;
         final int bufferLength =
             BitUtil.align(smLength, CACHE_LINE_LENGTH) +
-            BitUtil.align(NakFlyweight.HEADER_LENGTH, CACHE_LINE_LENGTH) +
+            BitUtil.align(NakFlyweight.MAX_FRAME_LENGTH, CACHE_LINE_LENGTH) +
             BitUtil.align(RttMeasurementFlyweight.HEADER_LENGTH, CACHE_LINE_LENGTH);
 
         final UUID uuid = UUID.randomUUID();
@@ -61,11 +61,12 @@ public class ReceiveChannelEndpointThreadLocals
         statusMessageFlyweight = new StatusMessageFlyweight(smBuffer);
 
         final int nakMessageOffset = BitUtil.align(smLength, FRAME_ALIGNMENT);
-        byteBuffer.limit(nakMessageOffset + NakFlyweight.HEADER_LENGTH).position(nakMessageOffset);
+        byteBuffer.limit(nakMessageOffset + NakFlyweight.MAX_FRAME_LENGTH).position(nakMessageOffset);
         nakBuffer = byteBuffer.slice();
         nakFlyweight = new NakFlyweight(nakBuffer);
 
-        final int rttMeasurementOffset = nakMessageOffset + BitUtil.align(NakFlyweight.HEADER_LENGTH, FRAME_ALIGNMENT);
+        final int rttMeasurementOffset =
+            nakMessageOffset + BitUtil.align(NakFlyweight.MAX_FRAME_LENGTH, FRAME_ALIGNMENT);
         byteBuffer.limit(rttMeasurementOffset + RttMeasurementFlyweight.HEADER_LENGTH).position(rttMeasurementOffset);
         rttMeasurementBuffer = byteBuffer.slice();
         rttMeasurementFlyweight = new RttMeasurementFlyweight(rttMeasurementBuffer);
@@ -25,6 +25,7 @@ import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
 import io.aeron.status.LocalSocketAddressStatus;
 import io.aeron.status.ChannelEndpointStatus;
+import org.agrona.CloseHelper;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
@@ -36,6 +37,7 @@ import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
 import static io.aeron.driver.status.SystemCounterDescriptor.NAK_MESSAGES_RECEIVED;
+import static io.aeron.driver.status.SystemCounterDescriptor.SEGMENT_OFFLOAD_SENDS;
 import static io.aeron.driver.status.SystemCounterDescriptor.STATUS_MESSAGES_RECEIVED;
 import static io.aeron.protocol.StatusMessageFlyweight.SEND_SETUP_FLAG;
 import static io.aeron.status.ChannelEndpointStatus.status;
@@ -50,14 +52,22 @@ public class SendChannelEndpoint extends UdpChannelTransport
 {
     static final long DESTINATION_TIMEOUT = TimeUnit.SECONDS.toNanos(5);
 
+    /**
+     * Maximum number of segments in a single offloaded send which matches UDP_MAX_SEGMENTS on Linux.
+     */
+    static final int MAX_OFFLOAD_SEGMENTS = 64;
+
     private int refCount = 0;
     protected long timeOfLastResolutionNs;
     private final Long2ObjectHashMap<NetworkPublication> publicationBySessionAndStreamId = new Long2ObjectHashMap<>();
     private final MultiSndDestination multiSndDestination;
     private final AtomicCounter statusMessagesReceived;
     private final AtomicCounter nakMessagesReceived;
+    private final AtomicCounter segmentOffloadSends;
     private final AtomicCounter statusIndicator;
+    private final boolean hasPeerSenders;
     private AtomicCounter localSocketAddressIndicator;
+    private int senderIndex;
 
     public SendChannelEndpoint(
         final UdpChannel udpChannel, final AtomicCounter statusIndicator, final MediaDriver.Context context)
@@ -71,6 +81,8 @@ public class SendChannelEndpoint extends UdpChannelTransport
 
         nakMessagesReceived = context.systemCounters().get(NAK_MESSAGES_RECEIVED);
         statusMessagesReceived = context.systemCounters().get(STATUS_MESSAGES_RECEIVED);
+        segmentOffloadSends = context.systemCounters().get(SEGMENT_OFFLOAD_SENDS);
+        hasPeerSenders = context.senderThreadCount() > 1;
         this.statusIndicator = statusIndicator;
 
         MultiSndDestination multiSndDestination = null;
@@ -91,6 +103,26 @@ public class SendChannelEndpoint extends UdpChannelTransport
         localSocketAddressIndicator = counter;
     }
 
+    /**
+     * Index of the {@link io.aeron.driver.Sender} agent which services this endpoint.
+     *
+     * @param senderIndex of the {@link io.aeron.driver.Sender} agent which services this endpoint.
+     */
+    public void senderIndex(final int senderIndex)
+    {
+        this.senderIndex = senderIndex;
+    }
+
+    /**
+     * Index of the {@link io.aeron.driver.Sender} agent which services this endpoint.
+     *
+     * @return index of the {@link io.aeron.driver.Sender} agent which services this endpoint.
+     */
+    public int senderIndex()
+    {
+        return senderIndex;
+    }
+
     public void decRef()
     {
         --refCount;
@@ -158,6 +190,8 @@ public class SendChannelEndpoint extends UdpChannelTransport
         {
             localSocketAddressIndicator.close();
         }
+
+        CloseHelper.closeAll(productivePolls, emptyPolls);
     }
 
     /**
@@ -203,7 +237,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
     {
         int bytesSent = 0;
 
-        if (null != sendDatagramChannel)
+        if (null != datagramTransport)
         {
             final int bytesToSend = buffer.remaining();
 
@@ -212,9 +246,9 @@ public class SendChannelEndpoint extends UdpChannelTransport
                 try
                 {
                     sendHook(buffer, connectAddress);
-                    if (sendDatagramChannel.isConnected())
+                    if (datagramTransport.isConnected())
                     {
-                        bytesSent = sendDatagramChannel.write(buffer);
+                        bytesSent = datagramTransport.write(buffer);
                     }
                 }
                 catch (final PortUnreachableException ignore)
@@ -227,13 +261,91 @@ public class SendChannelEndpoint extends UdpChannelTransport
             }
             else
             {
-                bytesSent = multiSndDestination.send(sendDatagramChannel, buffer, this, bytesToSend);
+                bytesSent = multiSndDestination.send(datagramTransport, buffer, this, bytesToSend);
             }
         }
 
         return bytesSent;
     }
 
+    /**
+     * Send a batch of datagrams, each being the contents of a {@link ByteBuffer}, to the connected address or to
+     * each destination for a multi-destination channel. The batch is sent in order and sending stops at the first
+     * datagram which could not be sent in full.
+     * <p>
+     * When UDP segmentation offload is in use, runs of datagrams of equal length are sent as a single operation.
+     *
+     * @param buffers     containing the datagrams to send.
+     * @param bufferCount number of buffers from the start of the array which make up the batch.
+     * @return number of datagrams from the start of the batch which were sent in full.
+     */
+    public int send(final ByteBuffer[] buffers, final int bufferCount)
+    {
+        int sentCount = 0;
+
+        if (null != datagramTransport)
+        {
+            if (null == multiSndDestination)
+            {
+                int bytesToSend = 0;
+                try
+                {
+                    while (sentCount < bufferCount)
+                    {
+                        final ByteBuffer buffer = buffers[sentCount];
+                        final int segmentCount = isSegmentOffload ? segmentCount(buffers, sentCount, bufferCount) : 1;
+
+                        if (segmentCount > 1)
+                        {
+                            final int segmentLength = buffer.remaining();
+                            bytesToSend = 0;
+                            for (int i = sentCount, limit = sentCount + segmentCount; i < limit; i++)
+                            {
+                                bytesToSend += buffers[i].remaining();
+                                sendHook(buffers[i], connectAddress);
+                            }
+
+                            if (!datagramTransport.isConnected() ||
+                                bytesToSend != datagramTransport.writeSegments(
+                                buffers, sentCount, segmentCount, segmentLength))
+                            {
+                                break;
+                            }
+
+                            segmentOffloadSends.increment();
+                            sentCount += segmentCount;
+                        }
+                        else
+                        {
+                            bytesToSend = buffer.remaining();
+
+                            sendHook(buffer, connectAddress);
+                            if (!datagramTransport.isConnected() || bytesToSend != datagramTransport.write(buffer))
+                            {
+                                break;
+                            }
+
+                            sentCount++;
+                        }
+                    }
+                }
+                catch (final PortUnreachableException ignore)
+                {
+                }
+                catch (final IOException ex)
+                {
+                    sendError(bytesToSend, ex, connectAddress);
+                }
+            }
+            else
+            {
+                sentCount = multiSndDestination.send(datagramTransport, buffers, bufferCount, this);
+            }
+        }
+
+        return sentCount;
+    }
+
     public void checkForReResolution(final long nowNs, final DriverConductorProxy conductorProxy)
     {
         if (udpChannel.isManualControlMode())
@@ -274,7 +386,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
                     publication.triggerSendSetupFrame();
                 }
 
-                statusMessagesReceived.incrementOrdered();
+                increment(statusMessagesReceived);
             }
         }
 
@@ -290,7 +402,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
                 publication.onStatusMessage(msg, srcAddress);
             }
 
-            statusMessagesReceived.incrementOrdered();
+            increment(statusMessagesReceived);
         }
     }
 
@@ -305,8 +417,18 @@ public class SendChannelEndpoint extends UdpChannelTransport
 
         if (null != publication)
         {
-            publication.onNak(msg.termId(), msg.termOffset(), msg.length());
-            nakMessagesReceived.incrementOrdered();
+            final int rangeCount = Math.min(
+                msg.rangeCount(), 1 + ((length - NakFlyweight.HEADER_LENGTH) / NakFlyweight.RANGE_LENGTH));
+
+            if (rangeCount > 1)
+            {
+                publication.onNak(msg, Math.min(rangeCount, NakFlyweight.MAX_RANGE_COUNT));
+            }
+            else
+            {
+                publication.onNak(msg.termId(), msg.termOffset(), msg.length());
+            }
+            increment(nakMessagesReceived);
         }
     }
 
@@ -365,4 +487,42 @@ public class SendChannelEndpoint extends UdpChannelTransport
 
         return 0;
     }
+
+    private static int segmentCount(final ByteBuffer[] buffers, final int offset, final int bufferCount)
+    {
+        final int segmentLength = buffers[offset].remaining();
+        final int limit = Math.min(bufferCount, offset + MAX_OFFLOAD_SEGMENTS);
+        int totalLength = segmentLength;
+        int count = 1;
+
+        for (int i = offset + 1; i < limit; i++)
+        {
+            final int length = buffers[i].remaining();
+            totalLength += length;
+            if (length > segmentLength || totalLength > Configuration.MAX_UDP_PAYLOAD_LENGTH)
+            {
+                break;
+            }
+
+            count++;
+            if (length < segmentLength)
+            {
+                break;
+            }
+        }
+
+        return count;
+    }
+
+    private void increment(final AtomicCounter counter)
+    {
+        if (hasPeerSenders)
+        {
+            counter.increment();
+        }
+        else
+        {
+            counter.incrementOrdered();
+        }
+    }
 }
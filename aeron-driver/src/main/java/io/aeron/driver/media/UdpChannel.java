@@ -15,6 +15,7 @@
  */
 package io.aeron.driver.media;
 
+import io.aeron.Aeron;
 import io.aeron.ChannelUri;
 import io.aeron.CommonContext;
 import io.aeron.driver.DefaultNameResolver;
@@ -50,7 +51,10 @@ public final class UdpChannel
     private final boolean isMulticast;
     private final boolean hasMulticastTtl;
     private final boolean hasTag;
+    private final boolean isSegmentOffload;
     private final int multicastTtl;
+    private final int receiverShard;
+    private final int senderShard;
     private final long tag;
     private final InetSocketAddress remoteData;
     private final InetSocketAddress localData;
@@ -70,9 +74,12 @@ public final class UdpChannel
         hasExplicitControl = context.hasExplicitControl;
         isMulticast = context.isMulticast;
         hasTag = context.hasTagId;
+        isSegmentOffload = context.isSegmentOffload;
         tag = context.tagId;
         hasMulticastTtl = context.hasMulticastTtl;
         multicastTtl = context.multicastTtl;
+        receiverShard = context.receiverShard;
+        senderShard = context.senderShard;
         remoteData = context.remoteData;
         localData = context.localData;
         remoteControl = context.remoteControl;
@@ -171,7 +178,10 @@ public final class UdpChannel
                 .isManualControlMode(isManualControlMode)
                 .isDynamicControlMode(isDynamicControlMode)
                 .hasExplicitEndpoint(hasExplicitEndpoint)
-                .hasNoDistinguishingCharacteristic(hasNoDistinguishingCharacteristic);
+                .hasNoDistinguishingCharacteristic(hasNoDistinguishingCharacteristic)
+                .isSegmentOffload("true".equals(channelUri.get(CommonContext.SEGMENT_OFFLOAD_PARAM_NAME)))
+                .receiverShard(parseShard(channelUri, CommonContext.RECEIVER_SHARD_PARAM_NAME))
+                .senderShard(parseShard(channelUri, CommonContext.SENDER_SHARD_PARAM_NAME));
 
             if (null != tagIdStr)
             {
@@ -406,6 +416,39 @@ public final class UdpChannel
         return isMulticast;
     }
 
+    /**
+     * Has the channel opted in to UDP segmentation offload.
+     *
+     * @return true if the channel has opted in to UDP segmentation offload.
+     * @see CommonContext#SEGMENT_OFFLOAD_PARAM_NAME
+     */
+    public boolean isSegmentOffload()
+    {
+        return isSegmentOffload;
+    }
+
+    /**
+     * Receiver agent shard requested for the channel.
+     *
+     * @return receiver agent shard requested for the channel or {@link io.aeron.Aeron#NULL_VALUE} if not set.
+     * @see CommonContext#RECEIVER_SHARD_PARAM_NAME
+     */
+    public int receiverShard()
+    {
+        return receiverShard;
+    }
+
+    /**
+     * Sender agent shard requested for the channel.
+     *
+     * @return sender agent shard requested for the channel or {@link io.aeron.Aeron#NULL_VALUE} if not set.
+     * @see CommonContext#SENDER_SHARD_PARAM_NAME
+     */
+    public int senderShard()
+    {
+        return senderShard;
+    }
+
     /**
      * Local interface to be used by the channel.
      *
@@ -694,6 +737,32 @@ public final class UdpChannel
         }
     }
 
+    private static int parseShard(final ChannelUri uri, final String paramName)
+    {
+        final String shardValue = uri.get(paramName);
+        if (null == shardValue)
+        {
+            return Aeron.NULL_VALUE;
+        }
+
+        final int shard;
+        try
+        {
+            shard = Integer.parseInt(shardValue);
+        }
+        catch (final NumberFormatException ex)
+        {
+            throw new IllegalArgumentException(paramName + " must be a non-negative integer: " + shardValue, ex);
+        }
+
+        if (shard < 0)
+        {
+            throw new IllegalArgumentException(paramName + " must be a non-negative integer: " + shardValue);
+        }
+
+        return shard;
+    }
+
     private static void validateConfiguration(final ChannelUri uri)
     {
         validateMedia(uri);
@@ -772,6 +841,8 @@ public final class UdpChannel
     {
         long tagId;
         int multicastTtl;
+        int receiverShard = Aeron.NULL_VALUE;
+        int senderShard = Aeron.NULL_VALUE;
         InetSocketAddress remoteData;
         InetSocketAddress localData;
         InetSocketAddress remoteControl;
@@ -789,6 +860,7 @@ public final class UdpChannel
         boolean hasMulticastTtl = false;
         boolean hasTagId = false;
         boolean hasNoDistinguishingCharacteristic = false;
+        boolean isSegmentOffload = false;
 
         Context uriStr(final String uri)
         {
@@ -903,5 +975,23 @@ public final class UdpChannel
             this.hasNoDistinguishingCharacteristic = hasNoDistinguishingCharacteristic;
             return this;
         }
+
+        Context isSegmentOffload(final boolean isSegmentOffload)
+        {
+            this.isSegmentOffload = isSegmentOffload;
+            return this;
+        }
+
+        Context receiverShard(final int receiverShard)
+        {
+            this.receiverShard = receiverShard;
+            return this;
+        }
+
+        Context senderShard(final int senderShard)
+        {
+            this.senderShard = senderShard;
+            return this;
+        }
     }
 }
@@ -15,6 +15,7 @@
  */
 package io.aeron.driver.media;
 
+import io.aeron.driver.DatagramTransportSupplier;
 import io.aeron.driver.MediaDriver;
 import io.aeron.driver.status.SystemCounterDescriptor;
 import io.aeron.exceptions.AeronException;
@@ -29,14 +30,10 @@ import org.agrona.concurrent.status.AtomicCounter;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.PortUnreachableException;
-import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
-import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectionKey;
 
 import static io.aeron.logbuffer.FrameDescriptor.frameVersion;
-import static java.net.StandardSocketOptions.SO_RCVBUF;
-import static java.net.StandardSocketOptions.SO_SNDBUF;
 
 /**
  * Base class for UDP channel transports which is specialised for send or receive endpoints.
@@ -52,10 +49,14 @@ public abstract class UdpChannelTransport implements AutoCloseable
     protected final InetSocketAddress bindAddress;
     protected final InetSocketAddress endPointAddress;
     protected InetSocketAddress connectAddress;
-    protected DatagramChannel sendDatagramChannel;
-    protected DatagramChannel receiveDatagramChannel;
+    protected DatagramTransport datagramTransport;
     protected int multicastTtl = 0;
     protected boolean isClosed = false;
+    protected boolean isSegmentOffload = false;
+    protected AtomicCounter productivePolls;
+    protected AtomicCounter emptyPolls;
+    int consecutiveEmptyPolls;
+    int pollsToSkip;
 
     public UdpChannelTransport(
         final UdpChannel udpChannel,
@@ -94,56 +95,16 @@ public abstract class UdpChannelTransport implements AutoCloseable
      */
     public void openDatagramChannel(final AtomicCounter statusIndicator)
     {
+        final DatagramTransportSupplier supplier = context.datagramTransportSupplier();
+        final DatagramTransport transport = null != supplier ?
+            supplier.newInstance(udpChannel) : new NioDatagramTransport();
+
         try
         {
-            sendDatagramChannel = DatagramChannel.open(udpChannel.protocolFamily());
-            receiveDatagramChannel = sendDatagramChannel;
-
-            if (udpChannel.isMulticast())
-            {
-                if (null != connectAddress)
-                {
-                    receiveDatagramChannel = DatagramChannel.open(udpChannel.protocolFamily());
-                }
-
-                receiveDatagramChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
-                receiveDatagramChannel.bind(new InetSocketAddress(endPointAddress.getPort()));
-                receiveDatagramChannel.join(endPointAddress.getAddress(), udpChannel.localInterface());
-                sendDatagramChannel.setOption(StandardSocketOptions.IP_MULTICAST_IF, udpChannel.localInterface());
-
-                if (udpChannel.hasMulticastTtl())
-                {
-                    sendDatagramChannel.setOption(StandardSocketOptions.IP_MULTICAST_TTL, udpChannel.multicastTtl());
-                    multicastTtl = sendDatagramChannel.getOption(StandardSocketOptions.IP_MULTICAST_TTL);
-                }
-                else if (context.socketMulticastTtl() != 0)
-                {
-                    sendDatagramChannel.setOption(StandardSocketOptions.IP_MULTICAST_TTL, context.socketMulticastTtl());
-                    multicastTtl = sendDatagramChannel.getOption(StandardSocketOptions.IP_MULTICAST_TTL);
-                }
-            }
-            else
-            {
-                sendDatagramChannel.bind(bindAddress);
-            }
-
-            if (null != connectAddress)
-            {
-                sendDatagramChannel.connect(connectAddress);
-            }
-
-            if (0 != context.socketSndbufLength())
-            {
-                sendDatagramChannel.setOption(SO_SNDBUF, context.socketSndbufLength());
-            }
-
-            if (0 != context.socketRcvbufLength())
-            {
-                receiveDatagramChannel.setOption(SO_RCVBUF, context.socketRcvbufLength());
-            }
-
-            sendDatagramChannel.configureBlocking(false);
-            receiveDatagramChannel.configureBlocking(false);
+            transport.open(udpChannel, endPointAddress, bindAddress, connectAddress, context);
+            multicastTtl = transport.multicastTtl();
+            isSegmentOffload = udpChannel.isSegmentOffload() && transport.isSegmentOffloadSupported();
+            datagramTransport = transport;
         }
         catch (final IOException ex)
         {
@@ -152,14 +113,7 @@ public abstract class UdpChannelTransport implements AutoCloseable
                 statusIndicator.setOrdered(ChannelEndpointStatus.ERRORED);
             }
 
-            CloseHelper.quietClose(sendDatagramChannel);
-            if (receiveDatagramChannel != sendDatagramChannel)
-            {
-                CloseHelper.quietClose(receiveDatagramChannel);
-            }
-
-            sendDatagramChannel = null;
-            receiveDatagramChannel = null;
+            CloseHelper.quietClose(transport);
 
             final String message = "channel error - " + ex.getMessage() +
                 " (at " + ex.getStackTrace()[0].toString() + "): " + udpChannel.originalUriString();
@@ -179,6 +133,38 @@ public abstract class UdpChannelTransport implements AutoCloseable
         selectionKey = transportPoller.registerForRead(this);
     }
 
+    /**
+     * Set the counters of productive and empty polls for the transport when busy polling transports.
+     *
+     * @param productivePolls counter of polls which read at least one datagram.
+     * @param emptyPolls      counter of polls which found nothing to read.
+     */
+    public void pollCounters(final AtomicCounter productivePolls, final AtomicCounter emptyPolls)
+    {
+        this.productivePolls = productivePolls;
+        this.emptyPolls = emptyPolls;
+    }
+
+    /**
+     * Counter of polls which read at least one datagram, if allocated.
+     *
+     * @return counter of polls which read at least one datagram or null if not allocated.
+     */
+    public AtomicCounter productivePolls()
+    {
+        return productivePolls;
+    }
+
+    /**
+     * Counter of polls which found nothing to read, if allocated.
+     *
+     * @return counter of polls which found nothing to read or null if not allocated.
+     */
+    public AtomicCounter emptyPolls()
+    {
+        return emptyPolls;
+    }
+
     /**
      * Return underlying {@link UdpChannel}.
      *
@@ -190,13 +176,13 @@ public abstract class UdpChannelTransport implements AutoCloseable
     }
 
     /**
-     * The {@link DatagramChannel} for this transport channel.
+     * The {@link DatagramTransport} beneath this transport channel once opened.
      *
-     * @return {@link DatagramChannel} for this transport channel.
+     * @return {@link DatagramTransport} beneath this transport channel or null if not open.
      */
-    public DatagramChannel receiveDatagramChannel()
+    public DatagramTransport datagramTransport()
     {
-        return receiveDatagramChannel;
+        return datagramTransport;
     }
 
     /**
@@ -220,7 +206,7 @@ public abstract class UdpChannelTransport implements AutoCloseable
     {
         try
         {
-            final InetSocketAddress localAddress = (InetSocketAddress)receiveDatagramChannel.getLocalAddress();
+            final InetSocketAddress localAddress = datagramTransport.localAddress();
             if (null != localAddress)
             {
                 return NetworkUtil.formatAddressAndPort(localAddress.getAddress(), localAddress.getPort());
@@ -252,12 +238,7 @@ public abstract class UdpChannelTransport implements AutoCloseable
                 transportPoller.selectNowWithoutProcessing();
             }
 
-            CloseHelper.close(errorHandler, sendDatagramChannel);
-
-            if (receiveDatagramChannel != sendDatagramChannel && null != receiveDatagramChannel)
-            {
-                CloseHelper.close(errorHandler, receiveDatagramChannel);
-            }
+            CloseHelper.close(errorHandler, datagramTransport);
 
             if (null != transportPoller)
             {
@@ -276,6 +257,28 @@ public abstract class UdpChannelTransport implements AutoCloseable
         return udpChannel.isMulticast();
     }
 
+    /**
+     * Is UDP segmentation offload in use which requires the channel to opt in and the {@link DatagramTransport} to
+     * support it.
+     *
+     * @return true if UDP segmentation offload is in use for the transport.
+     */
+    public boolean isSegmentOffload()
+    {
+        return isSegmentOffload;
+    }
+
+    /**
+     * The segment length of the last datagram received if it was coalesced from a number of datagrams.
+     *
+     * @return the segment length of the last datagram received if coalesced, otherwise 0.
+     * @see DatagramTransport#receivedSegmentLength()
+     */
+    public int receivedSegmentLength()
+    {
+        return isSegmentOffload ? datagramTransport.receivedSegmentLength() : 0;
+    }
+
     /**
      * Is the received frame valid. This method will do some basic checks on the header and can be
      * overridden in a subclass for further validation.
@@ -325,9 +328,48 @@ public abstract class UdpChannelTransport implements AutoCloseable
         InetSocketAddress address = null;
         try
         {
-            if (receiveDatagramChannel.isOpen())
+            if (datagramTransport.isOpen())
+            {
+                address = datagramTransport.receive(buffer);
+            }
+        }
+        catch (final PortUnreachableException ignored)
+        {
+        }
+        catch (final Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return address;
+    }
+
+    /**
+     * Can datagrams be received with a scattering receive so the body can be placed directly into a term buffer.
+     *
+     * @return true if datagrams can be received with a scattering receive.
+     * @see #receive(ByteBuffer, ByteBuffer)
+     */
+    public boolean isScatterReceiveSupported()
+    {
+        return !isSegmentOffload && datagramTransport.isScatterReceiveSupported();
+    }
+
+    /**
+     * Receive a datagram from the media layer with the header and body placed in separate buffers.
+     *
+     * @param header into which the header of the datagram will be received up to its limit.
+     * @param body   into which the remainder of the datagram will be received from its position up to limit.
+     * @return the source address of the datagram if one is available otherwise null.
+     */
+    public InetSocketAddress receive(final ByteBuffer header, final ByteBuffer body)
+    {
+        InetSocketAddress address = null;
+        try
+        {
+            if (datagramTransport.isOpen())
             {
-                address = (InetSocketAddress)receiveDatagramChannel.receive(buffer);
+                address = datagramTransport.receive(header, body);
             }
         }
         catch (final PortUnreachableException ignored)
@@ -351,10 +393,9 @@ public abstract class UdpChannelTransport implements AutoCloseable
     {
         try
         {
-            if (null != sendDatagramChannel)
+            if (null != datagramTransport)
             {
-                sendDatagramChannel.disconnect();
-                sendDatagramChannel.connect(newAddress);
+                datagramTransport.connect(newAddress);
                 connectAddress = newAddress;
 
                 if (null != statusIndicator)
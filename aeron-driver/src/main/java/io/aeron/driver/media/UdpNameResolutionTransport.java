@@ -84,12 +84,12 @@ public class UdpNameResolutionTransport extends UdpChannelTransport
         int bytesSent = 0;
         try
         {
-            if (null != sendDatagramChannel)
+            if (null != datagramTransport)
             {
-                if (sendDatagramChannel.isOpen())
+                if (datagramTransport.isOpen())
                 {
                     sendHook(buffer, remoteAddress);
-                    bytesSent = sendDatagramChannel.send(buffer, remoteAddress);
+                    bytesSent = datagramTransport.send(buffer, remoteAddress);
                 }
             }
         }
@@ -105,7 +105,7 @@ public class UdpNameResolutionTransport extends UdpChannelTransport
     {
         try
         {
-            return (InetSocketAddress)receiveDatagramChannel.getLocalAddress();
+            return datagramTransport.localAddress();
         }
         catch (final IOException ex)
         {
@@ -16,8 +16,11 @@
 package io.aeron.driver.media;
 
 import org.agrona.ErrorHandler;
+import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.nio.TransportPoller;
 
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 
 /**
@@ -25,6 +28,16 @@ import java.nio.channels.SelectionKey;
  */
 public abstract class UdpTransportPoller extends TransportPoller
 {
+    /**
+     * Number of consecutive empty polls of a transport, when busy polling, after which it will be polled less often.
+     */
+    public static final int BUSY_POLL_IDLE_THRESHOLD = 64;
+
+    /**
+     * Maximum number of poll cycles an idle transport will be skipped for when busy polling.
+     */
+    public static final int BUSY_POLL_MAX_SKIP = 8;
+
     protected final ErrorHandler errorHandler;
 
     public UdpTransportPoller(final ErrorHandler errorHandler)
@@ -53,4 +66,88 @@ public abstract class UdpTransportPoller extends TransportPoller
      * @param transport to cancel read for
      */
     public abstract void cancelRead(UdpChannelTransport transport);
+
+    /**
+     * Register a channel with the selector for read so it will be included when the number of transports requires
+     * selecting rather than iterating.
+     *
+     * @param channel    to be registered, or null if the {@link DatagramTransport} does not support selection.
+     * @param attachment to be associated with the {@link SelectionKey}.
+     * @return the {@link SelectionKey} for the registration or null if the selector is not used.
+     * @throws ClosedChannelException if the channel is closed.
+     */
+    protected SelectionKey registerChannel(final SelectableChannel channel, final Object attachment)
+        throws ClosedChannelException
+    {
+        return null == channel ? null : channel.register(selector, SelectionKey.OP_READ, attachment);
+    }
+
+    /**
+     * Is the {@link DatagramTransport} of a transport unable to be registered with a selector so that transports
+     * must be polled by iteration.
+     *
+     * @param transport to be checked.
+     * @return true if the transport must be polled by iteration.
+     */
+    static boolean isUnselectable(final UdpChannelTransport transport)
+    {
+        final DatagramTransport datagramTransport = transport.datagramTransport();
+        return null != datagramTransport && null == datagramTransport.selectableChannel();
+    }
+
+    /**
+     * Readiness hint for busy polling which avoids a read of a transport which has been idle for a while.
+     *
+     * @param transport to be checked.
+     * @return true if the poll of the transport should be skipped this cycle.
+     */
+    static boolean skipPoll(final UdpChannelTransport transport)
+    {
+        if (transport.pollsToSkip > 0)
+        {
+            transport.pollsToSkip--;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Update the readiness hint and counters of a transport after it has been busy polled.
+     *
+     * @param transport       which has been polled.
+     * @param isProductive    true if at least one datagram was read.
+     * @param productivePolls counter to increment if productive, may be null.
+     * @param emptyPolls      counter to increment if empty, may be null.
+     */
+    static void onPoll(
+        final UdpChannelTransport transport,
+        final boolean isProductive,
+        final AtomicCounter productivePolls,
+        final AtomicCounter emptyPolls)
+    {
+        if (isProductive)
+        {
+            transport.consecutiveEmptyPolls = 0;
+            if (null != productivePolls)
+            {
+                productivePolls.incrementOrdered();
+            }
+        }
+        else
+        {
+            final int emptyPollCount = Math.min(
+                transport.consecutiveEmptyPolls + 1, BUSY_POLL_IDLE_THRESHOLD + BUSY_POLL_MAX_SKIP);
+            transport.consecutiveEmptyPolls = emptyPollCount;
+            if (emptyPollCount > BUSY_POLL_IDLE_THRESHOLD)
+            {
+                transport.pollsToSkip = emptyPollCount - BUSY_POLL_IDLE_THRESHOLD;
+            }
+
+            if (null != emptyPolls)
+            {
+                emptyPolls.incrementOrdered();
+            }
+        }
+    }
 }
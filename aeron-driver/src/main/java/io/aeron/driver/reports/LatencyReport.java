@@ -0,0 +1,284 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.reports;
+
+import org.agrona.BitUtil;
+import org.agrona.concurrent.AtomicBuffer;
+
+import static org.agrona.BitUtil.*;
+
+/**
+ * A report of the latency distribution, from send to receipt, of frames on a message stream.
+ * <p>
+ * Latency values are recorded in nanoseconds into log-linear buckets in the same manner as an HDR histogram with
+ * 32 sub-buckets per power of two, i.e. a value precision of approximately 3%, so they can be loaded into a
+ * histogram by a reader out of process and percentiles calculated.
+ * <p>
+ * The provided {@link AtomicBuffer} can wrap a memory-mapped file so logging can be out of process. This provides
+ * the benefit that if a crash or lockup occurs then the log can be read externally without loss of data.
+ * <p>
+ * <b>Note:</b>This class is NOT threadsafe to be used from multiple logging threads.
+ * <p>
+ * The latency records are recorded to the memory mapped buffer in the following format.
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ *  |                         Entry Length                          |
+ *  +---------------------------------------------------------------+
+ *  |                          Session ID                           |
+ *  +---------------------------------------------------------------+
+ *  |                           Stream ID                           |
+ *  +---------------------------------------------------------------+
+ *  |                           Reserved                            |
+ *  +---------------------------------------------------------------+
+ *  |                      Creation Timestamp                       |
+ *  |                                                               |
+ *  +---------------------------------------------------------------+
+ *  |R|                        Sample Count                         |
+ *  |                                                               |
+ *  +-+-------------------------------------------------------------+
+ *  |R|                       Max Value in ns                       |
+ *  |                                                               |
+ *  +-+-------------------------------------------------------------+
+ *  |R|                   Bucket Counts (1152 x 64)                ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ *  |                 Channel encoded in US-ASCII                  ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ *  |                  Source encoded in US-ASCII                  ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ */
+public class LatencyReport
+{
+    /**
+     * Alignment to be applied for each entry offset.
+     */
+    public static final int ENTRY_ALIGNMENT = CACHE_LINE_LENGTH;
+
+    /**
+     * Number of bits of value precision within each power of two bucket.
+     */
+    public static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * Number of sub-buckets within each power of two bucket above the linear range.
+     */
+    public static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Number of bits for the highest trackable value. Values above this are recorded as the highest value.
+     */
+    public static final int MAX_VALUE_BITS = 40;
+
+    /**
+     * Highest latency value in nanoseconds which can be tracked, approximately 18 minutes.
+     */
+    public static final long MAX_TRACKABLE_VALUE_NS = (1L << MAX_VALUE_BITS) - 1;
+
+    /**
+     * Number of buckets in each entry.
+     */
+    public static final int BUCKET_COUNT = SUB_BUCKET_HALF_COUNT * (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1);
+
+    /**
+     * Offset within an entry at which the entry length field begins.
+     */
+    public static final int ENTRY_LENGTH_OFFSET = 0;
+
+    /**
+     * Offset within an entry at which the session id field begins.
+     */
+    public static final int SESSION_ID_OFFSET = ENTRY_LENGTH_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Offset within an entry at which the stream id field begins.
+     */
+    public static final int STREAM_ID_OFFSET = SESSION_ID_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Offset within an entry at which the creation timestamp field begins.
+     */
+    public static final int CREATION_TIMESTAMP_OFFSET = STREAM_ID_OFFSET + SIZE_OF_INT + SIZE_OF_INT;
+
+    /**
+     * Offset within an entry at which the sample count field begins.
+     */
+    public static final int SAMPLE_COUNT_OFFSET = CREATION_TIMESTAMP_OFFSET + SIZE_OF_LONG;
+
+    /**
+     * Offset within an entry at which the max value field begins.
+     */
+    public static final int MAX_VALUE_OFFSET = SAMPLE_COUNT_OFFSET + SIZE_OF_LONG;
+
+    /**
+     * Offset within an entry at which the bucket counts begin.
+     */
+    public static final int BUCKETS_OFFSET = MAX_VALUE_OFFSET + SIZE_OF_LONG;
+
+    /**
+     * Offset within an entry at which the channel field begins.
+     */
+    public static final int CHANNEL_OFFSET = BUCKETS_OFFSET + (BUCKET_COUNT * SIZE_OF_LONG);
+
+    private int nextRecordOffset = 0;
+    private final AtomicBuffer buffer;
+
+    /**
+     * Create a latency report which wraps a buffer which is ideally memory mapped so it can
+     * be read from another process.
+     *
+     * @param buffer to be wrapped.
+     */
+    public LatencyReport(final AtomicBuffer buffer)
+    {
+        buffer.verifyAlignment();
+        this.buffer = buffer;
+    }
+
+    /**
+     * Create a new entry for recording latency on a given stream.
+     * <p>
+     * If not space is remaining in the report then null is returned.
+     *
+     * @param timestampMs at which the entry is created.
+     * @param sessionId   for the stream.
+     * @param streamId    for the stream.
+     * @param channel     for the stream.
+     * @param source      of the stream.
+     * @return a new record or null if the report has insufficient space.
+     */
+    public ReportEntry createEntry(
+        final long timestampMs,
+        final int sessionId,
+        final int streamId,
+        final String channel,
+        final String source)
+    {
+        ReportEntry reportEntry = null;
+
+        final int requiredCapacity = entryLength(channel.length(), source.length());
+
+        if (requiredCapacity <= (buffer.capacity() - nextRecordOffset))
+        {
+            final int offset = nextRecordOffset;
+
+            buffer.putInt(offset + SESSION_ID_OFFSET, sessionId);
+            buffer.putInt(offset + STREAM_ID_OFFSET, streamId);
+            buffer.putLong(offset + CREATION_TIMESTAMP_OFFSET, timestampMs);
+
+            final int encodedChannelLength = buffer.putStringAscii(offset + CHANNEL_OFFSET, channel);
+
+            buffer.putStringAscii(
+                offset + CHANNEL_OFFSET + BitUtil.align(encodedChannelLength, SIZE_OF_INT), source);
+
+            buffer.putIntOrdered(offset + ENTRY_LENGTH_OFFSET, requiredCapacity);
+
+            reportEntry = new ReportEntry(buffer, offset);
+            nextRecordOffset += BitUtil.align(requiredCapacity, ENTRY_ALIGNMENT);
+        }
+
+        return reportEntry;
+    }
+
+    /**
+     * Index of the bucket in which a latency value is recorded.
+     *
+     * @param valueNs of latency which will be clamped to the range 0 to {@link #MAX_TRACKABLE_VALUE_NS}.
+     * @return index of the bucket in which a latency value is recorded.
+     */
+    public static int bucketIndex(final long valueNs)
+    {
+        final long value = Math.min(Math.max(valueNs, 0), MAX_TRACKABLE_VALUE_NS);
+        final int shift = Math.max(0, (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS);
+
+        return (shift << SUB_BUCKET_BITS) + (int)(value >>> shift);
+    }
+
+    /**
+     * Lowest latency value in nanoseconds which is recorded in a given bucket.
+     *
+     * @param index of the bucket.
+     * @return lowest latency value in nanoseconds which is recorded in the bucket.
+     */
+    public static long bucketLowestValue(final int index)
+    {
+        final int shift = bucketShift(index);
+
+        return (long)(index - (shift << SUB_BUCKET_BITS)) << shift;
+    }
+
+    /**
+     * Highest latency value in nanoseconds which is recorded in a given bucket.
+     *
+     * @param index of the bucket.
+     * @return highest latency value in nanoseconds which is recorded in the bucket.
+     */
+    public static long bucketHighestValue(final int index)
+    {
+        return bucketLowestValue(index) + (1L << bucketShift(index)) - 1;
+    }
+
+    static int entryLength(final int channelLength, final int sourceLength)
+    {
+        return CHANNEL_OFFSET + BitUtil.align(SIZE_OF_INT + channelLength, SIZE_OF_INT) + SIZE_OF_INT + sourceLength;
+    }
+
+    private static int bucketShift(final int index)
+    {
+        return Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+    }
+
+    /**
+     * Report entry for a specific stream. Once an entry has been created it can then be used repeatably
+     * to capture the latency distribution on a stream.
+     */
+    public static class ReportEntry
+    {
+        private final AtomicBuffer buffer;
+        private final int offset;
+        private long sampleCount;
+        private long maxValueNs;
+
+        ReportEntry(final AtomicBuffer buffer, final int offset)
+        {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        /**
+         * Record a latency sample for a particular stream.
+         *
+         * @param latencyNs observed for the sample which will be clamped to the trackable range.
+         */
+        public void record(final long latencyNs)
+        {
+            final int bucketOffset = offset + BUCKETS_OFFSET + (bucketIndex(latencyNs) * SIZE_OF_LONG);
+            buffer.putLong(bucketOffset, buffer.getLong(bucketOffset) + 1);
+
+            if (latencyNs > maxValueNs)
+            {
+                maxValueNs = Math.min(latencyNs, MAX_TRACKABLE_VALUE_NS);
+                buffer.putLong(offset + MAX_VALUE_OFFSET, maxValueNs);
+            }
+
+            buffer.putLongOrdered(offset + SAMPLE_COUNT_OFFSET, ++sampleCount);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.reports;
+
+import org.agrona.BitUtil;
+import org.agrona.concurrent.AtomicBuffer;
+
+import static io.aeron.driver.reports.LatencyReport.*;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Reader that provides the function to read entries from a {@link LatencyReport}.
+ */
+public class LatencyReportReader
+{
+    /**
+     * Consumer function to be implemented by caller of the read method.
+     * <p>
+     * The bucket counts array is indexed as per {@link LatencyReport#bucketIndex(long)} and is only valid for the
+     * duration of the call.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer
+    {
+        void accept(
+            long creationTimestamp,
+            int sessionId,
+            int streamId,
+            String channel,
+            String source,
+            long sampleCount,
+            long maxValueNs,
+            long[] bucketCounts);
+    }
+
+    /**
+     * Read a {@link LatencyReport} contained in the buffer. This can be done concurrently.
+     *
+     * @param buffer        containing the latency report.
+     * @param entryConsumer to be called to accept each entry in the report.
+     * @return the number of entries read.
+     */
+    public static int read(final AtomicBuffer buffer, final EntryConsumer entryConsumer)
+    {
+        final int capacity = buffer.capacity();
+        final long[] bucketCounts = new long[BUCKET_COUNT];
+
+        int recordsRead = 0;
+        int offset = 0;
+
+        while (offset < capacity)
+        {
+            final int entryLength = buffer.getIntVolatile(offset + ENTRY_LENGTH_OFFSET);
+            if (entryLength <= 0)
+            {
+                break;
+            }
+
+            ++recordsRead;
+
+            final long sampleCount = buffer.getLongVolatile(offset + SAMPLE_COUNT_OFFSET);
+            for (int i = 0; i < BUCKET_COUNT; i++)
+            {
+                bucketCounts[i] = buffer.getLong(offset + BUCKETS_OFFSET + (i * SIZE_OF_LONG));
+            }
+
+            final String channel = buffer.getStringAscii(offset + CHANNEL_OFFSET);
+            final String source = buffer.getStringAscii(
+                offset + CHANNEL_OFFSET + BitUtil.align(SIZE_OF_INT + channel.length(), SIZE_OF_INT));
+
+            entryConsumer.accept(
+                buffer.getLong(offset + CREATION_TIMESTAMP_OFFSET),
+                buffer.getInt(offset + SESSION_ID_OFFSET),
+                buffer.getInt(offset + STREAM_ID_OFFSET),
+                channel,
+                source,
+                sampleCount,
+                buffer.getLong(offset + MAX_VALUE_OFFSET),
+                bucketCounts);
+
+            offset += BitUtil.align(entryLength, ENTRY_ALIGNMENT);
+        }
+
+        return recordsRead;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.reports;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static org.agrona.IoUtil.mapExistingFile;
+import static org.agrona.IoUtil.mapNewFile;
+
+/**
+ * Utility functions for dealing with the Latency Report.
+ */
+public class LatencyReportUtil
+{
+    /**
+     * Name of the latency report file in the Aeron directory.
+     */
+    public static final String LATENCY_REPORT_FILE_NAME = "latency-report.dat";
+
+    /**
+     * Create a new {@link File} object for the latency report.
+     *
+     * @param aeronDirectoryName in which the latency report should exist.
+     * @return the new {@link File} for the latency report.
+     */
+    public static File file(final String aeronDirectoryName)
+    {
+        return new File(aeronDirectoryName, LATENCY_REPORT_FILE_NAME);
+    }
+
+    /**
+     * Map a new latency report in the Aeron directory for a given length.
+     *
+     * @param aeronDirectoryName in which to create the file.
+     * @param reportFileLength   for the file.
+     * @return the newly mapped buffer for the file.
+     */
+    public static MappedByteBuffer mapLatencyReport(final String aeronDirectoryName, final int reportFileLength)
+    {
+        return mapNewFile(file(aeronDirectoryName), reportFileLength, false);
+    }
+
+    /**
+     * Map an existing latency report in the Aeron directory read only.
+     *
+     * @param aeronDirectoryName containing the file
+     * @return the read only mapped buffer for the file.
+     */
+    public static MappedByteBuffer mapLatencyReportReadOnly(final String aeronDirectoryName)
+    {
+        return mapExistingFile(file(aeronDirectoryName), FileChannel.MapMode.READ_ONLY, "Latency Report");
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import io.aeron.AeronCounters;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+/**
+ * Bytes of data a sender sent on a stream in its most recent duty cycle. The value is bounded by the send weight of
+ * the stream when the driver has a send weight quantum configured.
+ */
+public class SenderBytesPerCycle
+{
+    /**
+     * Type id of a sender bytes per duty cycle counter.
+     */
+    public static final int SENDER_BYTES_PER_CYCLE_TYPE_ID = AeronCounters.DRIVER_SENDER_BYTES_PER_CYCLE_TYPE_ID;
+
+    /**
+     * Human readable name for the counter.
+     */
+    public static final String NAME = "snd-bytes-cycle";
+
+    public static AtomicCounter allocate(
+        final MutableDirectBuffer tempBuffer,
+        final CountersManager countersManager,
+        final long registrationId,
+        final int sessionId,
+        final int streamId,
+        final String channel)
+    {
+        final int counterId = StreamCounter.allocateCounterId(
+            tempBuffer,
+            NAME,
+            SENDER_BYTES_PER_CYCLE_TYPE_ID,
+            countersManager,
+            registrationId,
+            sessionId,
+            streamId,
+            channel);
+
+        return new AtomicCounter(countersManager.valuesBuffer(), counterId, countersManager);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import io.aeron.AeronCounters;
+import org.agrona.BitUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+/**
+ * Counters for one of the sender agents of a driver which has more than one. The key is the index of the sender.
+ */
+public class SenderShard
+{
+    /**
+     * Type id of a counter for the duty cycles performed by a sender.
+     */
+    public static final int DUTY_CYCLES_TYPE_ID = AeronCounters.DRIVER_SENDER_SHARD_DUTY_CYCLES_TYPE_ID;
+
+    /**
+     * Type id of a counter for the ratio of send to control polls of a sender.
+     */
+    public static final int CONTROL_POLL_RATIO_TYPE_ID = AeronCounters.DRIVER_SENDER_SHARD_CONTROL_POLL_RATIO_TYPE_ID;
+
+    /**
+     * Human readable name for the duty cycles counter.
+     */
+    public static final String DUTY_CYCLES_NAME = "snd-duty-cycles";
+
+    /**
+     * Human readable name for the control poll ratio counter.
+     */
+    public static final String CONTROL_POLL_RATIO_NAME = "snd-control-poll-ratio";
+
+    /**
+     * Offset in the key meta data for the index of the sender.
+     */
+    public static final int SENDER_INDEX_OFFSET = 0;
+
+    /**
+     * Allocate a counter for a sender agent.
+     *
+     * @param tempBuffer      for building up the key and label.
+     * @param countersManager which will allocate the counter.
+     * @param senderIndex     of the agent among the senders of the driver.
+     * @param name            for the counter to put in the label.
+     * @param typeId          to categorise the counter.
+     * @return the allocated counter.
+     */
+    public static AtomicCounter allocate(
+        final MutableDirectBuffer tempBuffer,
+        final CountersManager countersManager,
+        final int senderIndex,
+        final String name,
+        final int typeId)
+    {
+        tempBuffer.putInt(SENDER_INDEX_OFFSET, senderIndex);
+        final int keyLength = BitUtil.SIZE_OF_INT;
+
+        int labelLength = 0;
+        labelLength += tempBuffer.putStringWithoutLengthAscii(keyLength + labelLength, name);
+        labelLength += tempBuffer.putStringWithoutLengthAscii(keyLength + labelLength, ": shard=");
+        labelLength += tempBuffer.putIntAscii(keyLength + labelLength, senderIndex);
+
+        return countersManager.newCounter(typeId, tempBuffer, 0, keyLength, tempBuffer, keyLength, labelLength);
+    }
+}
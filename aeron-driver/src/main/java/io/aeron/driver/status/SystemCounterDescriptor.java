@@ -49,7 +49,14 @@ public enum SystemCounterDescriptor
     CONTROLLABLE_IDLE_STRATEGY(22, "ControllableIdleStrategy status"),
     LOSS_GAP_FILLS(23, "Loss gap fills"),
     CLIENT_TIMEOUTS(24, "Client liveness timeouts"),
-    RESOLUTION_CHANGES(25, "Resolution changes");
+    RESOLUTION_CHANGES(25, "Resolution changes"),
+    SENDER_CONTROL_POLL_RATIO(26, "Sender ratio of send to control polls"),
+    SEGMENT_OFFLOAD_SENDS(27, "Segment offload sends"),
+    DIRECT_RECEIVES(28, "Direct receives into term buffers"),
+    LOG_BUFFER_POOL_HITS(29, "Log buffer pool hits"),
+    LOG_BUFFER_POOL_MISSES(30, "Log buffer pool misses"),
+    RETRANSMITS_COALESCED(31, "Retransmit requests coalesced"),
+    RETRANSMITS_DROPPED(32, "Retransmit requests dropped");
 
     /**
      * All system counters have the same type id, i.e. system counters are the same type. Other types can exist.
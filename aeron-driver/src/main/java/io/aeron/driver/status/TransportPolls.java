@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import io.aeron.AeronCounters;
+import org.agrona.BitUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+import static org.agrona.concurrent.status.CountersReader.MAX_LABEL_LENGTH;
+
+/**
+ * Counts of productive and empty polls of the transports for a channel endpoint when the driver is busy polling
+ * transports rather than using a selector. The key is the id of the channel status counter for the endpoint.
+ */
+public class TransportPolls
+{
+    /**
+     * Type id of a counter for polls which read at least one datagram.
+     */
+    public static final int PRODUCTIVE_POLLS_TYPE_ID = AeronCounters.DRIVER_TRANSPORT_PRODUCTIVE_POLLS_TYPE_ID;
+
+    /**
+     * Type id of a counter for polls which found nothing to read.
+     */
+    public static final int EMPTY_POLLS_TYPE_ID = AeronCounters.DRIVER_TRANSPORT_EMPTY_POLLS_TYPE_ID;
+
+    /**
+     * Human readable name for the productive polls counter of a send channel endpoint.
+     */
+    public static final String SEND_PRODUCTIVE_NAME = "snd-polls-productive";
+
+    /**
+     * Human readable name for the empty polls counter of a send channel endpoint.
+     */
+    public static final String SEND_EMPTY_NAME = "snd-polls-empty";
+
+    /**
+     * Human readable name for the productive polls counter of a receive channel endpoint.
+     */
+    public static final String RECEIVE_PRODUCTIVE_NAME = "rcv-polls-productive";
+
+    /**
+     * Human readable name for the empty polls counter of a receive channel endpoint.
+     */
+    public static final String RECEIVE_EMPTY_NAME = "rcv-polls-empty";
+
+    /**
+     * Offset in the key meta data for the id of the channel status counter.
+     */
+    public static final int CHANNEL_STATUS_ID_OFFSET = 0;
+
+    /**
+     * Allocate a counter for the polls of the transports of a channel endpoint.
+     *
+     * @param tempBuffer      for building up the key and label.
+     * @param countersManager which will allocate the counter.
+     * @param registrationId  of the action the counter is associated with.
+     * @param channelStatusId with which the new counter is associated.
+     * @param name            for the counter to put in the label.
+     * @param typeId          to categorise the counter.
+     * @param channel         for the endpoint which is added to the label.
+     * @return the allocated counter.
+     */
+    public static AtomicCounter allocate(
+        final MutableDirectBuffer tempBuffer,
+        final CountersManager countersManager,
+        final long registrationId,
+        final int channelStatusId,
+        final String name,
+        final int typeId,
+        final String channel)
+    {
+        tempBuffer.putInt(CHANNEL_STATUS_ID_OFFSET, channelStatusId);
+        final int keyLength = BitUtil.SIZE_OF_INT;
+
+        int labelLength = 0;
+        labelLength += tempBuffer.putStringWithoutLengthAscii(keyLength + labelLength, name);
+        labelLength += tempBuffer.putStringWithoutLengthAscii(keyLength + labelLength, ": ");
+        labelLength += tempBuffer.putIntAscii(keyLength + labelLength, channelStatusId);
+        labelLength += tempBuffer.putStringWithoutLengthAscii(keyLength + labelLength, " ");
+        labelLength += tempBuffer.putStringWithoutLengthAscii(
+            keyLength + labelLength, channel, 0, MAX_LABEL_LENGTH - labelLength);
+
+        final AtomicCounter counter = countersManager.newCounter(
+            typeId, tempBuffer, 0, keyLength, tempBuffer, keyLength, labelLength);
+
+        countersManager.setCounterRegistrationId(counter.id(), registrationId);
+
+        return counter;
+    }
+}
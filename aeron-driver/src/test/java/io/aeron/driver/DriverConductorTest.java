@@ -23,12 +23,14 @@ import io.aeron.driver.buffer.TestLogFactory;
 import io.aeron.driver.exceptions.InvalidChannelException;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveChannelEndpointThreadLocals;
+import io.aeron.driver.status.SenderPos;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.HeaderWriter;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.TermAppender;
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.*;
+import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.ringbuffer.ManyToOneRingBuffer;
 import org.agrona.concurrent.ringbuffer.RingBuffer;
@@ -110,6 +112,8 @@ public class DriverConductorTest
     private DriverProxy driverProxy;
     private DriverConductor driverConductor;
 
+    private MediaDriver.Context ctx;
+
     private final Answer<Void> closeChannelEndpointAnswer =
         (invocation) ->
         {
@@ -135,7 +139,7 @@ public class DriverConductorTest
         when(mockSystemCounters.get(any())).thenReturn(mockErrorCounter);
         when(mockErrorCounter.appendToLabel(any())).thenReturn(mockErrorCounter);
 
-        final MediaDriver.Context ctx = new MediaDriver.Context()
+        ctx = new MediaDriver.Context()
             .tempBuffer(new UnsafeBuffer(new byte[METADATA_LENGTH]))
             .timerIntervalNs(DEFAULT_TIMER_INTERVAL_NS)
             .publicationTermBufferLength(TERM_BUFFER_LENGTH)
@@ -213,6 +217,48 @@ public class DriverConductorTest
             anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
     }
 
+    @Test
+    public void shouldAppendSenderNumaNodeToSenderPositionLabel()
+    {
+        ctx.threadingMode(ThreadingMode.DEDICATED).senderNumaNode(1);
+        driverConductor = new DriverConductor(ctx);
+
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final MutableInteger senderPositionCount = new MutableInteger();
+        spyCountersManager.forEach(
+            (counterId, typeId, keyBuffer, label) ->
+            {
+                if (SenderPos.SENDER_POSITION_TYPE_ID == typeId)
+                {
+                    assertTrue(label.endsWith(" configured-numa-node=1"), label);
+                    senderPositionCount.increment();
+                }
+                else
+                {
+                    assertFalse(label.contains("numa-node"), label);
+                }
+            });
+
+        assertEquals(1, senderPositionCount.get());
+    }
+
+    @Test
+    public void shouldHonourNonSparseLogWhenSenderNumaNodeIsSet()
+    {
+        final TestLogFactory logFactory = spy(new TestLogFactory());
+        ctx.threadingMode(ThreadingMode.DEDICATED).senderNumaNode(1).logFactory(logFactory);
+        driverConductor = new DriverConductor(ctx);
+
+        driverProxy.addPublication(CHANNEL_4000 + "|sparse=false", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(logFactory).newPublication(anyLong(), anyInt(), eq(false));
+    }
+
     @Test
     public void shouldBeAbleToAddPublicationForReplay()
     {
@@ -293,6 +339,52 @@ public class DriverConductorTest
         verify(mockClientProxy).onSubscriptionReady(eq(id), anyInt());
     }
 
+    @Test
+    public void shouldAssignReceiveChannelEndpointsToReceiversByShardHint()
+    {
+        final ReceiverProxy shardReceiverProxy = mock(ReceiverProxy.class);
+        ctx.receiverProxies(new ReceiverProxy[]{ receiverProxy, shardReceiverProxy });
+        driverConductor = new DriverConductor(ctx);
+
+        driverProxy.addSubscription(CHANNEL_4000 + "|rcv-shard=1", STREAM_ID_1);
+        driverProxy.addSubscription(CHANNEL_4001 + "|rcv-shard=2", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<ReceiveChannelEndpoint> captor = ArgumentCaptor.forClass(ReceiveChannelEndpoint.class);
+        verify(shardReceiverProxy).registerReceiveChannelEndpoint(captor.capture());
+        verify(shardReceiverProxy).addSubscription(eq(captor.getValue()), eq(STREAM_ID_1));
+        assertEquals(4000, captor.getValue().udpChannel().remoteData().getPort());
+        captor.getValue().close();
+
+        verify(receiverProxy).registerReceiveChannelEndpoint(captor.capture());
+        verify(receiverProxy).addSubscription(eq(captor.getValue()), eq(STREAM_ID_1));
+        assertEquals(4001, captor.getValue().udpChannel().remoteData().getPort());
+        receiveChannelEndpoint = captor.getValue();
+    }
+
+    @Test
+    public void shouldAssignSendChannelEndpointsToSendersByShardHint()
+    {
+        final SenderProxy shardSenderProxy = mock(SenderProxy.class);
+        ctx.senderProxies(new SenderProxy[]{ senderProxy, shardSenderProxy });
+        driverConductor = new DriverConductor(ctx);
+
+        driverProxy.addPublication(CHANNEL_4000 + "|snd-shard=1", STREAM_ID_1);
+        driverProxy.addPublication(CHANNEL_4001 + "|snd-shard=2", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<NetworkPublication> captor = ArgumentCaptor.forClass(NetworkPublication.class);
+        verify(shardSenderProxy).registerSendChannelEndpoint(any());
+        verify(shardSenderProxy).newNetworkPublication(captor.capture());
+        assertEquals(4000, captor.getValue().channelEndpoint().udpChannel().remoteData().getPort());
+
+        verify(senderProxy).registerSendChannelEndpoint(any());
+        verify(senderProxy).newNetworkPublication(captor.capture());
+        assertEquals(4001, captor.getValue().channelEndpoint().udpChannel().remoteData().getPort());
+    }
+
     @Test
     public void shouldBeAbleToAddAndRemoveSingleSubscription()
     {
@@ -641,7 +733,7 @@ public class DriverConductorTest
 
         driverConductor.onCreatePublicationImage(
             SESSION_ID, STREAM_ID_1, initialTermId, activeTermId, termOffset, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
-            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint);
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
 
         final ArgumentCaptor<PublicationImage> captor2 = ArgumentCaptor.forClass(PublicationImage.class);
         verify(receiverProxy).newPublicationImage(eq(receiveChannelEndpoint), captor2.capture());
@@ -671,7 +763,7 @@ public class DriverConductorTest
 
         driverConductor.onCreatePublicationImage(
             SESSION_ID, STREAM_ID_2, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
-            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint);
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
 
         verify(receiverProxy, never()).newPublicationImage(any(), any());
         verify(mockClientProxy, never()).onAvailableImage(
@@ -695,7 +787,7 @@ public class DriverConductorTest
 
         driverConductor.onCreatePublicationImage(
             SESSION_ID, STREAM_ID_1, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
-            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint);
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
 
         final ArgumentCaptor<PublicationImage> captor2 = ArgumentCaptor.forClass(PublicationImage.class);
         verify(receiverProxy).newPublicationImage(eq(receiveChannelEndpoint), captor2.capture());
@@ -728,7 +820,7 @@ public class DriverConductorTest
 
         driverConductor.onCreatePublicationImage(
             SESSION_ID, STREAM_ID_1, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
-            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint);
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
 
         final ArgumentCaptor<PublicationImage> captor2 = ArgumentCaptor.forClass(PublicationImage.class);
         verify(receiverProxy).newPublicationImage(eq(receiveChannelEndpoint), captor2.capture());
@@ -777,7 +869,7 @@ public class DriverConductorTest
 
         driverConductor.onCreatePublicationImage(
             SESSION_ID, STREAM_ID_1, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
-            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint);
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
 
         final ArgumentCaptor<PublicationImage> captor2 = ArgumentCaptor.forClass(PublicationImage.class);
         verify(receiverProxy).newPublicationImage(eq(receiveChannelEndpoint), captor2.capture());
@@ -1055,6 +1147,33 @@ public class DriverConductorTest
             anyLong(), anyInt(), eq(publication.rawLog().fileName()), anyString());
     }
 
+    @Test
+    public void shouldRejectSpyOfLatencyTimestampedNetworkPublication()
+    {
+        driverProxy.addPublication(CHANNEL_4000 + "|latency-ts=true", STREAM_ID_1);
+        final long idSpy = driverProxy.addSubscription(spyForChannel(CHANNEL_4000), STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(senderProxy, times(1)).newNetworkPublication(any());
+        verify(mockClientProxy).onError(eq(idSpy), eq(INVALID_CHANNEL), anyString());
+        verify(mockClientProxy, never()).onSubscriptionReady(eq(idSpy), anyInt());
+    }
+
+    @Test
+    public void shouldRejectLatencyTimestampedNetworkPublicationWithSpy()
+    {
+        final long idSpy = driverProxy.addSubscription(spyForChannel(CHANNEL_4000), STREAM_ID_1);
+        final long idPub = driverProxy.addPublication(CHANNEL_4000 + "|latency-ts=true", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(mockClientProxy).onSubscriptionReady(eq(idSpy), anyInt());
+        verify(mockClientProxy).onError(eq(idPub), eq(INVALID_CHANNEL), anyString());
+        verify(senderProxy, never()).newNetworkPublication(any());
+        verify(senderProxy, never()).registerSendChannelEndpoint(any());
+    }
+
     @Test
     public void shouldBeAbleToAddNetworkPublicationThenSingleSpyThenRemoveSpy()
     {
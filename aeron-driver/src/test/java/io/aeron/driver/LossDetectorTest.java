@@ -27,6 +27,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.Mockito.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
 import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
@@ -290,6 +291,97 @@ public class LossDetectorTest
         verifyNoMoreInteractions(lossHandler);
     }
 
+    @Test
+    public void shouldReportMultipleGapsInOneNak()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler, 3);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 7);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+        insertDataFrame(offsetOfMessage(6));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapsDetected(
+            eq(TERM_ID),
+            aryEq(new int[]{ offsetOfMessage(1), offsetOfMessage(3), offsetOfMessage(5) }),
+            aryEq(new int[]{ gapLength(), gapLength(), gapLength() }),
+            eq(3));
+        verifyNoMoreInteractions(lossHandler);
+    }
+
+    @Test
+    public void shouldLimitNumberOfGapsReportedInOneNak()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler, 2);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 7);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+        insertDataFrame(offsetOfMessage(6));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapsDetected(
+            eq(TERM_ID),
+            aryEq(new int[]{ offsetOfMessage(1), offsetOfMessage(3) }),
+            aryEq(new int[]{ gapLength(), gapLength() }),
+            eq(2));
+        verifyNoMoreInteractions(lossHandler);
+    }
+
+    @Test
+    public void shouldReportSingleGapWithoutRangesWhenOnlyOneGapFound()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler, 3);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 3);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
+    @Test
+    public void shouldReportFollowingGapsAsTheyAreWhenNakIsSent()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler, 3);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 7);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+        insertDataFrame(offsetOfMessage(6));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        insertDataFrame(offsetOfMessage(3));
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapsDetected(
+            eq(TERM_ID),
+            aryEq(new int[]{ offsetOfMessage(1), offsetOfMessage(5) }),
+            aryEq(new int[]{ gapLength(), gapLength() }),
+            eq(2));
+        verifyNoMoreInteractions(lossHandler);
+    }
+
     private LossDetector getLossHandlerWithImmediate()
     {
         return new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler);
@@ -1,10 +1,17 @@
 package io.aeron.driver;
 
 import io.aeron.driver.MediaDriver.Context;
+import io.aeron.exceptions.ConfigurationException;
+import org.agrona.IoUtil;
+import org.agrona.SystemUtil;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.IOException;
+
 import static io.aeron.driver.Configuration.NAK_MAX_BACKOFF_DEFAULT_NS;
 import static io.aeron.driver.Configuration.NAK_MULTICAST_MAX_BACKOFF_PROP_NAME;
+import static io.aeron.driver.Configuration.validateSendToStatusMessagePollRatio;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class MediaDriverContextTest
@@ -38,4 +45,55 @@ public class MediaDriverContextTest
         context.nakMulticastMaxBackoffNs(Long.MIN_VALUE);
         assertEquals(Long.MIN_VALUE, context.nakMulticastMaxBackoffNs());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void deleteDirectoryShouldDeleteLogBufferDirectoriesUnderHugePageDir() throws IOException
+    {
+        final File aeronDir = new File(SystemUtil.tmpDirName(), "aeronDirName");
+        final File hugePageDir = new File(SystemUtil.tmpDirName(), "hugePageDirName");
+        final String[] logDirNames = { "publications", "images", "prepared" };
+
+        try
+        {
+            IoUtil.ensureDirectoryExists(aeronDir, "aeron");
+            for (final String logDirName : logDirNames)
+            {
+                final File logDir = new File(hugePageDir, logDirName);
+                IoUtil.ensureDirectoryExists(logDir, logDirName);
+                assertTrue(new File(logDir, "1-2-3.logbuffer").createNewFile());
+            }
+
+            final Context context = new Context()
+                .aeronDirectoryName(aeronDir.getPath())
+                .hugePageDir(hugePageDir.getPath());
+
+            context.concludeAeronDirectory();
+            context.deleteDirectory();
+
+            assertFalse(aeronDir.exists());
+            assertTrue(hugePageDir.isDirectory());
+            for (final String logDirName : logDirNames)
+            {
+                assertFalse(new File(hugePageDir, logDirName).exists());
+            }
+        }
+        finally
+        {
+            IoUtil.delete(aeronDir, true);
+            IoUtil.delete(hugePageDir, true);
+        }
+    }
+
+    @Test
+    public void sendToStatusMessagePollRatioAboveMaxIsValidWhenNotAdaptive()
+    {
+        validateSendToStatusMessagePollRatio(100, false, 64);
+    }
+
+    @Test
+    public void sendToStatusMessagePollRatioAboveMaxIsInvalidWhenAdaptive()
+    {
+        assertThrows(
+            ConfigurationException.class, () -> validateSendToStatusMessagePollRatio(100, true, 64));
+    }
+}
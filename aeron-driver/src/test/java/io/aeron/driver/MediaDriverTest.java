@@ -19,9 +19,11 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class MediaDriverTest
 {
@@ -49,4 +51,34 @@ public class MediaDriverTest
             System.setOut(out);
         }
     }
+
+    @Test
+    public void shouldStartLogBufferPreparerWithItsOwnThreadFactory()
+    {
+        final AtomicInteger conductorThreadCount = new AtomicInteger();
+        final AtomicInteger preparerThreadCount = new AtomicInteger();
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.DEDICATED)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true)
+            .logBufferPrepareCount(1)
+            .conductorThreadFactory(
+                (runnable) ->
+                {
+                    conductorThreadCount.incrementAndGet();
+                    return new Thread(runnable);
+                })
+            .logBufferPreparerThreadFactory(
+                (runnable) ->
+                {
+                    preparerThreadCount.incrementAndGet();
+                    return new Thread(runnable);
+                });
+
+        try (MediaDriver ignore = MediaDriver.launch(context))
+        {
+            assertEquals(1, conductorThreadCount.get());
+            assertEquals(1, preparerThreadCount.get());
+        }
+    }
 }
\ No newline at end of file
@@ -209,7 +209,8 @@ public class ReceiverTest
             mockHighestReceivedPosition,
             mockRebuildPosition,
             SOURCE_ADDRESS,
-            congestionControl);
+            congestionControl,
+            false);
 
         final int messagesRead = toConductorQueue.drain(
             (e) ->
@@ -276,7 +277,8 @@ public class ReceiverTest
                     mockHighestReceivedPosition,
                     mockRebuildPosition,
                     SOURCE_ADDRESS,
-                    congestionControl);
+                    congestionControl,
+                    false);
 
                 receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
             });
@@ -340,7 +342,8 @@ public class ReceiverTest
                     mockHighestReceivedPosition,
                     mockRebuildPosition,
                     SOURCE_ADDRESS,
-                    congestionControl);
+                    congestionControl,
+                    false);
 
                 receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
             });
@@ -407,7 +410,8 @@ public class ReceiverTest
                     mockHighestReceivedPosition,
                     mockRebuildPosition,
                     SOURCE_ADDRESS,
-                    congestionControl);
+                    congestionControl,
+                    false);
 
                 receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
             });
@@ -478,7 +482,8 @@ public class ReceiverTest
                     mockHighestReceivedPosition,
                     mockRebuildPosition,
                     SOURCE_ADDRESS,
-                    congestionControl);
+                    congestionControl,
+                    false);
 
                 receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
             });
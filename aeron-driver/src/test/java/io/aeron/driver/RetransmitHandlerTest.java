@@ -19,6 +19,7 @@ import io.aeron.ReservedValueSupplier;
 import io.aeron.logbuffer.*;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.HeaderFlyweight;
+import io.aeron.protocol.NakFlyweight;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.junit.jupiter.api.BeforeEach;
@@ -67,12 +68,13 @@ public class RetransmitHandlerTest
 
     private final RetransmitSender retransmitSender = mock(RetransmitSender.class);
     private final AtomicCounter invalidPackets = mock(AtomicCounter.class);
+    private final AtomicCounter coalescedRetransmits = mock(AtomicCounter.class);
+    private final AtomicCounter droppedRetransmits = mock(AtomicCounter.class);
 
     private final HeaderWriter headerWriter = HeaderWriter.newInstance(
         DataHeaderFlyweight.createDefaultHeader(0, 0, 0));
 
-    private RetransmitHandler handler = new RetransmitHandler(
-        () -> currentTime, invalidPackets, DELAY_GENERATOR, LINGER_GENERATOR);
+    private RetransmitHandler handler = newRetransmitHandler(DELAY_GENERATOR, Configuration.MAX_RETRANSMITS_DEFAULT);
 
     @BeforeEach
     public void before()
@@ -137,13 +139,13 @@ public class RetransmitHandlerTest
     {
         createTermBuffer(creator, 5);
         handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
-        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
         currentTime = TimeUnit.MILLISECONDS.toNanos(100);
         handler.processTimeouts(currentTime, retransmitSender);
 
         final InOrder inOrder = inOrder(retransmitSender);
         inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
-        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
     }
 
     @ParameterizedTest
@@ -190,12 +192,12 @@ public class RetransmitHandlerTest
     {
         createTermBuffer(creator, 5);
         handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
-        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
         handler.onRetransmitReceived(TERM_ID, offsetOfFrame(0));
         currentTime = TimeUnit.MILLISECONDS.toNanos(100);
         handler.processTimeouts(currentTime, retransmitSender);
 
-        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
     }
 
     @ParameterizedTest
@@ -235,9 +237,142 @@ public class RetransmitHandlerTest
         verifyNoInteractions(retransmitSender);
     }
 
+    @ParameterizedTest
+    @MethodSource("consumers")
+    public void shouldRetransmitAllRangesOfMultiRangeNak(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        final NakFlyweight nak = newMultiRangeNak(0, 2, 4);
+
+        handler.onNak(nak, nak.rangeCount(), TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(4), ALIGNED_FRAME_LENGTH);
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    public void shouldImmediateRetransmitAllRangesOfMultiRangeNak(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler = newZeroDelayRetransmitHandler();
+        final NakFlyweight nak = newMultiRangeNak(1, 3);
+
+        handler.onNak(nak, nak.rangeCount(), TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(3), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(3), ALIGNED_FRAME_LENGTH);
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
+    private static NakFlyweight newMultiRangeNak(final int... frameIndexes)
+    {
+        final int rangeCount = frameIndexes.length;
+        final NakFlyweight nak = new NakFlyweight(new UnsafeBuffer(new byte[NakFlyweight.MAX_FRAME_LENGTH]));
+        nak.flags(NakFlyweight.MULTI_RANGE_FLAG).frameLength(NakFlyweight.multiRangeFrameLength(rangeCount));
+
+        for (int i = 0; i < rangeCount; i++)
+        {
+            nak.range(i, TERM_ID, offsetOfFrame(frameIndexes[i]), ALIGNED_FRAME_LENGTH);
+        }
+
+        return nak;
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    public void shouldCoalesceOverlappingNaksIntoDelayedRetransmit(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 4);
+        verifyNoMoreInteractions(retransmitSender);
+        verify(coalescedRetransmits, times(2)).increment();
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    public void shouldCoalesceAdjacentNaksIntoDelayedRetransmit(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2);
+        verifyNoMoreInteractions(retransmitSender);
+        verify(coalescedRetransmits).increment();
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    public void shouldOnlyRetransmitRemainderOfNakOverlappingLingeringRetransmit(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler = newZeroDelayRetransmitHandler();
+
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+        verifyNoMoreInteractions(retransmitSender);
+        verify(coalescedRetransmits).increment();
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    public void shouldDropNakWhenMaxRetransmitsReached(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler = newRetransmitHandler(DELAY_GENERATOR, 2);
+
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(4), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+        verifyNoMoreInteractions(retransmitSender);
+        verify(droppedRetransmits).increment();
+    }
+
+    private RetransmitHandler newRetransmitHandler(
+        final FeedbackDelayGenerator delayGenerator, final int maxRetransmits)
+    {
+        return new RetransmitHandler(
+            () -> currentTime,
+            invalidPackets,
+            coalescedRetransmits,
+            droppedRetransmits,
+            delayGenerator,
+            LINGER_GENERATOR,
+            maxRetransmits);
+    }
+
     private RetransmitHandler newZeroDelayRetransmitHandler()
     {
-        return new RetransmitHandler(() -> currentTime, invalidPackets, ZERO_DELAY_GENERATOR, LINGER_GENERATOR);
+        return newRetransmitHandler(ZERO_DELAY_GENERATOR, Configuration.MAX_RETRANSMITS_DEFAULT);
     }
 
     private void createTermBuffer(final BiConsumer<RetransmitHandlerTest, Integer> creator, final int num)
@@ -243,6 +243,142 @@ public class SelectorAndTransportTest
         assertEquals(1, dataHeadersReceived.get());
     }
 
+    @Test
+    @Timeout(10)
+    public void shouldReceiveBatchOfDataFramesUnicastFromSourceToReceiver()
+    {
+        final int batchLength = 4;
+        final MutableInteger dataHeadersReceived = new MutableInteger(0);
+        final DataTransportPoller batchTransportPoller = new DataTransportPoller(errorHandler, batchLength);
+
+        doAnswer(
+            (invocation) ->
+            {
+                dataHeadersReceived.value++;
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+            any(ReceiveChannelEndpoint.class),
+            any(DataHeaderFlyweight.class),
+            any(UnsafeBuffer.class),
+            anyInt(),
+            any(InetSocketAddress.class),
+            anyInt());
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, mockSendStatusIndicator, context);
+
+        receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+        receiveChannelEndpoint.registerForRead(batchTransportPoller);
+        sendChannelEndpoint.openDatagramChannel(mockSendStatusIndicator);
+        sendChannelEndpoint.registerForRead(controlTransportPoller);
+
+        encodeDataHeader.wrap(buffer);
+        encodeDataHeader
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(FRAME_LENGTH);
+        encodeDataHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID);
+
+        try
+        {
+            processLoop(batchTransportPoller, 5);
+            for (int i = 0; i < batchLength; i++)
+            {
+                byteBuffer.position(0).limit(FRAME_LENGTH);
+                sendChannelEndpoint.send(byteBuffer);
+            }
+
+            while (dataHeadersReceived.get() < batchLength)
+            {
+                processLoop(batchTransportPoller, 1);
+            }
+
+            assertEquals(batchLength, dataHeadersReceived.get());
+        }
+        finally
+        {
+            receiveChannelEndpoint.close();
+            processLoop(batchTransportPoller, 5);
+            batchTransportPoller.close();
+            receiveChannelEndpoint = null;
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    public void shouldBusyPollDataFramesAndCountProductiveAndEmptyPolls()
+    {
+        final MutableInteger dataHeadersReceived = new MutableInteger(0);
+        final AtomicCounter mockProductivePolls = mock(AtomicCounter.class);
+        final AtomicCounter mockEmptyPolls = mock(AtomicCounter.class);
+        final BusyPollDataTransportPoller busyPollTransportPoller = new BusyPollDataTransportPoller(errorHandler);
+
+        doAnswer(
+            (invocation) ->
+            {
+                dataHeadersReceived.value++;
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+            any(ReceiveChannelEndpoint.class),
+            any(DataHeaderFlyweight.class),
+            any(UnsafeBuffer.class),
+            anyInt(),
+            any(InetSocketAddress.class),
+            anyInt());
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        receiveChannelEndpoint.pollCounters(mockProductivePolls, mockEmptyPolls);
+        sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, mockSendStatusIndicator, context);
+
+        receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+        receiveChannelEndpoint.registerForRead(busyPollTransportPoller);
+        sendChannelEndpoint.openDatagramChannel(mockSendStatusIndicator);
+        sendChannelEndpoint.registerForRead(controlTransportPoller);
+
+        encodeDataHeader.wrap(buffer);
+        encodeDataHeader
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(FRAME_LENGTH);
+        encodeDataHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID);
+        byteBuffer.position(0).limit(FRAME_LENGTH);
+
+        try
+        {
+            processLoop(busyPollTransportPoller, 5);
+            verify(mockEmptyPolls, times(5)).incrementOrdered();
+            verify(mockProductivePolls, never()).incrementOrdered();
+
+            sendChannelEndpoint.send(byteBuffer);
+            while (dataHeadersReceived.get() < 1)
+            {
+                processLoop(busyPollTransportPoller, 1);
+            }
+
+            assertEquals(1, dataHeadersReceived.get());
+            verify(mockProductivePolls, times(1)).incrementOrdered();
+        }
+        finally
+        {
+            receiveChannelEndpoint.close();
+            processLoop(busyPollTransportPoller, 5);
+            busyPollTransportPoller.close();
+            receiveChannelEndpoint = null;
+        }
+    }
+
     @Test
     @Timeout(10)
     public void shouldHandleSmFrameFromReceiverToSender()
@@ -288,7 +424,7 @@ public class SelectorAndTransportTest
             processLoop(controlTransportPoller, 1);
         }
 
-        verify(mockStatusMessagesReceivedCounter, times(1)).incrementOrdered();
+        verify(mockStatusMessagesReceivedCounter, times(1)).increment();
     }
 
     private void processLoop(final UdpTransportPoller transportPoller, final int iterations)
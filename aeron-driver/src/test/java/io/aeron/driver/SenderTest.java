@@ -45,6 +45,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.Queue;
 
+import static io.aeron.driver.status.SystemCounterDescriptor.SENDER_CONTROL_POLL_RATIO;
 import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
 import static org.agrona.BitUtil.align;
@@ -74,6 +75,8 @@ public class SenderTest
     private TermAppender[] termAppenders;
     private NetworkPublication publication;
     private Sender sender;
+    private MediaDriver.Context ctx;
+    private final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
 
     private final FlowControl flowControl = spy(new UnicastFlowControl());
     private final RetransmitHandler mockRetransmitHandler = mock(RetransmitHandler.class);
@@ -105,17 +108,34 @@ public class SenderTest
             return length;
         };
 
+    private final Answer<Integer> saveByteBufferBatchAnswer =
+        (invocation) ->
+        {
+            final Object[] args = invocation.getArguments();
+            final ByteBuffer[] buffers = (ByteBuffer[])args[0];
+            final int bufferCount = (Integer)args[1];
+
+            for (int i = 0; i < bufferCount; i++)
+            {
+                final ByteBuffer buffer = buffers[i];
+                final int length = buffer.limit() - buffer.position();
+                receivedFrames.add(ByteBuffer.allocateDirect(length).put(buffer));
+            }
+
+            return bufferCount;
+        };
+
     private final ErrorHandler errorHandler = mock(ErrorHandler.class);
 
     @BeforeEach
     public void setUp()
     {
-        final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
         when(mockSendChannelEndpoint.udpChannel()).thenReturn(udpChannel);
         when(mockSendChannelEndpoint.send(any())).thenAnswer(saveByteBufferAnswer);
+        when(mockSendChannelEndpoint.send(any(ByteBuffer[].class), anyInt())).thenAnswer(saveByteBufferBatchAnswer);
         when(mockSystemCounters.get(any())).thenReturn(mock(AtomicCounter.class));
 
-        final MediaDriver.Context ctx = new MediaDriver.Context()
+        ctx = new MediaDriver.Context()
             .cachedEpochClock(new CachedEpochClock())
             .cachedNanoClock(nanoClock)
             .controlTransportPoller(mockTransportPoller)
@@ -133,13 +153,26 @@ public class SenderTest
             termAppenders[i] = new TermAppender(rawLog.termBuffers()[i], rawLog.metaData(), i);
         }
 
+        publication = newNetworkPublication();
+
+        senderCommandQueue.offer(() -> sender.onNewNetworkPublication(publication));
+    }
+
+    private NetworkPublication newNetworkPublication()
+    {
+        return newNetworkPublication(Configuration.SEND_WEIGHT_DEFAULT, mock(AtomicCounter.class));
+    }
+
+    private NetworkPublication newNetworkPublication(final int sendWeight, final AtomicCounter bytesPerCycle)
+    {
         final PublicationParams params = new PublicationParams();
         params.entityTag = 101;
         params.mtuLength = MAX_FRAME_LENGTH;
         params.lingerTimeoutNs = Configuration.publicationLingerTimeoutNs();
         params.signalEos = true;
+        params.sendWeight = sendWeight;
 
-        publication = new NetworkPublication(
+        return new NetworkPublication(
             1,
             ctx,
             params,
@@ -151,6 +184,7 @@ public class SenderTest
             new AtomicLongPosition(),
             new AtomicLongPosition(),
             mock(AtomicCounter.class),
+            bytesPerCycle,
             SESSION_ID,
             STREAM_ID,
             INITIAL_TERM_ID,
@@ -158,8 +192,6 @@ public class SenderTest
             mockRetransmitHandler,
             new NetworkPublicationThreadLocals(),
             false);
-
-        senderCommandQueue.offer(() -> sender.onNewNetworkPublication(publication));
     }
 
     @AfterEach
@@ -487,6 +519,123 @@ public class SenderTest
         assertThat(dataHeader.termOffset(), is(offsetOfMessage(2)));
     }
 
+    @Test
+    public void shouldSendBatchOfDataFramesInSingleSend()
+    {
+        ctx.sendBatchLength(2);
+        final NetworkPublication batchPublication = newNetworkPublication();
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(2 * MAX_FRAME_LENGTH);
+
+        batchPublication.onStatusMessage(msg, rcvAddress);
+
+        final int payloadLength = MAX_FRAME_LENGTH - HEADER.capacity();
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(payloadLength));
+
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, payloadLength, null, INITIAL_TERM_ID);
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, payloadLength, null, INITIAL_TERM_ID);
+        batchPublication.send(nanoClock.nanoTime());
+
+        verify(mockSendChannelEndpoint).send(any(ByteBuffer[].class), eq(2));
+        assertThat(receivedFrames.size(), is(3));
+
+        setupHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(setupHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_SETUP));
+
+        dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(dataHeader.frameLength(), is(MAX_FRAME_LENGTH));
+        assertThat(dataHeader.termOffset(), is(0));
+
+        dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(dataHeader.frameLength(), is(MAX_FRAME_LENGTH));
+        assertThat(dataHeader.termOffset(), is(MAX_FRAME_LENGTH));
+    }
+
+    @Test
+    public void shouldBoundBytesSentPerCycleBySendWeight()
+    {
+        ctx.sendWeightQuantumLength(MAX_FRAME_LENGTH);
+        final AtomicCounter bytesPerCycle = mock(AtomicCounter.class);
+        final NetworkPublication weightedPublication = newNetworkPublication(3, bytesPerCycle);
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(8 * MAX_FRAME_LENGTH);
+
+        weightedPublication.onStatusMessage(msg, rcvAddress);
+
+        final int payloadLength = MAX_FRAME_LENGTH - HEADER.capacity();
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(payloadLength));
+
+        for (int i = 0; i < 5; i++)
+        {
+            termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, payloadLength, null, INITIAL_TERM_ID);
+        }
+
+        assertThat(weightedPublication.send(nanoClock.nanoTime()), is(3 * MAX_FRAME_LENGTH));
+        assertThat(receivedFrames.size(), is(4)); // setup then data
+        verify(bytesPerCycle).setOrdered(3 * MAX_FRAME_LENGTH);
+
+        assertThat(weightedPublication.send(nanoClock.nanoTime()), is(2 * MAX_FRAME_LENGTH));
+        assertThat(receivedFrames.size(), is(6));
+        verify(bytesPerCycle).setOrdered(2 * MAX_FRAME_LENGTH);
+
+        setupHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(setupHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_SETUP));
+
+        for (int i = 0; i < 5; i++)
+        {
+            dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+            assertThat(dataHeader.termOffset(), is(i * MAX_FRAME_LENGTH));
+        }
+    }
+
+    @Test
+    public void shouldAdaptSendToControlPollRatio()
+    {
+        final AtomicCounter ratioCounter = mock(AtomicCounter.class);
+        when(mockSystemCounters.get(SENDER_CONTROL_POLL_RATIO)).thenReturn(ratioCounter);
+        ctx.sendToStatusMessagePollRatio(2).sendToStatusMessagePollRatioAdaptive(true);
+
+        sender = new Sender(ctx);
+        verify(ratioCounter).setOrdered(2);
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(16 * ALIGNED_FRAME_LENGTH);
+
+        publication.onStatusMessage(msg, rcvAddress);
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        for (int i = 0; i < 5; i++)
+        {
+            termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null, INITIAL_TERM_ID);
+            sender.doWork();
+        }
+
+        verify(mockTransportPoller, times(2)).pollTransports();
+        verify(ratioCounter).setOrdered(3);
+        verify(ratioCounter).setOrdered(4);
+
+        when(mockTransportPoller.pollTransports()).thenReturn(StatusMessageFlyweight.HEADER_LENGTH);
+
+        for (int i = 0; i < 4; i++)
+        {
+            termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null, INITIAL_TERM_ID);
+            sender.doWork();
+        }
+
+        verify(mockTransportPoller, times(3)).pollTransports();
+        verify(ratioCounter, times(2)).setOrdered(2);
+    }
+
     private int offsetOfMessage(final int offset)
     {
         return (offset - 1) * align(HEADER.capacity() + PAYLOAD.length, FRAME_ALIGNMENT);
@@ -15,6 +15,7 @@
  */
 package io.aeron.driver;
 
+import io.aeron.Aeron;
 import io.aeron.ChannelUriStringBuilder;
 import io.aeron.driver.exceptions.InvalidChannelException;
 import io.aeron.driver.media.UdpChannel;
@@ -149,6 +150,38 @@ public class UdpChannelTest
         assertThrows(InvalidChannelException.class, () -> UdpChannel.parse("aeron:udp?endpoint=224.10.9.8"));
     }
 
+    @Test
+    public void shouldParseReceiverShard()
+    {
+        assertEquals(3, UdpChannel.parse("aeron:udp?endpoint=localhost:40124|rcv-shard=3").receiverShard());
+        assertEquals(Aeron.NULL_VALUE, UdpChannel.parse("aeron:udp?endpoint=localhost:40124").receiverShard());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "abc", "-1", "" })
+    public void shouldThrowExceptionOnInvalidReceiverShard(final String shard)
+    {
+        assertThrows(
+            InvalidChannelException.class,
+            () -> UdpChannel.parse("aeron:udp?endpoint=localhost:40124|rcv-shard=" + shard));
+    }
+
+    @Test
+    public void shouldParseSenderShard()
+    {
+        assertEquals(1, UdpChannel.parse("aeron:udp?endpoint=localhost:40124|snd-shard=1").senderShard());
+        assertEquals(Aeron.NULL_VALUE, UdpChannel.parse("aeron:udp?endpoint=localhost:40124").senderShard());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "abc", "-1", "" })
+    public void shouldThrowExceptionOnInvalidSenderShard(final String shard)
+    {
+        assertThrows(
+            InvalidChannelException.class,
+            () -> UdpChannel.parse("aeron:udp?endpoint=localhost:40124|snd-shard=" + shard));
+    }
+
     @Test
     public void shouldParseValidMulticastAddress() throws IOException
     {
@@ -30,6 +30,7 @@ import java.io.File;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public class FileStoreLogFactoryTest
@@ -109,4 +110,70 @@ public class FileStoreLogFactoryTest
         assertEquals(0, metaData.getByte(0));
         assertEquals(0, metaData.getByte(LogBufferDescriptor.LOG_META_DATA_LENGTH - 1));
     }
+
+    @Test
+    public void shouldPreTouchSparseLogWithoutOverwritingData()
+    {
+        rawLog = fileStoreLogFactory.newPublication(CREATION_ID, TERM_BUFFER_LENGTH, true);
+        final UnsafeBuffer termBuffer = rawLog.termBuffers()[0];
+        termBuffer.putInt(PAGE_SIZE, 7);
+
+        rawLog.preTouch(PAGE_SIZE);
+
+        assertEquals(0, termBuffer.getInt(0));
+        assertEquals(7, termBuffer.getInt(PAGE_SIZE));
+    }
+
+    @Test
+    public void shouldPreTouchLogInChunksAcrossTerms()
+    {
+        rawLog = fileStoreLogFactory.newPublication(CREATION_ID, TERM_BUFFER_LENGTH, true);
+        final long length = (long)TERM_BUFFER_LENGTH * LogBufferDescriptor.PARTITION_COUNT;
+        final int pageLimit = 3;
+
+        assertEquals((long)pageLimit * PAGE_SIZE, rawLog.preTouch(PAGE_SIZE, 0, pageLimit));
+        assertEquals(TERM_BUFFER_LENGTH + PAGE_SIZE, rawLog.preTouch(PAGE_SIZE, TERM_BUFFER_LENGTH, 1));
+        assertEquals(length, rawLog.preTouch(PAGE_SIZE, length - PAGE_SIZE, pageLimit));
+    }
+
+    @Test
+    public void shouldCreateLogInHugePageDirectoryWithLengthAlignedToPageSize()
+    {
+        final File hugePageDir = new File(SystemUtil.tmpDirName(), "hugePageDirName");
+        final int hugePageSize = Configuration.HUGE_PAGE_MIN_SIZE;
+        final int termLength = TERM_BUFFER_LENGTH / 4;
+        CloseHelper.close(fileStoreLogFactory);
+
+        try
+        {
+            fileStoreLogFactory = new FileStoreLogFactory(
+                DATA_DIR.getAbsolutePath(),
+                hugePageSize,
+                PERFORM_STORAGE_CHECKS,
+                LOW_STORAGE_THRESHOLD,
+                mock(ErrorHandler.class),
+                hugePageDir.getAbsolutePath());
+
+            rawLog = fileStoreLogFactory.newPublication(CREATION_ID, termLength, PRE_ZERO_LOG);
+
+            final File logFile = new File(new File(hugePageDir, "publications"), CREATION_ID + ".logbuffer");
+            assertTrue(logFile.exists());
+            assertEquals(LogBufferDescriptor.computeLogLength(termLength, hugePageSize), logFile.length());
+            assertEquals(0, logFile.length() % hugePageSize);
+
+            for (final UnsafeBuffer termBuffer : rawLog.termBuffers())
+            {
+                assertEquals(termLength, termBuffer.capacity());
+                assertEquals(0, termBuffer.getByte(termLength - 1));
+            }
+
+            assertEquals(0, rawLog.metaData().getByte(0));
+        }
+        finally
+        {
+            CloseHelper.close(rawLog);
+            rawLog = null;
+            IoUtil.delete(hugePageDir, false);
+        }
+    }
 }
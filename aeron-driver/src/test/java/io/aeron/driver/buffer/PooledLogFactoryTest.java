@@ -0,0 +1,238 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.IoUtil;
+import org.agrona.SystemUtil;
+import org.agrona.concurrent.CachedNanoClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class PooledLogFactoryTest
+{
+    private static final File DATA_DIR = new File(SystemUtil.tmpDirName(), "pooledDataDirName");
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH;
+    private static final int PAGE_SIZE = 4 * 1024;
+    private static final int POOL_CAPACITY = 1;
+    private static final long REUSE_DELAY_NS = 1000;
+
+    private final AtomicCounter poolHits = mock(AtomicCounter.class);
+    private final AtomicCounter poolMisses = mock(AtomicCounter.class);
+    private final CachedNanoClock nanoClock = new CachedNanoClock();
+    private PooledLogFactory logFactory;
+
+    @BeforeEach
+    public void before()
+    {
+        IoUtil.ensureDirectoryExists(DATA_DIR, "data");
+        logFactory = new PooledLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            PAGE_SIZE,
+            false,
+            0,
+            mock(ErrorHandler.class),
+            POOL_CAPACITY,
+            poolHits,
+            poolMisses,
+            nanoClock,
+            REUSE_DELAY_NS);
+    }
+
+    @AfterEach
+    public void after()
+    {
+        CloseHelper.close(logFactory);
+        IoUtil.delete(DATA_DIR, false);
+    }
+
+    @Test
+    public void shouldReuseFreedLogClearedAndRenamed()
+    {
+        final RawLog publicationLog = logFactory.newPublication(1, TERM_LENGTH, false);
+        final long termAddress = publicationLog.termBuffers()[0].addressOffset();
+        publicationLog.termBuffers()[0].putLong(0, 7);
+        publicationLog.metaData().putLong(0, 7);
+        verify(poolMisses).incrementOrdered();
+
+        assertTrue(publicationLog.free());
+        assertTrue(publicationLog.isInactive());
+        publicationLog.close();
+        assertEquals(1, logFactory.freedCount(TERM_LENGTH));
+
+        nanoClock.advance(REUSE_DELAY_NS);
+        final RawLog imageLog = logFactory.newImage(2, TERM_LENGTH, false);
+        verify(poolHits).incrementOrdered();
+        assertEquals(0, logFactory.pooledCount(TERM_LENGTH));
+        assertEquals(0, logFactory.freedCount(TERM_LENGTH));
+
+        final UnsafeBuffer termBuffer = imageLog.termBuffers()[0];
+        assertEquals(termAddress, termBuffer.addressOffset());
+        assertEquals(0, termBuffer.getLong(0));
+        assertEquals(0, imageLog.metaData().getLong(0));
+        assertTrue(imageLog.fileName().endsWith("images" + File.separator + "2.logbuffer"));
+        assertTrue(new File(imageLog.fileName()).exists());
+        assertFalse(new File(DATA_DIR, "publications" + File.separator + "1.logbuffer").exists());
+
+        imageLog.close();
+    }
+
+    @Test
+    public void shouldNotReuseFreedLogBeforeReuseDelay()
+    {
+        final RawLog publicationLog = logFactory.newPublication(1, TERM_LENGTH, false);
+        final File publicationFile = new File(publicationLog.fileName());
+        assertTrue(publicationLog.free());
+
+        nanoClock.advance(REUSE_DELAY_NS - 1);
+        final RawLog imageLog = logFactory.newImage(2, TERM_LENGTH, false);
+        verify(poolMisses, times(2)).incrementOrdered();
+        verifyNoInteractions(poolHits);
+        assertEquals(1, logFactory.freedCount(TERM_LENGTH));
+        assertTrue(publicationFile.exists());
+
+        imageLog.close();
+    }
+
+    @Test
+    public void shouldDeleteFreedLogWhenPoolIsFull()
+    {
+        final RawLog logOne = logFactory.newPublication(1, TERM_LENGTH, false);
+        final RawLog logTwo = logFactory.newPublication(2, TERM_LENGTH, false);
+        final File fileTwo = new File(logTwo.fileName());
+
+        assertTrue(logOne.free());
+        assertTrue(logTwo.free());
+
+        assertEquals(POOL_CAPACITY, logFactory.freedCount(TERM_LENGTH));
+        assertFalse(fileTwo.exists());
+    }
+
+    @Test
+    public void shouldNotPoolSparseLogs()
+    {
+        final RawLog rawLog = logFactory.newPublication(1, TERM_LENGTH, true);
+        final File file = new File(rawLog.fileName());
+
+        assertTrue(rawLog.free());
+
+        assertEquals(0, logFactory.freedCount(TERM_LENGTH));
+        assertFalse(file.exists());
+        verifyNoInteractions(poolHits, poolMisses);
+    }
+
+    @Test
+    public void shouldTakePreparedLogsAheadOfDemand()
+    {
+        final int prepareCount = 2;
+        final LogBufferPreparer preparer = new LogBufferPreparer(
+            DATA_DIR.getAbsolutePath(), PAGE_SIZE, false, 0, mock(ErrorHandler.class), null, nanoClock);
+        CloseHelper.close(logFactory);
+        logFactory = new PooledLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            PAGE_SIZE,
+            false,
+            0,
+            mock(ErrorHandler.class),
+            null,
+            POOL_CAPACITY,
+            poolHits,
+            poolMisses,
+            nanoClock,
+            REUSE_DELAY_NS,
+            preparer,
+            prepareCount);
+
+        logFactory.prepareAhead(TERM_LENGTH);
+        assertEquals(prepareCount, preparer.doWork() + preparer.doWork());
+        assertEquals(0, preparer.doWork());
+
+        final RawLog rawLog = logFactory.newPublication(1, TERM_LENGTH, false);
+        verify(poolHits).incrementOrdered();
+        verifyNoInteractions(poolMisses);
+        assertEquals(1, logFactory.pooledCount(TERM_LENGTH));
+        assertTrue(rawLog.fileName().endsWith("publications" + File.separator + "1.logbuffer"));
+
+        assertEquals(1, preparer.doWork());
+        assertEquals(0, preparer.doWork());
+
+        rawLog.close();
+    }
+
+    @Test
+    public void shouldClearFreedLogOnPreparerAfterReuseDelay()
+    {
+        final LogBufferPreparer preparer = new LogBufferPreparer(
+            DATA_DIR.getAbsolutePath(), PAGE_SIZE, false, 0, mock(ErrorHandler.class), null, nanoClock);
+        CloseHelper.close(logFactory);
+        logFactory = new PooledLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            PAGE_SIZE,
+            false,
+            0,
+            mock(ErrorHandler.class),
+            null,
+            POOL_CAPACITY,
+            poolHits,
+            poolMisses,
+            nanoClock,
+            REUSE_DELAY_NS,
+            preparer,
+            0);
+
+        final RawLog publicationLog = logFactory.newPublication(1, TERM_LENGTH, false);
+        publicationLog.termBuffers()[0].putLong(0, 7);
+        assertTrue(publicationLog.free());
+
+        assertEquals(0, preparer.doWork());
+        assertEquals(7, publicationLog.termBuffers()[0].getLong(0));
+
+        nanoClock.advance(REUSE_DELAY_NS);
+        assertEquals(1, preparer.doWork());
+
+        final RawLog imageLog = logFactory.newImage(2, TERM_LENGTH, false);
+        verify(poolHits).incrementOrdered();
+        assertEquals(0, imageLog.termBuffers()[0].getLong(0));
+        assertEquals(0, logFactory.freedCount(TERM_LENGTH));
+
+        imageLog.close();
+    }
+
+    @Test
+    public void shouldNotReuseLogsOfDifferentTermLength()
+    {
+        final RawLog rawLog = logFactory.newPublication(1, TERM_LENGTH, false);
+        assertTrue(rawLog.free());
+
+        nanoClock.advance(REUSE_DELAY_NS);
+        final RawLog otherLog = logFactory.newPublication(2, TERM_LENGTH * 2, false);
+        verify(poolMisses, times(2)).incrementOrdered();
+        verifyNoInteractions(poolHits);
+        assertEquals(1, logFactory.pooledCount(TERM_LENGTH));
+
+        otherLog.close();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.Configuration;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.driver.CongestionControl.receiverWindowLength;
+import static io.aeron.driver.CongestionControl.shouldForceStatusMessage;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AutoTuningCongestionControlTest
+{
+    private static final int TERM_LENGTH = 1024 * 1024;
+    private static final int MTU_LENGTH = 1408;
+    private static final int INITIAL_WINDOW_LENGTH = 128 * 1024;
+    private static final int MAX_WINDOW_LENGTH = TERM_LENGTH >> 1;
+    private static final long RTT_NS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final InetSocketAddress ADDRESS = new InetSocketAddress("localhost", 24325);
+
+    private final CountersManager countersManager = new CountersManager(
+        new UnsafeBuffer(ByteBuffer.allocate(Configuration.countersMetadataBufferLength(64 * 1024))),
+        new UnsafeBuffer(ByteBuffer.allocate(64 * 1024)));
+    private final MediaDriver.Context context = new MediaDriver.Context()
+        .tempBuffer(new UnsafeBuffer(new byte[1024]))
+        .initialWindowLength(INITIAL_WINDOW_LENGTH);
+
+    private AutoTuningCongestionControl congestionControl;
+    private long nowNs = 0;
+
+    @BeforeEach
+    public void before()
+    {
+        congestionControl = new AutoTuningCongestionControl(
+            0,
+            UdpChannel.parse("aeron:udp?endpoint=localhost:24325|cc=auto"),
+            1001,
+            7,
+            TERM_LENGTH,
+            MTU_LENGTH,
+            ADDRESS,
+            ADDRESS,
+            () -> nowNs,
+            context,
+            countersManager);
+
+        congestionControl.onRttMeasurementSent(nowNs);
+        congestionControl.onRttMeasurement(nowNs, RTT_NS, ADDRESS);
+        trackRebuild(0, 0, false);
+    }
+
+    @AfterEach
+    public void after()
+    {
+        congestionControl.close();
+    }
+
+    @Test
+    public void shouldStartWithInitialWindowLength()
+    {
+        assertEquals(INITIAL_WINDOW_LENGTH, congestionControl.initialWindowLength());
+        assertEquals(INITIAL_WINDOW_LENGTH, windowCounterValue());
+    }
+
+    @Test
+    public void shouldGrowWindowWhenConsumptionIsLimitedByWindow()
+    {
+        long position = 0;
+        int windowLength = INITIAL_WINDOW_LENGTH;
+
+        while (windowLength < MAX_WINDOW_LENGTH)
+        {
+            position += windowLength;
+            nowNs += RTT_NS;
+            final int newWindowLength = receiverWindowLength(trackRebuild(position, position, false));
+
+            assertEquals(Math.min(MAX_WINDOW_LENGTH, windowLength * 2), newWindowLength);
+            windowLength = newWindowLength;
+        }
+
+        assertEquals(MAX_WINDOW_LENGTH, windowCounterValue());
+    }
+
+    @Test
+    public void shouldDecayWindowTowardsConsumptionRate()
+    {
+        final int bytesPerRtt = 16 * 1024;
+        long position = 0;
+
+        for (int i = 0; i < 32; i++)
+        {
+            position += bytesPerRtt;
+            nowNs += RTT_NS;
+            trackRebuild(position, position, false);
+        }
+
+        final int windowLength = windowCounterValue();
+        assertTrue(windowLength < INITIAL_WINDOW_LENGTH);
+        assertTrue(windowLength >= AutoTuningCongestionControlConfiguration.MIN_WINDOW_LENGTH);
+    }
+
+    @Test
+    public void shouldCutWindowAndForceStatusMessageOnLoss()
+    {
+        final long position = INITIAL_WINDOW_LENGTH / 4;
+        nowNs += RTT_NS;
+
+        final long outcome = trackRebuild(position, position, true);
+
+        assertTrue(shouldForceStatusMessage(outcome));
+        assertEquals(AutoTuningCongestionControlConfiguration.MIN_WINDOW_LENGTH, receiverWindowLength(outcome));
+    }
+
+    @Test
+    public void shouldHoldWindowWhenStreamIsIdle()
+    {
+        nowNs += RTT_NS * 10;
+
+        final long outcome = trackRebuild(0, 0, false);
+
+        assertFalse(shouldForceStatusMessage(outcome));
+        assertEquals(INITIAL_WINDOW_LENGTH, receiverWindowLength(outcome));
+    }
+
+    @Test
+    public void shouldMeasureRttOnlyOncePerInterval()
+    {
+        assertFalse(congestionControl.shouldMeasureRtt(nowNs));
+
+        nowNs += AutoTuningCongestionControlConfiguration.RTT_MEASUREMENT_INTERVAL_NS + 1;
+        assertTrue(congestionControl.shouldMeasureRtt(nowNs));
+
+        congestionControl.onRttMeasurementSent(nowNs);
+        nowNs += AutoTuningCongestionControlConfiguration.RTT_MEASUREMENT_INTERVAL_NS + 1;
+        assertFalse(congestionControl.shouldMeasureRtt(nowNs));
+    }
+
+    private long trackRebuild(final long consumptionPosition, final long hwmPosition, final boolean lossOccurred)
+    {
+        return congestionControl.onTrackRebuild(
+            nowNs, consumptionPosition, 0, hwmPosition, consumptionPosition, hwmPosition, lossOccurred);
+    }
+
+    private int windowCounterValue()
+    {
+        final int[] value = new int[1];
+        countersManager.forEach((counterId, typeId, keyBuffer, label) ->
+        {
+            if (label.startsWith("rcv-cc-auto-wnd"))
+            {
+                value[0] = (int)countersManager.getCounterValue(counterId);
+            }
+        });
+
+        return value[0];
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.Configuration;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.driver.CongestionControl.receiverWindowLength;
+import static io.aeron.driver.CongestionControl.shouldForceStatusMessage;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BbrCongestionControlTest
+{
+    private static final int TERM_LENGTH = 4 * 1024 * 1024;
+    private static final int MTU_LENGTH = 1408;
+    private static final int INITIAL_WINDOW_LENGTH = 128 * 1024;
+    private static final int BOTTLENECK_BYTES_PER_RTT = 256 * 1024;
+    private static final long RTT_NS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final InetSocketAddress ADDRESS = new InetSocketAddress("localhost", 24325);
+
+    private final CountersManager countersManager = new CountersManager(
+        new UnsafeBuffer(ByteBuffer.allocate(Configuration.countersMetadataBufferLength(64 * 1024))),
+        new UnsafeBuffer(ByteBuffer.allocate(64 * 1024)));
+    private final MediaDriver.Context context = new MediaDriver.Context()
+        .tempBuffer(new UnsafeBuffer(new byte[1024]))
+        .initialWindowLength(INITIAL_WINDOW_LENGTH);
+
+    private BbrCongestionControl congestionControl;
+    private long nowNs = 0;
+    private long position = 0;
+    private int windowLength;
+
+    @BeforeEach
+    public void before()
+    {
+        congestionControl = new BbrCongestionControl(
+            0,
+            UdpChannel.parse("aeron:udp?endpoint=localhost:24325|cc=bbr"),
+            1001,
+            7,
+            TERM_LENGTH,
+            MTU_LENGTH,
+            ADDRESS,
+            ADDRESS,
+            () -> nowNs,
+            context,
+            countersManager);
+
+        congestionControl.onRttMeasurementSent(nowNs);
+        congestionControl.onRttMeasurement(nowNs, RTT_NS, ADDRESS);
+        windowLength = receiverWindowLength(trackRebuild(false));
+    }
+
+    @AfterEach
+    public void after()
+    {
+        congestionControl.close();
+    }
+
+    @Test
+    public void shouldStartInStartupWithInitialWindowLength()
+    {
+        assertEquals(BbrCongestionControl.State.STARTUP, congestionControl.state());
+        assertEquals(INITIAL_WINDOW_LENGTH, congestionControl.initialWindowLength());
+        assertEquals(INITIAL_WINDOW_LENGTH, windowLength);
+    }
+
+    @Test
+    public void shouldGrowWindowInStartupThenProbeBandwidthOnceFull()
+    {
+        deliverRound(false);
+        assertEquals(BbrCongestionControl.State.STARTUP, congestionControl.state());
+        assertTrue(windowLength > INITIAL_WINDOW_LENGTH);
+
+        for (int i = 0; i < 10; i++)
+        {
+            deliverRound(false);
+        }
+
+        assertEquals(BbrCongestionControl.State.PROBE_BW, congestionControl.state());
+        assertEquals(
+            (double)BOTTLENECK_BYTES_PER_RTT * TimeUnit.SECONDS.toNanos(1) / RTT_NS,
+            congestionControl.maxBandwidth(),
+            1.0);
+        assertTrue(windowLength >= BOTTLENECK_BYTES_PER_RTT);
+    }
+
+    @Test
+    public void shouldNotReduceWindowOnLoss()
+    {
+        for (int i = 0; i < 12; i++)
+        {
+            deliverRound(false);
+        }
+
+        final int windowBeforeLoss = windowLength;
+        final long outcome = trackRebuild(true);
+
+        assertFalse(shouldForceStatusMessage(outcome));
+        assertEquals(windowBeforeLoss, receiverWindowLength(outcome));
+    }
+
+    @Test
+    public void shouldProbeRttWhenMinRttWindowExpires()
+    {
+        for (int i = 0; i < 12; i++)
+        {
+            deliverRound(false);
+        }
+
+        nowNs += BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS;
+        final int probeRttWindowLength = receiverWindowLength(trackRebuild(false));
+
+        assertEquals(BbrCongestionControl.State.PROBE_RTT, congestionControl.state());
+        assertEquals(BbrCongestionControl.PROBE_RTT_WINDOW_MTUS * MTU_LENGTH, probeRttWindowLength);
+
+        nowNs += BbrCongestionControl.PROBE_RTT_DURATION_NS;
+        trackRebuild(false);
+
+        assertEquals(BbrCongestionControl.State.PROBE_BW, congestionControl.state());
+    }
+
+    @Test
+    public void shouldNotProbeRttWhileMinRttSampleIsCurrent()
+    {
+        for (int i = 0; i < 12; i++)
+        {
+            deliverRound(false);
+        }
+
+        nowNs += BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS / 2;
+        congestionControl.onRttMeasurementSent(nowNs);
+        congestionControl.onRttMeasurement(nowNs, RTT_NS, ADDRESS);
+        trackRebuild(false);
+
+        nowNs += BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS / 2 + 1;
+        trackRebuild(false);
+
+        assertEquals(BbrCongestionControl.State.PROBE_BW, congestionControl.state());
+    }
+
+    @Test
+    public void shouldProbeRttWhenMinRttSampleExpiresDespiteHigherSamples()
+    {
+        for (int i = 0; i < 12; i++)
+        {
+            deliverRound(false);
+        }
+
+        nowNs += BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS + 1;
+        congestionControl.onRttMeasurementSent(nowNs);
+        congestionControl.onRttMeasurement(nowNs, RTT_NS * 2, ADDRESS);
+        trackRebuild(false);
+
+        assertEquals(BbrCongestionControl.State.PROBE_RTT, congestionControl.state());
+        assertEquals(RTT_NS, congestionControl.minRttNs());
+    }
+
+    @Test
+    public void shouldTakeNewMinRttSampleOnceProbingRtt()
+    {
+        for (int i = 0; i < 12; i++)
+        {
+            deliverRound(false);
+        }
+
+        nowNs += BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS + 1;
+        trackRebuild(false);
+        assertEquals(BbrCongestionControl.State.PROBE_RTT, congestionControl.state());
+
+        congestionControl.onRttMeasurementSent(nowNs);
+        congestionControl.onRttMeasurement(nowNs, RTT_NS * 2, ADDRESS);
+        assertEquals(RTT_NS * 2, congestionControl.minRttNs());
+
+        nowNs += BbrCongestionControl.PROBE_RTT_DURATION_NS;
+        trackRebuild(false);
+        assertEquals(BbrCongestionControl.State.PROBE_BW, congestionControl.state());
+
+        nowNs += BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS / 2;
+        trackRebuild(false);
+        assertEquals(BbrCongestionControl.State.PROBE_BW, congestionControl.state());
+    }
+
+    private void deliverRound(final boolean lossOccurred)
+    {
+        position += Math.min(windowLength, BOTTLENECK_BYTES_PER_RTT);
+        nowNs += RTT_NS;
+        windowLength = receiverWindowLength(trackRebuild(lossOccurred));
+    }
+
+    private long trackRebuild(final boolean lossOccurred)
+    {
+        return congestionControl.onTrackRebuild(nowNs, position, 0, position, position, position, lossOccurred);
+    }
+}
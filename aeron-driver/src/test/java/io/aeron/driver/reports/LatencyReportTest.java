@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.reports;
+
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static io.aeron.driver.reports.LatencyReport.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyReportTest
+{
+    private static final int CAPACITY = 64 * 1024;
+    private final AtomicBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(CAPACITY));
+    private final LatencyReport latencyReport = new LatencyReport(buffer);
+
+    @Test
+    public void shouldMapValuesToBucketsWithinPrecision()
+    {
+        for (long value = 0; value < 2 * SUB_BUCKET_HALF_COUNT; value++)
+        {
+            assertEquals(value, bucketIndex(value));
+            assertEquals(value, bucketLowestValue((int)value));
+            assertEquals(value, bucketHighestValue((int)value));
+        }
+
+        long previousHighestValue = (2 * SUB_BUCKET_HALF_COUNT) - 1;
+        for (int i = 2 * SUB_BUCKET_HALF_COUNT; i < BUCKET_COUNT; i++)
+        {
+            final long lowestValue = bucketLowestValue(i);
+            final long highestValue = bucketHighestValue(i);
+
+            assertEquals(previousHighestValue + 1, lowestValue);
+            assertEquals(i, bucketIndex(lowestValue));
+            assertEquals(i, bucketIndex(highestValue));
+            assertTrue((highestValue - lowestValue) <= lowestValue / SUB_BUCKET_HALF_COUNT);
+
+            previousHighestValue = highestValue;
+        }
+
+        assertEquals(MAX_TRACKABLE_VALUE_NS, previousHighestValue);
+    }
+
+    @Test
+    public void shouldClampValuesOutsideTrackableRange()
+    {
+        assertEquals(0, bucketIndex(-7));
+        assertEquals(BUCKET_COUNT - 1, bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldReadRecordedSamples()
+    {
+        final String channel = "aeron:udp?endpoint=localhost:20121|latency-ts=true";
+        final String source = "127.0.0.1:8888";
+        final LatencyReport.ReportEntry entry = latencyReport.createEntry(7, 3, 1, channel, source);
+
+        entry.record(10);
+        entry.record(10);
+        entry.record(1_000_000);
+
+        final int entriesRead = LatencyReportReader.read(
+            buffer,
+            (creationTimestamp, sessionId, streamId, entryChannel, entrySource, sampleCount, maxValueNs, buckets) ->
+            {
+                assertEquals(7, creationTimestamp);
+                assertEquals(3, sessionId);
+                assertEquals(1, streamId);
+                assertEquals(channel, entryChannel);
+                assertEquals(source, entrySource);
+                assertEquals(3, sampleCount);
+                assertEquals(1_000_000, maxValueNs);
+                assertEquals(2, buckets[bucketIndex(10)]);
+                assertEquals(1, buckets[bucketIndex(1_000_000)]);
+            });
+
+        assertEquals(1, entriesRead);
+    }
+
+    @Test
+    public void shouldReadNoEntriesInEmptyReport()
+    {
+        assertEquals(0, LatencyReportReader.read(buffer, (a, b, c, d, e, f, g, h) -> fail("unexpected entry")));
+    }
+
+    @Test
+    public void shouldReturnNullWhenReportIsFull()
+    {
+        final LatencyReport smallReport = new LatencyReport(new UnsafeBuffer(ByteBuffer.allocateDirect(1024)));
+
+        assertNull(smallReport.createEntry(7, 3, 1, "aeron:ipc", "source"));
+    }
+}
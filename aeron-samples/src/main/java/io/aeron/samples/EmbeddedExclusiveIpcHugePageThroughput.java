@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.*;
+import io.aeron.driver.*;
+import org.agrona.SystemUtil;
+import org.agrona.concurrent.SigInt;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Compares the throughput of {@link EmbeddedExclusiveIpcThroughput} with log buffers on standard pages to log
+ * buffers created in a huge page directory, i.e. a hugetlbfs mount or a tmpfs mount with huge=always, where the
+ * larger page size reduces TLB misses when streaming through the terms.
+ * <p>
+ * The huge page directory is set with {@link Configuration#HUGE_PAGE_DIR_PROP_NAME} and the huge page size with
+ * {@link Configuration#FILE_PAGE_SIZE_PROP_NAME} which defaults to {@link Configuration#HUGE_PAGE_MIN_SIZE} for the
+ * huge page run.
+ */
+public class EmbeddedExclusiveIpcHugePageThroughput
+{
+    public static final long RUN_DURATION_NS = SystemUtil.getDurationInNanos(
+        "aeron.sample.run.duration", TimeUnit.SECONDS.toNanos(10));
+    public static final int MESSAGE_LENGTH = SampleConfiguration.MESSAGE_LENGTH;
+    public static final int FRAGMENT_COUNT_LIMIT = SampleConfiguration.FRAGMENT_COUNT_LIMIT;
+    public static final String CHANNEL = CommonContext.IPC_CHANNEL;
+    public static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+
+    public static void main(final String[] args) throws Exception
+    {
+        loadPropertiesFiles(args);
+
+        final String hugePageDir = Configuration.hugePageDir();
+        if (null == hugePageDir)
+        {
+            System.out.println("set -D" + Configuration.HUGE_PAGE_DIR_PROP_NAME + "=<dir> to a huge page mount");
+            return;
+        }
+
+        final int hugePageSize = Math.max(Configuration.filePageSize(), Configuration.HUGE_PAGE_MIN_SIZE);
+
+        final double standardBytesPerSec = measure(
+            new MediaDriver.Context().hugePageDir(null).filePageSize(Configuration.FILE_PAGE_SIZE_DEFAULT));
+        System.out.format("Standard pages: %.02f MB/s%n", standardBytesPerSec / (1024 * 1024));
+
+        final double hugePageBytesPerSec = measure(
+            new MediaDriver.Context().hugePageDir(hugePageDir).filePageSize(hugePageSize));
+        System.out.format("Huge pages (%d bytes): %.02f MB/s%n", hugePageSize, hugePageBytesPerSec / (1024 * 1024));
+
+        System.out.format("Huge pages / standard pages: %.03f%n", hugePageBytesPerSec / standardBytesPerSec);
+    }
+
+    private static double measure(final MediaDriver.Context ctx) throws InterruptedException
+    {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        SigInt.register(() -> running.set(false));
+
+        final String aeronDirectoryName = CommonContext.generateRandomDirName();
+        ctx.aeronDirectoryName(aeronDirectoryName)
+            .threadingMode(ThreadingMode.SHARED)
+            .termBufferSparseFile(false)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true);
+
+        try (MediaDriver ignore = MediaDriver.launch(ctx);
+            Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(aeronDirectoryName));
+            Subscription subscription = aeron.addSubscription(CHANNEL, STREAM_ID);
+            ExclusivePublication publication = aeron.addExclusivePublication(CHANNEL, STREAM_ID))
+        {
+            final ImageRateSubscriber subscriber = new ImageRateSubscriber(FRAGMENT_COUNT_LIMIT, running, subscription);
+            final Thread subscriberThread = new Thread(subscriber);
+            subscriberThread.setName("subscriber");
+            final Thread publisherThread = new Thread(
+                new EmbeddedExclusiveIpcThroughput.Publisher(running, publication));
+            publisherThread.setName("publisher");
+
+            subscriberThread.start();
+            publisherThread.start();
+
+            final long startNs = System.nanoTime();
+            final long startBytes = subscriber.totalBytes();
+            TimeUnit.NANOSECONDS.sleep(RUN_DURATION_NS);
+            final long durationNs = System.nanoTime() - startNs;
+            final long bytes = subscriber.totalBytes() - startBytes;
+
+            running.set(false);
+            subscriberThread.join();
+            publisherThread.join();
+
+            return bytes * (double)TimeUnit.SECONDS.toNanos(1) / durationNs;
+        }
+    }
+}
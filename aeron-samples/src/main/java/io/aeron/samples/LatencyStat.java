@@ -0,0 +1,99 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.driver.reports.LatencyReport;
+import io.aeron.driver.reports.LatencyReportReader;
+import io.aeron.driver.reports.LatencyReportUtil;
+import org.HdrHistogram.Histogram;
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import static io.aeron.CommonContext.AERON_DIR_PROP_DEFAULT;
+import static io.aeron.CommonContext.AERON_DIR_PROP_NAME;
+import static java.lang.System.getProperty;
+
+/**
+ * Application that prints a report of the latency percentiles observed by stream to STDOUT.
+ * <p>
+ * Latency is only recorded for streams which have the {@link io.aeron.CommonContext#LATENCY_TIMESTAMP_PARAM_NAME}
+ * param set to true on both publication and subscription channels.
+ */
+public class LatencyStat
+{
+    /**
+     * CSV style header for the report.
+     */
+    public static final String LATENCY_REPORT_CSV_HEADER =
+        "#CREATION_TIMESTAMP,SESSION_ID,STREAM_ID,CHANNEL,SOURCE,SAMPLE_COUNT," +
+        "P50_NS,P90_NS,P99_NS,P99.9_NS,P99.99_NS,MAX_NS";
+
+    public static void main(final String[] args)
+    {
+        final String aeronDirectoryName = getProperty(AERON_DIR_PROP_NAME, AERON_DIR_PROP_DEFAULT);
+        final File latencyReportFile = LatencyReportUtil.file(aeronDirectoryName);
+
+        if (!latencyReportFile.exists())
+        {
+            System.err.print("Latency report does not exist: " + latencyReportFile);
+            System.exit(1);
+        }
+
+        final MappedByteBuffer mappedByteBuffer = SamplesUtil.mapExistingFileReadOnly(latencyReportFile);
+        final AtomicBuffer buffer = new UnsafeBuffer(mappedByteBuffer);
+        final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSSZ");
+        final Histogram histogram = new Histogram(LatencyReport.MAX_TRACKABLE_VALUE_NS, 2);
+
+        System.out.println(LATENCY_REPORT_CSV_HEADER);
+        final int entriesRead = LatencyReportReader.read(
+            buffer,
+            (creationTimestamp, sessionId, streamId, channel, source, sampleCount, maxValueNs, bucketCounts) ->
+            {
+                histogram.reset();
+                for (int i = 0; i < bucketCounts.length; i++)
+                {
+                    final long count = bucketCounts[i];
+                    if (count > 0)
+                    {
+                        final long lowestValue = LatencyReport.bucketLowestValue(i);
+                        final long highestValue = LatencyReport.bucketHighestValue(i);
+                        histogram.recordValueWithCount(lowestValue + ((highestValue - lowestValue) >> 1), count);
+                    }
+                }
+
+                System.out.format(
+                    "%s,%d,%d,%s,%s,%d,%d,%d,%d,%d,%d,%d%n",
+                    dateFormat.format(new Date(creationTimestamp)),
+                    sessionId,
+                    streamId,
+                    channel,
+                    source,
+                    sampleCount,
+                    histogram.getValueAtPercentile(50.0),
+                    histogram.getValueAtPercentile(90.0),
+                    histogram.getValueAtPercentile(99.0),
+                    histogram.getValueAtPercentile(99.9),
+                    histogram.getValueAtPercentile(99.99),
+                    maxValueNs);
+            });
+        System.out.println(entriesRead + " latency entries");
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.ext.BbrCongestionControl;
+import io.aeron.driver.ext.CubicCongestionControl;
+import io.aeron.driver.ext.DebugChannelEndpointConfiguration;
+import io.aeron.driver.ext.DebugSendChannelEndpoint;
+import io.aeron.driver.ext.LossGenerator;
+import io.aeron.driver.ext.RandomLossGenerator;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.test.MediaDriverTestWatcher;
+import io.aeron.test.SlowTest;
+import io.aeron.test.TestMediaDriver;
+import io.aeron.test.Tests;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+/**
+ * Harness which injects random loss on the data sent to a stream to check the congestion control strategies
+ * selected with the {@link CommonContext#CONGESTION_CONTROL_PARAM_NAME} URI param recover all messages and to
+ * compare their goodput.
+ */
+public class CongestionControlLossTest
+{
+    private static final String CHANNEL = "aeron:udp?endpoint=localhost:24325|" +
+        CommonContext.CONGESTION_CONTROL_PARAM_NAME + "=";
+    private static final int STREAM_ID = 1001;
+    private static final int MESSAGE_LENGTH = 1024;
+    private static final int FRAGMENT_COUNT_LIMIT = 16;
+    private static final double LOSS_RATE = 0.02;
+    private static final long LOSS_SEED = 0xcafebabeL;
+    private static final double MIN_GOODPUT_RATIO = 0.5;
+
+    @RegisterExtension
+    public final MediaDriverTestWatcher watcher = new MediaDriverTestWatcher();
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(MESSAGE_LENGTH));
+
+    @ParameterizedTest
+    @ValueSource(strings = { CubicCongestionControl.CC_PARAM_VALUE, BbrCongestionControl.CC_PARAM_VALUE })
+    @Timeout(20)
+    public void shouldDeliverAllMessagesWithRandomLoss(final String cc)
+    {
+        measureGoodput(cc, 2_000);
+    }
+
+    @SlowTest
+    @Test
+    @Timeout(90)
+    public void shouldHaveGoodputComparableToCubicWithRandomLoss()
+    {
+        final int messageCount = 10_000;
+        final double cubicGoodput = measureGoodput(CubicCongestionControl.CC_PARAM_VALUE, messageCount);
+        final double bbrGoodput = measureGoodput(BbrCongestionControl.CC_PARAM_VALUE, messageCount);
+
+        assertThat(bbrGoodput, greaterThanOrEqualTo(cubicGoodput * MIN_GOODPUT_RATIO));
+    }
+
+    private double measureGoodput(final String cc, final int messageCount)
+    {
+        TestMediaDriver.notSupportedOnCMediaDriver("congestion control strategies in ext");
+
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .errorHandler(Tests::onError)
+            .threadingMode(ThreadingMode.DEDICATED)
+            .dirDeleteOnStart(true);
+
+        final LossGenerator dataLossGenerator = new RandomLossGenerator(LOSS_RATE, LOSS_SEED);
+        final LossGenerator noLossGenerator = DebugChannelEndpointConfiguration.lossGeneratorSupplier(0, 0);
+        context.sendChannelEndpointSupplier((udpChannel, statusIndicator, ctx) -> new DebugSendChannelEndpoint(
+            udpChannel, statusIndicator, ctx, dataLossGenerator, noLossGenerator));
+
+        try (TestMediaDriver ignore = TestMediaDriver.launch(context, watcher);
+            Aeron aeron = Aeron.connect();
+            Subscription subscription = aeron.addSubscription(CHANNEL + cc, STREAM_ID);
+            Publication publication = aeron.addPublication(CHANNEL + cc, STREAM_ID))
+        {
+            Tests.awaitConnected(publication);
+            Tests.awaitConnected(subscription);
+
+            final int[] receivedCount = new int[1];
+            final FragmentHandler fragmentHandler = (msg, offset, length, header) -> receivedCount[0]++;
+
+            final long startNs = System.nanoTime();
+            int sentCount = 0;
+            while (receivedCount[0] < messageCount)
+            {
+                if (sentCount < messageCount && publication.offer(buffer, 0, MESSAGE_LENGTH) > 0)
+                {
+                    sentCount++;
+                }
+
+                if (0 == subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT))
+                {
+                    Tests.checkInterruptStatus();
+                }
+            }
+
+            return ((double)messageCount * MESSAGE_LENGTH) / (System.nanoTime() - startNs);
+        }
+        finally
+        {
+            context.deleteDirectory();
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @Timeout(10)
@@ -98,6 +99,30 @@ public class CounterTest
             .onAvailableCounter(any(CountersReader.class), eq(counter.registrationId()), eq(counter.id()));
     }
 
+    @Test
+    public void shouldBeAbleToAddCounterAsynchronously()
+    {
+        final long registrationId = clientA.asyncAddCounter(COUNTER_TYPE_ID, COUNTER_LABEL);
+
+        Counter counter;
+        while (null == (counter = clientA.getCounter(registrationId)))
+        {
+            Tests.yield();
+        }
+
+        assertFalse(counter.isClosed());
+        assertEquals(registrationId, counter.registrationId());
+        assertEquals(COUNTER_LABEL, clientA.countersReader().getCounterLabel(counter.id()));
+
+        final long correlationId = clientA.asyncRemoveCounter(registrationId);
+        while (clientA.isCommandActive(correlationId))
+        {
+            Tests.yield();
+        }
+
+        assertTrue(counter.isClosed());
+    }
+
     @Test
     public void shouldBeAbleToAddReadableCounterWithinHandler()
     {
@@ -127,6 +127,54 @@ public class ExclusivePublicationTest
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("channels")
+    @Timeout(10)
+    public void shouldOfferBatchOfMessagesAsSeparateFragments(final String channel)
+    {
+        try (Subscription subscription = aeron.addSubscription(channel, STREAM_ID);
+            ExclusivePublication publication = aeron.addExclusivePublication(channel, STREAM_ID))
+        {
+            final int batchSize = 8;
+            final int batchCount = 100;
+            final DirectBufferVector[] messages = new DirectBufferVector[batchSize];
+            for (int i = 0; i < batchSize; i++)
+            {
+                srcBuffer.putInt(i * MESSAGE_LENGTH, i);
+                messages[i] = new DirectBufferVector(srcBuffer, i * MESSAGE_LENGTH, MESSAGE_LENGTH);
+            }
+
+            final MutableInteger messageCount = new MutableInteger();
+            final FragmentHandler fragmentHandler =
+                (buffer, offset, length, header) ->
+                {
+                    assertEquals(MESSAGE_LENGTH, length);
+                    assertEquals(messageCount.value % batchSize, buffer.getInt(offset));
+                    messageCount.value++;
+                };
+
+            Tests.awaitConnected(subscription);
+
+            for (int i = 0; i < batchCount; i++)
+            {
+                while (publication.offerBatch(messages) < 0L)
+                {
+                    Tests.yield();
+                    pollFragments(subscription, fragmentHandler);
+                }
+
+                pollFragments(subscription, fragmentHandler);
+            }
+
+            while (messageCount.value < batchSize * batchCount)
+            {
+                pollFragments(subscription, fragmentHandler);
+            }
+
+            assertEquals(publication.position(), subscription.imageAtIndex(0).position());
+        }
+    }
+
     @Test
     @Timeout(10)
     void offerBlockThrowsIllegalArgumentExceptionIfLengthExceedsAvailableSpaceWithinTheTerm()
@@ -25,6 +25,7 @@ import io.aeron.test.TestMediaDriver;
 import io.aeron.test.Tests;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Timeout;
@@ -126,4 +127,60 @@ public class FragmentedMessageTest
             assertEquals(END_FRAG_FLAG, headerArg.getValue().flags());
         }
     }
+
+    @ParameterizedTest
+    @MethodSource("channels")
+    @Timeout(10)
+    public void shouldReceivePublishedMessageAsVectorsOverTermBuffer(final String channel)
+    {
+        final UnsafeBuffer receivedBuffer = new UnsafeBuffer(new byte[driver.context().mtuLength() * 4]);
+        final MutableInteger receivedLength = new MutableInteger();
+        final MutableInteger receivedVectorCount = new MutableInteger();
+        final VectoredFragmentAssembler assembler = new VectoredFragmentAssembler(
+            (vectors, vectorCount, length, header) ->
+            {
+                int offset = 0;
+                for (int i = 0; i < vectorCount; i++)
+                {
+                    final DirectBufferVector vector = vectors[i];
+                    receivedBuffer.putBytes(offset, vector.buffer(), vector.offset(), vector.length());
+                    offset += vector.length();
+                }
+
+                receivedLength.set(length);
+                receivedVectorCount.set(vectorCount);
+            });
+
+        try (Subscription subscription = aeron.addSubscription(channel, STREAM_ID);
+            Publication publication = aeron.addPublication(channel, STREAM_ID))
+        {
+            final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[receivedBuffer.capacity()]);
+            final int length = srcBuffer.capacity() / 4;
+
+            for (int i = 0; i < 4; i++)
+            {
+                srcBuffer.setMemory(i * length, length, (byte)(65 + i));
+            }
+
+            while (publication.offer(srcBuffer, 0, srcBuffer.capacity()) < 0L)
+            {
+                Tests.yield();
+            }
+
+            while (0 == receivedLength.get())
+            {
+                if (0 == subscription.poll(assembler, FRAGMENT_COUNT_LIMIT))
+                {
+                    Tests.yield();
+                }
+            }
+
+            assertEquals(srcBuffer.capacity(), receivedLength.get());
+            assertEquals(5, receivedVectorCount.get());
+            for (int i = 0; i < srcBuffer.capacity(); i++)
+            {
+                assertEquals(srcBuffer.getByte(i), receivedBuffer.getByte(i), "same at i=" + i);
+            }
+        }
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.ext.LoopbackDatagramTransportSupplier;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.test.MediaDriverTestWatcher;
+import io.aeron.test.TestMediaDriver;
+import io.aeron.test.Tests;
+import org.agrona.CloseHelper;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.net.InetSocketAddress;
+import java.nio.channels.DatagramChannel;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LoopbackDatagramTransportTest
+{
+    private static final int UNICAST_PORT = 24325;
+    private static final int STREAM_ID = 1001;
+    private static final int MESSAGE_COUNT = 1000;
+    private static final int MESSAGE_LENGTH = 256;
+
+    private static List<String> channels()
+    {
+        return asList(
+            "aeron:udp?endpoint=localhost:" + UNICAST_PORT,
+            "aeron:udp?endpoint=224.20.30.39:24326|interface=localhost");
+    }
+
+    @RegisterExtension
+    public final MediaDriverTestWatcher watcher = new MediaDriverTestWatcher();
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+
+    private TestMediaDriver driver;
+    private Aeron aeron;
+
+    @AfterEach
+    public void after()
+    {
+        CloseHelper.closeAll(aeron, driver);
+        if (null != driver)
+        {
+            driver.context().deleteDirectory();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("channels")
+    @Timeout(10)
+    public void shouldExchangeMessagesWithoutNetwork(final String channel) throws Exception
+    {
+        TestMediaDriver.notSupportedOnCMediaDriver("datagram transport supplier");
+
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARED)
+            .errorHandler(Tests::onError)
+            .dirDeleteOnStart(true)
+            .datagramTransportSupplier(new LoopbackDatagramTransportSupplier())
+            .timerIntervalNs(TimeUnit.MILLISECONDS.toNanos(100));
+
+        try (DatagramChannel portInUse = DatagramChannel.open())
+        {
+            portInUse.bind(new InetSocketAddress("localhost", UNICAST_PORT));
+
+            driver = TestMediaDriver.launch(context, watcher);
+            aeron = Aeron.connect();
+
+            final Subscription subscription = aeron.addSubscription(channel, STREAM_ID);
+            final Publication publication = aeron.addPublication(channel, STREAM_ID);
+            Tests.awaitConnected(subscription);
+            Tests.awaitConnected(publication);
+
+            final MutableInteger received = new MutableInteger();
+            final FragmentHandler handler = (buffer, offset, length, header) ->
+            {
+                assertEquals(received.get(), buffer.getInt(offset));
+                received.increment();
+            };
+
+            for (int i = 0; i < MESSAGE_COUNT; i++)
+            {
+                buffer.putInt(0, i);
+                while (publication.offer(buffer) < 0)
+                {
+                    Tests.yield();
+                    subscription.poll(handler, 10);
+                }
+            }
+
+            while (received.get() < MESSAGE_COUNT)
+            {
+                if (0 == subscription.poll(handler, 10))
+                {
+                    Tests.yield();
+                }
+            }
+
+            assertEquals(MESSAGE_COUNT, received.get());
+        }
+    }
+}
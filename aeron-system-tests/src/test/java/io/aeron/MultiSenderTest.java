@@ -0,0 +1,229 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.status.SenderShard;
+import io.aeron.driver.status.SystemCounterDescriptor;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.test.MediaDriverTestWatcher;
+import io.aeron.test.TestMediaDriver;
+import io.aeron.test.Tests;
+import org.agrona.CloseHelper;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MultiSenderTest
+{
+    private static final String CHANNEL_ONE = "aeron:udp?endpoint=localhost:24327|snd-shard=0";
+    private static final String CHANNEL_TWO = "aeron:udp?endpoint=localhost:24328|snd-shard=1";
+    private static final int STREAM_ID = 1001;
+    private static final int MESSAGE_COUNT = 1000;
+    private static final int MESSAGE_LENGTH = 256;
+    private static final int CHANNELS_PER_SENDER = 4;
+
+    @RegisterExtension
+    public final MediaDriverTestWatcher watcher = new MediaDriverTestWatcher();
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+
+    private TestMediaDriver driver;
+    private Aeron aeron;
+
+    @AfterEach
+    public void after()
+    {
+        CloseHelper.closeAll(aeron, driver);
+        if (null != driver)
+        {
+            driver.context().deleteDirectory();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ThreadingMode.class, names = { "DEDICATED", "SHARED" })
+    @Timeout(10)
+    public void shouldSendOnChannelsServicedByDifferentSenders(final ThreadingMode threadingMode)
+    {
+        TestMediaDriver.notSupportedOnCMediaDriver("multiple sender agents");
+
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .threadingMode(threadingMode)
+            .senderThreadCount(2)
+            .errorHandler(Tests::onError)
+            .dirDeleteOnStart(true)
+            .timerIntervalNs(TimeUnit.MILLISECONDS.toNanos(100));
+
+        driver = TestMediaDriver.launch(context, watcher);
+        aeron = Aeron.connect();
+
+        final Subscription subscriptionOne = aeron.addSubscription(CHANNEL_ONE, STREAM_ID);
+        final Subscription subscriptionTwo = aeron.addSubscription(CHANNEL_TWO, STREAM_ID);
+        final Publication publicationOne = aeron.addPublication(CHANNEL_ONE, STREAM_ID);
+        final Publication publicationTwo = aeron.addPublication(CHANNEL_TWO, STREAM_ID);
+
+        Tests.awaitConnected(subscriptionOne);
+        Tests.awaitConnected(subscriptionTwo);
+        Tests.awaitConnected(publicationOne);
+        Tests.awaitConnected(publicationTwo);
+
+        final MutableInteger receivedOne = new MutableInteger();
+        final MutableInteger receivedTwo = new MutableInteger();
+        final FragmentHandler handlerOne = (buffer, offset, length, header) ->
+        {
+            assertEquals(receivedOne.get(), buffer.getInt(offset));
+            receivedOne.increment();
+        };
+        final FragmentHandler handlerTwo = (buffer, offset, length, header) ->
+        {
+            assertEquals(receivedTwo.get(), buffer.getInt(offset));
+            receivedTwo.increment();
+        };
+
+        for (int i = 0; i < MESSAGE_COUNT; i++)
+        {
+            buffer.putInt(0, i);
+            while (publicationOne.offer(buffer) < 0)
+            {
+                Tests.yield();
+                subscriptionOne.poll(handlerOne, 10);
+            }
+
+            while (publicationTwo.offer(buffer) < 0)
+            {
+                Tests.yield();
+                subscriptionTwo.poll(handlerTwo, 10);
+            }
+        }
+
+        while (receivedOne.get() < MESSAGE_COUNT || receivedTwo.get() < MESSAGE_COUNT)
+        {
+            final int fragments = subscriptionOne.poll(handlerOne, 10) + subscriptionTwo.poll(handlerTwo, 10);
+            if (0 == fragments)
+            {
+                Tests.yield();
+            }
+        }
+
+        assertEquals(MESSAGE_COUNT, receivedOne.get());
+        assertEquals(MESSAGE_COUNT, receivedTwo.get());
+
+        final CountersReader countersReader = aeron.countersReader();
+        final MutableInteger dutyCycleCounters = new MutableInteger();
+        countersReader.forEach(
+            (counterId, typeId, keyBuffer, label) ->
+            {
+                if (SenderShard.DUTY_CYCLES_TYPE_ID == typeId)
+                {
+                    dutyCycleCounters.increment();
+                    assertTrue(countersReader.getCounterValue(counterId) > 0, label);
+                }
+            });
+
+        assertEquals(2, dutyCycleCounters.get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ThreadingMode.class, names = { "DEDICATED", "SHARED" })
+    @Timeout(20)
+    public void shouldSendSetupAndHeartbeatsOnChannelsServicedByDifferentSenders(final ThreadingMode threadingMode)
+    {
+        TestMediaDriver.notSupportedOnCMediaDriver("multiple sender agents");
+
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .threadingMode(threadingMode)
+            .senderThreadCount(2)
+            .errorHandler(Tests::onError)
+            .dirDeleteOnStart(true)
+            .timerIntervalNs(TimeUnit.MILLISECONDS.toNanos(100));
+
+        driver = TestMediaDriver.launch(context, watcher);
+        aeron = Aeron.connect();
+
+        final int channelCount = 2 * CHANNELS_PER_SENDER;
+        final Publication[] publications = new Publication[channelCount];
+        final Subscription[] subscriptions = new Subscription[channelCount];
+        for (int i = 0; i < channelCount; i++)
+        {
+            publications[i] = aeron.addPublication(channel(i), STREAM_ID);
+        }
+
+        for (int i = 0; i < channelCount; i++)
+        {
+            subscriptions[i] = aeron.addSubscription(channel(i), STREAM_ID);
+        }
+
+        for (int i = 0; i < channelCount; i++)
+        {
+            Tests.awaitConnected(subscriptions[i]);
+            Tests.awaitConnected(publications[i]);
+        }
+
+        final CountersReader countersReader = aeron.countersReader();
+        final long initialHeartbeatsReceived =
+            countersReader.getCounterValue(SystemCounterDescriptor.HEARTBEATS_RECEIVED.id());
+
+        final FragmentHandler handler = (buffer, offset, length, header) -> {};
+        final long deadlineNs = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (System.nanoTime() - deadlineNs < 0)
+        {
+            int workCount = 0;
+            for (int i = 0; i < channelCount; i++)
+            {
+                if (0 == (i & 2))
+                {
+                    publications[i].offer(buffer);
+                }
+
+                workCount += subscriptions[i].poll(handler, 10);
+            }
+
+            if (0 == workCount)
+            {
+                Tests.yield();
+            }
+        }
+
+        for (int i = 0; i < channelCount; i++)
+        {
+            assertTrue(publications[i].isConnected(), publications[i].channel());
+            assertEquals(1, subscriptions[i].imageCount(), subscriptions[i].channel());
+        }
+
+        assertTrue(
+            countersReader.getCounterValue(SystemCounterDescriptor.HEARTBEATS_RECEIVED.id()) >
+            initialHeartbeatsReceived);
+        assertEquals(0, countersReader.getCounterValue(SystemCounterDescriptor.INVALID_PACKETS.id()));
+        assertEquals(0, countersReader.getCounterValue(SystemCounterDescriptor.ERRORS.id()));
+    }
+
+    private static String channel(final int index)
+    {
+        return "aeron:udp?endpoint=localhost:" + (24330 + index) + "|snd-shard=" + (index & 1);
+    }
+}
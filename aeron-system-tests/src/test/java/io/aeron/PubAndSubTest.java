@@ -20,6 +20,8 @@ import io.aeron.driver.ThreadingMode;
 import io.aeron.driver.ext.DebugChannelEndpointConfiguration;
 import io.aeron.driver.ext.DebugSendChannelEndpoint;
 import io.aeron.driver.ext.LossGenerator;
+import io.aeron.driver.reports.LatencyReportReader;
+import io.aeron.driver.reports.LatencyReportUtil;
 import io.aeron.logbuffer.FragmentHandler;
 import io.aeron.logbuffer.Header;
 import io.aeron.logbuffer.RawBlockHandler;
@@ -29,9 +31,11 @@ import io.aeron.test.Tests;
 import org.agrona.BitUtil;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
 import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -40,6 +44,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -668,6 +673,44 @@ public class PubAndSubTest
         }
     }
 
+    @Test
+    @Timeout(10)
+    public void shouldRecordLatencyOfStreamWithLatencyTimestamps()
+    {
+        TestMediaDriver.notSupportedOnCMediaDriver("latency report");
+
+        final int numMessagesToSend = 16;
+        launch("aeron:udp?endpoint=localhost:24325|latency-ts=true");
+
+        for (int i = 0; i < numMessagesToSend; i++)
+        {
+            publishMessage();
+            pollForFragment();
+        }
+
+        final MappedByteBuffer mappedByteBuffer =
+            LatencyReportUtil.mapLatencyReportReadOnly(context.aeronDirectoryName());
+        try
+        {
+            final MutableInteger sampleCount = new MutableInteger();
+            final int entriesRead = LatencyReportReader.read(
+                new UnsafeBuffer(mappedByteBuffer),
+                (creationTimestamp, sessionId, streamId, channel, source, samples, maxValueNs, bucketCounts) ->
+                {
+                    assertEquals(STREAM_ID, streamId);
+                    assertTrue(maxValueNs > 0);
+                    sampleCount.set((int)samples);
+                });
+
+            assertEquals(1, entriesRead);
+            assertEquals(numMessagesToSend, sampleCount.get());
+        }
+        finally
+        {
+            IoUtil.unmap(mappedByteBuffer);
+        }
+    }
+
     private void publishMessage()
     {
         buffer.putInt(0, 1);
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2014-2020 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.DatagramTransportSupplier;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.ext.LoopbackDatagramTransportSupplier;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.test.MediaDriverTestWatcher;
+import io.aeron.test.TestMediaDriver;
+import io.aeron.test.Tests;
+import org.agrona.CloseHelper;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.driver.status.SystemCounterDescriptor.SEGMENT_OFFLOAD_SENDS;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+public class SegmentOffloadTest
+{
+    private static final String PUBLICATION_CHANNEL = "aeron:udp?endpoint=localhost:24329|gso=true";
+    private static final String OFFLOAD_SUBSCRIPTION_CHANNEL = "aeron:udp?endpoint=localhost:24329|gso=true";
+    private static final String SUBSCRIPTION_CHANNEL = "aeron:udp?endpoint=localhost:24329";
+    private static final int STREAM_ID = 1001;
+    private static final int MESSAGE_COUNT = 10_000;
+    private static final int MESSAGE_LENGTH = 256;
+
+    private static List<Arguments> transports()
+    {
+        return asList(
+            arguments(new LoopbackDatagramTransportSupplier(), OFFLOAD_SUBSCRIPTION_CHANNEL, true),
+            arguments(new LoopbackDatagramTransportSupplier(), SUBSCRIPTION_CHANNEL, true),
+            arguments(null, OFFLOAD_SUBSCRIPTION_CHANNEL, false));
+    }
+
+    @RegisterExtension
+    public final MediaDriverTestWatcher watcher = new MediaDriverTestWatcher();
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+
+    private TestMediaDriver driver;
+    private Aeron aeron;
+
+    @AfterEach
+    public void after()
+    {
+        CloseHelper.closeAll(aeron, driver);
+        if (null != driver)
+        {
+            driver.context().deleteDirectory();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    @Timeout(10)
+    public void shouldExchangeMessagesWithOrWithoutSegmentOffload(
+        final DatagramTransportSupplier supplier, final String subscriptionChannel, final boolean isOffloadExpected)
+    {
+        TestMediaDriver.notSupportedOnCMediaDriver("segmentation offload");
+
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARED)
+            .sendBatchLength(16)
+            .errorHandler(Tests::onError)
+            .dirDeleteOnStart(true)
+            .datagramTransportSupplier(supplier)
+            .timerIntervalNs(TimeUnit.MILLISECONDS.toNanos(100));
+
+        driver = TestMediaDriver.launch(context, watcher);
+        aeron = Aeron.connect();
+
+        final Subscription subscription = aeron.addSubscription(subscriptionChannel, STREAM_ID);
+        final Publication publication = aeron.addPublication(PUBLICATION_CHANNEL, STREAM_ID);
+        Tests.awaitConnected(subscription);
+        Tests.awaitConnected(publication);
+
+        final MutableInteger received = new MutableInteger();
+        final FragmentHandler handler = (buffer, offset, length, header) ->
+        {
+            assertEquals(received.get(), buffer.getInt(offset));
+            received.increment();
+        };
+
+        for (int i = 0; i < MESSAGE_COUNT; i++)
+        {
+            buffer.putInt(0, i);
+            while (publication.offer(buffer) < 0)
+            {
+                Tests.yield();
+                subscription.poll(handler, 10);
+            }
+        }
+
+        while (received.get() < MESSAGE_COUNT)
+        {
+            if (0 == subscription.poll(handler, 10))
+            {
+                Tests.yield();
+            }
+        }
+
+        assertEquals(MESSAGE_COUNT, received.get());
+
+        final long offloadSends = aeron.countersReader().getCounterValue(SEGMENT_OFFLOAD_SENDS.id());
+        assertEquals(isOffloadExpected, offloadSends > 0, "offloadSends=" + offloadSends);
+    }
+}